@@ -96,6 +96,8 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "moveAfterRead": getOrCreateConfiguration(target).setMoveAfterRead(property(camelContext, boolean.class, value)); return true;
         case "multipartupload":
         case "multiPartUpload": getOrCreateConfiguration(target).setMultiPartUpload(property(camelContext, boolean.class, value)); return true;
+        case "multipartuploadconcurrency":
+        case "multiPartUploadConcurrency": getOrCreateConfiguration(target).setMultiPartUploadConcurrency(property(camelContext, int.class, value)); return true;
         case "namingstrategy":
         case "namingStrategy": getOrCreateConfiguration(target).setNamingStrategy(property(camelContext, org.apache.camel.component.aws2.s3.stream.AWSS3NamingStrategyEnum.class, value)); return true;
         case "operation": getOrCreateConfiguration(target).setOperation(property(camelContext, org.apache.camel.component.aws2.s3.AWS2S3Operations.class, value)); return true;
@@ -115,6 +117,10 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "proxyPort": getOrCreateConfiguration(target).setProxyPort(property(camelContext, java.lang.Integer.class, value)); return true;
         case "proxyprotocol":
         case "proxyProtocol": getOrCreateConfiguration(target).setProxyProtocol(property(camelContext, software.amazon.awssdk.core.Protocol.class, value)); return true;
+        case "rangeddownloadconcurrency":
+        case "rangedDownloadConcurrency": getOrCreateConfiguration(target).setRangedDownloadConcurrency(property(camelContext, int.class, value)); return true;
+        case "rangeddownloadpartsize":
+        case "rangedDownloadPartSize": getOrCreateConfiguration(target).setRangedDownloadPartSize(property(camelContext, long.class, value)); return true;
         case "region": getOrCreateConfiguration(target).setRegion(property(camelContext, java.lang.String.class, value)); return true;
         case "removeprefixonmove":
         case "removePrefixOnMove": getOrCreateConfiguration(target).setRemovePrefixOnMove(property(camelContext, boolean.class, value)); return true;
@@ -224,6 +230,8 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "moveAfterRead": return boolean.class;
         case "multipartupload":
         case "multiPartUpload": return boolean.class;
+        case "multipartuploadconcurrency":
+        case "multiPartUploadConcurrency": return int.class;
         case "namingstrategy":
         case "namingStrategy": return org.apache.camel.component.aws2.s3.stream.AWSS3NamingStrategyEnum.class;
         case "operation": return org.apache.camel.component.aws2.s3.AWS2S3Operations.class;
@@ -243,6 +251,10 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "proxyPort": return java.lang.Integer.class;
         case "proxyprotocol":
         case "proxyProtocol": return software.amazon.awssdk.core.Protocol.class;
+        case "rangeddownloadconcurrency":
+        case "rangedDownloadConcurrency": return int.class;
+        case "rangeddownloadpartsize":
+        case "rangedDownloadPartSize": return long.class;
         case "region": return java.lang.String.class;
         case "removeprefixonmove":
         case "removePrefixOnMove": return boolean.class;
@@ -348,6 +360,8 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "moveAfterRead": return getOrCreateConfiguration(target).isMoveAfterRead();
         case "multipartupload":
         case "multiPartUpload": return getOrCreateConfiguration(target).isMultiPartUpload();
+        case "multipartuploadconcurrency":
+        case "multiPartUploadConcurrency": return getOrCreateConfiguration(target).getMultiPartUploadConcurrency();
         case "namingstrategy":
         case "namingStrategy": return getOrCreateConfiguration(target).getNamingStrategy();
         case "operation": return getOrCreateConfiguration(target).getOperation();
@@ -367,6 +381,10 @@ public class AWS2S3ComponentConfigurer extends PropertyConfigurerSupport impleme
         case "proxyPort": return getOrCreateConfiguration(target).getProxyPort();
         case "proxyprotocol":
         case "proxyProtocol": return getOrCreateConfiguration(target).getProxyProtocol();
+        case "rangeddownloadconcurrency":
+        case "rangedDownloadConcurrency": return getOrCreateConfiguration(target).getRangedDownloadConcurrency();
+        case "rangeddownloadpartsize":
+        case "rangedDownloadPartSize": return getOrCreateConfiguration(target).getRangedDownloadPartSize();
         case "region": return getOrCreateConfiguration(target).getRegion();
         case "removeprefixonmove":
         case "removePrefixOnMove": return getOrCreateConfiguration(target).isRemovePrefixOnMove();
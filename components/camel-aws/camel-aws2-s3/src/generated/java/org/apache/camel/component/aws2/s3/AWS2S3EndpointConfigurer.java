@@ -102,6 +102,8 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "moveAfterRead": target.getConfiguration().setMoveAfterRead(property(camelContext, boolean.class, value)); return true;
         case "multipartupload":
         case "multiPartUpload": target.getConfiguration().setMultiPartUpload(property(camelContext, boolean.class, value)); return true;
+        case "multipartuploadconcurrency":
+        case "multiPartUploadConcurrency": target.getConfiguration().setMultiPartUploadConcurrency(property(camelContext, int.class, value)); return true;
         case "namingstrategy":
         case "namingStrategy": target.getConfiguration().setNamingStrategy(property(camelContext, org.apache.camel.component.aws2.s3.stream.AWSS3NamingStrategyEnum.class, value)); return true;
         case "operation": target.getConfiguration().setOperation(property(camelContext, org.apache.camel.component.aws2.s3.AWS2S3Operations.class, value)); return true;
@@ -123,6 +125,10 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "proxyPort": target.getConfiguration().setProxyPort(property(camelContext, java.lang.Integer.class, value)); return true;
         case "proxyprotocol":
         case "proxyProtocol": target.getConfiguration().setProxyProtocol(property(camelContext, software.amazon.awssdk.core.Protocol.class, value)); return true;
+        case "rangeddownloadconcurrency":
+        case "rangedDownloadConcurrency": target.getConfiguration().setRangedDownloadConcurrency(property(camelContext, int.class, value)); return true;
+        case "rangeddownloadpartsize":
+        case "rangedDownloadPartSize": target.getConfiguration().setRangedDownloadPartSize(property(camelContext, long.class, value)); return true;
         case "region": target.getConfiguration().setRegion(property(camelContext, java.lang.String.class, value)); return true;
         case "removeprefixonmove":
         case "removePrefixOnMove": target.getConfiguration().setRemovePrefixOnMove(property(camelContext, boolean.class, value)); return true;
@@ -262,6 +268,8 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "moveAfterRead": return boolean.class;
         case "multipartupload":
         case "multiPartUpload": return boolean.class;
+        case "multipartuploadconcurrency":
+        case "multiPartUploadConcurrency": return int.class;
         case "namingstrategy":
         case "namingStrategy": return org.apache.camel.component.aws2.s3.stream.AWSS3NamingStrategyEnum.class;
         case "operation": return org.apache.camel.component.aws2.s3.AWS2S3Operations.class;
@@ -283,6 +291,10 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "proxyPort": return java.lang.Integer.class;
         case "proxyprotocol":
         case "proxyProtocol": return software.amazon.awssdk.core.Protocol.class;
+        case "rangeddownloadconcurrency":
+        case "rangedDownloadConcurrency": return int.class;
+        case "rangeddownloadpartsize":
+        case "rangedDownloadPartSize": return long.class;
         case "region": return java.lang.String.class;
         case "removeprefixonmove":
         case "removePrefixOnMove": return boolean.class;
@@ -418,6 +430,8 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "moveAfterRead": return target.getConfiguration().isMoveAfterRead();
         case "multipartupload":
         case "multiPartUpload": return target.getConfiguration().isMultiPartUpload();
+        case "multipartuploadconcurrency":
+        case "multiPartUploadConcurrency": return target.getConfiguration().getMultiPartUploadConcurrency();
         case "namingstrategy":
         case "namingStrategy": return target.getConfiguration().getNamingStrategy();
         case "operation": return target.getConfiguration().getOperation();
@@ -439,6 +453,10 @@ public class AWS2S3EndpointConfigurer extends PropertyConfigurerSupport implemen
         case "proxyPort": return target.getConfiguration().getProxyPort();
         case "proxyprotocol":
         case "proxyProtocol": return target.getConfiguration().getProxyProtocol();
+        case "rangeddownloadconcurrency":
+        case "rangedDownloadConcurrency": return target.getConfiguration().getRangedDownloadConcurrency();
+        case "rangeddownloadpartsize":
+        case "rangedDownloadPartSize": return target.getConfiguration().getRangedDownloadPartSize();
         case "region": return target.getConfiguration().getRegion();
         case "removeprefixonmove":
         case "removePrefixOnMove": return target.getConfiguration().isRemovePrefixOnMove();
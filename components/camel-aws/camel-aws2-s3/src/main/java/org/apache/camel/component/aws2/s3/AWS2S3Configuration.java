@@ -74,6 +74,12 @@ public class AWS2S3Configuration implements Cloneable {
     private boolean multiPartUpload;
     @UriParam(label = "producer", defaultValue = "" + 25 * 1024 * 1024)
     private long partSize = (long) 25 * 1024 * 1024;
+    @UriParam(label = "producer", defaultValue = "1")
+    private int multiPartUploadConcurrency = 1;
+    @UriParam(label = "consumer", defaultValue = "1")
+    private int rangedDownloadConcurrency = 1;
+    @UriParam(label = "consumer", defaultValue = "" + 25 * 1024 * 1024)
+    private long rangedDownloadPartSize = (long) 25 * 1024 * 1024;
     @UriParam
     private String policy;
     @UriParam(label = "producer")
@@ -174,6 +180,48 @@ public class AWS2S3Configuration implements Cloneable {
         this.multiPartUpload = multiPartUpload;
     }
 
+    public int getMultiPartUploadConcurrency() {
+        return multiPartUploadConcurrency;
+    }
+
+    /**
+     * The number of parts to upload concurrently when using multipart upload. The parts are read into memory before
+     * being uploaded, so at most this number of parts (each up to the partSize) are held in memory per upload. The
+     * default value is 1, which uploads the parts one at a time.
+     */
+    public void setMultiPartUploadConcurrency(int multiPartUploadConcurrency) {
+        this.multiPartUploadConcurrency = multiPartUploadConcurrency;
+    }
+
+    public int getRangedDownloadConcurrency() {
+        return rangedDownloadConcurrency;
+    }
+
+    /**
+     * The number of ranges to download concurrently when consuming objects that are larger than the
+     * rangedDownloadPartSize. The ranges are reassembled in a stream cache, which is used as the message body. The
+     * default value is 1, which downloads each object as a single stream.
+     *
+     * Spooling of stream caches to disk must be enabled, otherwise this option is ignored and the objects are
+     * downloaded as a single stream.
+     */
+    public void setRangedDownloadConcurrency(int rangedDownloadConcurrency) {
+        this.rangedDownloadConcurrency = rangedDownloadConcurrency;
+    }
+
+    public long getRangedDownloadPartSize() {
+        return rangedDownloadPartSize;
+    }
+
+    /**
+     * The size of the ranges when downloading objects with concurrent ranged requests, the default size is 25 MB.
+     *
+     * Only objects that are larger than the part size are downloaded in ranges.
+     */
+    public void setRangedDownloadPartSize(long rangedDownloadPartSize) {
+        this.rangedDownloadPartSize = rangedDownloadPartSize;
+    }
+
     public String getAccessKey() {
         return accessKey;
     }
@@ -25,6 +25,7 @@ import org.apache.camel.Consumer;
 import org.apache.camel.Route;
 import org.apache.camel.spi.annotations.DevConsole;
 import org.apache.camel.support.console.AbstractDevConsole;
+import org.apache.camel.util.URISupport;
 import org.apache.camel.util.json.JsonObject;
 
 @DevConsole(name = "aws2-s3", displayName = "AWS S3", description = "AWS S3 Consumer")
@@ -53,6 +54,20 @@ public class AWS2S3Console extends AbstractDevConsole {
                     conf.isUseDefaultCredentialsProvider(), conf.isUseProfileCredentialsProvider(), nc.getMaxMessagesPerPoll(),
                     conf.isMoveAfterRead(), conf.isDeleteAfterRead()));
         }
+
+        List<AWS2S3Endpoint> endpoints = getCamelContext().getEndpoints()
+                .stream().filter(AWS2S3Endpoint.class::isInstance)
+                .map(AWS2S3Endpoint.class::cast)
+                .collect(Collectors.toList());
+        if (!endpoints.isEmpty()) {
+            sb.append("\n");
+            sb.append(String.format("    %s:%s:%s:%s:%s\n", "uri", "uploadedBytes", "uploadThroughput", "downloadedBytes",
+                    "downloadThroughput"));
+            for (AWS2S3Endpoint e : endpoints) {
+                sb.append(String.format("    %s:%s:%s:%s:%s\n", URISupport.sanitizeUri(e.getEndpointUri()),
+                        e.getUploadedBytes(), e.getUploadThroughput(), e.getDownloadedBytes(), e.getDownloadThroughput()));
+            }
+        }
         return sb.toString();
     }
 
@@ -84,6 +99,25 @@ public class AWS2S3Console extends AbstractDevConsole {
             root.put("consumers", arr);
         }
 
+        List<AWS2S3Endpoint> endpoints = getCamelContext().getEndpoints()
+                .stream().filter(AWS2S3Endpoint.class::isInstance)
+                .map(AWS2S3Endpoint.class::cast)
+                .collect(Collectors.toList());
+
+        List<JsonObject> transfers = new ArrayList<>();
+        for (AWS2S3Endpoint e : endpoints) {
+            JsonObject jo = new JsonObject();
+            jo.put("uri", URISupport.sanitizeUri(e.getEndpointUri()));
+            jo.put("uploadedBytes", e.getUploadedBytes());
+            jo.put("uploadThroughput", e.getUploadThroughput());
+            jo.put("downloadedBytes", e.getDownloadedBytes());
+            jo.put("downloadThroughput", e.getDownloadThroughput());
+            transfers.add(jo);
+        }
+        if (!transfers.isEmpty()) {
+            root.put("endpoints", transfers);
+        }
+
         return root;
     }
 }
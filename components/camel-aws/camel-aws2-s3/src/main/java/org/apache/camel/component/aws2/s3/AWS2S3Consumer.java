@@ -17,12 +17,16 @@
 package org.apache.camel.component.aws2.s3;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
@@ -31,9 +35,11 @@ import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.converter.stream.CachedOutputStream;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.ScheduledBatchPollingConsumer;
 import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.support.UnitOfWorkHelper;
 import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -41,6 +47,7 @@ import org.apache.camel.util.URISupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -68,6 +75,7 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
 
     private String marker;
     private transient String s3ConsumerToString;
+    private boolean rangedDownload;
 
     public AWS2S3Consumer(AWS2S3Endpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -77,6 +85,14 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
     protected void doStart() throws Exception {
         super.doStart();
 
+        rangedDownload = getConfiguration().getRangedDownloadConcurrency() > 1;
+        if (rangedDownload && !getEndpoint().getCamelContext().getStreamCachingStrategy().isSpoolEnabled()) {
+            // the ranges are reassembled in a stream cache, which would hold the whole object in memory
+            LOG.warn("The rangedDownloadConcurrency option is ignored as spooling of stream caches to disk is not enabled."
+                     + " The objects are downloaded as a single stream.");
+            rangedDownload = false;
+        }
+
         if (getConfiguration().isMoveAfterRead()) {
             try {
                 getAmazonS3Client()
@@ -241,6 +257,16 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
                         getRequest.sseCustomerAlgorithm(getConfiguration().getCustomerAlgorithm());
                     }
                 }
+                if (isRangedDownload(s3ObjectSummary)) {
+                    try {
+                        answer.add(createRangedExchange(getRequest, s3ObjectSummary));
+                    } catch (Exception e) {
+                        getEndpoint().getInProgressRepository().remove(key);
+                        throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                    }
+                    continue;
+                }
+
                 ResponseInputStream<GetObjectResponse> s3Object
                         = getAmazonS3Client().getObject(getRequest.build(), ResponseTransformer.toInputStream());
 
@@ -267,6 +293,9 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
                 if (key != null) {
                     getEndpoint().getInProgressRepository().remove(key);
                 }
+                // the exchanges are not processed, so run their completions to delete the stream cache files
+                // of the objects downloaded using ranged requests
+                UnitOfWorkHelper.doneSynchronizations(exchange, exchange.getExchangeExtension().handoverCompletions());
             }
             throw e;
         }
@@ -274,6 +303,90 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
         return answer;
     }
 
+    /**
+     * Whether to download the object using concurrent ranged requests
+     */
+    protected boolean isRangedDownload(S3Object s3ObjectSummary) {
+        return rangedDownload && getEndpoint().getTransferExecutorService() != null
+                && !getConfiguration().isIgnoreBody()
+                && s3ObjectSummary.size() != null && s3ObjectSummary.size() > getConfiguration().getRangedDownloadPartSize();
+    }
+
+    /**
+     * Downloads the object using concurrent ranged requests, and reassembles the ranges in a stream cache which is used
+     * as the message body. At most rangedDownloadConcurrency ranges are downloading (or held in memory) at the same
+     * time.
+     */
+    protected Exchange createRangedExchange(Builder getRequest, S3Object s3ObjectSummary) throws Exception {
+        String key = s3ObjectSummary.key();
+        long size = s3ObjectSummary.size();
+        long partSize = getConfiguration().getRangedDownloadPartSize();
+        int concurrency = getConfiguration().getRangedDownloadConcurrency();
+        if (s3ObjectSummary.eTag() != null) {
+            // ensure all the ranges are from the same version of the object
+            getRequest.ifMatch(s3ObjectSummary.eTag());
+        }
+        GetObjectRequest request = getRequest.build();
+
+        LOG.debug("Downloading object with key [{}] and size [{}] using ranged requests", key, size);
+
+        Exchange exchange = createExchange(true);
+        exchange.setPattern(getEndpoint().getExchangePattern());
+
+        long start = System.nanoTime();
+        GetObjectResponse response = null;
+        Deque<Future<ResponseBytes<GetObjectResponse>>> futures = new ArrayDeque<>();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        try {
+            long position = 0;
+            while (position < size || !futures.isEmpty()) {
+                // keep the configured number of ranges downloading
+                while (position < size && futures.size() < concurrency) {
+                    long end = Math.min(position + partSize, size) - 1;
+                    GetObjectRequest rangeRequest = request.toBuilder().range("bytes=" + position + "-" + end).build();
+                    futures.add(getEndpoint().getTransferExecutorService()
+                            .submit(() -> getAmazonS3Client().getObject(rangeRequest, ResponseTransformer.toBytes())));
+                    position = end + 1;
+                }
+
+                // write the ranges in order
+                ResponseBytes<GetObjectResponse> bytes = getRange(futures.poll());
+                if (response == null) {
+                    response = bytes.response();
+                }
+                cos.write(bytes.asByteArrayUnsafe());
+            }
+            cos.flush();
+        } catch (Exception e) {
+            futures.forEach(f -> f.cancel(true));
+            IOHelper.close(cos);
+            // the exchange is not processed, so run its completions to delete the stream cache file
+            UnitOfWorkHelper.doneSynchronizations(exchange, exchange.getExchangeExtension().handoverCompletions());
+            throw e;
+        }
+        getEndpoint().recordDownload(size, System.nanoTime() - start);
+
+        Message message = exchange.getIn();
+        message.setBody(cos.newStreamCache());
+        populateHeaders(message, response, key);
+        // the response is from the first range, so set the length of the whole object
+        message.setHeader(AWS2S3Constants.CONTENT_LENGTH, size);
+
+        return exchange;
+    }
+
+    private static ResponseBytes<GetObjectResponse> getRange(Future<ResponseBytes<GetObjectResponse>> future)
+            throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     /**
      * Decide whether to include the S3Objects in the results
      *
@@ -449,26 +562,7 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
             }
         }
 
-        message.getExchange().setProperty(AWS2S3Constants.KEY, key);
-        message.setHeader(AWS2S3Constants.KEY, key);
-        message.setHeader(AWS2S3Constants.BUCKET_NAME, getConfiguration().getBucketName());
-        message.setHeader(AWS2S3Constants.E_TAG, s3Object.response().eTag());
-        message.setHeader(AWS2S3Constants.VERSION_ID, s3Object.response().versionId());
-        message.setHeader(AWS2S3Constants.CONTENT_TYPE, s3Object.response().contentType());
-        message.setHeader(AWS2S3Constants.CONTENT_LENGTH, s3Object.response().contentLength());
-        message.setHeader(AWS2S3Constants.CONTENT_ENCODING, s3Object.response().contentEncoding());
-        message.setHeader(AWS2S3Constants.CONTENT_DISPOSITION, s3Object.response().contentDisposition());
-        message.setHeader(AWS2S3Constants.CACHE_CONTROL, s3Object.response().cacheControl());
-        message.setHeader(AWS2S3Constants.SERVER_SIDE_ENCRYPTION, s3Object.response().serverSideEncryption());
-        message.setHeader(AWS2S3Constants.EXPIRATION_TIME, s3Object.response().expiration());
-        message.setHeader(AWS2S3Constants.REPLICATION_STATUS, s3Object.response().replicationStatus());
-        message.setHeader(AWS2S3Constants.STORAGE_CLASS, s3Object.response().storageClass());
-        message.setHeader(AWS2S3Constants.METADATA, s3Object.response().metadata());
-        if (s3Object.response().lastModified() != null) {
-            message.setHeader(AWS2S3Constants.LAST_MODIFIED, s3Object.response().lastModified());
-            long ts = s3Object.response().lastModified().getEpochSecond() * 1000;
-            message.setHeader(AWS2S3Constants.MESSAGE_TIMESTAMP, ts);
-        }
+        populateHeaders(message, s3Object.response(), key);
 
         /*
          * If includeBody == true, it is safe to close the object here because the S3Object
@@ -492,6 +586,29 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
         return exchange;
     }
 
+    private void populateHeaders(Message message, GetObjectResponse response, String key) {
+        message.getExchange().setProperty(AWS2S3Constants.KEY, key);
+        message.setHeader(AWS2S3Constants.KEY, key);
+        message.setHeader(AWS2S3Constants.BUCKET_NAME, getConfiguration().getBucketName());
+        message.setHeader(AWS2S3Constants.E_TAG, response.eTag());
+        message.setHeader(AWS2S3Constants.VERSION_ID, response.versionId());
+        message.setHeader(AWS2S3Constants.CONTENT_TYPE, response.contentType());
+        message.setHeader(AWS2S3Constants.CONTENT_LENGTH, response.contentLength());
+        message.setHeader(AWS2S3Constants.CONTENT_ENCODING, response.contentEncoding());
+        message.setHeader(AWS2S3Constants.CONTENT_DISPOSITION, response.contentDisposition());
+        message.setHeader(AWS2S3Constants.CACHE_CONTROL, response.cacheControl());
+        message.setHeader(AWS2S3Constants.SERVER_SIDE_ENCRYPTION, response.serverSideEncryption());
+        message.setHeader(AWS2S3Constants.EXPIRATION_TIME, response.expiration());
+        message.setHeader(AWS2S3Constants.REPLICATION_STATUS, response.replicationStatus());
+        message.setHeader(AWS2S3Constants.STORAGE_CLASS, response.storageClass());
+        message.setHeader(AWS2S3Constants.METADATA, response.metadata());
+        if (response.lastModified() != null) {
+            message.setHeader(AWS2S3Constants.LAST_MODIFIED, response.lastModified());
+            long ts = response.lastModified().getEpochSecond() * 1000;
+            message.setHeader(AWS2S3Constants.MESSAGE_TIMESTAMP, ts);
+        }
+    }
+
     @Override
     public String toString() {
         if (s3ConsumerToString == null) {
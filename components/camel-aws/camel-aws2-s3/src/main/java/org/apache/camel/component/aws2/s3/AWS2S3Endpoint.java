@@ -17,12 +17,17 @@
 package org.apache.camel.component.aws2.s3;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.Category;
 import org.apache.camel.Component;
 import org.apache.camel.Consumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.aws2.s3.client.AWS2S3ClientFactory;
 import org.apache.camel.component.aws2.s3.stream.AWS2S3StreamUploadProducer;
 import org.apache.camel.spi.EndpointServiceLocation;
@@ -49,12 +54,19 @@ import software.amazon.awssdk.services.s3.model.PutBucketPolicyRequest;
 @UriEndpoint(firstVersion = "3.2.0", scheme = "aws2-s3", title = "AWS S3 Storage Service",
              syntax = "aws2-s3://bucketNameOrArn", category = { Category.CLOUD, Category.FILE },
              headersClass = AWS2S3Constants.class)
+@ManagedResource(description = "Managed AWS S3 Endpoint")
 public class AWS2S3Endpoint extends ScheduledPollEndpoint implements EndpointServiceLocation {
 
     private static final Logger LOG = LoggerFactory.getLogger(AWS2S3Endpoint.class);
     private static final int DEFAULT_IN_PROGRESS_CACHE_SIZE = 10000;
+    private static final String TRANSFER_EXECUTOR_NAME = "AWS2S3Transfer";
 
     private S3Client s3Client;
+    private ExecutorService transferExecutorService;
+    private final LongAdder uploadedBytes = new LongAdder();
+    private final LongAdder uploadTime = new LongAdder();
+    private final LongAdder downloadedBytes = new LongAdder();
+    private final LongAdder downloadTime = new LongAdder();
 
     @UriPath(description = "Bucket name or ARN")
     @Metadata(required = true)
@@ -134,6 +146,13 @@ public class AWS2S3Endpoint extends ScheduledPollEndpoint implements EndpointSer
         s3Client = configuration.getAmazonS3Client() != null
                 ? configuration.getAmazonS3Client() : AWS2S3ClientFactory.getAWSS3Client(configuration).getS3Client();
 
+        int concurrency = Math.max(configuration.getMultiPartUploadConcurrency(), configuration.getRangedDownloadConcurrency());
+        if (concurrency > 1) {
+            // thread pool to upload parts and download ranges concurrently
+            transferExecutorService = getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    TRANSFER_EXECUTOR_NAME, concurrency);
+        }
+
         String fileName = getConfiguration().getFileName();
 
         if (fileName != null) {
@@ -196,6 +215,10 @@ public class AWS2S3Endpoint extends ScheduledPollEndpoint implements EndpointSer
             }
         }
         ServiceHelper.stopService(inProgressRepository);
+        if (transferExecutorService != null) {
+            getCamelContext().getExecutorServiceManager().shutdown(transferExecutorService);
+            transferExecutorService = null;
+        }
         super.doStop();
     }
 
@@ -247,4 +270,55 @@ public class AWS2S3Endpoint extends ScheduledPollEndpoint implements EndpointSer
     public void setInProgressRepository(IdempotentRepository inProgressRepository) {
         this.inProgressRepository = inProgressRepository;
     }
+
+    /**
+     * The thread pool used to upload parts and download ranges concurrently, or <tt>null</tt> if no concurrency has
+     * been configured.
+     */
+    public ExecutorService getTransferExecutorService() {
+        return transferExecutorService;
+    }
+
+    /**
+     * Records a completed multipart upload, which is used to compute the upload throughput.
+     */
+    public void recordUpload(long bytes, long elapsedNanos) {
+        uploadedBytes.add(bytes);
+        uploadTime.add(elapsedNanos);
+    }
+
+    /**
+     * Records a completed ranged download, which is used to compute the download throughput.
+     */
+    public void recordDownload(long bytes, long elapsedNanos) {
+        downloadedBytes.add(bytes);
+        downloadTime.add(elapsedNanos);
+    }
+
+    @ManagedAttribute(description = "Total number of bytes uploaded with multipart uploads")
+    public long getUploadedBytes() {
+        return uploadedBytes.sum();
+    }
+
+    @ManagedAttribute(description = "Average throughput of the multipart uploads (bytes/sec)")
+    public long getUploadThroughput() {
+        return throughput(uploadedBytes.sum(), uploadTime.sum());
+    }
+
+    @ManagedAttribute(description = "Total number of bytes downloaded with ranged downloads")
+    public long getDownloadedBytes() {
+        return downloadedBytes.sum();
+    }
+
+    @ManagedAttribute(description = "Average throughput of the ranged downloads (bytes/sec)")
+    public long getDownloadThroughput() {
+        return throughput(downloadedBytes.sum(), downloadTime.sum());
+    }
+
+    private static long throughput(long bytes, long elapsedNanos) {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return (long) (bytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+    }
 }
@@ -18,6 +18,7 @@ package org.apache.camel.component.aws2.s3;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
@@ -28,6 +29,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
@@ -213,22 +218,28 @@ public class AWS2S3Producer extends DefaultProducer {
         List<CompletedPart> completedParts = new ArrayList<CompletedPart>();
         CompleteMultipartUploadResponse uploadResult;
 
-        long position = 0;
+        long start = System.nanoTime();
         try {
-            for (int part = 1; position < contentLength; part++) {
-                partSize = Math.min(partSize, contentLength - position);
+            if (getEndpoint().getTransferExecutorService() != null && getConfiguration().getMultiPartUploadConcurrency() > 1) {
+                uploadPartsConcurrently(inputStream, contentLength, partSize, keyName, initResponse.uploadId(),
+                        completedParts);
+            } else {
+                long position = 0;
+                for (int part = 1; position < contentLength; part++) {
+                    partSize = Math.min(partSize, contentLength - position);
 
-                UploadPartRequest uploadRequest = UploadPartRequest.builder().bucket(getConfiguration().getBucketName())
-                        .key(keyName).uploadId(initResponse.uploadId())
-                        .partNumber(part).build();
+                    UploadPartRequest uploadRequest = UploadPartRequest.builder().bucket(getConfiguration().getBucketName())
+                            .key(keyName).uploadId(initResponse.uploadId())
+                            .partNumber(part).build();
 
-                LOG.debug("Uploading multi-part [{}] at position: [{}] for {}", part, position, keyName);
+                    LOG.debug("Uploading multi-part [{}] at position: [{}] for {}", part, position, keyName);
 
-                String etag = getEndpoint().getS3Client()
-                        .uploadPart(uploadRequest, RequestBody.fromInputStream(inputStream, partSize)).eTag();
-                CompletedPart partUpload = CompletedPart.builder().partNumber(part).eTag(etag).build();
-                completedParts.add(partUpload);
-                position += partSize;
+                    String etag = getEndpoint().getS3Client()
+                            .uploadPart(uploadRequest, RequestBody.fromInputStream(inputStream, partSize)).eTag();
+                    CompletedPart partUpload = CompletedPart.builder().partNumber(part).eTag(etag).build();
+                    completedParts.add(partUpload);
+                    position += partSize;
+                }
             }
 
             LOG.debug("Completing multi-part upload for {}", keyName);
@@ -240,6 +251,7 @@ public class AWS2S3Producer extends DefaultProducer {
                 compRequestBuilder.ifNoneMatch("*");
             }
             uploadResult = getEndpoint().getS3Client().completeMultipartUpload(compRequestBuilder.build());
+            getEndpoint().recordUpload(contentLength, System.nanoTime() - start);
 
         } catch (Exception e) {
             getEndpoint().getS3Client()
@@ -263,6 +275,87 @@ public class AWS2S3Producer extends DefaultProducer {
         }
     }
 
+    /**
+     * Uploads the parts using the transfer thread pool. The parts are read from the input stream into memory, and at
+     * most multiPartUploadConcurrency parts are uploading (or waiting to be uploaded) at the same time.
+     */
+    private void uploadPartsConcurrently(
+            InputStream inputStream, long contentLength, long partSize, String keyName, String uploadId,
+            List<CompletedPart> completedParts)
+            throws Exception {
+        if (partSize > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(
+                    "The partSize must be less than 2 GB when uploading parts concurrently, was: " + partSize);
+        }
+
+        ExecutorService executorService = getEndpoint().getTransferExecutorService();
+        Semaphore buffers = new Semaphore(getConfiguration().getMultiPartUploadConcurrency());
+        List<Future<CompletedPart>> futures = new ArrayList<>();
+        try {
+            long position = 0;
+            int done = 0;
+            for (int part = 1; position < contentLength; part++) {
+                int size = (int) Math.min(partSize, contentLength - position);
+
+                // wait for a part to be uploaded before reading the next part into memory
+                buffers.acquire();
+                // fail fast if a part has failed
+                while (done < futures.size() && futures.get(done).isDone()) {
+                    getPart(futures.get(done++));
+                }
+
+                byte[] buffer = new byte[size];
+                int read = inputStream.readNBytes(buffer, 0, size);
+                if (read < size) {
+                    buffers.release();
+                    throw new EOFException(
+                            "Unexpected end of stream at position: " + (position + read) + " of content length: "
+                                           + contentLength);
+                }
+
+                final int partNumber = part;
+                final long partPosition = position;
+                futures.add(executorService.submit(() -> {
+                    try {
+                        UploadPartRequest uploadRequest = UploadPartRequest.builder()
+                                .bucket(getConfiguration().getBucketName())
+                                .key(keyName).uploadId(uploadId)
+                                .partNumber(partNumber).build();
+
+                        LOG.debug("Uploading multi-part [{}] at position: [{}] for {}", partNumber, partPosition, keyName);
+
+                        String etag = getEndpoint().getS3Client()
+                                .uploadPart(uploadRequest, RequestBody.fromInputStream(new ByteArrayInputStream(buffer), size))
+                                .eTag();
+                        return CompletedPart.builder().partNumber(partNumber).eTag(etag).build();
+                    } finally {
+                        buffers.release();
+                    }
+                }));
+                position += size;
+            }
+
+            // the parts must be completed in order of the part number
+            for (Future<CompletedPart> future : futures) {
+                completedParts.add(getPart(future));
+            }
+        } catch (Exception e) {
+            futures.forEach(f -> f.cancel(true));
+            throw e;
+        }
+    }
+
+    private static CompletedPart getPart(Future<CompletedPart> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     public void processSingleOp(final Exchange exchange) throws Exception {
         // the content-length may already be known
         long contentLength = exchange.getIn().getHeader(AWS2S3Constants.CONTENT_LENGTH, -1, Long.class);
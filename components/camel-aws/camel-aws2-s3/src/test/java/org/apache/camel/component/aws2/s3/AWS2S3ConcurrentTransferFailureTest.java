@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.PollingConsumerPollStrategy;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.util.FileUtil;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The failures of the concurrent multipart upload and ranged download.
+ */
+public class AWS2S3ConcurrentTransferFailureTest extends CamelTestSupport {
+
+    private static final String SPOOL_DIRECTORY = "target/s3-ranged-cache";
+
+    @BindToRegistry("s3Client")
+    private final S3ClientStub s3Client = new S3ClientStub();
+
+    @BindToRegistry("pollStrategy")
+    private final FailedPollStrategy pollStrategy = new FailedPollStrategy();
+
+    @EndpointInject("mock:result")
+    private MockEndpoint result;
+
+    @Test
+    public void uploadIsAbortedWhenPartFails() {
+        s3Client.failUploadPart(2);
+
+        Exchange out = template.send("direct:upload", exchange -> {
+            exchange.getIn().setHeader(AWS2S3Constants.KEY, "big.bin");
+            exchange.getIn().setHeader(AWS2S3Constants.CONTENT_LENGTH, 5000L);
+            exchange.getIn().setBody(new byte[5000]);
+        });
+
+        S3Exception cause = assertIsInstanceOf(S3Exception.class, out.getException());
+        assertEquals(500, cause.statusCode());
+        assertEquals("upload-big.bin", s3Client.getAbortedUploadId());
+        assertNull(s3Client.getCompletedUploadId());
+    }
+
+    @Test
+    public void uploadIsAbortedOnEndOfStream() {
+        Exchange out = template.send("direct:upload", exchange -> {
+            exchange.getIn().setHeader(AWS2S3Constants.KEY, "big.bin");
+            // the stream ends in the third part
+            exchange.getIn().setHeader(AWS2S3Constants.CONTENT_LENGTH, 5000L);
+            exchange.getIn().setBody(new ByteArrayInputStream(new byte[3000]));
+        });
+
+        assertIsInstanceOf(EOFException.class, out.getException());
+        assertTrue(s3Client.getUploadedParts() <= 2);
+        assertEquals("upload-big.bin", s3Client.getAbortedUploadId());
+        assertNull(s3Client.getCompletedUploadId());
+    }
+
+    @Test
+    public void downloadFailsWhenObjectChanges() throws Exception {
+        s3Client.putObject("a.bin", new byte[4096]);
+        s3Client.putObject("b.bin", new byte[4096]);
+        // the If-Match condition fails for the remaining ranges of b.bin
+        s3Client.changeWhileDownloading("b.bin");
+
+        result.expectedMessageCount(0);
+        context.getRouteController().startRoute("download");
+
+        assertTrue(pollStrategy.latch.await(10, TimeUnit.SECONDS), "The poll should fail");
+        context.getRouteController().stopRoute("download");
+
+        S3Exception cause = assertIsInstanceOf(S3Exception.class, pollStrategy.cause);
+        assertEquals(412, cause.statusCode());
+        MockEndpoint.assertIsSatisfied(context);
+
+        // the stream caches of a.bin (which was downloaded) and b.bin are deleted
+        String[] files = new File(SPOOL_DIRECTORY).list();
+        assertEquals(0, files != null ? files.length : 0);
+        AWS2S3Endpoint endpoint = (AWS2S3Endpoint) context.getRoute("download").getEndpoint();
+        assertFalse(endpoint.getInProgressRepository().contains("a.bin"));
+        assertFalse(endpoint.getInProgressRepository().contains("b.bin"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                FileUtil.removeDir(new File(SPOOL_DIRECTORY));
+                StreamCachingStrategy streamCachingStrategy = context.getStreamCachingStrategy();
+                streamCachingStrategy.setSpoolDirectory(SPOOL_DIRECTORY);
+                streamCachingStrategy.setSpoolThreshold(1024);
+                streamCachingStrategy.setSpoolEnabled(true);
+
+                from("direct:upload")
+                        .to("aws2-s3://mycamelbucket?amazonS3Client=#s3Client&multiPartUpload=true&partSize=1024"
+                            + "&multiPartUploadConcurrency=3");
+
+                from("aws2-s3://mycamelbucket?amazonS3Client=#s3Client&rangedDownloadConcurrency=2"
+                     + "&rangedDownloadPartSize=1024&pollStrategy=#pollStrategy&delay=60000")
+                        .routeId("download").autoStartup(false)
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private static final class FailedPollStrategy implements PollingConsumerPollStrategy {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private volatile Exception cause;
+
+        @Override
+        public boolean begin(Consumer consumer, Endpoint endpoint) {
+            return true;
+        }
+
+        @Override
+        public void commit(Consumer consumer, Endpoint endpoint, int polledMessages) {
+            // noop
+        }
+
+        @Override
+        public boolean rollback(Consumer consumer, Endpoint endpoint, int retryCounter, Exception e) {
+            if (cause == null) {
+                cause = e;
+                latch.countDown();
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.s3;
+
+import java.util.Random;
+
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Without spooling of stream caches to disk, the objects are downloaded as a single stream.
+ */
+public class AWS2S3RangedDownloadNoSpoolTest extends CamelTestSupport {
+
+    @BindToRegistry("s3Client")
+    private final S3ClientStub s3Client = new S3ClientStub();
+
+    @EndpointInject("mock:result")
+    private MockEndpoint result;
+
+    @Test
+    public void downloadAsSingleStream() throws Exception {
+        byte[] data = new byte[4096];
+        new Random(42).nextBytes(data);
+        s3Client.putObject("a.bin", data);
+
+        result.expectedMessageCount(1);
+        context.getRouteController().startRoute("download");
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertArrayEquals(data, result.getReceivedExchanges().get(0).getMessage().getBody(byte[].class));
+        assertEquals(0, s3Client.getRangedRequests());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("aws2-s3://mycamelbucket?amazonS3Client=#s3Client&rangedDownloadConcurrency=2"
+                     + "&rangedDownloadPartSize=1024")
+                        .routeId("download").autoStartup(false)
+                        .convertBodyTo(byte[].class)
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * An in-memory {@link S3Client} for the operations used by the multipart upload and the ranged download, which can be
+ * told to fail an upload part, or to change an object while it is being downloaded.
+ */
+class S3ClientStub implements S3Client {
+
+    // the objects are listed in the order of their keys as by S3
+    private final Map<String, byte[]> objects = new ConcurrentSkipListMap<>();
+    private final Map<String, String> eTags = new ConcurrentHashMap<>();
+    private final Set<String> changeWhileDownloading = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger rangedRequests = new AtomicInteger();
+    private final AtomicInteger uploadedParts = new AtomicInteger();
+    private volatile int failUploadPart;
+    private volatile String abortedUploadId;
+    private volatile String completedUploadId;
+
+    void putObject(String key, byte[] data) {
+        objects.put(key, data);
+        eTags.put(key, "etag-" + key);
+    }
+
+    /**
+     * The object is changed (so its ETag changes) after the first range has been downloaded
+     */
+    void changeWhileDownloading(String key) {
+        changeWhileDownloading.add(key);
+    }
+
+    void failUploadPart(int partNumber) {
+        this.failUploadPart = partNumber;
+    }
+
+    int getRangedRequests() {
+        return rangedRequests.get();
+    }
+
+    int getUploadedParts() {
+        return uploadedParts.get();
+    }
+
+    String getAbortedUploadId() {
+        return abortedUploadId;
+    }
+
+    String getCompletedUploadId() {
+        return completedUploadId;
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+        // noop
+    }
+
+    @Override
+    public HeadBucketResponse headBucket(HeadBucketRequest request) {
+        return HeadBucketResponse.builder().build();
+    }
+
+    @Override
+    public ListObjectsResponse listObjects(ListObjectsRequest request) {
+        List<S3Object> contents = new ArrayList<>();
+        for (Map.Entry<String, byte[]> entry : objects.entrySet()) {
+            contents.add(S3Object.builder().key(entry.getKey()).size((long) entry.getValue().length)
+                    .eTag(eTags.get(entry.getKey())).build());
+        }
+        return ListObjectsResponse.builder().contents(contents).isTruncated(false).build();
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(
+            GetObjectRequest request, ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        String key = request.key();
+        byte[] data = objects.get(key);
+        if (request.range() != null) {
+            rangedRequests.incrementAndGet();
+            synchronized (this) {
+                if (request.ifMatch() != null && !request.ifMatch().equals(eTags.get(key))) {
+                    throw (S3Exception) S3Exception.builder().statusCode(412)
+                            .message("At least one of the pre-conditions you specified did not hold").build();
+                }
+                if (changeWhileDownloading.remove(key)) {
+                    eTags.put(key, "etag-" + key + "-changed");
+                }
+            }
+            // bytes=start-end
+            String[] range = request.range().substring(6).split("-");
+            data = Arrays.copyOfRange(data, Integer.parseInt(range[0]), Integer.parseInt(range[1]) + 1);
+        }
+        GetObjectResponse response = GetObjectResponse.builder().eTag(eTags.get(key))
+                .contentLength((long) data.length).contentType("application/octet-stream").build();
+        try {
+            return responseTransformer.transform(response, AbortableInputStream.create(new ByteArrayInputStream(data)));
+        } catch (Exception e) {
+            throw SdkClientException.create("Error transforming the response", e);
+        }
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        return CreateMultipartUploadResponse.builder().uploadId("upload-" + request.key()).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+        if (request.partNumber() == failUploadPart) {
+            throw (S3Exception) S3Exception.builder().statusCode(500).message("Simulated failure of the part").build();
+        }
+        try (InputStream is = requestBody.contentStreamProvider().newStream()) {
+            is.readAllBytes();
+        } catch (IOException e) {
+            throw SdkClientException.create("Error reading the part", e);
+        }
+        uploadedParts.incrementAndGet();
+        return UploadPartResponse.builder().eTag("etag-part-" + request.partNumber()).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        abortedUploadId = request.uploadId();
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        completedUploadId = request.uploadId();
+        return CompleteMultipartUploadResponse.builder().eTag("etag-" + request.key()).build();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.s3.integration;
+
+import java.util.Random;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.aws2.s3.AWS2S3Constants;
+import org.apache.camel.component.aws2.s3.AWS2S3Endpoint;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class S3ConcurrentTransferIT extends Aws2S3Base {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint result;
+
+    @Test
+    public void uploadAndDownloadConcurrently() throws Exception {
+        // 4 full parts and a smaller last part
+        byte[] data = new byte[4 * PART_SIZE + 12345];
+        new Random(42).nextBytes(data);
+
+        Exchange out = template.send("direct:upload", exchange -> {
+            exchange.getIn().setHeader(AWS2S3Constants.KEY, "big.bin");
+            exchange.getIn().setHeader(AWS2S3Constants.CONTENT_LENGTH, (long) data.length);
+            exchange.getIn().setBody(data);
+        });
+        assertFalse(out.isFailed());
+
+        AWS2S3Endpoint upload = context.getEndpoint(uploadUri(), AWS2S3Endpoint.class);
+        assertEquals(data.length, upload.getUploadedBytes());
+        assertTrue(upload.getUploadThroughput() > 0);
+
+        result.expectedMessageCount(1);
+        context.getRouteController().startRoute("download");
+        MockEndpoint.assertIsSatisfied(context);
+
+        Exchange exchange = result.getReceivedExchanges().get(0);
+        assertEquals("big.bin", exchange.getMessage().getHeader(AWS2S3Constants.KEY));
+        assertEquals((long) data.length, exchange.getMessage().getHeader(AWS2S3Constants.CONTENT_LENGTH, Long.class));
+        assertArrayEquals(data, exchange.getMessage().getBody(byte[].class));
+
+        AWS2S3Endpoint download = (AWS2S3Endpoint) context.getRoute("download").getEndpoint();
+        assertEquals(data.length, download.getDownloadedBytes());
+        assertTrue(download.getDownloadThroughput() > 0);
+    }
+
+    private String uploadUri() {
+        return "aws2-s3://" + name.get() + "?autoCreateBucket=true&multiPartUpload=true&partSize=" + PART_SIZE
+               + "&multiPartUploadConcurrency=3";
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                // the ranged download requires spooling of the stream cache to disk
+                context.getStreamCachingStrategy().setSpoolEnabled(true);
+
+                from("direct:upload").to(uploadUri());
+
+                from("aws2-s3://" + name.get() + "?autoCreateBucket=true&rangedDownloadConcurrency=3"
+                     + "&rangedDownloadPartSize=" + (PART_SIZE / 2))
+                        .routeId("download").autoStartup(false)
+                        .convertBodyTo(byte[].class)
+                        .to("mock:result");
+            }
+        };
+    }
+}
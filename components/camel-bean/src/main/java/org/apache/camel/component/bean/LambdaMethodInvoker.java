@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes a bean method using a class generated by the {@link LambdaMetafactory} (as a method reference), which is
+ * created once per method, to avoid the overhead of {@link Method#invoke(Object, Object...)} on every invocation.
+ * <p/>
+ * The generated class is only used when the arguments match the parameter types exactly (or are boxed values of
+ * primitive parameters), so any other arguments are invoked via reflection, which reports invalid arguments as
+ * {@link IllegalArgumentException}. As with reflection, any exception thrown by the method is wrapped in an
+ * {@link InvocationTargetException}.
+ */
+final class LambdaMethodInvoker {
+
+    /**
+     * The max number of parameters (including the bean instance for non-static methods) supported.
+     */
+    static final int MAX_PARAMETERS = 4;
+
+    private static final Logger LOG = LoggerFactory.getLogger(LambdaMethodInvoker.class);
+
+    // the generated classes implement these interfaces which must be public, as the classes may be defined in the
+    // class loader of the bean
+
+    @FunctionalInterface
+    public interface Invoker1 {
+        Object invoke(Object p1);
+    }
+
+    @FunctionalInterface
+    public interface Invoker2 {
+        Object invoke(Object p1, Object p2);
+    }
+
+    @FunctionalInterface
+    public interface Invoker3 {
+        Object invoke(Object p1, Object p2, Object p3);
+    }
+
+    @FunctionalInterface
+    public interface Invoker4 {
+        Object invoke(Object p1, Object p2, Object p3, Object p4);
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker1 {
+        void invoke(Object p1);
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker2 {
+        void invoke(Object p1, Object p2);
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker3 {
+        void invoke(Object p1, Object p2, Object p3);
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker4 {
+        void invoke(Object p1, Object p2, Object p3, Object p4);
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        Object call(Object pojo, Object[] arguments);
+    }
+
+    private static final Class<?>[] INVOKERS = { Invoker1.class, Invoker2.class, Invoker3.class, Invoker4.class };
+    private static final Class<?>[] VOID_INVOKERS
+            = { VoidInvoker1.class, VoidInvoker2.class, VoidInvoker3.class, VoidInvoker4.class };
+
+    private final Call call;
+    private final Class<?> declaringClass;
+    private final Class<?>[] parameterTypes;
+    private final boolean[] primitives;
+
+    private LambdaMethodInvoker(Call call, Class<?> declaringClass, Class<?>[] parameterTypes) {
+        this.call = call;
+        this.declaringClass = declaringClass;
+        this.parameterTypes = new Class<?>[parameterTypes.length];
+        this.primitives = new boolean[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            this.primitives[i] = parameterTypes[i].isPrimitive();
+            this.parameterTypes[i] = ObjectHelper.convertPrimitiveTypeToWrapperType(parameterTypes[i]);
+        }
+    }
+
+    /**
+     * Creates an invoker for the given method.
+     *
+     * @return the invoker, or <tt>null</tt> if the method cannot be invoked using a generated class (such as a method
+     *         with too many parameters, or which is not accessible), in which case reflection should be used.
+     */
+    static LambdaMethodInvoker create(Method method) {
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        int count = method.getParameterCount() + (isStatic ? 0 : 1);
+        if (count == 0 || count > MAX_PARAMETERS) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = lookup(method);
+            if (lookup == null) {
+                return null;
+            }
+            MethodHandle mh = lookup.unreflect(method);
+            boolean isVoid = method.getReturnType() == void.class;
+            Class<?> type = isVoid ? VOID_INVOKERS[count - 1] : INVOKERS[count - 1];
+            MethodType erased = MethodType.genericMethodType(count);
+            if (isVoid) {
+                erased = erased.changeReturnType(void.class);
+            }
+            // primitive parameters and return types are boxed
+            MethodType instantiated = mh.type().wrap();
+            if (isVoid) {
+                instantiated = instantiated.changeReturnType(void.class);
+            }
+            CallSite site = LambdaMetafactory.metafactory(lookup, "invoke", MethodType.methodType(type), erased, mh,
+                    instantiated);
+            Object function = site.getTarget().invoke();
+            return new LambdaMethodInvoker(
+                    createCall(function, count, isStatic, isVoid), isStatic ? null : method.getDeclaringClass(),
+                    method.getParameterTypes());
+        } catch (Throwable e) {
+            LOG.debug("Cannot create invoker for method: {} (reflection is used). This exception is ignored.", method, e);
+            return null;
+        }
+    }
+
+    private static MethodHandles.Lookup lookup(Method method) {
+        Class<?> clazz = method.getDeclaringClass();
+        try {
+            // define the class as a nestmate of the bean, so it can access non-public methods and is loaded by
+            // the class loader of the bean
+            return MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            // the package of the bean is not open to us, but public methods can be invoked as-is
+            if (Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(clazz.getModifiers())) {
+                return MethodHandles.lookup();
+            }
+            return null;
+        }
+    }
+
+    private static Call createCall(Object function, int count, boolean isStatic, boolean isVoid) {
+        // static methods have no bean instance so the first parameter is the first argument
+        switch (count) {
+            case 1:
+                if (isVoid) {
+                    VoidInvoker1 f = (VoidInvoker1) function;
+                    return isStatic
+                            ? (p, a) -> {
+                                f.invoke(a[0]);
+                                return null;
+                            }
+                            : (p, a) -> {
+                                f.invoke(p);
+                                return null;
+                            };
+                } else {
+                    Invoker1 f = (Invoker1) function;
+                    return isStatic ? (p, a) -> f.invoke(a[0]) : (p, a) -> f.invoke(p);
+                }
+            case 2:
+                if (isVoid) {
+                    VoidInvoker2 f = (VoidInvoker2) function;
+                    return isStatic
+                            ? (p, a) -> {
+                                f.invoke(a[0], a[1]);
+                                return null;
+                            }
+                            : (p, a) -> {
+                                f.invoke(p, a[0]);
+                                return null;
+                            };
+                } else {
+                    Invoker2 f = (Invoker2) function;
+                    return isStatic ? (p, a) -> f.invoke(a[0], a[1]) : (p, a) -> f.invoke(p, a[0]);
+                }
+            case 3:
+                if (isVoid) {
+                    VoidInvoker3 f = (VoidInvoker3) function;
+                    return isStatic
+                            ? (p, a) -> {
+                                f.invoke(a[0], a[1], a[2]);
+                                return null;
+                            }
+                            : (p, a) -> {
+                                f.invoke(p, a[0], a[1]);
+                                return null;
+                            };
+                } else {
+                    Invoker3 f = (Invoker3) function;
+                    return isStatic ? (p, a) -> f.invoke(a[0], a[1], a[2]) : (p, a) -> f.invoke(p, a[0], a[1]);
+                }
+            case 4:
+                if (isVoid) {
+                    VoidInvoker4 f = (VoidInvoker4) function;
+                    return isStatic
+                            ? (p, a) -> {
+                                f.invoke(a[0], a[1], a[2], a[3]);
+                                return null;
+                            }
+                            : (p, a) -> {
+                                f.invoke(p, a[0], a[1], a[2]);
+                                return null;
+                            };
+                } else {
+                    Invoker4 f = (Invoker4) function;
+                    return isStatic
+                            ? (p, a) -> f.invoke(a[0], a[1], a[2], a[3]) : (p, a) -> f.invoke(p, a[0], a[1], a[2]);
+                }
+            default:
+                throw new IllegalArgumentException("Unsupported number of parameters: " + count);
+        }
+    }
+
+    /**
+     * Whether the given bean and arguments can be invoked by this invoker.
+     */
+    boolean canInvoke(Object pojo, Object[] arguments) {
+        if (declaringClass != null && !declaringClass.isInstance(pojo)) {
+            return false;
+        }
+        int count = arguments != null ? arguments.length : 0;
+        if (count != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            Object arg = arguments[i];
+            if (arg == null) {
+                if (primitives[i]) {
+                    return false;
+                }
+            } else if (primitives[i] ? arg.getClass() != parameterTypes[i] : !parameterTypes[i].isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Invokes the method, which must only be called if {@link #canInvoke(Object, Object[])} returned <tt>true</tt>.
+     */
+    Object invoke(Object pojo, Object[] arguments) throws InvocationTargetException {
+        try {
+            return call.call(pojo, arguments);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+}
@@ -53,6 +53,7 @@ import org.apache.camel.spi.ErrorHandlerAware;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.PluginHelper;
@@ -70,6 +71,7 @@ import static org.apache.camel.util.ObjectHelper.asString;
  */
 public class MethodInfo {
     private static final Logger LOG = LoggerFactory.getLogger(MethodInfo.class);
+    private static final int PARAMETER_VALUES_CACHE_SIZE = 100;
 
     private final CamelContext camelContext;
     private final Class<?> type;
@@ -83,6 +85,8 @@ public class MethodInfo {
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    private volatile LambdaMethodInvoker invoker;
+    private volatile boolean invokerResolved;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -502,6 +506,14 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method) {
+            // invoke using the class generated by the lambda metafactory, which calls the method directly and is
+            // faster than reflection
+            LambdaMethodInvoker invoker = getInvoker();
+            if (invoker != null && invoker.canInvoke(pojo, arguments)) {
+                return invoker.invoke(pojo, arguments);
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -515,6 +527,15 @@ public class MethodInfo {
         }
     }
 
+    private LambdaMethodInvoker getInvoker() {
+        if (!invokerResolved) {
+            // create lazily as only a few of the methods of a bean are invoked
+            invoker = LambdaMethodInvoker.create(method);
+            invokerResolved = true;
+        }
+        return invoker;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -558,6 +579,7 @@ public class MethodInfo {
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        private volatile Map<String, ParameterValues> parameterValuesCache;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
@@ -582,16 +604,8 @@ public class MethodInfo {
             // if there was an explicit method name to invoke, then we should support using
             // any provided parameter values in the method name
             String methodName = exchange.getProperty(BeanConstants.BEAN_METHOD_NAME, String.class);
-            // the parameter values is between the parenthesis
-            String methodParameters = StringHelper.betweenOuterPair(methodName, '(', ')');
-            // use an iterator to walk the parameter values
-            Iterator<?> it = null;
-            if (methodParameters != null) {
-                // split the parameters safely separated by comma, but beware that we can have
-                // quoted parameters which contains comma as well, so do a safe quote split (keep quotes)
-                String[] parameters = StringQuoteHelper.splitSafeQuote(methodParameters, ',', true, true);
-                it = ObjectHelper.createIterator(parameters, ",", true);
-            }
+            // the parameter values (if any) are parsed once per method name
+            ParameterValues values = methodName != null ? getParameterValues(methodName) : null;
 
             // remove headers as they should not be propagated
             // we need to do this before the expressions gets evaluated as it may contain
@@ -601,15 +615,31 @@ public class MethodInfo {
                 exchange.removeProperty(BeanConstants.BEAN_METHOD_NAME);
             }
 
-            Object[] answer = evaluateParameterExpressions(exchange, body, it);
+            Object[] answer = evaluateParameterExpressions(exchange, body, values);
             return (T) answer;
         }
 
+        private ParameterValues getParameterValues(String methodName) {
+            Map<String, ParameterValues> cache = parameterValuesCache;
+            if (cache == null) {
+                synchronized (this) {
+                    cache = parameterValuesCache;
+                    if (cache == null) {
+                        cache = LRUCacheFactory.newLRUCache(PARAMETER_VALUES_CACHE_SIZE);
+                        parameterValuesCache = cache;
+                    }
+                }
+            }
+            return cache.computeIfAbsent(methodName, ParameterValues::new);
+        }
+
         /**
          * Evaluates all the parameter expressions
          */
-        private Object[] evaluateParameterExpressions(Exchange exchange, Object body, Iterator<?> it) {
+        private Object[] evaluateParameterExpressions(Exchange exchange, Object body, ParameterValues values) {
             Object[] answer = new Object[expressions != null ? expressions.length : 1];
+            // the position of the next parameter value
+            int pos = 0;
             for (int i = 0; expressions == null || i < expressions.length; i++) {
                 if (body instanceof StreamCache) {
                     // need to reset stream cache for each expression as you may access the message body in multiple parameters
@@ -624,13 +654,12 @@ public class MethodInfo {
                 Object value = null;
 
                 if (varargs) {
-                    value = evaluateVarargsParameterExpressions(exchange, body, it);
-                } else {
+                    value = evaluateVarargsParameterExpressions(exchange, body, values, pos);
+                } else if (values != null && pos < values.size()) {
                     // grab the parameter value for the given index
-                    Object parameterValue = it != null && it.hasNext() ? it.next() : null;
+                    ParameterValue parameterValue = values.get(exchange, pos++, i, parameterType, false);
                     // prefer to use parameter value if given, as they override any bean parameter binding
-                    // we should skip * as its a type placeholder to indicate any type
-                    if (parameterValue != null && !parameterValue.equals("*")) {
+                    if (parameterValue != null) {
                         // evaluate the parameter value binding
                         value = evaluateParameterValue(exchange, i, parameterValue, parameterType, false);
                     }
@@ -652,7 +681,8 @@ public class MethodInfo {
         /**
          * Evaluate the remainder parameter as a single vararg
          */
-        private Object evaluateVarargsParameterExpressions(Exchange exchange, Object body, Iterator<?> it) {
+        private Object evaluateVarargsParameterExpressions(
+                Exchange exchange, Object body, ParameterValues values, int pos) {
             // special for varargs
             if (body instanceof StreamCache) {
                 // need to reset stream cache for each expression as you may access the message body in multiple parameters
@@ -660,12 +690,12 @@ public class MethodInfo {
             }
             List<Object> answer = new ArrayList<>();
             int i = 0;
-            while (it.hasNext()) {
-                Object parameterValue = it.next();
+            int size = values != null ? values.size() : 0;
+            while (pos < size) {
+                ParameterValue parameterValue = values.get(exchange, pos++, i, Object.class, true);
                 Object value = null;
                 // prefer to use parameter value if given, as they override any bean parameter binding
-                // we should skip * as its a type placeholder to indicate any type
-                if (parameterValue != null && !parameterValue.equals("*")) {
+                if (parameterValue != null) {
                     // evaluate the parameter value binding
                     value = evaluateParameterValue(exchange, i, parameterValue, Object.class, true);
                 }
@@ -690,96 +720,73 @@ public class MethodInfo {
          * </ul>
          */
         private Object evaluateParameterValue(
-                Exchange exchange, int index, Object parameterValue, Class<?> parameterType,
+                Exchange exchange, int index, ParameterValue value, Class<?> parameterType,
                 boolean varargs) {
             Object answer = null;
 
-            // convert the parameter value to a String
-            String exp = exchange.getContext().getTypeConverter().convertTo(String.class, exchange, parameterValue);
-            boolean valid;
-            if (exp != null) {
-                int pos1 = exp.indexOf(' ');
-                int pos2 = exp.indexOf(".class");
-                if (pos1 != -1 && pos2 != -1 && pos1 > pos2) {
-                    exp = exp.substring(pos2 + 7); // clip <space>.class
+            String exp = value.exp;
+            boolean valid = value.valid;
+            // use simple language to evaluate the expression, as it may use the simple language to refer to message body, headers etc.
+            Object parameterValue;
+            try {
+                parameterValue = value.expression.evaluate(exchange, Object.class);
+                // use "null" to indicate the expression returned a null value which is a valid response we need to honor
+                if (parameterValue == null) {
+                    parameterValue = "null";
                 }
+            } catch (Exception e) {
+                throw new ExpressionEvaluationException(
+                        value.expression, "Cannot create/evaluate simple expression: " + exp
+                                          + " to be bound to parameter at index: " + index + " on method: " + getMethod(),
+                        exchange, e);
+            }
 
-                // check if its a valid parameter value (no type declared via .class syntax)
-                valid = BeanHelper.isValidParameterValue(exp);
-                if (!valid && !varargs) {
-                    // it may be a parameter type instead, and if so, then we should return null,
-                    // as this method is only for evaluating parameter values
-                    Boolean isClass = BeanHelper.isAssignableToExpectedType(exchange.getContext().getClassResolver(), exp,
-                            parameterType);
-                    // the method will return a non-null value if exp is a class
-                    if (isClass != null) {
-                        return null;
-                    }
-                }
+            // special for explicit null parameter values (as end users can explicit indicate they want null as parameter)
+            // see method javadoc for details
+            if ("null".equals(parameterValue)) {
+                return Void.TYPE;
+            }
 
-                // use simple language to evaluate the expression, as it may use the simple language to refer to message body, headers etc.
-                Expression expression = null;
-                try {
-                    expression = exchange.getContext().resolveLanguage("simple").createExpression(exp);
-                    parameterValue = expression.evaluate(exchange, Object.class);
-                    // use "null" to indicate the expression returned a null value which is a valid response we need to honor
-                    if (parameterValue == null) {
-                        parameterValue = "null";
+            // the parameter value may match the expected type, then we use it as-is
+            if (varargs || parameterType.isAssignableFrom(parameterValue.getClass())) {
+                valid = true;
+            } else {
+                // String values from the simple language is always valid
+                if (!valid) {
+                    valid = parameterValue instanceof String;
+                    if (!valid) {
+                        // the parameter value was not already valid, but since the simple language have evaluated the expression
+                        // which may change the parameterValue, so we have to check it again to see if it is now valid
+                        exp = exchange.getContext().getTypeConverter().tryConvertTo(String.class, parameterValue);
+                        // re-validate if the parameter was not valid the first time
+                        valid = BeanHelper.isValidParameterValue(exp);
                     }
-                } catch (Exception e) {
-                    throw new ExpressionEvaluationException(
-                            expression, "Cannot create/evaluate simple expression: " + exp
-                                        + " to be bound to parameter at index: " + index + " on method: " + getMethod(),
-                            exchange, e);
                 }
+            }
 
-                // special for explicit null parameter values (as end users can explicit indicate they want null as parameter)
-                // see method javadoc for details
-                if ("null".equals(parameterValue)) {
-                    return Void.TYPE;
+            if (valid) {
+                // we need to unquote String parameters, as the enclosing quotes is there to denote a parameter value
+                if (parameterValue instanceof String) {
+                    parameterValue = StringHelper.removeLeadingAndEndingQuotes((String) parameterValue);
                 }
-
-                // the parameter value may match the expected type, then we use it as-is
-                if (varargs || parameterType.isAssignableFrom(parameterValue.getClass())) {
-                    valid = true;
+                if (varargs) {
+                    // use the value as-is
+                    answer = parameterValue;
                 } else {
-                    // String values from the simple language is always valid
-                    if (!valid) {
-                        valid = parameterValue instanceof String;
-                        if (!valid) {
-                            // the parameter value was not already valid, but since the simple language have evaluated the expression
-                            // which may change the parameterValue, so we have to check it again to see if it is now valid
-                            exp = exchange.getContext().getTypeConverter().tryConvertTo(String.class, parameterValue);
-                            // re-validate if the parameter was not valid the first time
-                            valid = BeanHelper.isValidParameterValue(exp);
+                    try {
+                        // it is a valid parameter value, so convert it to the expected type of the parameter
+                        answer = exchange.getContext().getTypeConverter().mandatoryConvertTo(parameterType, exchange,
+                                parameterValue);
+                        if (LOG.isTraceEnabled()) {
+                            LOG.trace("Parameter #{} evaluated as: {} type: {}", index, answer,
+                                    org.apache.camel.util.ObjectHelper.type(answer));
                         }
-                    }
-                }
-
-                if (valid) {
-                    // we need to unquote String parameters, as the enclosing quotes is there to denote a parameter value
-                    if (parameterValue instanceof String) {
-                        parameterValue = StringHelper.removeLeadingAndEndingQuotes((String) parameterValue);
-                    }
-                    if (varargs) {
-                        // use the value as-is
-                        answer = parameterValue;
-                    } else {
-                        try {
-                            // it is a valid parameter value, so convert it to the expected type of the parameter
-                            answer = exchange.getContext().getTypeConverter().mandatoryConvertTo(parameterType, exchange,
-                                    parameterValue);
-                            if (LOG.isTraceEnabled()) {
-                                LOG.trace("Parameter #{} evaluated as: {} type: {}", index, answer,
-                                        org.apache.camel.util.ObjectHelper.type(answer));
-                            }
-                        } catch (Exception e) {
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Cannot convert from type: {} to type: {} for parameter #{}",
-                                        org.apache.camel.util.ObjectHelper.type(parameterValue), parameterType, index);
-                            }
-                            throw new ParameterBindingException(e, method, index, parameterType, parameterValue);
+                    } catch (Exception e) {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Cannot convert from type: {} to type: {} for parameter #{}",
+                                    org.apache.camel.util.ObjectHelper.type(parameterValue), parameterType, index);
                         }
+                        throw new ParameterBindingException(e, method, index, parameterType, parameterValue);
                     }
                 }
             }
@@ -833,4 +840,98 @@ public class MethodInfo {
         }
 
     }
+    /**
+     * The parameter values provided in the method name syntax, such as <tt>foo(${body}, 'Camel')</tt>, which are parsed
+     * once per method name, and where the simple expressions of the values are created on first use.
+     */
+    private final class ParameterValues {
+        private final String[] values;
+        private final ParameterValue[] resolved;
+
+        ParameterValues(String methodName) {
+            // the parameter values is between the parenthesis
+            String methodParameters = StringHelper.betweenOuterPair(methodName, '(', ')');
+            if (methodParameters != null) {
+                // split the parameters safely separated by comma, but beware that we can have
+                // quoted parameters which contains comma as well, so do a safe quote split (keep quotes)
+                values = StringQuoteHelper.splitSafeQuote(methodParameters, ',', true, true);
+            } else {
+                values = new String[0];
+            }
+            resolved = new ParameterValue[values.length];
+        }
+
+        int size() {
+            return values.length;
+        }
+
+        /**
+         * Gets the parameter value at the given position
+         *
+         * @return the parameter value, or <tt>null</tt> if there is no value to evaluate (such as * or a type)
+         */
+        ParameterValue get(Exchange exchange, int pos, int index, Class<?> parameterType, boolean varargs) {
+            ParameterValue answer = resolved[pos];
+            if (answer == null) {
+                answer = createParameterValue(exchange, values[pos], index, parameterType, varargs);
+                // a parameter is always at the same position so it can be reused
+                resolved[pos] = answer;
+            }
+            return answer != ParameterValue.NONE ? answer : null;
+        }
+
+        private ParameterValue createParameterValue(
+                Exchange exchange, String exp, int index, Class<?> parameterType, boolean varargs) {
+            // we should skip * as its a type placeholder to indicate any type
+            if (exp == null || exp.equals("*")) {
+                return ParameterValue.NONE;
+            }
+
+            int pos1 = exp.indexOf(' ');
+            int pos2 = exp.indexOf(".class");
+            if (pos1 != -1 && pos2 != -1 && pos1 > pos2) {
+                exp = exp.substring(pos2 + 7); // clip <space>.class
+            }
+
+            // check if its a valid parameter value (no type declared via .class syntax)
+            boolean valid = BeanHelper.isValidParameterValue(exp);
+            if (!valid && !varargs) {
+                // it may be a parameter type instead, and if so, then there is no parameter value
+                Boolean isClass = BeanHelper.isAssignableToExpectedType(exchange.getContext().getClassResolver(), exp,
+                        parameterType);
+                // the method will return a non-null value if exp is a class
+                if (isClass != null) {
+                    return ParameterValue.NONE;
+                }
+            }
+
+            Expression expression;
+            try {
+                expression = exchange.getContext().resolveLanguage("simple").createExpression(exp);
+            } catch (Exception e) {
+                throw new ExpressionEvaluationException(
+                        null, "Cannot create/evaluate simple expression: " + exp
+                              + " to be bound to parameter at index: " + index + " on method: " + getMethod(),
+                        exchange, e);
+            }
+            return new ParameterValue(exp, valid, expression);
+        }
+    }
+
+    /**
+     * A parameter value with its simple expression.
+     */
+    private static final class ParameterValue {
+        static final ParameterValue NONE = new ParameterValue(null, false, null);
+
+        private final String exp;
+        private final boolean valid;
+        private final Expression expression;
+
+        ParameterValue(String exp, boolean valid, Expression expression) {
+            this.exp = exp;
+            this.valid = valid;
+            this.expression = expression;
+        }
+    }
 }
@@ -25,6 +25,7 @@ public class BindyCsvDataFormatConfigurer extends org.apache.camel.support.compo
         map.put("AllowEmptyStream", boolean.class);
         map.put("ClassType", java.lang.Class.class);
         map.put("Locale", java.lang.String.class);
+        map.put("Streaming", boolean.class);
         map.put("UnwrapSingleInstance", boolean.class);
         ALL_OPTIONS = map;
     }
@@ -38,6 +39,7 @@ public class BindyCsvDataFormatConfigurer extends org.apache.camel.support.compo
         case "classtype":
         case "classType": target.setClassType(property(camelContext, java.lang.Class.class, value)); return true;
         case "locale": target.setLocale(property(camelContext, java.lang.String.class, value)); return true;
+        case "streaming": target.setStreaming(property(camelContext, boolean.class, value)); return true;
         case "unwrapsingleinstance":
         case "unwrapSingleInstance": target.setUnwrapSingleInstance(property(camelContext, boolean.class, value)); return true;
         default: return false;
@@ -57,6 +59,7 @@ public class BindyCsvDataFormatConfigurer extends org.apache.camel.support.compo
         case "classtype":
         case "classType": return java.lang.Class.class;
         case "locale": return java.lang.String.class;
+        case "streaming": return boolean.class;
         case "unwrapsingleinstance":
         case "unwrapSingleInstance": return boolean.class;
         default: return null;
@@ -72,6 +75,7 @@ public class BindyCsvDataFormatConfigurer extends org.apache.camel.support.compo
         case "classtype":
         case "classType": return target.getClassType();
         case "locale": return target.getLocale();
+        case "streaming": return target.isStreaming();
         case "unwrapsingleinstance":
         case "unwrapSingleInstance": return target.isUnwrapSingleInstance();
         default: return null;
@@ -16,20 +16,24 @@
  */
 package org.apache.camel.dataformat.bindy;
 
+import java.io.Closeable;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.dataformat.bindy.annotation.FormatFactories;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.format.factories.DefaultFactoryRegistry;
@@ -39,6 +43,7 @@ import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.Registry;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ReflectionHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +56,7 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
     private CamelContext camelContext;
     private boolean unwrapSingleInstance = true;
     private boolean allowEmptyStream;
+    private boolean streaming;
 
     protected BindyAbstractDataFormat() {
     }
@@ -91,6 +97,18 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
         this.allowEmptyStream = allowEmptyStream;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to unmarshal the records one at a time using an iterator, instead of reading all the records into a list.
+     * This allows splitting big payloads with the splitter in streaming mode using constant memory.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public BindyAbstractFactory getFactory() throws Exception {
         if (modelFactory == null) {
             FormatFactory formatFactory = createFormatFactory();
@@ -193,6 +211,67 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
         }
     }
 
+    /**
+     * An iterator which unmarshals the records one at a time, when unmarshalling in streaming mode. The iterator returns
+     * the same objects as the list when not streaming, and closes the input when all the records have been read.
+     */
+    protected abstract class UnmarshalIterator implements Iterator<Object>, Closeable {
+        private final Closeable input;
+        private Object next;
+        private boolean closed;
+
+        protected UnmarshalIterator(Closeable input) {
+            this.input = input;
+        }
+
+        /**
+         * Reads the next record
+         *
+         * @return the model objects of the record, or <tt>null</tt> if there are no more records
+         */
+        protected abstract Map<String, Object> nextModel() throws Exception;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !closed) {
+                Map<String, Object> model;
+                try {
+                    model = nextModel();
+                } catch (Exception e) {
+                    close();
+                    throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                }
+                if (model == null) {
+                    close();
+                } else if (getClassType() != null) {
+                    // we expect to find this type in the models, and grab only that type
+                    next = model.get(getClassType().getName());
+                } else {
+                    next = model;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object answer = next;
+            next = null;
+            return answer;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                IOHelper.close(input, "input", LOGGER);
+            }
+        }
+    }
+
     @Override
     protected void doStart() throws Exception {
         // noop
@@ -26,8 +26,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.annotation.OneToMany;
 import org.apache.camel.support.ObjectHelper;
@@ -47,6 +49,7 @@ public abstract class BindyAbstractFactory implements BindyFactory {
     protected String crlf;
     protected String eol;
 
+    private final Map<Integer, DataFieldBinding> dataFieldBindings = new ConcurrentHashMap<>();
     private String locale;
     private Class<?> type;
 
@@ -277,6 +280,15 @@ public abstract class BindyAbstractFactory implements BindyFactory {
 
     public void setLocale(String locale) {
         this.locale = locale;
+        // the formatting options depend on the locale
+        dataFieldBindings.clear();
+    }
+
+    /**
+     * Gets the binding of the data field at the given position to the field of the model
+     */
+    DataFieldBinding getDataFieldBinding(int pos, DataField dataField, Field field) {
+        return dataFieldBindings.computeIfAbsent(pos, k -> new DataFieldBinding(k, dataField, field, locale));
     }
 
     public void setFormatFactory(FormatFactory formatFactory) {
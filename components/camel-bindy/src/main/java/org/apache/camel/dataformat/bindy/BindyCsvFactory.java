@@ -168,6 +168,19 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
     @Override
     public void bind(CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line) throws Exception {
+        bind(camelContext, tokens, model, line, null);
+    }
+
+    /**
+     * Binds the data from the tokens of the record to the model.
+     *
+     * @param formats the formats of the fields, which are reused when binding the records of the same message (must
+     *                not be shared between threads), or <tt>null</tt> to create the formats for this record only
+     */
+    public void bind(
+            CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line,
+            Map<Integer, Format<?>> formats)
+            throws Exception {
 
         int pos = 1;
         int counterMandatoryFields = 0;
@@ -181,11 +194,11 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             if (isSkipField()) {
                 if (dataFields.keySet().contains(pos)) {
                     counterMandatoryFields
-                            = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                            = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField, formats);
                 }
             } else {
                 counterMandatoryFields
-                        = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                        = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField, formats);
             }
 
             ++pos;
@@ -206,7 +219,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
     private int setDataFieldValue(
             CamelContext camelContext, Map<String, Object> model, int line, int pos, int counterMandatoryFields, String data,
-            DataField dataField)
+            DataField dataField, Map<Integer, Format<?>> formats)
             throws Exception {
         org.apache.camel.util.ObjectHelper.notNull(dataField,
                 "No position " + pos + " defined for the field: " + data + ", line: " + line);
@@ -228,22 +241,15 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         }
 
         // Get Field to be setted
-        Field field = annotatedFields.get(pos);
-        field.setAccessible(true);
+        DataFieldBinding binding = getDataFieldBinding(pos, dataField, annotatedFields.get(pos));
+        Field field = binding.getField();
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Pos: {}, Data: {}, Field type: {}", pos, data, field.getType());
         }
 
-        // Create format object to format the field
-        FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                field.getType(),
-                field.getAnnotation(BindyConverter.class),
-                getLocale());
-        Format<?> format = formatFactory.getFormat(formattingOptions);
-
-        // field object to be set
-        Object modelField = model.get(field.getDeclaringClass().getName());
+        // Get format object to format the field
+        Format<?> format = binding.getFormat(formatFactory, formats);
 
         // format the data received
         Object value;
@@ -270,7 +276,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             if (!dataField.defaultValue().isEmpty()) {
                 value = format.parse(dataField.defaultValue());
             } else {
-                value = getDefaultValueForPrimitive(field.getType());
+                value = binding.getDefaultValue();
             }
         }
 
@@ -300,7 +306,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             }
         }
 
-        field.set(modelField, value);
+        binding.setValue(model, value);
         return counterMandatoryFields;
     }
 
@@ -162,6 +162,18 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
     }
 
     public void bind(CamelContext camelContext, String recordStr, Map<String, Object> model, int line) throws Exception {
+        bind(camelContext, recordStr, model, line, null);
+    }
+
+    /**
+     * Binds the data from the record to the model.
+     *
+     * @param formats the formats of the fields, which are reused when binding the records of the same message (must
+     *                not be shared between threads), or <tt>null</tt> to create the formats for this record only
+     */
+    public void bind(
+            CamelContext camelContext, String recordStr, Map<String, Object> model, int line, Map<Integer, Format<?>> formats)
+            throws Exception {
 
         int pos = 1;
         int counterMandatoryFields = 0;
@@ -254,22 +266,15 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
             }
 
             // Get Field to be set
-            field = annotatedFields.get(dataField.pos());
-            field.setAccessible(true);
+            DataFieldBinding binding = getDataFieldBinding(dataField.pos(), dataField, annotatedFields.get(dataField.pos()));
+            field = binding.getField();
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Pos/Offset: {}, Data: {}, Field type: {}", offset, token, field.getType());
             }
 
-            // Create format object to format the field
-            FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                    field.getType(),
-                    field.getAnnotation(BindyConverter.class),
-                    getLocale());
-            Format<?> format = formatFactory.getFormat(formattingOptions);
-
-            // field object to be set
-            Object modelField = model.get(field.getDeclaringClass().getName());
+            // Get format object to format the field
+            Format<?> format = binding.getFormat(formatFactory, formats);
 
             // format the data received
             Object value;
@@ -288,7 +293,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                             e);
                 }
             } else {
-                value = getDefaultValueForPrimitive(field.getType());
+                value = binding.getDefaultValue();
             }
 
             if (value != null && !dataField.method().isEmpty()) {
@@ -317,7 +322,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                 }
             }
 
-            field.set(modelField, value);
+            binding.setValue(model, value);
 
             ++pos;
 
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
+import org.apache.camel.dataformat.bindy.util.ConverterUtils;
+
+/**
+ * The binding of a {@link DataField} to the field of the model, which is computed once per model (and locale) instead
+ * of for every record.
+ */
+final class DataFieldBinding {
+
+    private final int pos;
+    private final Field field;
+    private final String modelClassName;
+    private final FormattingOptions formattingOptions;
+    private final Object defaultValue;
+
+    DataFieldBinding(int pos, DataField dataField, Field field, String locale) {
+        this.pos = pos;
+        this.field = field;
+        this.field.setAccessible(true);
+        this.modelClassName = field.getDeclaringClass().getName();
+        this.formattingOptions = ConverterUtils.convert(dataField,
+                field.getType(),
+                field.getAnnotation(BindyConverter.class),
+                locale);
+        this.defaultValue = BindyAbstractFactory.getDefaultValueForPrimitive(field.getType());
+    }
+
+    Field getField() {
+        return field;
+    }
+
+    /**
+     * The value to use for an empty field, when the data field has no default value.
+     */
+    Object getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * Gets the format of the field.
+     *
+     * @param formatFactory the factory to create the format
+     * @param formats       the formats already created, to reuse the format when binding many records, or
+     *                      <tt>null</tt> to create a new format
+     */
+    Format<?> getFormat(FormatFactory formatFactory, Map<Integer, Format<?>> formats) throws Exception {
+        if (formats == null) {
+            return formatFactory.getFormat(formattingOptions);
+        }
+        Format<?> format = formats.get(pos);
+        if (format == null) {
+            format = formatFactory.getFormat(formattingOptions);
+            formats.put(pos, format);
+        }
+        return format;
+    }
+
+    void setValue(Map<String, Object> model, Object value) throws IllegalAccessException {
+        field.set(model.get(modelClassName), value);
+    }
+}
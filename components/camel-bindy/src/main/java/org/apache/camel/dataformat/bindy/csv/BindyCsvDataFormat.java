@@ -38,6 +38,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyCsvFactory;
+import org.apache.camel.dataformat.bindy.Format;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.WrappedException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
@@ -151,6 +152,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
         List<Map<String, Object>> models = new ArrayList<>();
 
         InputStreamReader in = null;
+        boolean closeInput = true;
         try {
             if (checkEmptyStream(factory, inputStream)) {
                 return models;
@@ -166,6 +168,39 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
             Boolean removeQuotes = factory.getRemoveQuotes();
             AtomicInteger count = new AtomicInteger();
 
+            // the patterns and formats are reused for all the records
+            Pattern pattern = Pattern.compile(separator);
+            Pattern delimiterPattern = Pattern.compile(Pattern.quote(quote) + "(.*?)" + Pattern.quote(quote));
+            Map<Integer, Format<?>> formats = new HashMap<>();
+
+            if (isStreaming()) {
+                BufferedReader reader = new BufferedReader(in);
+
+                // If the first line of the CSV file contains columns name, then we
+                // skip this line
+                if (factory.getSkipFirstLine()) {
+                    reader.readLine();
+                }
+
+                UnmarshalIterator answer = new UnmarshalIterator(reader) {
+                    @Override
+                    protected Map<String, Object> nextModel() throws Exception {
+                        String line = reader.readLine();
+                        if (line == null) {
+                            return null;
+                        }
+                        return createModel(factory, line, separator, pattern, delimiterPattern, removeQuotes, quote, count,
+                                formats);
+                    }
+                };
+                if (!answer.hasNext() && !isAllowEmptyStream()) {
+                    throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
+                }
+                // the iterator closes the input when all the records have been read
+                closeInput = false;
+                return answer;
+            }
+
             // Use a Stream to stream a file across.
             try (Stream<String> lines = new BufferedReader(in).lines()) {
                 int linesToSkip = 0;
@@ -180,7 +215,8 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                 // If the internals of the consumer fail, we unrap the checked exception upstream.
                 try {
                     lines.skip(linesToSkip)
-                            .forEachOrdered(consumeFile(factory, models, separator, removeQuotes, quote, count));
+                            .forEachOrdered(consumeFile(factory, models, separator, pattern, delimiterPattern, removeQuotes,
+                                    quote, count, formats));
                 } catch (WrappedException e) {
                     throw e.getWrappedException();
                 }
@@ -194,7 +230,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                 }
             }
         } finally {
-            if (in != null) {
+            if (in != null && closeInput) {
                 IOHelper.close(in, "in", LOG);
             }
         }
@@ -203,90 +239,97 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
     private Consumer<String> consumeFile(
             BindyCsvFactory factory, List<Map<String, Object>> models,
-            String separator, Boolean removeQuotes, String quote, AtomicInteger count) {
+            String separator, Pattern pattern, Pattern delimiterPattern, Boolean removeQuotes, String quote,
+            AtomicInteger count, Map<Integer, Format<?>> formats) {
         return line -> {
             try {
-                String trimmedLine;
-
-                // Trim the line coming in to remove any trailing whitespace
-                if (factory.isTrimLine()) {
-                    // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
-                    if (separator.equals("\t")) {
-                        // trim only trailing whitespaces (remove new lines etc but keep tab character)
-                        trimmedLine = line.replaceAll("[ \\n\\x0B\\f\\r]+$", "");
-                    } else {
-                        trimmedLine = line.trim();
-                    }
-                } else {
-                    // no trim
-                    trimmedLine = line;
-                }
+                // Add objects graph to the list
+                models.add(createModel(factory, line, separator, pattern, delimiterPattern, removeQuotes, quote, count,
+                        formats));
+            } catch (Exception e) {
+                throw new WrappedException(e);
+            }
+        };
+    }
 
-                // Increment counter
-                count.incrementAndGet();
-                Map<String, Object> model;
+    private Map<String, Object> createModel(
+            BindyCsvFactory factory, String line,
+            String separator, Pattern pattern, Pattern delimiterPattern, Boolean removeQuotes, String quote,
+            AtomicInteger count, Map<Integer, Format<?>> formats)
+            throws Exception {
+        String trimmedLine;
+
+        // Trim the line coming in to remove any trailing whitespace
+        if (factory.isTrimLine()) {
+            // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
+            if (separator.equals("\t")) {
+                // trim only trailing whitespaces (remove new lines etc but keep tab character)
+                trimmedLine = line.replaceAll("[ \\n\\x0B\\f\\r]+$", "");
+            } else {
+                trimmedLine = line.trim();
+            }
+        } else {
+            // no trim
+            trimmedLine = line;
+        }
 
-                // Create POJO where CSV data will be stored
-                model = factory.factory();
+        // Increment counter
+        count.incrementAndGet();
+        Map<String, Object> model;
 
-                // Split the CSV record according to the separator defined in
-                // annotated class @CSVRecord
-                Pattern pattern = Pattern.compile(separator);
-                Matcher matcher = pattern.matcher(trimmedLine);
-                List<String> separators = new ArrayList<>();
+        // Create POJO where CSV data will be stored
+        model = factory.factory();
 
-                // Retrieve separators for each match
-                while (matcher.find()) {
-                    separators.add(matcher.group());
-                }
-                // Add terminal separator
-                if (!separators.isEmpty()) {
-                    separators.add(separators.get(separators.size() - 1));
-                }
+        // Split the CSV record according to the separator defined in
+        // annotated class @CSVRecord
+        Matcher matcher = pattern.matcher(trimmedLine);
+        List<String> separators = new ArrayList<>();
 
-                Pattern delimiterPattern = Pattern.compile(Pattern.quote(quote) + "(.*?)" + Pattern.quote(quote));
-                Matcher delimiterMatcher = delimiterPattern.matcher(trimmedLine);
+        // Retrieve separators for each match
+        while (matcher.find()) {
+            separators.add(matcher.group());
+        }
+        // Add terminal separator
+        if (!separators.isEmpty()) {
+            separators.add(separators.get(separators.size() - 1));
+        }
 
-                int escapedSubstringToHandle = 0;
-                // Find and print delimited substrings
-                while (delimiterMatcher.find()) {
-                    String substring = delimiterMatcher.group();
-                    escapedSubstringToHandle += pattern.split(substring).length - 1;
-                }
+        Matcher delimiterMatcher = delimiterPattern.matcher(trimmedLine);
 
-                String[] tokens = pattern.split(trimmedLine,
-                        factory.getAutospanLine() ? factory.getMaxpos() + escapedSubstringToHandle : -1);
+        int escapedSubstringToHandle = 0;
+        // Find and print delimited substrings
+        while (delimiterMatcher.find()) {
+            String substring = delimiterMatcher.group();
+            escapedSubstringToHandle += pattern.split(substring).length - 1;
+        }
 
-                List<String> result = Arrays.asList(tokens);
+        String[] tokens = pattern.split(trimmedLine,
+                factory.getAutospanLine() ? factory.getMaxpos() + escapedSubstringToHandle : -1);
 
-                // must unquote tokens before use
-                if (Boolean.TRUE.equals(removeQuotes)) {
-                    result = unquoteTokens(result, separators, quote);
-                }
+        List<String> result = Arrays.asList(tokens);
 
-                if (result.isEmpty()) {
-                    throw new IllegalArgumentException("No records have been defined in the CSV");
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Size of the record splitted : {}", result.size());
-                    }
+        // must unquote tokens before use
+        if (Boolean.TRUE.equals(removeQuotes)) {
+            result = unquoteTokens(result, separators, quote);
+        }
 
-                    // Bind data from CSV record with model classes
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("No records have been defined in the CSV");
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Size of the record splitted : {}", result.size());
+            }
 
-                    factory.bind(getCamelContext(), result, model, count.get());
+            // Bind data from CSV record with model classes
 
-                    // Link objects together
-                    factory.link(model);
+            factory.bind(getCamelContext(), result, model, count.get(), formats);
 
-                    // Add objects graph to the list
-                    models.add(model);
+            // Link objects together
+            factory.link(model);
 
-                    LOG.debug("Graph of objects created: {}", model);
-                }
-            } catch (Exception e) {
-                throw new WrappedException(e);
-            }
-        };
+            LOG.debug("Graph of objects created: {}", model);
+        }
+        return model;
     }
 
     /**
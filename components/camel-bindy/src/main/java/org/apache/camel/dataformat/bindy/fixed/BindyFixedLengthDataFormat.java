@@ -32,6 +32,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyFixedLengthFactory;
+import org.apache.camel.dataformat.bindy.Format;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.spi.annotations.Dataformat;
@@ -203,6 +204,10 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
 
         AtomicInteger count = new AtomicInteger();
 
+        // the formats are reused for all the records
+        Map<Integer, Format<?>> formats = new HashMap<>();
+
+        boolean closeInput = true;
         try {
 
             // Parse the header if it exists
@@ -219,6 +224,17 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
 
             String thisLine = getNextNonEmptyLine(scanner, count, isEolSet);
 
+            if (isStreaming()) {
+                UnmarshalIterator answer = createUnmarshalIterator(exchange, factory, scanner, thisLine, count, isEolSet,
+                        formats);
+                if (!answer.hasNext() && !isAllowEmptyStream()) {
+                    throw new java.lang.IllegalArgumentException("No records have been defined in the file");
+                }
+                // the iterator closes the input when all the records have been read
+                closeInput = false;
+                return answer;
+            }
+
             String nextLine = null;
             if (thisLine != null) {
                 nextLine = getNextNonEmptyLine(scanner, count, isEolSet);
@@ -227,7 +243,7 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
             // Parse the main file content
             while (thisLine != null && nextLine != null) {
 
-                model = createModel(factory, thisLine, count.intValue());
+                model = createModel(factory, thisLine, count.intValue(), formats);
 
                 // Add objects graph to the list
                 models.add(model);
@@ -245,7 +261,7 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
                         exchange.getOut().setHeader(CAMEL_BINDY_FIXED_LENGTH_FOOTER, footerObjMap);
                     }
                 } else {
-                    model = createModel(factory, thisLine, count.intValue());
+                    model = createModel(factory, thisLine, count.intValue(), formats);
                     models.add(model);
                 }
             }
@@ -259,12 +275,42 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
             }
 
         } finally {
-            scanner.close();
-            IOHelper.close(in, "in", LOG);
+            if (closeInput) {
+                scanner.close();
+                IOHelper.close(in, "in", LOG);
+            }
         }
 
     }
 
+    private UnmarshalIterator createUnmarshalIterator(
+            Exchange exchange, BindyFixedLengthFactory factory, Scanner scanner, String firstLine, AtomicInteger count,
+            boolean isEolSet, Map<Integer, Format<?>> formats) {
+        return new UnmarshalIterator(scanner) {
+            private String thisLine = firstLine;
+
+            @Override
+            protected Map<String, Object> nextModel() throws Exception {
+                if (thisLine == null) {
+                    return null;
+                }
+                String line = thisLine;
+                thisLine = getNextNonEmptyLine(scanner, count, isEolSet);
+
+                // the last non-empty line from the file is optionally parsed as a footer
+                if (thisLine == null && factory.hasFooter()) {
+                    if (!factory.skipFooter()) {
+                        Map<String, Object> footerObjMap = createModel(footerFactory, line, count.intValue());
+                        // the message already has the iterator as body, so set the header on the same message
+                        exchange.getMessage().setHeader(CAMEL_BINDY_FIXED_LENGTH_FOOTER, footerObjMap);
+                    }
+                    return null;
+                }
+                return createModel(factory, line, count.intValue(), formats);
+            }
+        };
+    }
+
     private boolean headerExists(BindyFixedLengthFactory factory, Scanner scanner, boolean isEolSet) {
         return hasMore(isEolSet, scanner) && factory.hasHeader();
     }
@@ -292,6 +338,12 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
     }
 
     protected Map<String, Object> createModel(BindyFixedLengthFactory factory, String line, int count) throws Exception {
+        return createModel(factory, line, count, null);
+    }
+
+    protected Map<String, Object> createModel(
+            BindyFixedLengthFactory factory, String line, int count, Map<Integer, Format<?>> formats)
+            throws Exception {
         String myLine = line;
 
         // Check if the record length corresponds to the parameter
@@ -316,7 +368,7 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         Map<String, Object> model = factory.factory();
 
         // Bind data from Fixed record with model classes
-        factory.bind(getCamelContext(), myLine, model, count);
+        factory.bind(getCamelContext(), myLine, model, count, formats);
 
         // Link objects together
         factory.link(model);
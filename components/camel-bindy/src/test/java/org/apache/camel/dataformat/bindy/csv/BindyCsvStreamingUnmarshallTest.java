@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.util.Iterator;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.model.simple.oneclass.Order;
+import org.apache.camel.model.dataformat.BindyDataFormat;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BindyCsvStreamingUnmarshallTest extends CamelTestSupport {
+
+    private static final int RECORDS = 1000;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint result;
+
+    @EndpointInject("mock:iterator")
+    private MockEndpoint iterator;
+
+    @Test
+    public void testStreamingUnmarshal() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= RECORDS; i++) {
+            sb.append(i).append(",A").append(i).append(",Albert,Cartier,ISIN,LU123456789,BUY,Share,1500,EUR,08-01-2009\r\n");
+        }
+
+        result.expectedMessageCount(RECORDS);
+        iterator.expectedMessageCount(1);
+
+        template.sendBody("direct:start", sb.toString());
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertInstanceOf(Iterator.class, iterator.getReceivedExchanges().get(0).getIn().getBody());
+        for (int i = 0; i < RECORDS; i++) {
+            Order order = result.getReceivedExchanges().get(i).getIn().getBody(Order.class);
+            assertEquals(i + 1, order.getOrderNr());
+            assertEquals("A" + (i + 1), order.getClientNr());
+            assertEquals("Cartier", order.getLastName());
+        }
+    }
+
+    @Test
+    public void testStreamingUnmarshalBadRecord() {
+        String body = "1,A1,Albert,Cartier,ISIN,LU123456789,BUY,Share,1500,EUR,08-01-2009\r\n"
+                      + "X,A2,Albert,Cartier,ISIN,LU123456789,BUY,Share,1500,EUR,08-01-2009\r\n";
+        Exception e = assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:start", body));
+
+        IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, e.getCause().getCause());
+        assertTrue(cause.getMessage().endsWith("line: 2"), cause.getMessage());
+    }
+
+    @Test
+    public void testStreamingUnmarshalEmpty() {
+        assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:start", ""));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .unmarshal(new BindyDataFormat().csv().classType(Order.class).streaming(true))
+                        .to("mock:iterator")
+                        .split(body()).streaming()
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.fixed.headerfooter;
+
+import java.util.Map;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.fixed.BindyFixedLengthDataFormat;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * This test validates that header and footer records are unmarshalled when the primary data records are unmarshalled
+ * in streaming mode.
+ */
+public class BindySimpleFixedLengthHeaderFooterStreamingTest extends CamelTestSupport {
+
+    private static final String TEST_HEADER = "101-08-2009\r\n";
+    private static final String TEST_RECORD = "10A9  PaulineM    ISINXD12345678BUYShare000002500.45USD01-08-2009\r\n";
+    private static final String TEST_RECORD2 = "11A9  PaulineM    ISINXD12345678BUYShare000002500.45USD01-08-2009\r\n";
+    private static final String TEST_FOOTER = "9000000002\r\n";
+
+    @EndpointInject("mock:record")
+    private MockEndpoint record;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint result;
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testUnmarshallMessage() throws Exception {
+        record.expectedMessageCount(2);
+        result.expectedMessageCount(1);
+
+        template.sendBody("direct:unmarshall", TEST_HEADER + TEST_RECORD + TEST_RECORD2 + TEST_FOOTER);
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(10, record.getReceivedExchanges().get(0).getIn().getBody(Order.class).getOrderNr());
+        assertEquals(11, record.getReceivedExchanges().get(1).getIn().getBody(Order.class).getOrderNr());
+
+        Map<String, Object> receivedHeaderMap = (Map<String, Object>) result.getReceivedExchanges().get(0).getIn()
+                .getHeader(BindyFixedLengthDataFormat.CAMEL_BINDY_FIXED_LENGTH_HEADER);
+        assertNotNull(receivedHeaderMap);
+        assertNotNull(receivedHeaderMap.get(OrderHeader.class.getName()));
+
+        // the footer is unmarshalled after all the records have been read
+        Map<String, Object> receivedFooterMap = (Map<String, Object>) result.getReceivedExchanges().get(0).getIn()
+                .getHeader(BindyFixedLengthDataFormat.CAMEL_BINDY_FIXED_LENGTH_FOOTER);
+        assertNotNull(receivedFooterMap);
+        OrderFooter footer = (OrderFooter) receivedFooterMap.get(OrderFooter.class.getName());
+        assertEquals(2, footer.getNumberOfRecordsInTheFile());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                BindyFixedLengthDataFormat bindy = new BindyFixedLengthDataFormat(Order.class);
+                bindy.setStreaming(true);
+
+                from("direct:unmarshall")
+                        .unmarshal(bindy)
+                        .split(body()).streaming()
+                        .to("mock:record")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
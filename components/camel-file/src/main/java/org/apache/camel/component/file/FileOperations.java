@@ -41,6 +41,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.ByteBufferInputStreamCache;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -332,6 +333,11 @@ public class FileOperations implements GenericFileOperations<File> {
     }
 
     private void handleStreamAsFileSource(Exchange exchange, File file) throws InvalidPayloadException, IOException {
+        if (exchange.getIn().getBody() instanceof ByteBufferInputStreamCache cache) {
+            // pooled in-memory stream cache can be written directly to the file channel
+            writeFileByByteBuffers(cache, file);
+            return;
+        }
         InputStream in = exchange.getIn().getMandatoryBody(InputStream.class);
         writeFileByStream(in, file);
     }
@@ -516,6 +522,18 @@ public class FileOperations implements GenericFileOperations<File> {
         }
     }
 
+    private void writeFileByByteBuffers(ByteBufferInputStreamCache cache, File target) throws IOException {
+        try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
+            LOG.debug("Using ByteBuffers to write file: {}", target);
+            cache.writeTo(out);
+
+            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
+            if (append && endpoint.getAppendChars() != null) {
+                out.write(ByteBuffer.wrap(endpoint.getAppendChars().getBytes()));
+            }
+        }
+    }
+
     private void writeFileByReaderWithCharset(Reader in, File target, String charset) throws IOException {
         boolean append = endpoint.getFileExist() == GenericFileExist.Append;
         try (Writer out = Files.newBufferedWriter(target.toPath(), Charset.forName(charset), StandardOpenOption.WRITE,
@@ -23,6 +23,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         HttpEndpoint target = (HttpEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncclient":
+        case "asyncClient": target.setAsyncClient(property(camelContext, boolean.class, value)); return true;
         case "authbearertoken":
         case "authBearerToken": target.setAuthBearerToken(property(camelContext, java.lang.String.class, value)); return true;
         case "authdomain":
@@ -81,6 +83,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "httpContext": target.setHttpContext(property(camelContext, org.apache.hc.core5.http.protocol.HttpContext.class, value)); return true;
         case "httpmethod":
         case "httpMethod": target.setHttpMethod(property(camelContext, org.apache.camel.http.common.HttpMethods.class, value)); return true;
+        case "httpversionpolicy":
+        case "httpVersionPolicy": target.setHttpVersionPolicy(property(camelContext, java.lang.String.class, value)); return true;
         case "ignoreresponsebody":
         case "ignoreResponseBody": target.setIgnoreResponseBody(property(camelContext, boolean.class, value)); return true;
         case "lazystartproducer":
@@ -156,6 +160,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncclient":
+        case "asyncClient": return boolean.class;
         case "authbearertoken":
         case "authBearerToken": return java.lang.String.class;
         case "authdomain":
@@ -214,6 +220,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "httpContext": return org.apache.hc.core5.http.protocol.HttpContext.class;
         case "httpmethod":
         case "httpMethod": return org.apache.camel.http.common.HttpMethods.class;
+        case "httpversionpolicy":
+        case "httpVersionPolicy": return java.lang.String.class;
         case "ignoreresponsebody":
         case "ignoreResponseBody": return boolean.class;
         case "lazystartproducer":
@@ -290,6 +298,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         HttpEndpoint target = (HttpEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncclient":
+        case "asyncClient": return target.isAsyncClient();
         case "authbearertoken":
         case "authBearerToken": return target.getAuthBearerToken();
         case "authdomain":
@@ -348,6 +358,8 @@ public class HttpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "httpContext": return target.getHttpContext();
         case "httpmethod":
         case "httpMethod": return target.getHttpMethod();
+        case "httpversionpolicy":
+        case "httpVersionPolicy": return target.getHttpVersionPolicy();
         case "ignoreresponsebody":
         case "ignoreResponseBody": return target.isIgnoreResponseBody();
         case "lazystartproducer":
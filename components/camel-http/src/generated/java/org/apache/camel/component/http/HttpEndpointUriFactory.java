@@ -24,7 +24,8 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(64);
+        Set<String> props = new HashSet<>(66);
+        props.add("asyncClient");
         props.add("authBearerToken");
         props.add("authDomain");
         props.add("authHost");
@@ -55,6 +56,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("httpContext");
         props.add("httpMethod");
         props.add("httpUri");
+        props.add("httpVersionPolicy");
         props.add("ignoreResponseBody");
         props.add("lazyStartProducer");
         props.add("logHttpActivity");
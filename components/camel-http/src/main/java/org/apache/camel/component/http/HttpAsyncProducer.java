@@ -0,0 +1,445 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.AsyncProcessorAwaitManager;
+import org.apache.camel.spi.HeaderFilterStrategy;
+import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.support.builder.OutputStreamBuilder;
+import org.apache.camel.util.IOHelper;
+import org.apache.hc.client5.http.auth.Credentials;
+import org.apache.hc.client5.http.auth.CredentialsProvider;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HTTP producer which uses the non-blocking async HttpClient, so the calling thread is not blocked while waiting for
+ * the response.
+ * <p/>
+ * The request is created, and the response is populated on the exchange, in the same way as by {@link HttpProducer}.
+ * The response body is read from the network into stream caching (or into memory if stream caching is disabled), and
+ * then the exchange continues being routed by a thread from the thread pool of the component, so the I/O threads of
+ * the HttpClient (which is shared by the endpoints of the component) are never blocked by the routing.
+ * <p/>
+ * As the HttpClient is shared, the options which are specific to the endpoint (request timeouts, redirects,
+ * credentials, cookies and user agent) are set on each request instead of on the HttpClient.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+
+    private CloseableHttpAsyncClient asyncHttpClient;
+    private RequestConfig requestConfig;
+    private CredentialsProvider credentialsProvider;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    protected void initHttpClient() {
+        HttpEndpoint endpoint = getEndpoint();
+        this.asyncHttpClient = endpoint.getAsyncHttpClient();
+
+        RequestConfig.Builder builder = RequestConfig.custom();
+        if (endpoint.getConnectionRequestTimeout() > 0) {
+            builder.setConnectionRequestTimeout(Timeout.ofMilliseconds(endpoint.getConnectionRequestTimeout()));
+        }
+        if (endpoint.getResponseTimeout() > 0) {
+            builder.setResponseTimeout(Timeout.ofMilliseconds(endpoint.getResponseTimeout()));
+        }
+        HttpComponent component = endpoint.getComponent();
+        boolean redirectHandlingDisabled = component != null && component.isRedirectHandlingDisabled();
+        builder.setRedirectsEnabled(endpoint.isFollowRedirects() && !redirectHandlingDisabled);
+        this.requestConfig = builder.build();
+
+        Credentials credentials = HttpCredentialsHelper.getCredentials(endpoint.getAuthMethod(), endpoint.getAuthUsername(),
+                endpoint.getAuthPassword(), endpoint.getAuthHost(), endpoint.getAuthDomain(), endpoint.getAuthBearerToken());
+        if (credentials != null) {
+            this.credentialsProvider
+                    = new HttpCredentialsHelper().getCredentialsProvider(endpoint.getAuthHost(), null, credentials);
+        }
+    }
+
+    @Override
+    protected HttpContext createLocalContext(Exchange exchange, HttpHost httpHost) {
+        HttpClientContext localContext = HttpClientContext.adapt(super.createLocalContext(exchange, httpHost));
+        localContext.setRequestConfig(requestConfig);
+        if (credentialsProvider != null) {
+            localContext.setCredentialsProvider(credentialsProvider);
+        }
+        if (getEndpoint().isBridgeEndpoint()) {
+            // need to use noop cookiestore as we do not want to keep cookies in memory
+            localContext.setCookieStore(new NoopCookieStore());
+        } else {
+            localContext.setCookieStore(getEndpoint().getCookieStore());
+        }
+        return localContext;
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorAwaitManager awaitManager
+                = PluginHelper.getAsyncProcessorAwaitManager(exchange.getContext());
+        awaitManager.process(this, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+        AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
+        process(exchange, callback);
+        return callback.getFuture();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        HttpUriRequest httpRequest;
+        HttpContext localContext;
+        try {
+            httpRequest = createRequest(exchange);
+            HttpHost httpHost = createHost(httpRequest);
+            if (getEndpoint().isAuthenticationPreemptive() && !httpRequest.containsHeader("Authorization")) {
+                // the async client has no exec chain handler so we add the header instead
+                String authorization = createPreemptiveAuthorization();
+                if (authorization != null) {
+                    httpRequest.setHeader("Authorization", authorization);
+                }
+            }
+            String userAgent = getEndpoint().getUserAgent();
+            if (userAgent != null && !httpRequest.containsHeader("User-Agent")) {
+                httpRequest.setHeader("User-Agent", userAgent);
+            }
+            localContext = createLocalContext(exchange, httpHost);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+        HttpEntity entity = httpRequest.getEntity();
+        BasicRequestProducer requestProducer
+                = new BasicRequestProducer(httpRequest, entity != null ? new EntityProducer(entity) : null);
+        ResponseConsumer responseConsumer = new ResponseConsumer(exchange, getEndpoint().isIgnoreResponseBody());
+
+        LOG.trace("Executing async http {} method: {}", httpRequest.getMethod(), httpRequest.getRequestUri());
+        asyncHttpClient.execute(requestProducer, responseConsumer, localContext, new FutureCallback<>() {
+            @Override
+            public void completed(ClassicHttpResponse httpResponse) {
+                continueRouting(() -> {
+                    try {
+                        handleResponse(exchange, httpRequest, httpResponse, strategy);
+                    } catch (RuntimeCamelException e) {
+                        // use the embedded exception to have the same behavior as the sync producer
+                        exchange.setException(e.getCause() instanceof Exception ex ? ex : e);
+                    } catch (Exception e) {
+                        exchange.setException(e);
+                    } finally {
+                        callback.done(false);
+                    }
+                });
+            }
+
+            @Override
+            public void failed(Exception e) {
+                continueRouting(() -> {
+                    exchange.setException(e);
+                    callback.done(false);
+                });
+            }
+
+            @Override
+            public void cancelled() {
+                continueRouting(() -> {
+                    exchange.setException(new CamelExchangeException("The HTTP request was cancelled", exchange));
+                    callback.done(false);
+                });
+            }
+        });
+        return false;
+    }
+
+    /**
+     * Continues routing the exchange on the thread pool of the component, as the callbacks of the HttpClient are
+     * invoked by its I/O threads, which must not be blocked by the routing.
+     */
+    private void continueRouting(Runnable task) {
+        HttpComponent component = getEndpoint().getComponent();
+        ExecutorService executorService = component != null ? component.getAsyncExecutorService() : null;
+        if (executorService != null && !executorService.isShutdown()) {
+            try {
+                executorService.execute(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Cannot continue routing on the thread pool as the task was rejected. This exception is ignored.",
+                        e);
+            }
+        }
+        // the component is stopping so continue on the current thread
+        task.run();
+    }
+
+    private String createPreemptiveAuthorization() {
+        HttpEndpoint endpoint = getEndpoint();
+        if ("BEARER".equalsIgnoreCase(endpoint.getAuthMethod())) {
+            return endpoint.getAuthBearerToken() != null ? "Bearer " + endpoint.getAuthBearerToken() : null;
+        }
+        if (endpoint.getAuthUsername() != null && endpoint.getAuthPassword() != null) {
+            return HttpCredentialsHelper.generateBasicAuthHeader(endpoint.getAuthUsername(), endpoint.getAuthPassword());
+        }
+        return null;
+    }
+
+    public CloseableHttpAsyncClient getAsyncHttpClient() {
+        return asyncHttpClient;
+    }
+
+    public void setAsyncHttpClient(CloseableHttpAsyncClient asyncHttpClient) {
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
+    /**
+     * Produces the request body from a {@link HttpEntity} created by the producer.
+     */
+    private static final class EntityProducer implements AsyncEntityProducer {
+
+        private final HttpEntity entity;
+        private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        private InputStream is;
+
+        EntityProducer(HttpEntity entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return entity.isRepeatable();
+        }
+
+        @Override
+        public long getContentLength() {
+            return entity.getContentLength();
+        }
+
+        @Override
+        public String getContentType() {
+            return entity.getContentType();
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return entity.getContentEncoding();
+        }
+
+        @Override
+        public boolean isChunked() {
+            return entity.isChunked();
+        }
+
+        @Override
+        public Set<String> getTrailerNames() {
+            return entity.getTrailerNames();
+        }
+
+        @Override
+        public int available() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public void produce(DataStreamChannel channel) throws IOException {
+            if (is == null) {
+                is = entity.getContent();
+                buffer.clear().limit(0);
+            }
+            while (true) {
+                if (!buffer.hasRemaining()) {
+                    int n = is != null ? is.read(buffer.array()) : -1;
+                    if (n < 0) {
+                        channel.endStream();
+                        return;
+                    }
+                    buffer.clear().limit(n);
+                }
+                channel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    // the channel is full so wait until we are called again
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            releaseResources();
+        }
+
+        @Override
+        public void releaseResources() {
+            // the entity is read again from the start if the request is repeated (such as redirects)
+            IOHelper.close(is);
+            is = null;
+        }
+    }
+
+    /**
+     * Consumes the response, where the response body is read into stream caching, so the response can be handled in
+     * the same way as by {@link HttpProducer} without blocking.
+     */
+    private static final class ResponseConsumer implements AsyncResponseConsumer<ClassicHttpResponse> {
+
+        private final Exchange exchange;
+        private final boolean ignoreResponseBody;
+        private HttpResponse response;
+        private EntityDetails entityDetails;
+        private FutureCallback<ClassicHttpResponse> resultCallback;
+        private OutputStreamBuilder body;
+        private long length;
+
+        ResponseConsumer(Exchange exchange, boolean ignoreResponseBody) {
+            this.exchange = exchange;
+            this.ignoreResponseBody = ignoreResponseBody;
+        }
+
+        @Override
+        public void consumeResponse(
+                HttpResponse response, EntityDetails entityDetails, HttpContext context,
+                FutureCallback<ClassicHttpResponse> resultCallback)
+                throws HttpException, IOException {
+            this.response = response;
+            this.entityDetails = entityDetails;
+            if (entityDetails == null) {
+                resultCallback.completed(toClassicResponse(null));
+            } else {
+                this.resultCallback = resultCallback;
+                if (!ignoreResponseBody) {
+                    body = OutputStreamBuilder.withExchange(exchange);
+                }
+            }
+        }
+
+        @Override
+        public void informationResponse(HttpResponse response, HttpContext context) {
+            // noop
+        }
+
+        @Override
+        public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+            // the body is written to stream caching, which spools to disk for large bodies
+            capacityChannel.update(Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void consume(ByteBuffer src) throws IOException {
+            int n = src.remaining();
+            if (body != null) {
+                if (src.hasArray()) {
+                    body.write(src.array(), src.arrayOffset() + src.position(), n);
+                    src.position(src.limit());
+                } else {
+                    byte[] arr = new byte[n];
+                    src.get(arr);
+                    body.write(arr);
+                }
+            } else {
+                src.position(src.limit());
+            }
+            length += n;
+        }
+
+        @Override
+        public void streamEnd(List<? extends Header> trailers) throws HttpException, IOException {
+            InputStream is;
+            if (body != null) {
+                Object cached = body.build();
+                body = null;
+                is = cached instanceof byte[] arr ? new ByteArrayInputStream(arr) : (InputStream) cached;
+            } else {
+                // the response body is ignored
+                is = InputStream.nullInputStream();
+            }
+            FutureCallback<ClassicHttpResponse> callback = resultCallback;
+            resultCallback = null;
+            if (callback != null) {
+                callback.completed(toClassicResponse(is));
+            }
+        }
+
+        private ClassicHttpResponse toClassicResponse(InputStream is) {
+            BasicClassicHttpResponse answer = new BasicClassicHttpResponse(response.getCode(), response.getReasonPhrase());
+            answer.setVersion(response.getVersion());
+            answer.setHeaders(response.getHeaders());
+            if (is != null) {
+                ContentType contentType = entityDetails.getContentType() != null
+                        ? ContentType.parseLenient(entityDetails.getContentType()) : null;
+                answer.setEntity(new InputStreamEntity(is, length, contentType, entityDetails.getContentEncoding()));
+            }
+            return answer;
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            releaseResources();
+        }
+
+        @Override
+        public void releaseResources() {
+            if (body != null) {
+                IOHelper.close(body);
+                body = null;
+            }
+        }
+    }
+}
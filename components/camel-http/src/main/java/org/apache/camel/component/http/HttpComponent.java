@@ -20,8 +20,13 @@ import java.io.IOException;
 import java.net.URI;
 import java.security.GeneralSecurityException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.net.ssl.HostnameVerifier;
 
@@ -49,6 +54,7 @@ import org.apache.camel.support.http.HttpUtil;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.PropertiesHelper;
 import org.apache.camel.util.StringHelper;
@@ -57,6 +63,7 @@ import org.apache.camel.util.UnsafeUriCharactersEncoder;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.cookie.CookieStore;
 import org.apache.hc.client5.http.impl.DefaultRedirectStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
@@ -216,6 +223,11 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
               description = "To enable logging HTTP request and response. You can use a custom LoggingHttpActivityListener as httpActivityListener to control logging options.")
     protected boolean logHttpActivity;
 
+    // the async clients are shared by the endpoints which have the same connection settings
+    private final Lock asyncHttpClientLock = new ReentrantLock();
+    private final Map<List<Object>, SharedAsyncHttpClient> asyncHttpClients = new HashMap<>();
+    private ExecutorService asyncExecutorService;
+
     public HttpComponent() {
     }
 
@@ -464,6 +476,8 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         endpoint.setMuteException(muteException);
         endpoint.setHttpActivityListener(httpActivityListener);
         endpoint.setLogHttpActivity(logHttpActivity);
+        // the async client creates its own connection manager so it needs the ssl configuration
+        endpoint.setSslContextParameters(sslContextParameters);
 
         // configure the endpoint with the common configuration from the component
         if (getHttpConfiguration() != null) {
@@ -1118,6 +1132,69 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         ServiceHelper.startService(httpActivityListener);
     }
 
+    /**
+     * Acquires the async HttpClient for the given connection settings, which is shared by the endpoints of this
+     * component having the same connection settings. The client is created (and started) on first use, and closed
+     * when it has been released by all the endpoints.
+     *
+     * @param  key       the connection settings of the endpoint
+     * @param  factory   to create the client
+     * @return           the shared client
+     * @throws Exception is thrown if error creating the client
+     */
+    CloseableHttpAsyncClient acquireAsyncHttpClient(List<Object> key, Callable<CloseableHttpAsyncClient> factory)
+            throws Exception {
+        asyncHttpClientLock.lock();
+        try {
+            SharedAsyncHttpClient shared = asyncHttpClients.get(key);
+            if (shared == null) {
+                CloseableHttpAsyncClient client = factory.call();
+                client.start();
+                LOG.debug("Created shared async HttpClient: {}", client);
+                shared = new SharedAsyncHttpClient(client);
+                asyncHttpClients.put(key, shared);
+            }
+            shared.references++;
+            return shared.client;
+        } finally {
+            asyncHttpClientLock.unlock();
+        }
+    }
+
+    /**
+     * Releases the async HttpClient acquired by {@link #acquireAsyncHttpClient(List, Callable)}.
+     */
+    void releaseAsyncHttpClient(List<Object> key) {
+        asyncHttpClientLock.lock();
+        try {
+            SharedAsyncHttpClient shared = asyncHttpClients.get(key);
+            if (shared != null && --shared.references <= 0) {
+                asyncHttpClients.remove(key);
+                LOG.debug("Closing shared async HttpClient: {}", shared.client);
+                IOHelper.close(shared.client);
+            }
+        } finally {
+            asyncHttpClientLock.unlock();
+        }
+    }
+
+    /**
+     * The thread pool which the async producers continue routing the exchanges with, so the I/O threads of the async
+     * HttpClient are not used for routing. Returns <tt>null</tt> if the component is stopping.
+     */
+    ExecutorService getAsyncExecutorService() {
+        asyncHttpClientLock.lock();
+        try {
+            if (asyncExecutorService == null && !isStoppingOrStopped()) {
+                asyncExecutorService
+                        = getCamelContext().getExecutorServiceManager().newDefaultThreadPool(this, "HttpAsyncProducer");
+            }
+            return asyncExecutorService;
+        } finally {
+            asyncHttpClientLock.unlock();
+        }
+    }
+
     @Override
     public void doStop() throws Exception {
         // shutdown connection manager
@@ -1126,8 +1203,31 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
             clientConnectionManager.close();
             clientConnectionManager = null;
         }
+        asyncHttpClientLock.lock();
+        try {
+            for (SharedAsyncHttpClient shared : asyncHttpClients.values()) {
+                IOHelper.close(shared.client);
+            }
+            asyncHttpClients.clear();
+            if (asyncExecutorService != null) {
+                getCamelContext().getExecutorServiceManager().shutdown(asyncExecutorService);
+                asyncExecutorService = null;
+            }
+        } finally {
+            asyncHttpClientLock.unlock();
+        }
         ServiceHelper.stopService(httpActivityListener);
 
         super.doStop();
     }
+
+    private static final class SharedAsyncHttpClient {
+
+        private final CloseableHttpAsyncClient client;
+        private int references;
+
+        private SharedAsyncHttpClient(CloseableHttpAsyncClient client) {
+            this.client = client;
+        }
+    }
 }
@@ -19,9 +19,13 @@ package org.apache.camel.component.http;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Category;
@@ -31,6 +35,7 @@ import org.apache.camel.LineNumberAware;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.http.base.HttpHelper;
@@ -45,12 +50,19 @@ import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
 import org.apache.hc.client5.http.cookie.BasicCookieStore;
 import org.apache.hc.client5.http.cookie.CookieStore;
 import org.apache.hc.client5.http.impl.DefaultRedirectStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.core5.http.EntityDetails;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpException;
@@ -59,9 +71,14 @@ import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.HttpRequestInterceptor;
 import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpResponseInterceptor;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.pool.ConnPoolControl;
 import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -185,6 +202,20 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
     @UriParam(label = "producer", defaultValue = "data",
               description = "The name of the multipart/form-data when multipartUpload is enabled.")
     private String multipartUploadName = "data";
+    @UriParam(label = "producer,advanced",
+              description = "Whether to use the non-blocking async HttpClient, so the producer does not block the calling thread"
+                            + " while waiting for the response. The async client supports HTTP/2 (see httpVersionPolicy), where"
+                            + " requests to the same server are multiplexed on a single connection."
+                            + " Notice the options for configuring the classic HttpClient (such as httpClientConfigurer and clientBuilder)"
+                            + " are not in use by the async client.")
+    private boolean asyncClient;
+    @UriParam(label = "producer,advanced", defaultValue = "NEGOTIATE", enums = "NEGOTIATE,FORCE_HTTP_1,FORCE_HTTP_2",
+              description = "The HTTP protocol version policy when using the async client. NEGOTIATE uses HTTP/2 if the server"
+                            + " supports it (negotiated using TLS), and otherwise HTTP/1.1. FORCE_HTTP_2 can be used for servers"
+                            + " supporting HTTP/2 without TLS (h2c with prior knowledge).")
+    private String httpVersionPolicy = "NEGOTIATE";
+    private CloseableHttpAsyncClient asyncHttpClient;
+    private List<Object> asyncHttpClientKey;
 
     public HttpEndpoint() {
     }
@@ -215,6 +246,9 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
 
     @Override
     public Producer createProducer() throws Exception {
+        if (asyncClient) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -318,30 +352,8 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         }
 
         if (httpActivityListener != null) {
-            clientBuilder.addRequestInterceptorLast(new HttpRequestInterceptor() {
-                @Override
-                public void process(HttpRequest request, EntityDetails entity, HttpContext context)
-                        throws HttpException, IOException {
-                    Exchange exchange = (Exchange) context.getAttribute("org.apache.camel.Exchange");
-                    HttpHost host = (HttpHost) context.getAttribute("org.apache.hc.core5.http.HttpHost");
-                    context.setAttribute("org.apache.camel.util.StopWatch", new StopWatch());
-                    httpActivityListener.onRequestSubmitted(this, exchange, host, request, (HttpEntity) entity);
-                }
-            });
-            clientBuilder.addResponseInterceptorFirst(new HttpResponseInterceptor() {
-                @Override
-                public void process(HttpResponse response, EntityDetails entity, HttpContext context)
-                        throws HttpException, IOException {
-                    long elapsed = -1;
-                    StopWatch watch = (StopWatch) context.removeAttribute("org.apache.camel.util.StopWatch");
-                    if (watch != null) {
-                        elapsed = watch.taken();
-                    }
-                    Exchange exchange = (Exchange) context.removeAttribute("org.apache.camel.Exchange");
-                    HttpHost host = (HttpHost) context.removeAttribute("org.apache.hc.core5.http.HttpHost");
-                    httpActivityListener.onResponseReceived(this, exchange, host, response, (HttpEntity) entity, elapsed);
-                }
-            });
+            clientBuilder.addRequestInterceptorLast(createActivityRequestInterceptor());
+            clientBuilder.addResponseInterceptorFirst(createActivityResponseInterceptor());
         }
 
         LOG.debug("Setup the HttpClientBuilder {}", clientBuilder);
@@ -349,6 +361,194 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         return clientBuilder.build();
     }
 
+    public CloseableHttpAsyncClient getAsyncHttpClient() {
+        lock.lock();
+        try {
+            if (asyncHttpClient == null) {
+                HttpComponent component = getComponent();
+                if (component != null) {
+                    // share the client (and its I/O threads and connection pool) with the other endpoints
+                    asyncHttpClientKey = createAsyncHttpClientKey();
+                    asyncHttpClient = component.acquireAsyncHttpClient(asyncHttpClientKey, this::createAsyncHttpClient);
+                } else {
+                    asyncHttpClient = createAsyncHttpClient();
+                    asyncHttpClient.start();
+                }
+            }
+            return asyncHttpClient;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets a custom async HttpClient to be used by the producer when asyncClient is enabled
+     */
+    public void setAsyncHttpClient(CloseableHttpAsyncClient asyncHttpClient) {
+        lock.lock();
+        try {
+            this.asyncHttpClient = asyncHttpClient;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The options of this endpoint used by {@link #createAsyncHttpClient()}. The endpoints of the component which have
+     * the same options share the same async HttpClient.
+     */
+    protected List<Object> createAsyncHttpClientKey() {
+        return Arrays.asList(sslContextParameters, x509HostnameVerifier, useSystemProperties, httpVersionPolicy,
+                connectTimeout, soTimeout, maxTotalConnections, connectionsPerRoute, getProxyHost(), getProxyPort());
+    }
+
+    /**
+     * Factory method to create a new async {@link CloseableHttpAsyncClient} instance, which uses its own I/O threads
+     * and connection pool configured from the options of this endpoint (and the component). The client is shared by
+     * the endpoints with the same options (see {@link #createAsyncHttpClientKey()}), so the options which are specific
+     * to the endpoint (such as credentials, cookies and request timeouts) are set per request by the producer.
+     * <p/>
+     * Producers should use the {@link #getAsyncHttpClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createAsyncHttpClient() throws GeneralSecurityException, IOException {
+        HttpComponent component = getComponent();
+
+        SSLContext sslContext;
+        if (sslContextParameters != null) {
+            sslContext = sslContextParameters.createSSLContext(getCamelContext());
+        } else {
+            sslContext = useSystemProperties ? SSLContexts.createSystemDefault() : SSLContexts.createDefault();
+        }
+        HostnameVerifier hostnameVerifier = x509HostnameVerifier;
+        if (hostnameVerifier == null && component != null) {
+            hostnameVerifier = component.getX509HostnameVerifier();
+        }
+        TlsStrategy tlsStrategy = ClientTlsStrategyBuilder.create()
+                .setSslContext(sslContext)
+                .setHostnameVerifier(hostnameVerifier)
+                .build();
+
+        ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom();
+        if (connectTimeout > 0) {
+            connectionConfig.setConnectTimeout(Timeout.ofMilliseconds(connectTimeout));
+        }
+        if (soTimeout > 0) {
+            connectionConfig.setSocketTimeout(Timeout.ofMilliseconds(soTimeout));
+        }
+        if (component != null && component.getConnectionTimeToLive() > 0) {
+            connectionConfig.setTimeToLive(TimeValue.ofMilliseconds(component.getConnectionTimeToLive()));
+        }
+        int maxTotal = maxTotalConnections;
+        if (maxTotal <= 0 && component != null) {
+            maxTotal = component.getMaxTotalConnections();
+        }
+        int maxPerRoute = connectionsPerRoute;
+        if (maxPerRoute <= 0 && component != null) {
+            maxPerRoute = component.getConnectionsPerRoute();
+        }
+        PoolingAsyncClientConnectionManagerBuilder connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setTlsStrategy(tlsStrategy)
+                .setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.valueOf(httpVersionPolicy)).build())
+                .setDefaultConnectionConfig(connectionConfig.build());
+        if (maxTotal > 0) {
+            connectionManager.setMaxConnTotal(maxTotal);
+        }
+        if (maxPerRoute > 0) {
+            connectionManager.setMaxConnPerRoute(maxPerRoute);
+        }
+
+        HttpAsyncClientBuilder clientBuilder = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager.build());
+        if (useSystemProperties) {
+            clientBuilder.useSystemProperties();
+        }
+
+        String proxyHost = getProxyHost();
+        int proxyPort = getProxyPort();
+        if (proxyHost == null && component != null && component.getProxyHost() != null
+                && component.getProxyPort() != null) {
+            proxyHost = component.getProxyHost();
+            proxyPort = component.getProxyPort();
+        }
+        if (proxyHost != null && proxyPort > 0) {
+            clientBuilder.setProxy(new HttpHost(proxyHost, proxyPort));
+        }
+
+        // whether to follow redirects is set per request
+        if (component != null && component.isRedirectHandlingDisabled()) {
+            clientBuilder.disableRedirectHandling();
+        } else {
+            clientBuilder.setRedirectStrategy(DefaultRedirectStrategy.INSTANCE);
+        }
+        if (component != null) {
+            if (component.isAutomaticRetriesDisabled()) {
+                clientBuilder.disableAutomaticRetries();
+            }
+            if (component.isCookieManagementDisabled()) {
+                clientBuilder.disableCookieManagement();
+            }
+            if (component.isAuthCachingDisabled()) {
+                clientBuilder.disableAuthCaching();
+            }
+            if (component.isConnectionStateDisabled()) {
+                clientBuilder.disableConnectionState();
+            }
+        }
+
+        // the activity listener of the endpoint is set per request
+        clientBuilder.addRequestInterceptorLast(createActivityRequestInterceptor());
+        clientBuilder.addResponseInterceptorFirst(createActivityResponseInterceptor());
+
+        LOG.debug("Setup the HttpAsyncClientBuilder {} with version policy {}", clientBuilder, httpVersionPolicy);
+
+        return clientBuilder.build();
+    }
+
+    private HttpRequestInterceptor createActivityRequestInterceptor() {
+        return new HttpRequestInterceptor() {
+            @Override
+            public void process(HttpRequest request, EntityDetails entity, HttpContext context)
+                    throws HttpException, IOException {
+                HttpActivityListener listener = (HttpActivityListener) context
+                        .getAttribute("org.apache.camel.component.http.HttpActivityListener");
+                if (listener == null) {
+                    return;
+                }
+                Exchange exchange = (Exchange) context.getAttribute("org.apache.camel.Exchange");
+                HttpHost host = (HttpHost) context.getAttribute("org.apache.hc.core5.http.HttpHost");
+                context.setAttribute("org.apache.camel.util.StopWatch", new StopWatch());
+                // the async client uses entity producers which are not http entities
+                listener.onRequestSubmitted(this, exchange, host, request,
+                        entity instanceof HttpEntity httpEntity ? httpEntity : null);
+            }
+        };
+    }
+
+    private HttpResponseInterceptor createActivityResponseInterceptor() {
+        return new HttpResponseInterceptor() {
+            @Override
+            public void process(HttpResponse response, EntityDetails entity, HttpContext context)
+                    throws HttpException, IOException {
+                HttpActivityListener listener = (HttpActivityListener) context
+                        .getAttribute("org.apache.camel.component.http.HttpActivityListener");
+                if (listener == null) {
+                    return;
+                }
+                long elapsed = -1;
+                StopWatch watch = (StopWatch) context.removeAttribute("org.apache.camel.util.StopWatch");
+                if (watch != null) {
+                    elapsed = watch.taken();
+                }
+                Exchange exchange = (Exchange) context.removeAttribute("org.apache.camel.Exchange");
+                HttpHost host = (HttpHost) context.removeAttribute("org.apache.hc.core5.http.HttpHost");
+                listener.onResponseReceived(this, exchange, host, response,
+                        entity instanceof HttpEntity httpEntity ? httpEntity : null, elapsed);
+            }
+        };
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -373,6 +573,14 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         if (httpClient instanceof Closeable closeable) {
             IOHelper.close(closeable);
         }
+        if (asyncHttpClientKey != null) {
+            getComponent().releaseAsyncHttpClient(asyncHttpClientKey);
+            asyncHttpClientKey = null;
+            asyncHttpClient = null;
+        } else if (asyncHttpClient != null) {
+            IOHelper.close(asyncHttpClient);
+            asyncHttpClient = null;
+        }
         ServiceHelper.stopService(httpActivityListener, httpClientConfigurer);
         super.doStop();
     }
@@ -775,6 +983,35 @@ public class HttpEndpoint extends HttpCommonEndpoint implements LineNumberAware
         this.multipartUploadName = multipartUploadName;
     }
 
+    public boolean isAsyncClient() {
+        return asyncClient;
+    }
+
+    /**
+     * Whether to use the non-blocking async HttpClient, so the producer does not block the calling thread while waiting
+     * for the response. The async client supports HTTP/2 (see httpVersionPolicy), where requests to the same server are
+     * multiplexed on a single connection.
+     * <p/>
+     * Notice the options for configuring the classic HttpClient (such as httpClientConfigurer and clientBuilder) are
+     * not in use by the async client.
+     */
+    public void setAsyncClient(boolean asyncClient) {
+        this.asyncClient = asyncClient;
+    }
+
+    public String getHttpVersionPolicy() {
+        return httpVersionPolicy;
+    }
+
+    /**
+     * The HTTP protocol version policy when using the async client. NEGOTIATE uses HTTP/2 if the server supports it
+     * (negotiated using TLS), and otherwise HTTP/1.1. FORCE_HTTP_2 can be used for servers supporting HTTP/2 without
+     * TLS (h2c with prior knowledge).
+     */
+    public void setHttpVersionPolicy(String httpVersionPolicy) {
+        this.httpVersionPolicy = httpVersionPolicy;
+    }
+
     @ManagedAttribute(description = "Maximum number of allowed persistent connections")
     public int getClientConnectionsPoolStatsMax() {
         ConnPoolControl<?> pool = null;
@@ -41,6 +41,7 @@ import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.LineNumberAware;
 import org.apache.camel.Message;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.WrappedFile;
 import org.apache.camel.component.http.helper.HttpMethodHelper;
@@ -114,7 +115,7 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
     protected void doInit() throws Exception {
         super.doInit();
 
-        this.httpClient = getEndpoint().getHttpClient();
+        initHttpClient();
 
         String range = getEndpoint().getOkStatusCodeRange();
         parseStatusRange(range);
@@ -136,6 +137,13 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
         defaultHttpHost = URIUtils.extractHost(uri);
     }
 
+    /**
+     * Initializes the HTTP client to use for calling the remote server
+     */
+    protected void initHttpClient() {
+        this.httpClient = getEndpoint().getHttpClient();
+    }
+
     private void parseStatusRange(String range) {
         if (!range.contains(",")) {
             if (!HttpUtil.parseStatusRange(range, this::setRanges)) {
@@ -152,6 +160,35 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
 
     @Override
     public void process(Exchange exchange) throws Exception {
+        HttpUriRequest httpRequest = createRequest(exchange);
+        HttpHost httpHost = createHost(httpRequest);
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+
+        // lets store the result in the output message.
+        try {
+            executeMethod(exchange,
+                    httpHost, httpRequest,
+                    httpResponse -> {
+                        handleResponse(exchange, httpRequest, httpResponse, strategy);
+                        return null;
+                    });
+        } catch (RuntimeCamelException e) {
+            if (e.getCause() instanceof Exception ex) {
+                // Rethrow the embedded exception to simulate the same behavior as with version 4
+                throw ex;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the HTTP request to send to the remote server, with the HTTP headers mapped from the message.
+     *
+     * @param  exchange  the exchange
+     * @return           the created request
+     * @throws Exception is thrown if error creating the request
+     */
+    protected HttpUriRequest createRequest(Exchange exchange) throws Exception {
         boolean cookies = !getEndpoint().getComponent().isCookieManagementDisabled();
         if (cookies && getEndpoint().isClearExpiredCookies() && !getEndpoint().isBridgeEndpoint()) {
             // create the cookies before the invocation
@@ -171,7 +208,6 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
         }
 
         HttpUriRequest httpRequest = createMethod(exchange);
-        HttpHost httpHost = createHost(httpRequest);
 
         Message in = exchange.getIn();
         String httpProtocolVersion = null;
@@ -247,90 +283,82 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
         if (getEndpoint().isConnectionClose()) {
             httpRequest.addHeader("Connection", HeaderElements.CLOSE);
         }
+        return httpRequest;
+    }
 
-        // lets store the result in the output message.
+    /**
+     * Handles the response from the remote server, by populating the response on the exchange, or throwing an
+     * exception if the response code is not ok (when throwExceptionOnFailure is enabled).
+     */
+    protected void handleResponse(
+            Exchange exchange, HttpUriRequest httpRequest, ClassicHttpResponse httpResponse, HeaderFilterStrategy strategy)
+            throws IOException, HttpException {
         try {
-            executeMethod(exchange,
-                    httpHost, httpRequest,
-                    httpResponse -> {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
+            }
+            int responseCode = httpResponse.getCode();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Http responseCode: {}", responseCode);
+            }
+            if (!throwException) {
+                // if we do not use failed exception then populate response for all response codes
+                populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+            } else {
+                boolean ok;
+                if (minOkRange > 0) {
+                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
+                } else {
+                    ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
+                }
+                if (ok) {
+                    // only populate response for OK response
+                    populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+                } else {
+                    // also store response code when throwing exception
+                    populateResponseCode(exchange.getMessage(), httpResponse, responseCode);
+
+                    // operation failed so populate exception to throw
+                    throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
+                }
+            }
+        } catch (IOException | HttpException | RuntimeCamelException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeCamelException(e);
+        } finally {
+            if (httpResponse != null && getEndpoint().isDisableStreamCache()) {
+                // close the stream at the end of the exchange to ensure it gets eventually closed later
+                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange1) {
                         try {
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
-                            }
-                            int responseCode = httpResponse.getCode();
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Http responseCode: {}", responseCode);
-                            }
-                            if (!throwException) {
-                                // if we do not use failed exception then populate response for all response codes
-                                HttpProducer.this.populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
-                            } else {
-                                boolean ok;
-                                if (minOkRange > 0) {
-                                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
-                                } else {
-                                    ok = HttpHelper.isStatusCodeOk(responseCode,
-                                            HttpProducer.this.getEndpoint().getOkStatusCodeRange());
-                                }
-                                if (ok) {
-                                    // only populate response for OK response
-                                    HttpProducer.this.populateResponse(exchange, httpRequest, httpResponse, strategy,
-                                            responseCode);
-                                } else {
-                                    // also store response code when throwing exception
-                                    populateResponseCode(exchange.getMessage(), httpResponse, responseCode);
-
-                                    // operation failed so populate exception to throw
-                                    throw HttpProducer.this.populateHttpOperationFailedException(exchange, httpRequest,
-                                            httpResponse, responseCode);
-                                }
-                            }
-                        } catch (IOException | HttpException | RuntimeCamelException e) {
-                            throw e;
+                            EntityUtils.consume(httpResponse.getEntity());
                         } catch (Exception e) {
-                            throw new RuntimeCamelException(e);
+                            // ignore
                         } finally {
-                            if (httpResponse != null && HttpProducer.this.getEndpoint().isDisableStreamCache()) {
-                                // close the stream at the end of the exchange to ensure it gets eventually closed later
-                                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
-                                    @Override
-                                    public void onDone(Exchange exchange1) {
-                                        try {
-                                            EntityUtils.consume(httpResponse.getEntity());
-                                        } catch (Exception e) {
-                                            // ignore
-                                        } finally {
-                                            try {
-                                                EntityUtils.consume(httpRequest.getEntity());
-                                            } catch (Exception e) {
-                                                // ignore
-                                            }
-                                        }
-                                    }
-                                });
-                            } else if (httpResponse != null) {
-                                // close the stream now
-                                try {
-                                    EntityUtils.consume(httpResponse.getEntity());
-                                } catch (Exception e) {
-                                    // ignore
-                                } finally {
-                                    try {
-                                        EntityUtils.consume(httpRequest.getEntity());
-                                    } catch (Exception e) {
-                                        // ignore
-                                    }
-                                }
+                            try {
+                                EntityUtils.consume(httpRequest.getEntity());
+                            } catch (Exception e) {
+                                // ignore
                             }
                         }
-                        return null;
-                    });
-        } catch (RuntimeCamelException e) {
-            if (e.getCause() instanceof Exception ex) {
-                // Rethrow the embedded exception to simulate the same behavior as with version 4
-                throw ex;
+                    }
+                });
+            } else if (httpResponse != null) {
+                // close the stream now
+                try {
+                    EntityUtils.consume(httpResponse.getEntity());
+                } catch (Exception e) {
+                    // ignore
+                } finally {
+                    try {
+                        EntityUtils.consume(httpRequest.getEntity());
+                    } catch (Exception e) {
+                        // ignore
+                    }
+                }
             }
-            throw e;
         }
     }
 
@@ -484,7 +512,16 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
     protected <T> T executeMethod(
             Exchange exchange, HttpHost httpHost, HttpUriRequest httpRequest, HttpClientResponseHandler<T> handler)
             throws IOException, HttpException {
-        // use a local context per execution
+        HttpContext localContext = createLocalContext(exchange, httpHost);
+        // execute open that does not automatic close response input-stream (this is done in exchange on-completion by Camel)
+        ClassicHttpResponse res = httpClient.executeOpen(httpHost, httpRequest, localContext);
+        return handler.handleResponse(res);
+    }
+
+    /**
+     * Creates the local context to use per execution
+     */
+    protected HttpContext createLocalContext(Exchange exchange, HttpHost httpHost) {
         HttpContext localContext;
         if (httpContext != null) {
             localContext = new BasicHttpContext(httpContext);
@@ -492,12 +529,12 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
             localContext = HttpClientContext.create();
         }
         if (getEndpoint().getHttpActivityListener() != null) {
+            localContext.setAttribute("org.apache.camel.component.http.HttpActivityListener",
+                    getEndpoint().getHttpActivityListener());
             localContext.setAttribute("org.apache.camel.Exchange", exchange);
             localContext.setAttribute("org.apache.hc.core5.http.HttpHost", httpHost);
         }
-        // execute open that does not automatic close response input-stream (this is done in exchange on-completion by Camel)
-        ClassicHttpResponse res = httpClient.executeOpen(httpHost, httpRequest, localContext);
-        return handler.handleResponse(res);
+        return localContext;
     }
 
     /**
@@ -600,6 +637,10 @@ public class HttpProducer extends DefaultProducer implements LineNumberAware {
     }
 
     private Object doExtractResponseBodyAsStream(InputStream is, Exchange exchange) throws IOException {
+        if (is instanceof StreamCache) {
+            // the response has already been cached (such as when using the async client)
+            return is;
+        }
         // As httpclient is using a AutoCloseInputStream, it will be closed when the connection is closed
         // we need to cache the stream for it.
         OutputStreamBuilder osb = OutputStreamBuilder.withExchange(exchange);
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.http.handler.BasicValidationHandler;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.impl.bootstrap.HttpServer;
+import org.apache.hc.core5.http.impl.bootstrap.ServerBootstrap;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.StringAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.http.HttpMethods.GET;
+import static org.apache.camel.component.http.HttpMethods.POST;
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpAsyncClientTest extends BaseHttpTest {
+
+    private static final byte[] LARGE_CONTENT = createLargeContent(4 * 1024 * 1024);
+
+    private HttpServer localServer;
+
+    private String baseUrl;
+
+    @Override
+    public void setupResources() throws Exception {
+        localServer = ServerBootstrap.bootstrap()
+                .setCanonicalHostName("localhost").setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setSslContext(getSSLContext())
+                .register("/get", new BasicValidationHandler(GET.name(), null, null, getExpectedContent()))
+                .register("/post", new BasicValidationHandler(POST.name(), null, "rocks camel?", getExpectedContent()))
+                .register("/large", (request, response, context) -> {
+                    // no content length so the response is streamed using chunked encoding
+                    response.setCode(HttpStatus.SC_OK);
+                    response.setEntity(new InputStreamEntity(
+                            new ByteArrayInputStream(LARGE_CONTENT), -1, ContentType.APPLICATION_OCTET_STREAM));
+                })
+                .create();
+        localServer.start();
+
+        baseUrl = "http://localhost:" + localServer.getLocalPort();
+    }
+
+    @Override
+    public void cleanupResources() {
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void testProducerType() throws Exception {
+        Producer producer = context.getEndpoint(baseUrl + "/get?asyncClient=true").createProducer();
+        assertIsInstanceOf(HttpAsyncProducer.class, producer);
+    }
+
+    @Test
+    public void httpGet() {
+        Exchange exchange = template.request(baseUrl + "/get?asyncClient=true", exchange1 -> {
+        });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void httpPost() {
+        Exchange exchange = template.request(baseUrl + "/post?asyncClient=true",
+                exchange1 -> exchange1.getIn().setBody("rocks camel?"));
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void httpGetConcurrent() {
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(template.asyncSend(baseUrl + "/get?asyncClient=true&httpVersionPolicy=FORCE_HTTP_1", exchange -> {
+            }));
+        }
+        for (CompletableFuture<Exchange> future : futures) {
+            assertExchange(future.join());
+        }
+    }
+
+    @Test
+    public void httpGetWhichReturnsHttp501ShouldThrowAnException() {
+        Exchange reply = template.request(baseUrl + "/XXX?asyncClient=true", exchange -> {
+        });
+
+        Exception e = reply.getException();
+        assertNotNull(e, "Should have thrown an exception");
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, e);
+        assertEquals(HttpStatus.SC_NOT_IMPLEMENTED, cause.getStatusCode());
+    }
+
+    @Test
+    public void httpGetContinuesRoutingOnThreadPool() {
+        Exchange exchange = template.request("direct:thread", exchange1 -> {
+        });
+
+        assertExchange(exchange);
+        String threadName = exchange.getMessage().getHeader("threadName", String.class);
+        assertTrue(threadName.contains("HttpAsyncProducer"), "Should continue routing on the thread pool: " + threadName);
+    }
+
+    @Test
+    public void httpGetLargeStreamedResponse() {
+        Exchange exchange = template.request(baseUrl + "/large?asyncClient=true", exchange1 -> {
+        });
+
+        assertNull(exchange.getException());
+        assertEquals(HttpStatus.SC_OK, exchange.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE));
+        assertArrayEquals(LARGE_CONTENT, exchange.getMessage().getBody(byte[].class));
+    }
+
+    @Test
+    public void httpGetHttp2() throws Exception {
+        HttpAsyncServer server = H2ServerBootstrap.bootstrap()
+                .setCanonicalHostName("localhost")
+                .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_2)
+                .register("/version", new VersionHandler())
+                .create();
+        server.start();
+        try {
+            ListenerEndpoint listener = server.listen(new InetSocketAddress(0), URIScheme.HTTP).get();
+            int port = ((InetSocketAddress) listener.getAddress()).getPort();
+
+            // h2c with prior knowledge
+            String body = template.requestBody(
+                    "http://localhost:" + port + "/version?asyncClient=true&httpVersionPolicy=FORCE_HTTP_2", null,
+                    String.class);
+            assertEquals("HTTP/2.0", body);
+        } finally {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testAsyncHttpClientIsShared() {
+        HttpEndpoint get = context.getEndpoint(baseUrl + "/get?asyncClient=true", HttpEndpoint.class);
+        HttpEndpoint post = context.getEndpoint(baseUrl + "/post?asyncClient=true&followRedirects=true", HttpEndpoint.class);
+        HttpEndpoint timeout = context.getEndpoint(baseUrl + "/get?asyncClient=true&connectTimeout=5000", HttpEndpoint.class);
+
+        assertSame(get.getAsyncHttpClient(), post.getAsyncHttpClient());
+        assertNotSame(get.getAsyncHttpClient(), timeout.getAsyncHttpClient());
+
+        // the client is closed when it is no longer used by any endpoint, and then a new client is created
+        CloseableHttpAsyncClient client = get.getAsyncHttpClient();
+        get.stop();
+        post.stop();
+        HttpEndpoint large = context.getEndpoint(baseUrl + "/large?asyncClient=true", HttpEndpoint.class);
+        assertNotSame(client, large.getAsyncHttpClient());
+    }
+
+    @Override
+    protected RoutesBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:thread")
+                        .to(baseUrl + "/get?asyncClient=true")
+                        .process(e -> e.getMessage().setHeader("threadName", Thread.currentThread().getName()));
+            }
+        };
+    }
+
+    private static byte[] createLargeContent(int size) {
+        byte[] answer = new byte[size];
+        for (int i = 0; i < size; i++) {
+            answer[i] = (byte) (i % 251);
+        }
+        return answer;
+    }
+
+    /**
+     * Responds with the protocol version of the request.
+     */
+    private static final class VersionHandler implements AsyncServerRequestHandler<Message<HttpRequest, String>> {
+
+        @Override
+        public AsyncRequestConsumer<Message<HttpRequest, String>> prepare(
+                HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+            return new BasicRequestConsumer<>(new StringAsyncEntityConsumer());
+        }
+
+        @Override
+        public void handle(Message<HttpRequest, String> message, ResponseTrigger responseTrigger, HttpContext context)
+                throws HttpException, IOException {
+            responseTrigger.submitResponse(
+                    new BasicResponseProducer(HttpStatus.SC_OK, context.getProtocolVersion().toString()), context);
+        }
+    }
+}
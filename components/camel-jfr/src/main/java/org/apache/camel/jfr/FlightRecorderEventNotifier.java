@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jdk.jfr.FlightRecorder;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.NamedNode;
+import org.apache.camel.NamedRoute;
+import org.apache.camel.Processor;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.support.EventNotifierSupport;
+
+/**
+ * To emit runtime events to Java Flight Recorder, for exchanges being created and completed, exchanges sent by
+ * producers, redeliveries, the duration of each processor in the routes, and tasks rejected by thread pools.
+ * <p/>
+ * This is both an {@link org.apache.camel.spi.EventNotifier} and an {@link InterceptStrategy}, which Camel Main
+ * automatically installs when this is registered as a bean. Otherwise use {@link #install(CamelContext)} before the
+ * routes are started.
+ * <p/>
+ * Each kind of event can be turned off, and the exchange completed, exchange sent and processor events can be
+ * configured with a threshold (millis) so only slow exchanges are recorded. The events can also be turned on or off
+ * using the Java Flight Recorder configuration (JFC) by their names, such as <tt>org.apache.camel.Processor</tt>.
+ */
+public class FlightRecorderEventNotifier extends EventNotifierSupport implements InterceptStrategy {
+
+    // the event classes are registered in the JVM, so they are registered by the first notifier being started,
+    // and unregistered by the last notifier being stopped (there can be many CamelContexts in the same JVM)
+    private static final Lock REGISTRATION_LOCK = new ReentrantLock();
+    private static int registrations;
+
+    private boolean ignoreProcessorEvents;
+    private boolean ignoreThreadPoolRejectedEvents;
+    private long exchangeThreshold;
+    private long exchangeSentThreshold;
+    private long processorThreshold;
+
+    public FlightRecorderEventNotifier() {
+        setIgnoreCamelContextEvents(true);
+        setIgnoreCamelContextInitEvents(true);
+        setIgnoreRouteEvents(true);
+        setIgnoreServiceEvents(true);
+        setIgnoreStepEvents(true);
+        // sending events must not be ignored as otherwise sent events are not emitted
+    }
+
+    /**
+     * Installs this as event notifier and intercept strategy on the given {@link CamelContext}.
+     */
+    public void install(CamelContext camelContext) {
+        setCamelContext(camelContext);
+        camelContext.getManagementStrategy().addEventNotifier(this);
+        camelContext.getCamelContextExtension().addInterceptStrategy(this);
+    }
+
+    public boolean isIgnoreProcessorEvents() {
+        return ignoreProcessorEvents;
+    }
+
+    /**
+     * Whether to not emit an event with the duration of each processor in the routes.
+     */
+    public void setIgnoreProcessorEvents(boolean ignoreProcessorEvents) {
+        this.ignoreProcessorEvents = ignoreProcessorEvents;
+    }
+
+    public boolean isIgnoreThreadPoolRejectedEvents() {
+        return ignoreThreadPoolRejectedEvents;
+    }
+
+    /**
+     * Whether to not emit an event when a task is rejected by a thread pool.
+     */
+    public void setIgnoreThreadPoolRejectedEvents(boolean ignoreThreadPoolRejectedEvents) {
+        this.ignoreThreadPoolRejectedEvents = ignoreThreadPoolRejectedEvents;
+    }
+
+    public long getExchangeThreshold() {
+        return exchangeThreshold;
+    }
+
+    /**
+     * Only emit exchange completed events when the exchange took at least this number of millis.
+     */
+    public void setExchangeThreshold(long exchangeThreshold) {
+        this.exchangeThreshold = exchangeThreshold;
+    }
+
+    public long getExchangeSentThreshold() {
+        return exchangeSentThreshold;
+    }
+
+    /**
+     * Only emit exchange sent events when sending the exchange took at least this number of millis.
+     */
+    public void setExchangeSentThreshold(long exchangeSentThreshold) {
+        this.exchangeSentThreshold = exchangeSentThreshold;
+    }
+
+    public long getProcessorThreshold() {
+        return processorThreshold;
+    }
+
+    /**
+     * Only emit processor events when the processor took at least this number of millis.
+     */
+    public void setProcessorThreshold(long processorThreshold) {
+        this.processorThreshold = processorThreshold;
+    }
+
+    @Override
+    public Processor wrapProcessorInInterceptors(
+            CamelContext context, NamedNode definition, Processor target, Processor nextTarget)
+            throws Exception {
+        if (ignoreProcessorEvents) {
+            return target;
+        }
+        return new FlightRecorderProcessor(
+                target, routeId(definition), definition.getId(), definition.getShortName(), processorThreshold);
+    }
+
+    @Override
+    public void notify(CamelEvent event) throws Exception {
+        if (event instanceof CamelEvent.ExchangeCreatedEvent ece) {
+            FlightRecorderExchangeCreatedEvent jfr = new FlightRecorderExchangeCreatedEvent();
+            if (jfr.shouldCommit()) {
+                Exchange exchange = ece.getExchange();
+                jfr.exchangeId = exchange.getExchangeId();
+                jfr.routeId = exchange.getFromRouteId();
+                jfr.endpointUri = exchange.getFromEndpoint() != null ? exchange.getFromEndpoint().getEndpointUri() : null;
+                jfr.commit();
+            }
+        } else if (event instanceof CamelEvent.ExchangeCompletedEvent || event instanceof CamelEvent.ExchangeFailedEvent) {
+            Exchange exchange = ((CamelEvent.ExchangeEvent) event).getExchange();
+            long elapsed = exchange.getClock().elapsed();
+            if (elapsed >= exchangeThreshold) {
+                FlightRecorderExchangeCompletedEvent jfr = new FlightRecorderExchangeCompletedEvent();
+                if (jfr.shouldCommit()) {
+                    jfr.exchangeId = exchange.getExchangeId();
+                    jfr.routeId = exchange.getFromRouteId();
+                    jfr.endpointUri
+                            = exchange.getFromEndpoint() != null ? exchange.getFromEndpoint().getEndpointUri() : null;
+                    jfr.failed = event instanceof CamelEvent.ExchangeFailedEvent;
+                    jfr.elapsed = elapsed;
+                    jfr.commit();
+                }
+            }
+        } else if (event instanceof CamelEvent.ExchangeSentEvent ese) {
+            if (ese.getTimeTaken() >= exchangeSentThreshold) {
+                FlightRecorderExchangeSentEvent jfr = new FlightRecorderExchangeSentEvent();
+                if (jfr.shouldCommit()) {
+                    jfr.exchangeId = ese.getExchange().getExchangeId();
+                    jfr.endpointUri = ese.getEndpoint().getEndpointUri();
+                    jfr.failed = ese.getExchange().isFailed();
+                    jfr.timeTaken = ese.getTimeTaken();
+                    jfr.commit();
+                }
+            }
+        } else if (event instanceof CamelEvent.ExchangeRedeliveryEvent ere) {
+            FlightRecorderExchangeRedeliveryEvent jfr = new FlightRecorderExchangeRedeliveryEvent();
+            if (jfr.shouldCommit()) {
+                Exchange exchange = ere.getExchange();
+                // the exception is cleared before the exchange is redelivered
+                Exception cause = exchange.getException() != null
+                        ? exchange.getException() : exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT, Exception.class);
+                jfr.exchangeId = exchange.getExchangeId();
+                jfr.routeId = exchange.getFromRouteId();
+                jfr.attempt = ere.getAttempt();
+                jfr.cause = cause != null ? cause.getClass().getName() + ": " + cause.getMessage() : null;
+                jfr.commit();
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        REGISTRATION_LOCK.lock();
+        try {
+            if (registrations++ == 0) {
+                FlightRecorder.register(FlightRecorderExchangeCreatedEvent.class);
+                FlightRecorder.register(FlightRecorderExchangeCompletedEvent.class);
+                FlightRecorder.register(FlightRecorderExchangeSentEvent.class);
+                FlightRecorder.register(FlightRecorderExchangeRedeliveryEvent.class);
+                FlightRecorder.register(FlightRecorderProcessorEvent.class);
+                FlightRecorder.register(FlightRecorderThreadPoolRejectedEvent.class);
+            }
+        } finally {
+            REGISTRATION_LOCK.unlock();
+        }
+
+        if (!ignoreThreadPoolRejectedEvents && getCamelContext() != null) {
+            // thread pools created from now on will emit rejected events
+            ExecutorServiceManager manager = getCamelContext().getExecutorServiceManager();
+            if (!(manager.getThreadPoolFactory() instanceof FlightRecorderThreadPoolFactory)) {
+                manager.setThreadPoolFactory(new FlightRecorderThreadPoolFactory(manager.getThreadPoolFactory()));
+            }
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (getCamelContext() != null) {
+            ExecutorServiceManager manager = getCamelContext().getExecutorServiceManager();
+            if (manager.getThreadPoolFactory() instanceof FlightRecorderThreadPoolFactory tpf) {
+                manager.setThreadPoolFactory(tpf.getDelegate());
+            }
+        }
+
+        REGISTRATION_LOCK.lock();
+        try {
+            if (--registrations == 0) {
+                FlightRecorder.unregister(FlightRecorderExchangeCreatedEvent.class);
+                FlightRecorder.unregister(FlightRecorderExchangeCompletedEvent.class);
+                FlightRecorder.unregister(FlightRecorderExchangeSentEvent.class);
+                FlightRecorder.unregister(FlightRecorderExchangeRedeliveryEvent.class);
+                FlightRecorder.unregister(FlightRecorderProcessorEvent.class);
+                FlightRecorder.unregister(FlightRecorderThreadPoolRejectedEvent.class);
+            }
+        } finally {
+            REGISTRATION_LOCK.unlock();
+        }
+    }
+
+    private static String routeId(NamedNode definition) {
+        NamedNode node = definition;
+        while (node != null) {
+            if (node instanceof NamedRoute route) {
+                return route.getRouteId();
+            }
+            node = node.getParent();
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "FlightRecorderEventNotifier";
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+
+/**
+ * Processor which emits a {@link FlightRecorderProcessorEvent} with the duration of the wrapped processor.
+ */
+public class FlightRecorderProcessor extends DelegateAsyncProcessor {
+
+    private final String routeId;
+    private final String processorId;
+    private final String processorName;
+    private final long thresholdNanos;
+
+    public FlightRecorderProcessor(Processor processor, String routeId, String processorId, String processorName,
+                                   long threshold) {
+        super(processor);
+        this.routeId = routeId;
+        this.processorId = processorId;
+        this.processorName = processorName;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(threshold);
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final FlightRecorderProcessorEvent event = new FlightRecorderProcessorEvent();
+        if (!event.isEnabled()) {
+            return processor.process(exchange, callback);
+        }
+
+        final long start = System.nanoTime();
+        event.begin();
+        return processor.process(exchange, doneSync -> {
+            try {
+                event.end();
+                if (System.nanoTime() - start >= thresholdNanos && event.shouldCommit()) {
+                    event.exchangeId = exchange.getExchangeId();
+                    event.routeId = routeId;
+                    event.processorId = processorId;
+                    event.processor = processorName;
+                    event.failed = exchange.isFailed();
+                    event.commit();
+                }
+            } finally {
+                callback.done(doneSync);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "FlightRecorderProcessor[" + processor + "]";
+    }
+}
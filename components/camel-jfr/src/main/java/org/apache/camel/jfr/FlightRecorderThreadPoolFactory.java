@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.camel.spi.ThreadPoolFactory;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+
+/**
+ * {@link ThreadPoolFactory} which emits a {@link FlightRecorderThreadPoolRejectedEvent} when a task is rejected by a
+ * thread pool created by the delegate factory. The rejected task is still handled by the rejection policy of the
+ * thread pool.
+ */
+public class FlightRecorderThreadPoolFactory implements ThreadPoolFactory {
+
+    private final ThreadPoolFactory delegate;
+
+    public FlightRecorderThreadPoolFactory(ThreadPoolFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    public ThreadPoolFactory getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        return wrap(delegate.newCachedThreadPool(threadFactory), threadFactory);
+    }
+
+    @Override
+    public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        return wrap(delegate.newThreadPool(profile, threadFactory), threadFactory);
+    }
+
+    @Override
+    public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        return wrap(delegate.newScheduledThreadPool(profile, threadFactory), threadFactory);
+    }
+
+    private static <T extends ExecutorService> T wrap(T executor, ThreadFactory threadFactory) {
+        if (executor instanceof ThreadPoolExecutor tpe) {
+            String name = threadFactory instanceof CamelThreadFactory ctf ? ctf.getName() : String.valueOf(threadFactory);
+            tpe.setRejectedExecutionHandler(
+                    new FlightRecorderRejectedExecutionHandler(tpe.getRejectedExecutionHandler(), name));
+        }
+        return executor;
+    }
+
+    private static final class FlightRecorderRejectedExecutionHandler implements RejectedExecutionHandler {
+
+        private final RejectedExecutionHandler delegate;
+        private final String name;
+
+        private FlightRecorderRejectedExecutionHandler(RejectedExecutionHandler delegate, String name) {
+            this.delegate = delegate;
+            this.name = name;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            FlightRecorderThreadPoolRejectedEvent event = new FlightRecorderThreadPoolRejectedEvent();
+            if (event.shouldCommit()) {
+                event.threadPool = name;
+                event.poolSize = executor.getPoolSize();
+                event.activeCount = executor.getActiveCount();
+                event.queueSize = executor.getQueue().size();
+                event.commit();
+            }
+            delegate.rejectedExecution(r, executor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FlightRecorderThreadPoolFactory[" + delegate + "]";
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderEventNotifierTest extends CamelTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        new FlightRecorderEventNotifier().install(context);
+        return context;
+    }
+
+    @Test
+    public void testEvents() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        List<RecordedEvent> events = record(() -> {
+            template.sendBody("direct:start", "Hello World");
+            Exchange out = template.send("direct:redeliver", e -> e.getMessage().setBody("Bye World"));
+            assertTrue(out.isFailed());
+        });
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        // the exchanges are created by the producer template before being routed
+        assertTrue(events.stream().anyMatch(e -> isEvent(e, FlightRecorderExchangeCreatedEvent.NAME)
+                && "direct://start".equals(e.getString("endpointUri"))));
+        assertTrue(events.stream().anyMatch(e -> isEvent(e, FlightRecorderExchangeCompletedEvent.NAME)
+                && "start".equals(e.getString("routeId")) && !e.getBoolean("failed")));
+        assertTrue(events.stream().anyMatch(e -> isEvent(e, FlightRecorderExchangeCompletedEvent.NAME)
+                && "redeliver".equals(e.getString("routeId")) && e.getBoolean("failed")));
+        assertTrue(events.stream().anyMatch(e -> isEvent(e, FlightRecorderExchangeSentEvent.NAME)
+                && "mock://result".equals(e.getString("endpointUri"))));
+        assertTrue(events.stream().anyMatch(e -> isEvent(e, FlightRecorderProcessorEvent.NAME)
+                && "start".equals(e.getString("routeId")) && "to".equals(e.getString("processor"))));
+
+        List<RecordedEvent> redeliveries
+                = events.stream().filter(e -> isEvent(e, FlightRecorderExchangeRedeliveryEvent.NAME)).toList();
+        assertEquals(2, redeliveries.size());
+        assertEquals(1, redeliveries.get(0).getInt("attempt"));
+        assertEquals(2, redeliveries.get(1).getInt("attempt"));
+        assertEquals("redeliver", redeliveries.get(0).getString("routeId"));
+        assertTrue(redeliveries.get(0).getString("cause").contains("Forced"));
+    }
+
+    @Test
+    public void testThreadPoolRejectedEvent() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // the thread pool must be created after the notifier has been started
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:slow").routeId("slow")
+                        .threads(1, 1, "Slow").maxQueueSize(0).rejectedPolicy(ThreadPoolRejectedPolicy.Abort)
+                        .process(e -> {
+                            started.countDown();
+                            release.await(10, TimeUnit.SECONDS);
+                        });
+            }
+        });
+
+        List<RecordedEvent> events = record(() -> {
+            template.asyncSendBody("direct:slow", "Busy");
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            // the only thread is busy, and there is no task queue
+            Exchange out = template.send("direct:slow", e -> e.getMessage().setBody("Rejected"));
+            release.countDown();
+            assertIsInstanceOf(RejectedExecutionException.class, out.getException());
+        });
+
+        List<RecordedEvent> rejected
+                = events.stream().filter(e -> isEvent(e, FlightRecorderThreadPoolRejectedEvent.NAME)).toList();
+        assertEquals(1, rejected.size());
+        assertTrue(rejected.get(0).getString("threadPool").contains("Slow"));
+        assertEquals(1, rejected.get(0).getInt("poolSize"));
+    }
+
+    @Test
+    public void testEventsAreRegisteredWhileAnyNotifierIsStarted() throws Exception {
+        CamelContext other = new DefaultCamelContext();
+        new FlightRecorderEventNotifier().install(other);
+        other.start();
+        assertTrue(isRegistered(FlightRecorderExchangeCreatedEvent.NAME));
+        other.stop();
+
+        // the notifier of this context is still started
+        assertTrue(isRegistered(FlightRecorderExchangeCreatedEvent.NAME));
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+        List<RecordedEvent> events = record(() -> template.sendBody("direct:start", "Hello World"));
+        MockEndpoint.assertIsSatisfied(context);
+        assertTrue(events.stream().anyMatch(e -> isEvent(e, FlightRecorderExchangeCreatedEvent.NAME)));
+
+        context.stop();
+        assertFalse(isRegistered(FlightRecorderExchangeCreatedEvent.NAME));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").routeId("start")
+                        .to("mock:result");
+
+                from("direct:redeliver").routeId("redeliver")
+                        .errorHandler(defaultErrorHandler().maximumRedeliveries(2).redeliveryDelay(0))
+                        .throwException(new IllegalArgumentException("Forced"));
+            }
+        };
+    }
+
+    private static List<RecordedEvent> record(Task task) throws Exception {
+        Path file = Files.createTempFile("camel-jfr", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List.of(FlightRecorderExchangeCreatedEvent.NAME, FlightRecorderExchangeCompletedEvent.NAME,
+                    FlightRecorderExchangeSentEvent.NAME, FlightRecorderExchangeRedeliveryEvent.NAME,
+                    FlightRecorderProcessorEvent.NAME, FlightRecorderThreadPoolRejectedEvent.NAME)) {
+                recording.enable(name).withoutThreshold();
+            }
+            recording.start();
+            task.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static boolean isEvent(RecordedEvent event, String name) {
+        return name.equals(event.getEventType().getName());
+    }
+
+    private static boolean isRegistered(String name) {
+        return FlightRecorder.getFlightRecorder().getEventTypes().stream().anyMatch(t -> name.equals(t.getName()));
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+}
@@ -37,6 +37,7 @@ import org.apache.camel.TypeConverter;
 import org.apache.camel.spi.ExpressionResultTypeAware;
 import org.apache.camel.support.ExpressionAdapter;
 import org.apache.camel.support.MessageHelper;
+import org.apache.camel.support.ParsedDocumentCache;
 import org.apache.camel.support.builder.ExpressionBuilder;
 
 public class JqExpression extends ExpressionAdapter implements ExpressionResultTypeAware {
@@ -194,7 +195,17 @@ public class JqExpression extends ExpressionAdapter implements ExpressionResultT
      * @return          the {@link JsonNode} to be processed by the expression
      */
     private JsonNode getPayload(Exchange exchange) throws Exception {
-        JsonNode payload = source.evaluate(exchange, JsonNode.class);
+        JsonNode payload;
+        if (ParsedDocumentCache.isEnabled(exchange.getContext())) {
+            // the payload is parsed into a JsonNode which can be reused by other expressions on the same exchange
+            Object value = source.evaluate(exchange, Object.class);
+            payload = value instanceof JsonNode node
+                    ? node
+                    : ParsedDocumentCache.computeIfAbsent(exchange, value, JsonNode.class,
+                            v -> typeConverter.convertTo(JsonNode.class, exchange, v));
+        } else {
+            payload = source.evaluate(exchange, JsonNode.class);
+        }
         // if body is stream cached then reset, so we can re-read it again
         MessageHelper.resetStreamCache(exchange.getMessage());
         if (payload == null) {
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -39,6 +40,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.StreamCache;
 import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.support.ParsedDocumentCache;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,6 +55,8 @@ public class JsonPathEngine {
 
     private static final String JACKSON_JSON_ADAPTER = "org.apache.camel.jsonpath.jackson.JacksonJsonAdapter";
 
+    // the kind of document in the parsed document cache
+    private static final String JSON_DOCUMENT = "jsonpath";
     private static final Pattern SIMPLE_PATTERN = Pattern.compile("\\$\\{[^\\}]+\\}", Pattern.MULTILINE);
     private final String expression;
     private final boolean writeAsString;
@@ -154,16 +158,18 @@ public class JsonPathEngine {
                 return list;
             } else if (answer instanceof Map) {
                 Map<Object, Object> map = (Map<Object, Object>) answer;
+                // use a new map as the answer may be part of a cached document
+                Map<Object, Object> result = new LinkedHashMap<>(map);
                 for (Map.Entry<Object, Object> entry : map.entrySet()) {
                     Object value = entry.getValue();
                     if (adapter != null) {
                         String json = adapter.writeAsString(value, exchange);
                         if (json != null) {
-                            map.put(entry.getKey(), json);
+                            result.put(entry.getKey(), json);
                         }
                     }
                 }
-                return map;
+                return result;
             } else {
                 String json = adapter.writeAsString(answer, exchange);
                 if (json != null) {
@@ -189,16 +195,20 @@ public class JsonPathEngine {
             GenericFile<?> genericFile = (GenericFile<?>) json;
             if (genericFile.getCharset() != null) {
                 // special treatment for generic file with charset
-                InputStream inputStream = new FileInputStream((File) genericFile.getFile());
-                return JsonPath.using(configuration).parse(inputStream, genericFile.getCharset()).read(path);
+                Object document = ParsedDocumentCache.computeIfAbsent(exchange, genericFile, JSON_DOCUMENT, f -> {
+                    InputStream inputStream = new FileInputStream((File) genericFile.getFile());
+                    return JsonPath.using(configuration).parse(inputStream, genericFile.getCharset()).json();
+                });
+                return JsonPath.using(configuration).parse(document).read(path);
             }
         }
 
         Object answer;
         if (json instanceof String) {
             LOG.trace("JSonPath: {} is read as String: {}", path, json);
-            String str = (String) json;
-            return JsonPath.using(configuration).parse(str).read(path);
+            Object document = ParsedDocumentCache.computeIfAbsent(exchange, json, JSON_DOCUMENT,
+                    str -> JsonPath.using(configuration).parse((String) str).json());
+            return JsonPath.using(configuration).parse(document).read(path);
         } else if (json instanceof Map) {
             LOG.trace("JSonPath: {} is read as Map: {}", path, json);
             Map map = (Map) json;
@@ -241,6 +251,16 @@ public class JsonPathEngine {
         Object json = getPayload(exchange);
         LOG.trace("JSonPath: {} is read as InputStream: {}", path, json);
 
+        Object document = ParsedDocumentCache.computeIfAbsent(exchange, json, JSON_DOCUMENT,
+                payload -> parseWithInputStream(payload, exchange));
+        if (document != null) {
+            return JsonPath.using(configuration).parse(document).read(path);
+        }
+
+        return null;
+    }
+
+    private Object parseWithInputStream(Object json, Exchange exchange) throws IOException {
         InputStream is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, json);
 
         if (json instanceof StreamCache) {
@@ -251,12 +271,12 @@ public class JsonPathEngine {
             String jsonEncoding = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
             if (jsonEncoding != null) {
                 // json encoding specified in header
-                return JsonPath.using(configuration).parse(is, jsonEncoding).read(path);
+                return JsonPath.using(configuration).parse(is, jsonEncoding).json();
             } else {
                 // No json encoding specified --> assume json encoding is unicode and determine the specific unicode encoding according to RFC-4627.
                 // This is a temporary solution, it can be removed as soon as jsonpath offers the encoding detection
                 JsonStream jsonStream = new JsonStream(is);
-                return JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()).read(path);
+                return JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()).json();
             }
         }
 
@@ -271,11 +291,13 @@ public class JsonPathEngine {
 
         if (adapter != null) {
             LOG.trace("Attempting to use JacksonJsonAdapter: {}", adapter);
-            Map map = adapter.readValue(json, exchange);
-
-            if (json instanceof StreamCache) {
-                ((StreamCache) json).reset();
-            }
+            Map map = ParsedDocumentCache.computeIfAbsent(exchange, json, JSON_DOCUMENT, payload -> {
+                Map answer = adapter.readValue(payload, exchange);
+                if (payload instanceof StreamCache) {
+                    ((StreamCache) payload).reset();
+                }
+                return answer;
+            });
 
             if (map != null) {
                 if (LOG.isDebugEnabled()) {
@@ -108,6 +108,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "key": target.getConfiguration().setKey(property(camelContext, java.lang.String.class, value)); return true;
         case "keydeserializer":
         case "keyDeserializer": target.getConfiguration().setKeyDeserializer(property(camelContext, java.lang.String.class, value)); return true;
+        case "keyorderedconcurrency":
+        case "keyOrderedConcurrency": target.getConfiguration().setKeyOrderedConcurrency(property(camelContext, int.class, value)); return true;
         case "keyserializer":
         case "keySerializer": target.getConfiguration().setKeySerializer(property(camelContext, java.lang.String.class, value)); return true;
         case "lazystartproducer":
@@ -330,6 +332,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "key": return java.lang.String.class;
         case "keydeserializer":
         case "keyDeserializer": return java.lang.String.class;
+        case "keyorderedconcurrency":
+        case "keyOrderedConcurrency": return int.class;
         case "keyserializer":
         case "keySerializer": return java.lang.String.class;
         case "lazystartproducer":
@@ -553,6 +557,8 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "key": return target.getConfiguration().getKey();
         case "keydeserializer":
         case "keyDeserializer": return target.getConfiguration().getKeyDeserializer();
+        case "keyorderedconcurrency":
+        case "keyOrderedConcurrency": return target.getConfiguration().getKeyOrderedConcurrency();
         case "keyserializer":
         case "keySerializer": return target.getConfiguration().getKeySerializer();
         case "lazystartproducer":
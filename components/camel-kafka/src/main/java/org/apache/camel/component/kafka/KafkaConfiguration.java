@@ -359,6 +359,8 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private boolean batching;
     @UriParam(label = "consumer")
     private Integer batchingIntervalMs;
+    @UriParam(label = "consumer")
+    private int keyOrderedConcurrency;
 
     @UriParam(label = "producer")
     private String transactionalId;
@@ -2033,6 +2035,22 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.batchingIntervalMs = batchingIntervalMs;
     }
 
+    public int getKeyOrderedConcurrency() {
+        return keyOrderedConcurrency;
+    }
+
+    /**
+     * Number of worker threads for processing the polled records concurrently, while preserving the order of the
+     * records with the same key. The records of a partition are grouped by their key, and each group is processed in
+     * order by a worker thread. As records complete out of order, then only the highest contiguous completed offset of
+     * each partition is committed. The default is 0, which processes the records one after another.
+     *
+     * This option cannot be used together with batching or allowManualCommit.
+     */
+    public void setKeyOrderedConcurrency(int keyOrderedConcurrency) {
+        this.keyOrderedConcurrency = keyOrderedConcurrency;
+    }
+
     public boolean isTransacted() {
         return transacted;
     }
@@ -57,6 +57,7 @@ public class KafkaConsumer extends DefaultConsumer
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
     protected ExecutorService executor;
+    protected ExecutorService keyOrderedExecutor;
     private final KafkaEndpoint endpoint;
     private KafkaConsumerHealthCheck consumerHealthCheck;
     private HealthCheckRepository healthCheckRepository;
@@ -96,6 +97,14 @@ public class KafkaConsumer extends DefaultConsumer
         return (KafkaEndpoint) super.getEndpoint();
     }
 
+    /**
+     * The worker pool for processing records concurrently (preserving order per key) when keyOrderedConcurrency is in
+     * use.
+     */
+    public ExecutorService getKeyOrderedExecutor() {
+        return keyOrderedExecutor;
+    }
+
     private String randomUUID() {
         return UUID.randomUUID().toString();
     }
@@ -150,6 +159,17 @@ public class KafkaConsumer extends DefaultConsumer
 
         executor = endpoint.createExecutor(this);
 
+        if (endpoint.getConfiguration().getKeyOrderedConcurrency() > 0) {
+            if (endpoint.getConfiguration().isBatching()) {
+                throw new IllegalArgumentException("The option keyOrderedConcurrency cannot be used together with batching");
+            }
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException(
+                        "The option keyOrderedConcurrency cannot be used together with allowManualCommit");
+            }
+            keyOrderedExecutor = endpoint.createKeyOrderedExecutor(this);
+        }
+
         String topic = endpoint.getConfiguration().getTopic();
         Pattern pattern = null;
         if (endpoint.getConfiguration().isTopicIsPattern()) {
@@ -216,6 +236,16 @@ public class KafkaConsumer extends DefaultConsumer
         tasks.clear();
         executor = null;
 
+        if (keyOrderedExecutor != null) {
+            // the polling threads have stopped so there is no more work for the workers
+            if (getEndpoint() != null && getEndpoint().getCamelContext() != null) {
+                getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(keyOrderedExecutor);
+            } else {
+                keyOrderedExecutor.shutdown();
+            }
+            keyOrderedExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.ordered;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes a single record, which is called concurrently from the worker threads. Unlike the streaming processor this
+ * does not record nor commit any offsets, as this must happen from the thread polling Kafka.
+ */
+final class KafkaRecordKeyOrderedProcessor extends KafkaRecordProcessor {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordKeyOrderedProcessor.class);
+
+    private final KafkaConfiguration configuration;
+    private final Processor processor;
+
+    KafkaRecordKeyOrderedProcessor(KafkaConfiguration configuration, Processor processor) {
+        this.configuration = configuration;
+        this.processor = processor;
+    }
+
+    public ProcessingResult processExchange(
+            KafkaConsumer camelKafkaConsumer, TopicPartition topicPartition, ConsumerRecord<Object, Object> consumerRecord) {
+
+        final Exchange exchange = camelKafkaConsumer.createExchange(false);
+
+        Message message = exchange.getMessage();
+
+        setupExchangeMessage(message, consumerRecord);
+
+        propagateHeaders(configuration, consumerRecord, exchange);
+
+        try {
+            processor.process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        ProcessingResult result;
+        if (exchange.getException() != null) {
+            LOG.debug("An exception was thrown for consumerRecord at partition {} and offset {}",
+                    consumerRecord.partition(), consumerRecord.offset());
+            final ExceptionHandler exceptionHandler = camelKafkaConsumer.getExceptionHandler();
+
+            boolean breakOnErrorExit = processException(exchange, topicPartition, consumerRecord, exceptionHandler);
+            result = new ProcessingResult(
+                    breakOnErrorExit, true, consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+        } else {
+            result = new ProcessingResult(
+                    false, false, consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset());
+        }
+
+        camelKafkaConsumer.releaseExchange(exchange, false);
+
+        return result;
+    }
+
+    private boolean processException(
+            Exchange exchange, TopicPartition topicPartition,
+            ConsumerRecord<Object, Object> consumerRecord, ExceptionHandler exceptionHandler) {
+
+        // processing failed due to an unhandled exception, what should we do
+        if (configuration.isBreakOnFirstError()) {
+            // we are failing and we should break out, where the records of the partition are polled
+            // again from the highest contiguous offset that was completed
+            if (LOG.isWarnEnabled()) {
+                Exception exc = exchange.getException();
+                LOG.warn("Error during processing {} from topic: {} due to {}", exchange, topicPartition.topic(),
+                        exc.getMessage());
+                LOG.warn("Will stop processing records on partition {} and start polling again.",
+                        consumerRecord.partition());
+            }
+            return true;
+        } else {
+            // will handle/log the exception and then continue to next
+            exceptionHandler.handleException("Error during processing", exchange, exchange.getException());
+        }
+
+        return false;
+    }
+}
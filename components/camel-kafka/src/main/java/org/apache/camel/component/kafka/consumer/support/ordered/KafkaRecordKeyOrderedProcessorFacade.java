@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.ordered;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.component.kafka.consumer.support.AbstractKafkaRecordProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the polled records concurrently using a pool of worker threads, while preserving the order of the records
+ * with the same key.
+ * <p/>
+ * The records of each partition are grouped by their key, and each group is processed (in order) by a worker thread.
+ * Records without a key have no ordering and are processed individually. As the records complete out of order, then
+ * only the highest contiguous completed offset of each partition is recorded (and committed) by the commit manager.
+ * This happens from the thread polling Kafka, as the Kafka consumer is not thread-safe, which is also the thread calling
+ * the {@link KafkaConsumerListener} after each record has been processed.
+ */
+public class KafkaRecordKeyOrderedProcessorFacade extends AbstractKafkaRecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordKeyOrderedProcessorFacade.class);
+
+    // signals that a group of records has been processed
+    private static final Completion GROUP_DONE = new Completion(null, 0, null);
+
+    private final KafkaRecordKeyOrderedProcessor kafkaRecordProcessor;
+    private final ExecutorService executor;
+
+    public KafkaRecordKeyOrderedProcessorFacade(
+                                                KafkaConsumer camelKafkaConsumer, String threadId,
+                                                CommitManager commitManager, KafkaConsumerListener consumerListener) {
+        super(camelKafkaConsumer, threadId, commitManager, consumerListener);
+
+        this.kafkaRecordProcessor = new KafkaRecordKeyOrderedProcessor(
+                camelKafkaConsumer.getEndpoint().getConfiguration(),
+                camelKafkaConsumer.getProcessor());
+        this.executor = camelKafkaConsumer.getKeyOrderedExecutor();
+    }
+
+    @Override
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
+        logRecords(allRecords);
+
+        ProcessingResult result = ProcessingResult.newUnprocessed();
+        if (allRecords.isEmpty() || isStopping()) {
+            return result;
+        }
+
+        LOG.debug("Poll received records on {} partitions", allRecords.partitions().size());
+
+        final BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        final Map<TopicPartition, PartitionOffsets> partitions = new LinkedHashMap<>();
+        // signals the workers to stop processing when the consumer listener does not want to continue
+        final AtomicBoolean stopped = new AtomicBoolean();
+        ProcessingResult stoppedResult = null;
+        int pendingGroups = 0;
+
+        for (TopicPartition partition : allRecords.partitions()) {
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            logRecordsInPartition(partitionRecords, partition);
+
+            PartitionOffsets offsets = new PartitionOffsets(partition, partitionRecords);
+            partitions.put(partition, offsets);
+
+            for (List<ConsumerRecord<Object, Object>> group : groupByKey(partitionRecords)) {
+                Runnable task = () -> processGroup(offsets, group, completions, stopped);
+                pendingGroups++;
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    // the worker pool is shutting down so process in this thread instead
+                    task.run();
+                }
+            }
+        }
+
+        // wait for all the groups to be processed, and record the contiguous offsets as the records complete
+        while (pendingGroups > 0) {
+            Completion completion;
+            try {
+                completion = completions.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptException(e);
+            }
+            if (completion == GROUP_DONE) {
+                pendingGroups--;
+                continue;
+            }
+
+            result = completion.result;
+            PartitionOffsets offsets = completion.offsets;
+            if (!result.isBreakOnErrorHit() && offsets.complete(completion.offset)) {
+                commitManager.recordOffset(offsets.getPartition(), offsets.getContiguousOffset());
+            }
+
+            if (consumerListener != null && stoppedResult == null && !consumerListener.afterProcess(result)) {
+                // the records being processed by the workers must still complete before committing
+                stoppedResult = result;
+                stopped.set(true);
+            }
+        }
+
+        for (PartitionOffsets offsets : partitions.values()) {
+            TopicPartition partition = offsets.getPartition();
+            if (offsets.isBreakOnErrorHit()) {
+                LOG.debug("Committing offset {} on partition {} before polling again due to error",
+                        offsets.getContiguousOffset(), partition);
+                if (offsets.getContiguousOffset() >= 0) {
+                    result = new ProcessingResult(
+                            true, true, partition.topic(), partition.partition(), offsets.getContiguousOffset());
+                } else {
+                    // no record has been processed on the partition, so there is no offset to report
+                    result = new ProcessingResult(true, true);
+                }
+            } else {
+                LOG.debug("Committing offset on successful execution");
+            }
+            commitManager.commit(partition);
+        }
+
+        return stoppedResult != null ? stoppedResult : result;
+    }
+
+    private void processGroup(
+            PartitionOffsets offsets, List<ConsumerRecord<Object, Object>> group, BlockingQueue<Completion> completions,
+            AtomicBoolean stopped) {
+        try {
+            for (ConsumerRecord<Object, Object> consumerRecord : group) {
+                if (offsets.isBreakOnErrorHit() || stopped.get() || isStopping()) {
+                    // the remainder of the records are polled again
+                    break;
+                }
+
+                logRecord(consumerRecord);
+
+                ProcessingResult result
+                        = kafkaRecordProcessor.processExchange(camelKafkaConsumer, offsets.getPartition(), consumerRecord);
+                if (result.isBreakOnErrorHit()) {
+                    offsets.setBreakOnErrorHit();
+                }
+
+                LOG.debug("Processed record on partition {} with offset {}",
+                        consumerRecord.partition(), consumerRecord.offset());
+
+                completions.add(new Completion(offsets, consumerRecord.offset(), result));
+            }
+        } catch (Exception e) {
+            LOG.warn("Error processing records on partition {} due to {}. The records are polled again.",
+                    offsets.getPartition(), e.getMessage(), e);
+            offsets.setBreakOnErrorHit();
+        } finally {
+            completions.add(GROUP_DONE);
+        }
+    }
+
+    private static Collection<List<ConsumerRecord<Object, Object>>> groupByKey(
+            List<ConsumerRecord<Object, Object>> partitionRecords) {
+        final Map<Object, List<ConsumerRecord<Object, Object>>> groups = new LinkedHashMap<>();
+        final List<List<ConsumerRecord<Object, Object>>> answer = new ArrayList<>();
+
+        for (ConsumerRecord<Object, Object> consumerRecord : partitionRecords) {
+            Object key = consumerRecord.key();
+            if (key == null) {
+                // records without a key have no ordering
+                answer.add(List.of(consumerRecord));
+                continue;
+            }
+            if (key instanceof byte[] bytes) {
+                // use a key that compares the content of the bytes
+                key = ByteBuffer.wrap(bytes);
+            }
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(consumerRecord);
+        }
+
+        answer.addAll(groups.values());
+        return answer;
+    }
+
+    private static final class Completion {
+        private final PartitionOffsets offsets;
+        private final long offset;
+        private final ProcessingResult result;
+
+        private Completion(PartitionOffsets offsets, long offset, ProcessingResult result) {
+            this.offsets = offsets;
+            this.offset = offset;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.ordered;
+
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Keeps track of the records of a partition (from a single poll) that have completed processing, which may complete out
+ * of order, to know the highest offset up to which all the records have completed (the contiguous offset), which is the
+ * offset that is safe to commit.
+ */
+final class PartitionOffsets {
+
+    private final TopicPartition partition;
+    private final long[] offsets;
+    private final boolean[] completed;
+    private int next;
+    private volatile boolean breakOnErrorHit;
+
+    PartitionOffsets(TopicPartition partition, List<ConsumerRecord<Object, Object>> records) {
+        this.partition = partition;
+        this.offsets = new long[records.size()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = records.get(i).offset();
+        }
+        this.completed = new boolean[offsets.length];
+    }
+
+    TopicPartition getPartition() {
+        return partition;
+    }
+
+    /**
+     * Marks the record with the given offset as completed
+     *
+     * @param  offset the offset of the record
+     * @return        true if the contiguous offset has advanced
+     */
+    boolean complete(long offset) {
+        int index = indexOf(offset);
+        if (index < 0) {
+            return false;
+        }
+        completed[index] = true;
+        int before = next;
+        while (next < completed.length && completed[next]) {
+            next++;
+        }
+        return next > before;
+    }
+
+    /**
+     * The highest offset up to which all the records have completed, or -1 if the first record has not completed yet
+     */
+    long getContiguousOffset() {
+        return next > 0 ? offsets[next - 1] : -1;
+    }
+
+    /**
+     * Whether all the records have completed
+     */
+    boolean isAllCompleted() {
+        return next == completed.length;
+    }
+
+    boolean isBreakOnErrorHit() {
+        return breakOnErrorHit;
+    }
+
+    void setBreakOnErrorHit() {
+        this.breakOnErrorHit = true;
+    }
+
+    private int indexOf(long offset) {
+        // the offsets of the records from a partition are ascending
+        int low = 0;
+        int high = offsets.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (offsets[mid] < offset) {
+                low = mid + 1;
+            } else if (offsets[mid] > offset) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.ordered;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.KafkaManualCommit;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaRecordKeyOrderedProcessorFacadeTest {
+
+    private final TopicPartition partition0 = new TopicPartition("topic1", 0);
+    private final TopicPartition partition1 = new TopicPartition("topic1", 1);
+    private final CamelContext camelContext = new DefaultCamelContext();
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final KafkaConsumer camelKafkaConsumer = mock(KafkaConsumer.class);
+    private final ExceptionHandler exceptionHandler = mock(ExceptionHandler.class);
+    private final RecordingCommitManager commitManager = new RecordingCommitManager();
+    // the offsets of the processed records per key
+    private final Map<Object, List<Long>> processed = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+    private Processor processor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+
+        KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(camelKafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(camelKafkaConsumer.getProcessor()).thenReturn(exchange -> {
+            Object key = exchange.getMessage().getHeader(KafkaConstants.KEY);
+            long offset = exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+            processor.process(exchange);
+            processed.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(offset);
+        });
+        when(camelKafkaConsumer.getKeyOrderedExecutor()).thenReturn(executor);
+        when(camelKafkaConsumer.createExchange(false)).thenAnswer(invocation -> new DefaultExchange(camelContext));
+        when(camelKafkaConsumer.getExceptionHandler()).thenReturn(exceptionHandler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void recordsWithSameKeyAreProcessedInOrder() {
+        processor = exchange -> Thread.sleep(1);
+
+        ProcessingResult result = process(records(partition0, 0, 40, 4));
+
+        assertFalse(result.isBreakOnErrorHit());
+        for (int key = 0; key < 4; key++) {
+            List<Long> expected = new ArrayList<>();
+            for (long offset = key; offset < 40; offset += 4) {
+                expected.add(offset);
+            }
+            assertEquals(expected, processed.get("key" + key));
+        }
+        assertEquals(39L, commitManager.getLastOffset(partition0));
+        assertTrue(commitManager.isCommitted(partition0));
+    }
+
+    @Test
+    void recordsWithDifferentKeysAreProcessedConcurrently() {
+        // both records must be processing at the same time to pass the barrier
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        processor = exchange -> barrier.await(10, TimeUnit.SECONDS);
+
+        ProcessingResult result = process(records(partition0, 0, 2, 2));
+
+        assertFalse(result.isBreakOnErrorHit());
+        verify(exceptionHandler, never()).handleException(anyString(), any(Exchange.class), any(Throwable.class));
+        assertEquals(1L, commitManager.getLastOffset(partition0));
+    }
+
+    @Test
+    void offsetsAreRecordedUpToLowestUnfinishedRecord() {
+        // offset 0 (key0) finishes after offsets 1 and 3 (key1) have been processed
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        processor = exchange -> {
+            long offset = exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+            if (offset == 0 || offset == 3) {
+                barrier.await(10, TimeUnit.SECONDS);
+            }
+            if (offset == 0) {
+                commitManager.firstRecordDone = true;
+            }
+        };
+        commitManager.firstRecordDone = false;
+
+        ProcessingResult result = process(records(partition0, 0, 4, 2));
+
+        assertFalse(result.isBreakOnErrorHit());
+        // no offset is recorded while the record at offset 0 is processing
+        assertFalse(commitManager.recordedTooEarly);
+        assertEquals(3L, commitManager.getLastOffset(partition0));
+    }
+
+    @Test
+    void breakOnFirstErrorStopsTheFailedPartition() {
+        configuration.setBreakOnFirstError(true);
+        processor = exchange -> {
+            if (exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class) == 11) {
+                throw new IllegalStateException("Forced");
+            }
+        };
+
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new LinkedHashMap<>();
+        records.putAll(records(partition0, 10, 4, 1));
+        records.putAll(records(partition1, 20, 4, 1));
+        ProcessingResult result = process(records);
+
+        // the records after the failed record are not processed, and are polled again from the committed offset
+        assertTrue(result.isBreakOnErrorHit());
+        assertEquals(0, result.getPartition());
+        assertEquals(10L, result.getOffset());
+        assertEquals(List.of(10L, 20L, 21L, 22L, 23L), processedOffsets());
+        assertEquals(10L, commitManager.getLastOffset(partition0));
+        assertTrue(commitManager.isCommitted(partition0));
+        verify(exceptionHandler, never()).handleException(anyString(), any(Exchange.class), any(Throwable.class));
+
+        // the other partition is not affected
+        assertEquals(23L, commitManager.getLastOffset(partition1));
+    }
+
+    @Test
+    void breakOnFirstErrorWithoutProcessedRecordHasNoOffset() {
+        configuration.setBreakOnFirstError(true);
+        processor = exchange -> {
+            throw new IllegalStateException("Forced");
+        };
+
+        ProcessingResult result = process(records(partition0, 10, 4, 1));
+
+        // no record has been processed so there is no offset to report (such as the last record in the dev console)
+        assertTrue(result.isBreakOnErrorHit());
+        assertNull(result.getTopic());
+        assertNull(commitManager.getLastOffset(partition0));
+    }
+
+    @Test
+    void consumerListenerIsCalledForEveryRecord() {
+        processor = exchange -> {
+        };
+        KafkaConsumerListener consumerListener = mock(KafkaConsumerListener.class);
+        when(consumerListener.afterProcess(any(ProcessingResult.class))).thenReturn(true);
+
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new LinkedHashMap<>();
+        records.putAll(records(partition0, 10, 4, 2));
+        records.putAll(records(partition1, 20, 3, 2));
+        ProcessingResult result = process(records, consumerListener);
+
+        assertFalse(result.isBreakOnErrorHit());
+        verify(consumerListener, times(7)).afterProcess(any(ProcessingResult.class));
+        assertEquals(13L, commitManager.getLastOffset(partition0));
+        assertEquals(22L, commitManager.getLastOffset(partition1));
+    }
+
+    @Test
+    void errorIsHandledWithoutBreakOnFirstError() {
+        processor = exchange -> {
+            if (exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class) == 11) {
+                throw new IllegalStateException("Forced");
+            }
+        };
+
+        ProcessingResult result = process(records(partition0, 10, 4, 1));
+
+        assertFalse(result.isBreakOnErrorHit());
+        verify(exceptionHandler, times(1)).handleException(anyString(), any(Exchange.class), any(Throwable.class));
+        assertEquals(List.of(10L, 12L, 13L), processedOffsets());
+        assertEquals(13L, commitManager.getLastOffset(partition0));
+    }
+
+    private ProcessingResult process(Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records) {
+        return process(records, null);
+    }
+
+    private ProcessingResult process(
+            Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records, KafkaConsumerListener consumerListener) {
+        KafkaRecordKeyOrderedProcessorFacade facade
+                = new KafkaRecordKeyOrderedProcessorFacade(camelKafkaConsumer, "thread1", commitManager, consumerListener);
+        return facade.processPolledRecords(new ConsumerRecords<>(records));
+    }
+
+    /**
+     * Creates the records from the first offset, where the keys are assigned round-robin
+     */
+    private static Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records(
+            TopicPartition partition, long firstOffset, int count, int keys) {
+        List<ConsumerRecord<Object, Object>> answer = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long offset = firstOffset + i;
+            answer.add(new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "key" + (i % keys), "value"));
+        }
+        return Map.of(partition, answer);
+    }
+
+    private List<Long> processedOffsets() {
+        List<Long> answer = new ArrayList<>();
+        processed.values().forEach(answer::addAll);
+        Collections.sort(answer);
+        return answer;
+    }
+
+    private static final class RecordingCommitManager implements CommitManager {
+
+        private final Map<TopicPartition, Long> offsets = new ConcurrentHashMap<>();
+        private final Map<TopicPartition, Boolean> committed = new ConcurrentHashMap<>();
+        private volatile boolean firstRecordDone = true;
+        private volatile boolean recordedTooEarly;
+
+        Long getLastOffset(TopicPartition partition) {
+            return offsets.get(partition);
+        }
+
+        boolean isCommitted(TopicPartition partition) {
+            return committed.getOrDefault(partition, false);
+        }
+
+        @Override
+        public KafkaManualCommit getManualCommit(
+                Exchange exchange, TopicPartition partition, ConsumerRecord<Object, Object> consumerRecord) {
+            return null;
+        }
+
+        @Override
+        public void commit() {
+            // noop
+        }
+
+        @Override
+        public void commit(TopicPartition partition) {
+            committed.put(partition, true);
+        }
+
+        @Override
+        public void forceCommit(TopicPartition partition, long partitionLastOffset) {
+            offsets.put(partition, partitionLastOffset);
+            committed.put(partition, true);
+        }
+
+        @Override
+        public void recordOffset(TopicPartition partition, long partitionLastOffset) {
+            if (!firstRecordDone) {
+                recordedTooEarly = true;
+            }
+            Long previous = offsets.put(partition, partitionLastOffset);
+            if (previous != null && previous >= partitionLastOffset) {
+                throw new IllegalStateException("The offset must advance: " + previous + " -> " + partitionLastOffset);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.ordered;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionOffsetsTest {
+
+    private final TopicPartition partition = new TopicPartition("topic1", 0);
+
+    private List<ConsumerRecord<Object, Object>> records(long... offsets) {
+        List<ConsumerRecord<Object, Object>> answer = new ArrayList<>();
+        for (long offset : offsets) {
+            answer.add(new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "key" + offset, "value"));
+        }
+        return answer;
+    }
+
+    @Test
+    void completeInOrder() {
+        PartitionOffsets offsets = new PartitionOffsets(partition, records(10, 11, 12));
+
+        assertEquals(-1, offsets.getContiguousOffset());
+        assertTrue(offsets.complete(10));
+        assertEquals(10, offsets.getContiguousOffset());
+        assertTrue(offsets.complete(11));
+        assertTrue(offsets.complete(12));
+        assertEquals(12, offsets.getContiguousOffset());
+        assertTrue(offsets.isAllCompleted());
+    }
+
+    @Test
+    void completeOutOfOrder() {
+        PartitionOffsets offsets = new PartitionOffsets(partition, records(10, 11, 13, 14));
+
+        assertFalse(offsets.complete(13));
+        assertFalse(offsets.complete(11));
+        assertEquals(-1, offsets.getContiguousOffset());
+
+        // completing the first record advances past all the completed records
+        assertTrue(offsets.complete(10));
+        assertEquals(13, offsets.getContiguousOffset());
+        assertFalse(offsets.isAllCompleted());
+
+        assertTrue(offsets.complete(14));
+        assertEquals(14, offsets.getContiguousOffset());
+        assertTrue(offsets.isAllCompleted());
+    }
+
+    @Test
+    void completeUnknownOffset() {
+        PartitionOffsets offsets = new PartitionOffsets(partition, records(10, 11));
+
+        assertFalse(offsets.complete(12));
+        assertEquals(-1, offsets.getContiguousOffset());
+    }
+}
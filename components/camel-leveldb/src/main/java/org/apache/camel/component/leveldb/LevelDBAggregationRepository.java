@@ -20,15 +20,21 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.camel.AggregationStrategy;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.DeltaAggregationRepository;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
@@ -41,12 +47,19 @@ import org.slf4j.LoggerFactory;
 
 /**
  * An instance of {@link org.apache.camel.spi.AggregationRepository} which is backed by a {@link LevelDBFile}.
+ * <p/>
+ * When appendOnly is enabled then every incoming exchange is stored as a new record (keyed by the correlation key and a
+ * sequence), instead of storing the entire aggregated exchange whenever a new exchange is aggregated. The aggregated
+ * exchanges in progress are kept in memory, and are reconstructed from the records using the aggregation strategy on
+ * startup. At most appendOnlyCacheSize aggregated exchanges are kept in memory, where the least recently used are
+ * evicted (and reconstructed when needed again).
  */
 @Metadata(label = "bean",
           description = "Aggregation repository that uses LevelDB to store exchanges.",
           annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
 @Configurer(metadataOnly = true)
-public class LevelDBAggregationRepository extends ServiceSupport implements RecoverableAggregationRepository {
+public class LevelDBAggregationRepository extends ServiceSupport
+        implements RecoverableAggregationRepository, DeltaAggregationRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(LevelDBAggregationRepository.class);
 
@@ -77,6 +90,19 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
     @Metadata(label = "advanced",
               description = "To use a custom serializer for LevelDB")
     private LevelDBSerializer serializer;
+    @Metadata(label = "advanced",
+              description = "Whether to store every incoming exchange as a new record, instead of storing the entire aggregated exchange"
+                            + " whenever a new exchange is aggregated. This avoids writing the aggregated exchange over and over again,"
+                            + " when aggregating many exchanges into the same group. The aggregated exchange is reconstructed from the records"
+                            + " using the aggregation strategy, which must therefore give the same result when aggregating the same exchanges again.")
+    private boolean appendOnly;
+    @Metadata(label = "advanced", defaultValue = "1000",
+              description = "The maximum number of aggregated exchanges in progress to keep in memory when appendOnly is enabled."
+                            + " The least recently used are evicted, and are reconstructed from the records when needed again.")
+    private int appendOnlyCacheSize = 1000;
+
+    private AggregationStrategy aggregationStrategy;
+    private Map<String, AggregatedDeltas> aggregatedDeltas;
 
     /**
      * Creates an aggregation repository
@@ -151,8 +177,104 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return null;
     }
 
+    @Override
+    public void setAggregationStrategy(AggregationStrategy aggregationStrategy) {
+        this.aggregationStrategy = aggregationStrategy;
+    }
+
+    @Override
+    public void append(final CamelContext camelContext, final String key, final Exchange exchange, final Exchange aggregated) {
+        if (!appendOnly) {
+            add(camelContext, key, aggregated);
+            return;
+        }
+
+        try {
+            AggregatedDeltas current = aggregatedDeltas.get(key);
+            long sequence = (current != null ? current.sequence : lastSequence(key)) + 1;
+            final byte[] exchangeBuffer = codec().marshallExchange(camelContext, exchange, allowSerializedHeaders);
+
+            LOG.trace("Appending key index {} with sequence {} for repository {}", key, sequence, repositoryName);
+            levelDBFile.getDb().put(deltaKeyBuilder(key, sequence), exchangeBuffer, levelDBFile.getWriteOptions());
+            aggregatedDeltas.put(key, new AggregatedDeltas(aggregated, sequence));
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error appending to repository " + repositoryName + " with key " + key, e);
+        }
+    }
+
+    /**
+     * Gets the aggregated exchange of the correlation key, which is kept in memory, or reconstructed from the records.
+     */
+    private Exchange getAppended(final CamelContext camelContext, final String key) {
+        AggregatedDeltas current = aggregatedDeltas.get(key);
+        if (current != null && current.exchange != null) {
+            // the aggregated exchange is handed over to the aggregator, which appends the next exchange to it
+            Exchange answer = current.exchange;
+            current.exchange = null;
+            return answer;
+        }
+
+        ObjectHelper.notNull(aggregationStrategy, "AggregationStrategy", this);
+
+        Exchange answer = null;
+        long sequence = 0;
+        String prefix = getRepositoryNameDelta() + '\0' + key + '\0';
+        DBIterator it = levelDBFile.getDb().iterator();
+        try {
+            for (it.seek(prefix.getBytes(StandardCharsets.UTF_8)); it.hasNext(); it.next()) {
+                Map.Entry<byte[], byte[]> entry = it.peekNext();
+                if (!asString(entry.getKey()).startsWith(prefix)) {
+                    break;
+                }
+                Exchange exchange = codec().unmarshallExchange(camelContext, entry.getValue());
+                ExchangeHelper.prepareAggregation(answer, exchange);
+                answer = aggregationStrategy.aggregate(answer, exchange);
+                answer.setProperty(ExchangePropertyKey.AGGREGATED_SIZE, (int) ++sequence);
+            }
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error getting key " + key + " from repository " + repositoryName, e);
+        } finally {
+            // Make sure you close the iterator to avoid resource leaks.
+            IOHelper.close(it);
+        }
+
+        if (answer != null) {
+            LOG.debug("Reconstructed aggregated exchange with key [{}] from {} records", key, sequence);
+            aggregatedDeltas.put(key, new AggregatedDeltas(null, sequence));
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the sequence of the last record with the correlation key, or 0 if there are no records.
+     */
+    private long lastSequence(final String key) {
+        String prefix = getRepositoryNameDelta() + '\0' + key + '\0';
+        long answer = 0;
+        DBIterator it = levelDBFile.getDb().iterator();
+        try {
+            for (it.seek(prefix.getBytes(StandardCharsets.UTF_8)); it.hasNext(); it.next()) {
+                String keyBuffer = asString(it.peekNext().getKey());
+                if (!keyBuffer.startsWith(prefix)) {
+                    break;
+                }
+                answer = Long.parseLong(keyBuffer.substring(prefix.length()));
+            }
+        } finally {
+            // Make sure you close the iterator to avoid resource leaks.
+            IOHelper.close(it);
+        }
+        return answer;
+    }
+
     @Override
     public Exchange get(final CamelContext camelContext, final String key) {
+        if (appendOnly) {
+            Exchange answer = getAppended(camelContext, key);
+            LOG.debug("Getting key  [{}] -> {}", key, answer);
+            return answer;
+        }
+
         Exchange answer = null;
 
         try {
@@ -173,6 +295,11 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
 
     @Override
     public void remove(final CamelContext camelContext, final String key, final Exchange exchange) {
+        if (appendOnly) {
+            removeAppended(camelContext, key, exchange);
+            return;
+        }
+
         LOG.debug("Removing key [{}]", key);
 
         try {
@@ -205,6 +332,47 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         }
     }
 
+    private void removeAppended(final CamelContext camelContext, final String key, final Exchange exchange) {
+        LOG.debug("Removing key [{}]", key);
+
+        aggregatedDeltas.remove(key);
+        try {
+            final String exchangeId = exchange.getExchangeId();
+            final byte[] exchangeBuffer = codec().marshallExchange(camelContext, exchange, allowSerializedHeaders);
+
+            String prefix = getRepositoryNameDelta() + '\0' + key + '\0';
+            WriteBatch batch = levelDBFile.getDb().createWriteBatch();
+            DBIterator it = levelDBFile.getDb().iterator();
+            try {
+                // remove all the records
+                int count = 0;
+                for (it.seek(prefix.getBytes(StandardCharsets.UTF_8)); it.hasNext(); it.next()) {
+                    byte[] lDbKey = it.peekNext().getKey();
+                    if (!asString(lDbKey).startsWith(prefix)) {
+                        break;
+                    }
+                    batch.delete(lDbKey);
+                    count++;
+                }
+                LOG.trace("Removed {} records with key index {}", count, key);
+
+                if (count > 0) {
+                    // add exchange to confirmed index
+                    byte[] confirmedLDBKey = keyBuilder(getRepositoryNameCompleted(), exchangeId);
+                    batch.put(confirmedLDBKey, exchangeBuffer);
+                    LOG.trace("Added confirm index {} for repository {}", exchangeId, getRepositoryNameCompleted());
+
+                    levelDBFile.getDb().write(batch, levelDBFile.getWriteOptions());
+                }
+            } finally {
+                IOHelper.close(it);
+                batch.close();
+            }
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error removing key " + key + " from repository " + repositoryName, e);
+        }
+    }
+
     @Override
     public void confirm(final CamelContext camelContext, final String exchangeId) {
         LOG.debug("Confirming exchangeId [{}]", exchangeId);
@@ -232,8 +400,9 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
 
         String keyBuffer;
         try {
-            String prefix = repositoryName + '\0';
-            for (it.seek(keyBuilder(repositoryName, "")); it.hasNext(); it.next()) {
+            String name = appendOnly ? getRepositoryNameDelta() : repositoryName;
+            String prefix = name + '\0';
+            for (it.seek(keyBuilder(name, "")); it.hasNext(); it.next()) {
                 if (!isRunAllowed()) {
                     break;
                 }
@@ -244,6 +413,10 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
                 }
 
                 String key = keyBuffer.substring(prefix.length());
+                if (appendOnly) {
+                    // remove the sequence
+                    key = key.substring(0, key.lastIndexOf('\0'));
+                }
 
                 LOG.trace("getKey [{}]", key);
                 keys.add(key);
@@ -356,6 +529,15 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return repositoryName + "-completed";
     }
 
+    private String getRepositoryNameDelta() {
+        return repositoryName + "-delta";
+    }
+
+    private byte[] deltaKeyBuilder(String key, long sequence) {
+        // zero padded so the records are sorted by the sequence
+        return keyBuilder(getRepositoryNameDelta(), key + '\0' + String.format("%019d", sequence));
+    }
+
     public void setRepositoryName(String repositoryName) {
         this.repositoryName = repositoryName;
     }
@@ -429,6 +611,23 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         this.persistentFileName = persistentFileName;
     }
 
+    @Override
+    public boolean isAppendOnly() {
+        return appendOnly;
+    }
+
+    public void setAppendOnly(boolean appendOnly) {
+        this.appendOnly = appendOnly;
+    }
+
+    public int getAppendOnlyCacheSize() {
+        return appendOnlyCacheSize;
+    }
+
+    public void setAppendOnlyCacheSize(int appendOnlyCacheSize) {
+        this.appendOnlyCacheSize = appendOnlyCacheSize;
+    }
+
     public boolean isAllowSerializedHeaders() {
         return allowSerializedHeaders;
     }
@@ -448,11 +647,18 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
 
         ObjectHelper.notNull(levelDBFile, "Either set a persistentFileName or a levelDBFile");
         ObjectHelper.notNull(repositoryName, "repositoryName");
+        if (appendOnly) {
+            if (appendOnlyCacheSize <= 0) {
+                throw new IllegalArgumentException(
+                        "AppendOnlyCacheSize must be a positive number, was: " + appendOnlyCacheSize);
+            }
+            aggregatedDeltas = LRUCacheFactory.newLRUCache(appendOnlyCacheSize);
+        }
 
         ServiceHelper.startService(levelDBFile);
 
         // log number of existing exchanges
-        int current = size(getRepositoryName());
+        int current = appendOnly ? getKeys().size() : size(getRepositoryName());
         int completed = size(getRepositoryNameCompleted());
 
         if (current > 0) {
@@ -473,6 +679,9 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
 
     @Override
     protected void doStop() throws Exception {
+        if (aggregatedDeltas != null) {
+            aggregatedDeltas.clear();
+        }
         ServiceHelper.stopService(levelDBFile);
     }
 
@@ -502,4 +711,17 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         }
         return codec;
     }
+
+    /**
+     * The aggregated exchange (if not handed over to the aggregator) and the sequence of the last appended exchange.
+     */
+    private static final class AggregatedDeltas {
+        private volatile Exchange exchange;
+        private final long sequence;
+
+        private AggregatedDeltas(Exchange exchange, long sequence) {
+            this.exchange = exchange;
+            this.sequence = sequence;
+        }
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.leveldb.serializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeCodec;
+import org.apache.camel.support.ExchangeCodec;
+
+/**
+ * Serializer using an {@link ExchangeCodec}, which is by default the compact {@link BinaryExchangeCodec}. The codec can
+ * also read exchanges stored using the {@link DefaultLevelDBSerializer} (Java serialization).
+ */
+public class BinaryLevelDBSerializer extends AbstractLevelDBSerializer {
+
+    private final ExchangeCodec codec;
+
+    public BinaryLevelDBSerializer() {
+        this(new BinaryExchangeCodec());
+    }
+
+    public BinaryLevelDBSerializer(ExchangeCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serializeKey(String key) throws IOException {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String deserializeKey(byte[] buffer) throws IOException {
+        return new String(buffer, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] serializeExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders)
+            throws IOException {
+        return serializeExchange(exchange, allowSerializedHeaders, codec::encode);
+    }
+
+    @Override
+    public Exchange deserializeExchange(CamelContext camelContext, byte[] buffer) throws IOException {
+        return deserializeExchange(camelContext, buffer, b -> codec.decode(camelContext, b));
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.leveldb;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.params.Parameterized;
+import org.apache.camel.test.junit5.params.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs({ OS.AIX, OS.OTHER })
+@Parameterized
+public class LevelDBAggregateAppendOnlyTest extends LevelDBTestSupport {
+
+    private LevelDBAggregationRepository modifyRepo;
+
+    @Override
+    public void doPreSetup() {
+        deleteDirectory("target/data");
+    }
+
+    @Override
+    LevelDBAggregationRepository createRepo() {
+        LevelDBAggregationRepository repo = super.createRepo();
+        repo.setAppendOnly(true);
+        return repo;
+    }
+
+    @Test
+    public void testLevelDBAggregateAppendOnly() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedBodiesReceived("ABCDE");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+        template.sendBodyAndHeader("direct:start", "C", "id", 123);
+        template.sendBodyAndHeader("direct:start", "D", "id", 123);
+        template.sendBodyAndHeader("direct:start", "E", "id", 123);
+
+        MockEndpoint.assertIsSatisfied(context, 30, TimeUnit.SECONDS);
+
+        // all the records should be removed when completed
+        assertTrue(getRepo().getKeys().isEmpty());
+    }
+
+    @Test
+    public void testReconstructAfterRestart() throws Exception {
+        // use another repository so the one of the route is not in use
+        LevelDBAggregationRepository repo = new LevelDBAggregationRepository("repo2", "target/data/leveldb2.dat");
+        repo.setSerializer(getSerializer());
+        repo.setAppendOnly(true);
+        repo.setAggregationStrategy(new StringAggregationStrategy());
+        repo.start();
+
+        Exchange aggregated = null;
+        for (String body : new String[] { "A", "B", "C" }) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody(body);
+            aggregated = new StringAggregationStrategy().aggregate(repo.get(context, "foo"), exchange);
+            repo.append(context, "foo", exchange, aggregated);
+        }
+        assertEquals("ABC", aggregated.getIn().getBody());
+        repo.stop();
+
+        // start again, which must reconstruct the aggregated exchange from the records
+        repo = new LevelDBAggregationRepository("repo2", "target/data/leveldb2.dat");
+        repo.setSerializer(getSerializer());
+        repo.setAppendOnly(true);
+        repo.setAggregationStrategy(new StringAggregationStrategy());
+        repo.start();
+        try {
+            assertEquals(1, repo.getKeys().size());
+            assertTrue(repo.getKeys().contains("foo"));
+
+            Exchange actual = repo.get(context, "foo");
+            assertEquals("ABC", actual.getIn().getBody());
+            assertEquals(3, actual.getProperty(Exchange.AGGREGATED_SIZE, Integer.class));
+
+            repo.remove(context, "foo", actual);
+            assertTrue(repo.getKeys().isEmpty());
+            assertNull(repo.get(context, "foo"));
+        } finally {
+            repo.stop();
+        }
+    }
+
+    @Test
+    public void testReconstructModifiedInPlace() throws Exception {
+        // the strategy modifies the first exchange in place, which must not change the stored record
+        template.sendBodyAndHeader("direct:modify", "A", "id", 456);
+        template.sendBodyAndHeader("direct:modify", "B", "id", 456);
+        template.sendBodyAndHeader("direct:modify", "C", "id", 456);
+
+        // restart the repository, which must reconstruct the aggregated exchange from the records
+        modifyRepo.stop();
+        modifyRepo.start();
+
+        assertEquals("[ABC", modifyRepo.get(context, "456").getIn().getBody());
+    }
+
+    @Test
+    public void testReconstructEvicted() {
+        LevelDBAggregationRepository repo = new LevelDBAggregationRepository("repo3", "target/data/leveldb3.dat");
+        repo.setSerializer(getSerializer());
+        repo.setAppendOnly(true);
+        repo.setAppendOnlyCacheSize(1);
+        repo.setAggregationStrategy(new StringAggregationStrategy());
+        repo.start();
+        try {
+            append(repo, "foo", "A");
+            append(repo, "bar", "X");
+            // the aggregated exchange of foo is evicted from memory, and must be reconstructed
+            append(repo, "foo", "B");
+
+            assertEquals("AB", repo.get(context, "foo").getIn().getBody());
+            assertEquals("X", repo.get(context, "bar").getIn().getBody());
+        } finally {
+            repo.stop();
+        }
+    }
+
+    private void append(LevelDBAggregationRepository repo, String key, String body) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(body);
+        Exchange aggregated = new StringAggregationStrategy().aggregate(repo.get(context, key), exchange);
+        repo.append(context, key, exchange, aggregated);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .aggregate(header("id"), new StringAggregationStrategy())
+                        // the aggregator only appends the incoming exchange to the repository
+                        .completionSize(5).aggregationRepository(getRepo())
+                        .to("mock:aggregated");
+
+                modifyRepo = new LevelDBAggregationRepository("repo4", "target/data/leveldb4.dat");
+                modifyRepo.setSerializer(getSerializer());
+                modifyRepo.setAppendOnly(true);
+
+                from("direct:modify")
+                        .aggregate(header("id"), new ModifyInPlaceAggregationStrategy())
+                        .completionSize(5).aggregationRepository(modifyRepo)
+                        .to("mock:aggregated");
+            }
+        };
+    }
+
+    private static class ModifyInPlaceAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                newExchange.getIn().setBody("[" + newExchange.getIn().getBody(String.class));
+                return newExchange;
+            }
+            String body1 = oldExchange.getIn().getBody(String.class);
+            String body2 = newExchange.getIn().getBody(String.class);
+
+            oldExchange.getIn().setBody(body1 + body2);
+            return oldExchange;
+        }
+    }
+}
@@ -68,6 +68,14 @@ public final class NettyConverterLoader implements TypeConverterLoader, CamelCon
                 }
                 return answer;
             });
+        addTypeConverter(registry, io.netty.buffer.ByteBuf.class, org.apache.camel.converter.stream.ByteBufferInputStreamCache.class, false,
+            (type, exchange, value) -> {
+                Object answer = org.apache.camel.component.netty.NettyConverter.toByteBuffer((org.apache.camel.converter.stream.ByteBufferInputStreamCache) value);
+                if (false && answer == null) {
+                    answer = Void.class;
+                }
+                return answer;
+            });
         addTypeConverter(registry, java.io.InputStream.class, io.netty.buffer.ByteBuf.class, false,
             (type, exchange, value) -> {
                 Object answer = org.apache.camel.component.netty.NettyConverter.toInputStream((io.netty.buffer.ByteBuf) value, exchange);
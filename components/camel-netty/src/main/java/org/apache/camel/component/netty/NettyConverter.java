@@ -32,8 +32,10 @@ import org.w3c.dom.Document;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.ByteBufferInputStreamCache;
 
 /**
  * A set of converter methods for working with Netty types
@@ -101,6 +103,15 @@ public final class NettyConverter {
         return toByteBuffer(bytes);
     }
 
+    /**
+     * Wraps the pooled in-memory stream cache without copying the data. The returned buffer is only valid until the
+     * exchanges using the stream cache are done.
+     */
+    @Converter
+    public static ByteBuf toByteBuffer(ByteBufferInputStreamCache cache) throws IOException {
+        return Unpooled.wrappedBuffer(cache.toByteBuffers());
+    }
+
     @Converter
     public static Document toDocument(ByteBuf buffer, Exchange exchange) {
         InputStream is = toInputStream(buffer, exchange);
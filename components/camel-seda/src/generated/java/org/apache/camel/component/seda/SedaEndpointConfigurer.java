@@ -56,6 +56,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "queue": target.setQueue(property(camelContext, java.util.concurrent.BlockingQueue.class, value)); return true;
         case "size": target.setSize(property(camelContext, int.class, value)); return true;
         case "timeout": target.setTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "virtualthreads":
+        case "virtualThreads": target.setVirtualThreads(property(camelContext, boolean.class, value)); return true;
         case "waitfortasktocomplete":
         case "waitForTaskToComplete": target.setWaitForTaskToComplete(property(camelContext, org.apache.camel.WaitForTaskToComplete.class, value)); return true;
         default: return false;
@@ -98,6 +100,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "queue": return java.util.concurrent.BlockingQueue.class;
         case "size": return int.class;
         case "timeout": return long.class;
+        case "virtualthreads":
+        case "virtualThreads": return boolean.class;
         case "waitfortasktocomplete":
         case "waitForTaskToComplete": return org.apache.camel.WaitForTaskToComplete.class;
         default: return null;
@@ -141,6 +145,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "queue": return target.getQueue();
         case "size": return target.getSize();
         case "timeout": return target.getTimeout();
+        case "virtualthreads":
+        case "virtualThreads": return target.isVirtualThreads();
         case "waitfortasktocomplete":
         case "waitForTaskToComplete": return target.getWaitForTaskToComplete();
         default: return null;
@@ -32,6 +32,7 @@ import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
 import org.apache.camel.spi.ShutdownAware;
 import org.apache.camel.spi.Synchronization;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.support.UnitOfWorkHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -54,10 +55,12 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final boolean virtualThreads;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.virtualThreads = endpoint.isVirtualThreads();
     }
 
     @Override
@@ -180,18 +183,13 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                     LOG.trace("Polled queue {} with timeout {} ms. -> {}", ObjectHelper.getIdentityHashCode(queue), pollTimeout,
                             exchange);
                 }
-                if (exchange != null) {
-                    try {
-                        final Exchange original = exchange;
-                        // prepare the exchange before sending to consumer
-                        final Exchange prepared = prepareExchange(exchange);
-                        // callback to be executed when sending to consumer and processing is done
-                        AsyncCallback callback = doneSync -> onProcessingDone(original, prepared);
-                        // process the exchange
-                        sendToConsumers(prepared, callback);
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
-                    }
+                if (exchange != null && virtualThreads) {
+                    // process the exchange in a new virtual thread, which blocks this thread if
+                    // there are already concurrentConsumers exchanges being processed
+                    final Exchange polled = exchange;
+                    executor.execute(() -> processExchange(polled));
+                } else if (exchange != null) {
+                    processExchange(exchange);
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
                     // we want to shutdown so break out if there queue is empty
@@ -210,6 +208,20 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    private void processExchange(Exchange exchange) {
+        try {
+            final Exchange original = exchange;
+            // prepare the exchange before sending to consumer
+            final Exchange prepared = prepareExchange(exchange);
+            // callback to be executed when sending to consumer and processing is done
+            AsyncCallback callback = doneSync -> onProcessingDone(original, prepared);
+            // process the exchange
+            sendToConsumers(prepared, callback);
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
     /**
      * Strategy to invoke when the exchange is done being processed.
      * <p/>
@@ -295,7 +307,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     @Override
     protected void doStart() throws Exception {
         super.doStart();
-        latch = new CountDownLatch(getEndpoint().getConcurrentConsumers());
+        // with virtual threads then a single task polls the queue
+        latch = new CountDownLatch(virtualThreads ? 1 : getEndpoint().getConcurrentConsumers());
         shutdownPending = false;
         forceShutdown = false;
 
@@ -346,13 +359,20 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         int poolSize = getEndpoint().getConcurrentConsumers();
 
         // create thread pool if needed
-        if (executor == null) {
+        if (executor == null && virtualThreads) {
+            // the polling task and up to concurrentConsumers exchanges each run in their own virtual thread
+            ThreadPoolProfile profile = new ThreadPoolProfile(getEndpoint().getEndpointUri());
+            profile.setMaxPoolSize(poolSize + 1);
+            profile.setVirtualThreads(true);
+            executor = getEndpoint().getCamelContext().getExecutorServiceManager().newThreadPool(this,
+                    getEndpoint().getEndpointUri(), profile);
+        } else if (executor == null) {
             executor = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
                     getEndpoint().getEndpointUri(), poolSize);
         }
 
         // submit needed number of tasks
-        int tasks = poolSize - taskCount.get();
+        int tasks = (virtualThreads ? 1 : poolSize) - taskCount.get();
         LOG.debug("Creating {} consumer tasks with poll timeout {} ms.", tasks, pollTimeout);
         for (int i = 0; i < tasks; i++) {
             executor.execute(this);
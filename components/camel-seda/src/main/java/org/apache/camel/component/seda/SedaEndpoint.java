@@ -86,6 +86,12 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
               description = "Whether to limit the number of concurrentConsumers to the maximum of 500. By default, an exception will be thrown"
                             + " if an endpoint is configured with a greater number. You can disable that check by turning this option off.")
     private boolean limitConcurrentConsumers = true;
+    @UriParam(label = "consumer,advanced",
+              description = "Whether to process each exchange in a new virtual thread, instead of using a pool of concurrentConsumers"
+                            + " threads. A single thread polls the queue, and concurrentConsumers is the maximum number of exchanges"
+                            + " processed at the same time. This is intended for routes which mostly block on I/O. Virtual threads"
+                            + " requires JDK 21+, otherwise a pool of platform threads is used instead.")
+    private boolean virtualThreads;
     @UriParam(label = "consumer,advanced",
               description = "Specifies whether multiple consumers are allowed. If enabled, you can use SEDA for Publish-Subscribe messaging."
                             + " That is, you can send a message to the SEDA queue and have each consumer receive a copy of the message. When"
@@ -428,6 +434,21 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.limitConcurrentConsumers = limitConcurrentConsumers;
     }
 
+    @ManagedAttribute
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Whether to process each exchange in a new virtual thread, instead of using a pool of concurrentConsumers threads.
+     * A single thread polls the queue, and concurrentConsumers is the maximum number of exchanges processed at the same
+     * time. This is intended for routes which mostly block on I/O. Virtual threads requires JDK 21+, otherwise a pool
+     * of platform threads is used instead.
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public WaitForTaskToComplete getWaitForTaskToComplete() {
         return waitForTaskToComplete;
     }
@@ -29,12 +29,18 @@ public class SjmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "allowNullBody": target.setAllowNullBody(property(camelContext, boolean.class, value)); return true;
         case "asyncconsumer":
         case "asyncConsumer": target.setAsyncConsumer(property(camelContext, boolean.class, value)); return true;
+        case "asyncsend":
+        case "asyncSend": target.setAsyncSend(property(camelContext, boolean.class, value)); return true;
         case "asyncstartlistener":
         case "asyncStartListener": target.setAsyncStartListener(property(camelContext, boolean.class, value)); return true;
         case "asyncstoplistener":
         case "asyncStopListener": target.setAsyncStopListener(property(camelContext, boolean.class, value)); return true;
         case "autostartup":
         case "autoStartup": target.setAutoStartup(property(camelContext, boolean.class, value)); return true;
+        case "batchsize":
+        case "batchSize": target.setBatchSize(property(camelContext, int.class, value)); return true;
+        case "batchtimeout":
+        case "batchTimeout": target.setBatchTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
         case "clientid":
@@ -123,12 +129,18 @@ public class SjmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "allowNullBody": return boolean.class;
         case "asyncconsumer":
         case "asyncConsumer": return boolean.class;
+        case "asyncsend":
+        case "asyncSend": return boolean.class;
         case "asyncstartlistener":
         case "asyncStartListener": return boolean.class;
         case "asyncstoplistener":
         case "asyncStopListener": return boolean.class;
         case "autostartup":
         case "autoStartup": return boolean.class;
+        case "batchsize":
+        case "batchSize": return int.class;
+        case "batchtimeout":
+        case "batchTimeout": return long.class;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return boolean.class;
         case "clientid":
@@ -218,12 +230,18 @@ public class SjmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "allowNullBody": return target.isAllowNullBody();
         case "asyncconsumer":
         case "asyncConsumer": return target.isAsyncConsumer();
+        case "asyncsend":
+        case "asyncSend": return target.isAsyncSend();
         case "asyncstartlistener":
         case "asyncStartListener": return target.isAsyncStartListener();
         case "asyncstoplistener":
         case "asyncStopListener": return target.isAsyncStopListener();
         case "autostartup":
         case "autoStartup": return target.isAutoStartup();
+        case "batchsize":
+        case "batchSize": return target.getBatchSize();
+        case "batchtimeout":
+        case "batchTimeout": return target.getBatchTimeout();
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return target.isBridgeErrorHandler();
         case "clientid":
@@ -23,13 +23,16 @@ public class SjmsEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(47);
+        Set<String> props = new HashSet<>(50);
         props.add("acknowledgementMode");
         props.add("allowNullBody");
         props.add("asyncConsumer");
+        props.add("asyncSend");
         props.add("asyncStartListener");
         props.add("asyncStopListener");
         props.add("autoStartup");
+        props.add("batchSize");
+        props.add("batchTimeout");
         props.add("bridgeErrorHandler");
         props.add("clientId");
         props.add("concurrentConsumers");
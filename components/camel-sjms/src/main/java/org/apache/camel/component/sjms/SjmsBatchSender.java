@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sjms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Connection;
+import jakarta.jms.Destination;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.sjms.jms.MessageCreator;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.component.sjms.SjmsHelper.closeConnection;
+import static org.apache.camel.component.sjms.SjmsHelper.closeProducer;
+import static org.apache.camel.component.sjms.SjmsHelper.closeSession;
+
+/**
+ * Sends the InOnly messages of a {@link SjmsProducer} using a session shared by the exchanges, which is either:
+ * <ul>
+ * <li>batching - the messages are sent in the same transacted session, which is committed when the batch is full
+ * (batchSize) or has been open for too long (batchTimeout). The exchanges are completed when the batch has been
+ * committed, and if sending or committing fails then the batch is rolled back and all its exchanges fail.</li>
+ * <li>asynchronous - the messages are sent using the JMS 2.0 asynchronous send, and the exchanges are completed when the
+ * JMS provider has acknowledged the messages.</li>
+ * </ul>
+ * Both can be combined, where the messages in the batch are sent asynchronously and the commit waits for all of them to
+ * be acknowledged.
+ * <p/>
+ * The session is used by one thread at a time, and is created again after a failure. The exchanges are completed (the
+ * callbacks are called) using a thread pool, so the routing of the exchanges does not hold up the thread sending the
+ * next messages, the batch timeout, or the thread of the JMS provider.
+ */
+public class SjmsBatchSender extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SjmsBatchSender.class);
+
+    private final SjmsProducer producer;
+    private final SjmsEndpoint endpoint;
+    private final int batchSize;
+    private final long batchTimeout;
+    private final boolean asyncSend;
+    private final Lock sendLock = new ReentrantLock();
+    private ScheduledExecutorService scheduledExecutorService;
+    private ExecutorService callbackExecutorService;
+    private Connection connection;
+    private Session session;
+    private MessageProducer messageProducer;
+    private Batch batch;
+
+    public SjmsBatchSender(SjmsProducer producer) {
+        this.producer = producer;
+        this.endpoint = producer.getEndpoint();
+        this.batchSize = endpoint.getBatchSize();
+        this.batchTimeout = endpoint.getBatchTimeout();
+        this.asyncSend = endpoint.isAsyncSend();
+    }
+
+    public boolean isBatching() {
+        return batchSize > 0;
+    }
+
+    /**
+     * Sends the message, where the callback is invoked when the message has been committed (batching) or acknowledged
+     * (asynchronous send), or the sending failed.
+     *
+     * @param exchange        the exchange
+     * @param destinationName the destination
+     * @param messageCreator  the creator to create the {@link Message} to send
+     * @param callback        the callback to invoke when the exchange is complete
+     */
+    public void send(Exchange exchange, String destinationName, MessageCreator messageCreator, AsyncCallback callback) {
+        List<Pending> done = null;
+
+        sendLock.lock();
+        try {
+            Message message;
+            Destination destination;
+            try {
+                Session ses = getOrCreateSession();
+                destination = endpoint.getDestinationCreationStrategy().createDestination(ses, destinationName,
+                        endpoint.isTopic());
+                message = messageCreator.createMessage(ses);
+            } catch (Exception e) {
+                // only this exchange failed
+                exchange.setException(e);
+                done = List.of(new Pending(exchange, callback));
+                return;
+            }
+
+            if (isBatching()) {
+                done = sendInBatch(exchange, callback, destination, message);
+            } else {
+                done = sendAsync(exchange, callback, destination, message);
+            }
+        } finally {
+            sendLock.unlock();
+            // complete the exchanges outside the lock as they continue routing
+            complete(done);
+        }
+    }
+
+    private List<Pending> sendInBatch(Exchange exchange, AsyncCallback callback, Destination destination, Message message) {
+        if (batch == null) {
+            batch = new Batch();
+            // the batch is always committed after the timeout, so the exchanges are completed if the batch is not filled
+            final Batch current = batch;
+            batch.timeoutTask = scheduledExecutorService.schedule(() -> onBatchTimeout(current), batchTimeout,
+                    TimeUnit.MILLISECONDS);
+        }
+        batch.pending.add(new Pending(exchange, callback));
+
+        try {
+            CompletionListener listener = asyncSend ? batch : null;
+            producer.getInOnlyTemplate().send(messageProducer, destination, message, listener);
+        } catch (Exception e) {
+            // the transaction is broken so the batch must be rolled back
+            batch.failure = e;
+            return commitBatch();
+        }
+
+        if (batch.pending.size() >= batchSize) {
+            return commitBatch();
+        }
+        return null;
+    }
+
+    private List<Pending> sendAsync(Exchange exchange, AsyncCallback callback, Destination destination, Message message) {
+        CompletionListener listener = new CompletionListener() {
+            @Override
+            public void onCompletion(Message message) {
+                producer.setMessageId(exchange);
+                complete(callback);
+            }
+
+            @Override
+            public void onException(Message message, Exception exception) {
+                exchange.setException(exception);
+                complete(callback);
+            }
+        };
+
+        try {
+            producer.getInOnlyTemplate().send(messageProducer, destination, message, listener);
+        } catch (Exception e) {
+            exchange.setException(e);
+            resetSession();
+            return List.of(new Pending(exchange, callback));
+        }
+        return null;
+    }
+
+    private void onBatchTimeout(Batch expected) {
+        List<Pending> done = null;
+        sendLock.lock();
+        try {
+            // the batch may have been committed already when it was full
+            if (batch == expected) {
+                LOG.trace("Batch timeout after {} millis with {} messages", batchTimeout, expected.pending.size());
+                done = commitBatch();
+            }
+        } finally {
+            sendLock.unlock();
+            complete(done);
+        }
+    }
+
+    /**
+     * Commits or rolls back (if failed) the current batch, which must be done while holding the lock.
+     *
+     * @return the exchanges in the batch which should be completed after releasing the lock
+     */
+    private List<Pending> commitBatch() {
+        Batch current = batch;
+        batch = null;
+        if (current == null) {
+            return null;
+        }
+        if (current.timeoutTask != null) {
+            current.timeoutTask.cancel(false);
+        }
+
+        Exception cause = current.failure;
+        if (cause == null) {
+            try {
+                // waits for all the asynchronous sends to complete
+                session.commit();
+                // an asynchronous send may have failed
+                cause = current.failure;
+            } catch (Exception e) {
+                cause = e;
+            }
+        }
+
+        if (cause != null) {
+            LOG.debug("Rolling back batch of {} messages due to: {}", current.pending.size(), cause.getMessage(), cause);
+            // closing the session rolls back the transaction
+            resetSession();
+            for (Pending pending : current.pending) {
+                pending.exchange.setException(cause);
+            }
+        } else {
+            LOG.trace("Committed batch of {} messages", current.pending.size());
+            for (Pending pending : current.pending) {
+                producer.setMessageId(pending.exchange);
+            }
+        }
+        return current.pending;
+    }
+
+    private void complete(List<Pending> done) {
+        if (done != null) {
+            for (Pending pending : done) {
+                complete(pending.callback);
+            }
+        }
+    }
+
+    /**
+     * Completes the exchange using the thread pool, so the current thread does not continue routing the exchange.
+     */
+    private void complete(AsyncCallback callback) {
+        ExecutorService executor = callbackExecutorService;
+        if (executor != null) {
+            try {
+                executor.execute(() -> callback.done(false));
+                return;
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Cannot complete exchange using thread pool, the current thread is used instead", e);
+            }
+        }
+        callback.done(false);
+    }
+
+    private Session getOrCreateSession() throws Exception {
+        if (session == null) {
+            SjmsTemplate template = producer.getInOnlyTemplate();
+            try {
+                connection = template.createConnection();
+                if (isBatching()) {
+                    session = connection.createSession(true, Session.SESSION_TRANSACTED);
+                } else {
+                    session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+                }
+                // use an anonymous producer as the destination can vary per message
+                messageProducer = session.createProducer(null);
+            } catch (Exception e) {
+                resetSession();
+                throw e;
+            }
+        }
+        return session;
+    }
+
+    private void resetSession() {
+        closeProducer(messageProducer);
+        closeSession(session);
+        closeConnection(connection);
+        messageProducer = null;
+        session = null;
+        connection = null;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        String name = "SjmsBatchSender[" + endpoint.getEndpointConfiguredDestinationName() + "]";
+        if (isBatching()) {
+            scheduledExecutorService = endpoint.getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, name);
+        }
+        callbackExecutorService = endpoint.getCamelContext().getExecutorServiceManager()
+                .newDefaultThreadPool(this, name + "Callback");
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        List<Pending> done;
+        sendLock.lock();
+        try {
+            // commit the pending messages before closing, which waits for any asynchronous sends to complete
+            done = commitBatch();
+            resetSession();
+        } finally {
+            sendLock.unlock();
+        }
+        complete(done);
+
+        if (scheduledExecutorService != null) {
+            endpoint.getCamelContext().getExecutorServiceManager().shutdown(scheduledExecutorService);
+            scheduledExecutorService = null;
+        }
+        if (callbackExecutorService != null) {
+            // let the exchanges of the last batch be completed
+            endpoint.getCamelContext().getExecutorServiceManager().shutdownGraceful(callbackExecutorService);
+            callbackExecutorService = null;
+        }
+    }
+
+    private static final class Pending {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+
+        private Pending(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+    }
+
+    private static final class Batch implements CompletionListener {
+        private final List<Pending> pending = new ArrayList<>();
+        private volatile Exception failure;
+        private ScheduledFuture<?> timeoutTask;
+
+        @Override
+        public void onCompletion(Message message) {
+            // the exchanges are completed when the batch is committed
+        }
+
+        @Override
+        public void onException(Message message, Exception exception) {
+            if (failure == null) {
+                failure = exception;
+            }
+        }
+    }
+}
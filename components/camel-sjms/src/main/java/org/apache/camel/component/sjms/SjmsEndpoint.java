@@ -268,6 +268,26 @@ public class SjmsEndpoint extends DefaultEndpoint
     @UriParam(defaultValue = "false", label = "advanced",
               description = "Sets whether synchronous processing should be strictly used")
     private boolean synchronous;
+    @UriParam(label = "producer,advanced",
+              description = "The maximum number of InOnly messages to send in the same transacted session before the session is committed."
+                            + " The exchanges are completed when the batch of messages has been committed, which happens when"
+                            + " the batch is full or the batchTimeout has elapsed. This avoids the cost of committing every message"
+                            + " on its own, when the throughput is limited by the commit latency of the broker."
+                            + " If sending or committing a message fails then the batch is rolled back and all the exchanges in the batch fail."
+                            + " This option cannot be used together with transacted, and InOut messages are not batched."
+                            + " The default value of 0 disables batching.")
+    private int batchSize;
+    @UriParam(defaultValue = "100", label = "producer,advanced", javaType = "java.time.Duration",
+              description = "The maximum time in millis a batch of messages (see batchSize) is open before it is committed,"
+                            + " even if the batch is not full. This must be greater than zero when batching.")
+    private long batchTimeout = 100;
+    @UriParam(label = "producer,advanced",
+              description = "Whether to send InOnly messages using the JMS 2.0 asynchronous send, where the exchange is completed"
+                            + " when the JMS provider has acknowledged the message, instead of waiting for the acknowledgement when sending."
+                            + " This allows the producer to have many messages in flight at the same time."
+                            + " When used together with batchSize, then the messages in the batch are sent asynchronously and"
+                            + " the commit waits for them to be acknowledged. This requires a JMS 2.0 provider.")
+    private boolean asyncSend;
 
     private JmsObjectFactory jmsObjectFactory = new Jms11ObjectFactory();
 
@@ -322,6 +342,12 @@ public class SjmsEndpoint extends DefaultEndpoint
         if (isTransacted() && getExchangePattern().isOutCapable()) {
             throw new IllegalArgumentException("SjmsProducer cannot be both transacted=true and exchangePattern=InOut");
         }
+        if (isTransacted() && getBatchSize() > 0) {
+            throw new IllegalArgumentException("SjmsProducer cannot be both transacted=true and batchSize > 0");
+        }
+        if (getBatchSize() > 0 && getBatchTimeout() <= 0) {
+            throw new IllegalArgumentException("SjmsProducer must have batchTimeout > 0 when batchSize > 0");
+        }
 
         Producer answer = new SjmsProducer(this);
         if (isSynchronous()) {
@@ -829,6 +855,30 @@ public class SjmsEndpoint extends DefaultEndpoint
         this.synchronous = synchronous;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    public boolean isAsyncSend() {
+        return asyncSend;
+    }
+
+    public void setAsyncSend(boolean asyncSend) {
+        this.asyncSend = asyncSend;
+    }
+
     public JmsMessageType getJmsMessageType() {
         return jmsMessageType;
     }
@@ -57,6 +57,7 @@ public class SjmsProducer extends DefaultAsyncProducer {
     private SjmsTemplate inOutTemplate;
     private UuidGenerator uuidGenerator;
     private ReplyManager replyManager;
+    private SjmsBatchSender batchSender;
 
     public SjmsProducer(SjmsEndpoint endpoint) {
         super(endpoint);
@@ -83,12 +84,20 @@ public class SjmsProducer extends DefaultAsyncProducer {
         if (endpoint.isTestConnectionOnStartup()) {
             testConnectionOnStartup();
         }
+        if (endpoint.getBatchSize() > 0 || endpoint.isAsyncSend()) {
+            batchSender = new SjmsBatchSender(this);
+            ServiceHelper.startService(batchSender);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
         super.doStop();
 
+        // must commit pending batch and stop the sender if it was in use
+        ServiceHelper.stopService(batchSender);
+        batchSender = null;
+
         // must stop/un-init reply manager if it was in use
         unInitReplyManager();
     }
@@ -417,6 +426,12 @@ public class SjmsProducer extends DefaultAsyncProducer {
             }
         };
 
+        if (batchSender != null) {
+            // the exchange is completed when the message has been committed (batch) or acknowledged (async send)
+            batchSender.send(exchange, destinationName, messageCreator, callback);
+            return false;
+        }
+
         try {
             doSend(exchange, false, destinationName, messageCreator);
         } catch (Exception e) {
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.sjms;
 
+import jakarta.jms.CompletionListener;
 import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.Destination;
@@ -170,6 +171,15 @@ public class SjmsTemplate {
     }
 
     public void send(MessageProducer producer, Message message) throws Exception {
+        send(producer, null, message, null);
+    }
+
+    /**
+     * Sends the message using the producer, which must be an anonymous producer if a destination is given. If a
+     * completion listener is given then the message is sent asynchronously (JMS 2.0).
+     */
+    public void send(MessageProducer producer, Destination destination, Message message, CompletionListener listener)
+            throws Exception {
         if (preserveMessageQos) {
             long ttl = message.getJMSExpiration();
             if (ttl != 0) {
@@ -192,11 +202,40 @@ public class SjmsTemplate {
             // if it was set or not, so we can never tell if end user provided it in a header
             int resolvedDeliveryMode = resolveDeliveryMode(message);
 
-            producer.send(message, resolvedDeliveryMode, priority, ttl);
+            doSend(producer, destination, message, resolvedDeliveryMode, priority, ttl, listener);
         } else if (explicitQosEnabled) {
+            doSend(producer, destination, message, deliveryMode, priority, timeToLive, listener);
+        } else {
+            doSend(producer, destination, message, listener);
+        }
+    }
+
+    private static void doSend(
+            MessageProducer producer, Destination destination, Message message,
+            int deliveryMode, int priority, long timeToLive, CompletionListener listener)
+            throws JMSException {
+        if (destination == null && listener == null) {
             producer.send(message, deliveryMode, priority, timeToLive);
+        } else if (destination == null) {
+            producer.send(message, deliveryMode, priority, timeToLive, listener);
+        } else if (listener == null) {
+            producer.send(destination, message, deliveryMode, priority, timeToLive);
         } else {
+            producer.send(destination, message, deliveryMode, priority, timeToLive, listener);
+        }
+    }
+
+    private static void doSend(
+            MessageProducer producer, Destination destination, Message message, CompletionListener listener)
+            throws JMSException {
+        if (destination == null && listener == null) {
             producer.send(message);
+        } else if (destination == null) {
+            producer.send(message, listener);
+        } else if (listener == null) {
+            producer.send(destination, message);
+        } else {
+            producer.send(destination, message, listener);
         }
     }
 
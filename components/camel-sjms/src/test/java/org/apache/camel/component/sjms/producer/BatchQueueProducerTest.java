@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sjms.producer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+import org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.component.sjms.SjmsComponent;
+import org.apache.camel.test.infra.artemis.services.ArtemisService;
+import org.apache.camel.test.infra.artemis.services.ArtemisServiceFactory;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchQueueProducerTest extends CamelTestSupport {
+
+    @RegisterExtension
+    public static ArtemisService service = ArtemisServiceFactory.createSingletonVMService();
+
+    @Test
+    public void testBatchSize() throws Exception {
+        sendAndAssert("direct:batch", "mock:batch");
+    }
+
+    @Test
+    public void testBatchTimeout() throws Exception {
+        // the batch is never full so its committed by the timeout
+        sendAndAssert("direct:timeout", "mock:timeout");
+    }
+
+    @Test
+    public void testAsyncSend() throws Exception {
+        sendAndAssert("direct:async", "mock:async");
+    }
+
+    @Test
+    public void testBatchAsyncSend() throws Exception {
+        sendAndAssert("direct:batchAsync", "mock:batchAsync");
+    }
+
+    @Test
+    public void testCompletedByThreadPool() {
+        // the exchange continues routing using the callback thread pool, and not the batch timeout thread
+        Exchange exchange = template.send("direct:thread", e -> e.getIn().setBody("Hello"));
+        String threadName = exchange.getProperty("threadName", String.class);
+        assertTrue(threadName.contains("SjmsBatchSender[queue:BatchQueueProducerTest.thread]Callback"), threadName);
+    }
+
+    @Test
+    public void testTransactedNotAllowed() {
+        assertThrows(IllegalArgumentException.class,
+                () -> context.getEndpoint("sjms:queue:BatchQueueProducerTest.tx?transacted=true&batchSize=10")
+                        .createProducer());
+    }
+
+    @Test
+    public void testBatchTimeoutRequired() {
+        assertThrows(IllegalArgumentException.class,
+                () -> context.getEndpoint("sjms:queue:BatchQueueProducerTest.noTimeout?batchSize=10&batchTimeout=0")
+                        .createProducer());
+    }
+
+    @Test
+    public void testRollback() throws Exception {
+        // the messages are not received as the batch is rolled back
+        MockEndpoint mock = getMockEndpoint("mock:rollback");
+        mock.expectedMessageCount(0);
+
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String body = "Hello " + i;
+            futures.add(template.asyncSend("direct:rollback", exchange -> exchange.getIn().setBody(body)));
+        }
+
+        // every exchange in the batch fails when the commit fails
+        for (CompletableFuture<Exchange> future : futures) {
+            Exchange exchange = future.join();
+            JMSException cause = assertInstanceOf(JMSException.class, exchange.getException());
+            assertEquals("Forced commit failure", cause.getMessage());
+        }
+
+        mock.setAssertPeriod(500);
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    private void sendAndAssert(String from, String to) throws Exception {
+        MockEndpoint mock = getMockEndpoint(to);
+        mock.expectedMessageCount(25);
+
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            futures.add(template.asyncSendBody(from, "Hello " + i));
+        }
+        for (CompletableFuture<Object> future : futures) {
+            future.join();
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        ActiveMQConnectionFactory connectionFactory
+                = new ActiveMQConnectionFactory(service.serviceAddress());
+        CamelContext camelContext = super.createCamelContext();
+        SjmsComponent component = new SjmsComponent();
+        component.setConnectionFactory(connectionFactory);
+        camelContext.addComponent("sjms", component);
+
+        SjmsComponent failing = new SjmsComponent();
+        failing.setConnectionFactory(failingCommit(connectionFactory));
+        camelContext.addComponent("sjmsFailing", failing);
+        return camelContext;
+    }
+
+    /**
+     * Creates a connection factory where committing a session fails
+     */
+    private static ConnectionFactory failingCommit(ConnectionFactory connectionFactory) {
+        return proxy(ConnectionFactory.class, connectionFactory,
+                (method, args) -> {
+                    Object answer = invoke(method, connectionFactory, args);
+                    return answer instanceof Connection connection ? failingCommit(connection) : answer;
+                });
+    }
+
+    private static Connection failingCommit(Connection connection) {
+        return proxy(Connection.class, connection,
+                (method, args) -> {
+                    Object answer = invoke(method, connection, args);
+                    return answer instanceof Session session ? failingCommit(session) : answer;
+                });
+    }
+
+    private static Session failingCommit(Session session) {
+        return proxy(Session.class, session,
+                (method, args) -> {
+                    if ("commit".equals(method.getName())) {
+                        throw new JMSException("Forced commit failure");
+                    }
+                    return invoke(method, session, args);
+                });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(BatchQueueProducerTest.class.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> handler.handle(method, args)));
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:batch")
+                        .to("sjms:queue:BatchQueueProducerTest.batch?batchSize=10");
+                from("direct:timeout")
+                        .to("sjms:queue:BatchQueueProducerTest.timeout?batchSize=1000&batchTimeout=200");
+                from("direct:async")
+                        .to("sjms:queue:BatchQueueProducerTest.async?asyncSend=true");
+                from("direct:batchAsync")
+                        .to("sjms:queue:BatchQueueProducerTest.batchAsync?batchSize=10&asyncSend=true");
+                from("direct:thread")
+                        .to("sjms:queue:BatchQueueProducerTest.thread?batchSize=1000&batchTimeout=200")
+                        .process(exchange -> exchange.setProperty("threadName", Thread.currentThread().getName()));
+
+                from("direct:rollback")
+                        .to("sjmsFailing:queue:BatchQueueProducerTest.rollback?batchSize=10&batchTimeout=1000");
+
+                from("sjms:queue:BatchQueueProducerTest.batch").to("mock:batch");
+                from("sjms:queue:BatchQueueProducerTest.timeout").to("mock:timeout");
+                from("sjms:queue:BatchQueueProducerTest.async").to("mock:async");
+                from("sjms:queue:BatchQueueProducerTest.batchAsync").to("mock:batchAsync");
+                from("sjms:queue:BatchQueueProducerTest.rollback").to("mock:rollback");
+            }
+        };
+    }
+}
@@ -23,6 +23,12 @@ public class Sjms2EndpointConfigurer extends SjmsEndpointConfigurer implements G
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         Sjms2Endpoint target = (Sjms2Endpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncsend":
+        case "asyncSend": target.setAsyncSend(property(camelContext, boolean.class, value)); return true;
+        case "batchsize":
+        case "batchSize": target.setBatchSize(property(camelContext, int.class, value)); return true;
+        case "batchtimeout":
+        case "batchTimeout": target.setBatchTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "durable": target.setDurable(property(camelContext, boolean.class, value)); return true;
         case "shared": target.setShared(property(camelContext, boolean.class, value)); return true;
         case "subscriptionid":
@@ -34,6 +40,12 @@ public class Sjms2EndpointConfigurer extends SjmsEndpointConfigurer implements G
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncsend":
+        case "asyncSend": return boolean.class;
+        case "batchsize":
+        case "batchSize": return int.class;
+        case "batchtimeout":
+        case "batchTimeout": return long.class;
         case "durable": return boolean.class;
         case "shared": return boolean.class;
         case "subscriptionid":
@@ -46,6 +58,12 @@ public class Sjms2EndpointConfigurer extends SjmsEndpointConfigurer implements G
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         Sjms2Endpoint target = (Sjms2Endpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncsend":
+        case "asyncSend": return target.isAsyncSend();
+        case "batchsize":
+        case "batchSize": return target.getBatchSize();
+        case "batchtimeout":
+        case "batchTimeout": return target.getBatchTimeout();
         case "durable": return target.isDurable();
         case "shared": return target.isShared();
         case "subscriptionid":
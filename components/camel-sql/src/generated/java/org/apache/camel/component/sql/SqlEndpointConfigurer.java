@@ -58,6 +58,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": target.setMaxMessagesPerPoll(property(camelContext, int.class, value)); return true;
+        case "microbatchsize":
+        case "microBatchSize": target.setMicroBatchSize(property(camelContext, int.class, value)); return true;
+        case "microbatchtimeout":
+        case "microBatchTimeout": target.setMicroBatchTimeout(property(camelContext, long.class, value)); return true;
         case "noop": target.setNoop(property(camelContext, boolean.class, value)); return true;
         case "onconsume":
         case "onConsume": target.setOnConsume(property(camelContext, java.lang.String.class, value)); return true;
@@ -158,6 +162,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return boolean.class;
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": return int.class;
+        case "microbatchsize":
+        case "microBatchSize": return int.class;
+        case "microbatchtimeout":
+        case "microBatchTimeout": return long.class;
         case "noop": return boolean.class;
         case "onconsume":
         case "onConsume": return java.lang.String.class;
@@ -254,6 +262,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": return target.getMaxMessagesPerPoll();
+        case "microbatchsize":
+        case "microBatchSize": return target.getMicroBatchSize();
+        case "microbatchtimeout":
+        case "microBatchTimeout": return target.getMicroBatchTimeout();
         case "noop": return target.isNoop();
         case "onconsume":
         case "onConsume": return target.getOnConsume();
@@ -40,6 +40,16 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @UriParam(label = "producer", defaultValue = "true",
               description = "Whether to optimize batch by turning off auto-commit which can dramatic improve performance, and instead execute as a manual commit after the entire batch operation is complete")
     private boolean batchAutoCommitDisabled = true;
+    @UriParam(label = "producer",
+              description = "Whether to coalesce exchanges sent to the producer into a single JDBC batch of up to this number of exchanges,"
+                            + " which is executed using one connection and one commit. Each exchange is completed with its own update count."
+                            + " If the batch fails then it is rolled back and the exchanges are executed one by one."
+                            + " This is intended for INSERT, UPDATE and DELETE queries. Is disabled by default (0).")
+    private int microBatchSize;
+    @UriParam(label = "producer", defaultValue = "100",
+              description = "The maximum time in millis to wait for more exchanges to fill up a micro batch, before the pending exchanges are executed."
+                            + " Is only in use when microBatchSize is enabled.")
+    private long microBatchTimeout = 100;
 
     public SqlEndpoint() {
     }
@@ -77,6 +87,13 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
                 this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
         result.setParametersCount(getParametersCount());
+        if (microBatchSize > 0) {
+            if (isBatch() || getOutputType() == SqlOutputType.StreamList) {
+                throw new IllegalArgumentException(
+                        "The option microBatchSize cannot be used together with batch=true or outputType=StreamList");
+            }
+            return new SqlMicroBatchProducer(this, result, getJdbcTemplate(), microBatchSize, microBatchTimeout);
+        }
         return result;
     }
 
@@ -109,4 +126,30 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     public void setBatchAutoCommitDisabled(boolean batchAutoCommitDisabled) {
         this.batchAutoCommitDisabled = batchAutoCommitDisabled;
     }
+
+    public int getMicroBatchSize() {
+        return microBatchSize;
+    }
+
+    /**
+     * Whether to coalesce exchanges sent to the producer into a single JDBC batch of up to this number of exchanges,
+     * which is executed using one connection and one commit. Each exchange is completed with its own update count. If
+     * the batch fails then it is rolled back and the exchanges are executed one by one. This is intended for INSERT,
+     * UPDATE and DELETE queries. Is disabled by default (0).
+     */
+    public void setMicroBatchSize(int microBatchSize) {
+        this.microBatchSize = microBatchSize;
+    }
+
+    public long getMicroBatchTimeout() {
+        return microBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges to fill up a micro batch, before the pending exchanges are
+     * executed. Is only in use when microBatchSize is enabled.
+     */
+    public void setMicroBatchTimeout(long microBatchTimeout) {
+        this.microBatchTimeout = microBatchTimeout;
+    }
 }
@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.service.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
+
+/**
+ * A producer which coalesces exchanges sent close together into a single JDBC batch.
+ * <p/>
+ * Exchanges are queued until either <tt>microBatchSize</tt> exchanges are pending, or <tt>microBatchTimeout</tt>
+ * millis has elapsed since the first exchange was queued. The pending exchanges are then executed as one
+ * {@link PreparedStatement#executeBatch()} per distinct query using a single connection and a single commit, and each
+ * exchange is completed with its own update count. If the JDBC driver does not know the update count of a statement
+ * ({@link Statement#SUCCESS_NO_INFO}) then the update count header is not set, and if the driver reports the statement
+ * as failed ({@link Statement#EXECUTE_FAILED}) then the exchange is failed.
+ * <p/>
+ * The exchanges are completed (the callbacks are called) using a thread pool, so the routing of the exchanges continues
+ * concurrently, and does not hold up the thread executing the next batch.
+ * <p/>
+ * If the batch fails then it is rolled back, and the exchanges are executed one by one by the {@link SqlProducer}, so
+ * each exchange is completed with its own result or failure. Exchanges which cannot be part of a batch (transacted
+ * exchanges and exchanges retrieving generated keys) are always executed directly by the {@link SqlProducer}.
+ */
+public class SqlMicroBatchProducer extends DefaultAsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlMicroBatchProducer.class);
+
+    private final SqlProducer producer;
+    private final JdbcTemplate jdbcTemplate;
+    private final int microBatchSize;
+    private final long microBatchTimeout;
+    private final Lock lock = new ReentrantLock();
+    private List<PendingExchange> pending;
+    private ScheduledFuture<?> timeoutTask;
+    private ScheduledExecutorService executorService;
+    private ExecutorService callbackExecutorService;
+
+    public SqlMicroBatchProducer(SqlEndpoint endpoint, SqlProducer producer, JdbcTemplate jdbcTemplate,
+                                 int microBatchSize, long microBatchTimeout) {
+        super(endpoint);
+        this.producer = producer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.microBatchSize = microBatchSize;
+        this.microBatchTimeout = microBatchTimeout;
+    }
+
+    @Override
+    public SqlEndpoint getEndpoint() {
+        return (SqlEndpoint) super.getEndpoint();
+    }
+
+    public int getMicroBatchSize() {
+        return microBatchSize;
+    }
+
+    public long getMicroBatchTimeout() {
+        return microBatchTimeout;
+    }
+
+    /**
+     * Number of exchanges currently waiting to be executed as part of the next batch
+     */
+    public int getPendingSize() {
+        lock.lock();
+        try {
+            return pending != null ? pending.size() : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        ServiceHelper.initService(producer);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startService(producer);
+        if (executorService == null) {
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "SqlMicroBatch");
+        }
+        if (callbackExecutorService == null) {
+            callbackExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newDefaultThreadPool(this, "SqlMicroBatchCallback");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // execute what is pending before stopping
+        List<PendingExchange> batch = takePending(null);
+        if (batch != null) {
+            flush(batch);
+        }
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        if (callbackExecutorService != null) {
+            // let the exchanges of the last batch be completed
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(callbackExecutorService);
+            callbackExecutorService = null;
+        }
+        ServiceHelper.stopService(producer);
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final PendingExchange entry;
+        try {
+            boolean generatedKeys
+                    = exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
+            if (exchange.isTransacted() || generatedKeys) {
+                // must use the connection of the transaction, or the statement of this exchange only
+                producer.process(exchange);
+                callback.done(true);
+                return true;
+            }
+            String sql = producer.resolveSql(exchange);
+            entry = new PendingExchange(exchange, callback, sql, producer.prepareQuery(sql, exchange));
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        List<PendingExchange> batch = null;
+        lock.lock();
+        try {
+            if (pending == null) {
+                final List<PendingExchange> current = new ArrayList<>(microBatchSize);
+                pending = current;
+                if (microBatchSize > 1) {
+                    timeoutTask = executorService.schedule(() -> onTimeout(current), microBatchTimeout,
+                            TimeUnit.MILLISECONDS);
+                }
+            }
+            pending.add(entry);
+            if (pending.size() >= microBatchSize) {
+                batch = pending;
+                pending = null;
+                if (timeoutTask != null) {
+                    timeoutTask.cancel(false);
+                    timeoutTask = null;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (batch != null) {
+            // the batch is full so execute it using the current thread
+            flush(batch);
+        }
+        return false;
+    }
+
+    private void onTimeout(List<PendingExchange> expected) {
+        List<PendingExchange> batch = takePending(expected);
+        if (batch != null) {
+            flush(batch);
+        }
+    }
+
+    /**
+     * Takes the pending exchanges so they can be executed.
+     *
+     * @param  expected the batch expected to be pending, or <tt>null</tt> to take whatever is pending
+     * @return          the pending exchanges, or <tt>null</tt> if nothing (or another batch) is pending
+     */
+    private List<PendingExchange> takePending(List<PendingExchange> expected) {
+        lock.lock();
+        try {
+            if (pending == null || expected != null && pending != expected) {
+                return null;
+            }
+            List<PendingExchange> answer = pending;
+            pending = null;
+            if (timeoutTask != null) {
+                timeoutTask.cancel(false);
+                timeoutTask = null;
+            }
+            return answer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush(List<PendingExchange> batch) {
+        // group by the query as each query is executed as its own prepared statement batch
+        Map<String, List<PendingExchange>> groups = new LinkedHashMap<>();
+        for (PendingExchange entry : batch) {
+            groups.computeIfAbsent(entry.preparedQuery, k -> new ArrayList<>()).add(entry);
+        }
+
+        LOG.trace("Executing micro batch of {} exchanges using {} queries", batch.size(), groups.size());
+        boolean batchFailed = false;
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Object>) con -> {
+                executeBatch(con, groups.values());
+                return null;
+            });
+        } catch (Exception e) {
+            LOG.debug("Error executing micro batch of {} exchanges due to: {}. The exchanges are executed one by one.",
+                    batch.size(), e.getMessage(), e);
+            batchFailed = true;
+        }
+
+        for (PendingExchange entry : batch) {
+            Exchange exchange = entry.exchange;
+            if (entry.failure != null) {
+                exchange.setException(entry.failure);
+            } else if (batchFailed) {
+                try {
+                    producer.process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+            } else if (entry.updateCount == Statement.EXECUTE_FAILED) {
+                exchange.setException(new SQLException("The JDBC driver reported the statement as failed in the batch"));
+            } else {
+                if (entry.updateCount != Statement.SUCCESS_NO_INFO) {
+                    exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, entry.updateCount);
+                }
+                if (getEndpoint().getOutputHeader() != null) {
+                    exchange.getIn().setHeader(getEndpoint().getOutputHeader(), null);
+                }
+            }
+            done(entry.callback);
+        }
+    }
+
+    /**
+     * Completes the exchange using the thread pool, so the flushing thread does not continue routing the exchange.
+     */
+    private void done(AsyncCallback callback) {
+        ExecutorService executor = callbackExecutorService;
+        if (executor != null) {
+            try {
+                executor.execute(() -> callback.done(false));
+                return;
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Cannot complete exchange using thread pool, the current thread is used instead", e);
+            }
+        }
+        callback.done(false);
+    }
+
+    private void executeBatch(Connection con, Collection<List<PendingExchange>> groups) throws SQLException {
+        boolean restoreAutoCommit = con.getAutoCommit();
+        if (restoreAutoCommit) {
+            con.setAutoCommit(false);
+        }
+        try {
+            for (List<PendingExchange> group : groups) {
+                List<PendingExchange> added = new ArrayList<>(group.size());
+                PreparedStatement ps = con.prepareStatement(group.get(0).preparedQuery);
+                try {
+                    for (PendingExchange entry : group) {
+                        try {
+                            producer.populateStatement(ps, entry.exchange, entry.sql, entry.preparedQuery);
+                        } catch (Exception e) {
+                            // only this exchange fails, the others can still be executed
+                            entry.failure = e;
+                            ps.clearParameters();
+                            continue;
+                        }
+                        ps.addBatch();
+                        added.add(entry);
+                    }
+                    if (!added.isEmpty()) {
+                        int[] updateCounts = ps.executeBatch();
+                        for (int i = 0; i < added.size() && i < updateCounts.length; i++) {
+                            added.get(i).updateCount = updateCounts[i];
+                        }
+                    }
+                } finally {
+                    closeStatement(ps);
+                }
+            }
+            con.commit();
+        } catch (SQLException | RuntimeException e) {
+            con.rollback();
+            throw e;
+        } finally {
+            if (restoreAutoCommit) {
+                // restore auto commit on connection as it may be used
+                // in another kind of query (connection pooling)
+                con.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static final class PendingExchange {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final String sql;
+        private final String preparedQuery;
+        private int updateCount;
+        private Exception failure;
+
+        private PendingExchange(Exchange exchange, AsyncCallback callback, String sql, String preparedQuery) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.sql = sql;
+            this.preparedQuery = preparedQuery;
+        }
+    }
+}
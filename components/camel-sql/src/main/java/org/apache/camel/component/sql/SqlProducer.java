@@ -95,20 +95,8 @@ public class SqlProducer extends DefaultProducer {
 
     @Override
     public void process(final Exchange exchange) throws Exception {
-        final String sql;
-        if (useMessageBodyForSql) {
-            sql = exchange.getIn().getBody(String.class);
-        } else {
-            String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
-            if (queryHeader != null) {
-                String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
-                sql = SqlHelper.resolvePlaceholders(queryHeader, placeholder);
-            } else {
-                sql = resolvedQuery;
-            }
-        }
-        final String preparedQuery
-                = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
+        final String sql = resolveSql(exchange);
+        final String preparedQuery = prepareQuery(sql, exchange);
 
         final Boolean shouldRetrieveGeneratedKeys
                 = exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
@@ -145,6 +133,26 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
+    /**
+     * Resolves the SQL to execute for the given exchange, which is either the message body, the
+     * {@link SqlConstants#SQL_QUERY} header or the query from the endpoint.
+     */
+    String resolveSql(Exchange exchange) {
+        if (useMessageBodyForSql) {
+            return exchange.getIn().getBody(String.class);
+        }
+        String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
+        if (queryHeader != null) {
+            String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
+            return SqlHelper.resolvePlaceholders(queryHeader, placeholder);
+        }
+        return resolvedQuery;
+    }
+
+    String prepareQuery(String sql, Exchange exchange) throws SQLException {
+        return sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
+    }
+
     private Object processInternal(
             Exchange exchange, PreparedStatementCreator statementCreator,
             String sql, String preparedQuery, Boolean shouldRetrieveGeneratedKeys) {
@@ -274,7 +282,7 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
-    private void populateStatement(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery)
+    void populateStatement(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery)
             throws SQLException {
 
         if (getEndpoint().getFetchSize() > 0) {
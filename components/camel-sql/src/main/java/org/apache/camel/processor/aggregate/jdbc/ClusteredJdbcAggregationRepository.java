@@ -75,8 +75,7 @@ public class ClusteredJdbcAggregationRepository extends JdbcAggregationRepositor
                 try {
                     LOG.debug("Removing key {}", correlationId);
 
-                    jdbcTemplate.update("DELETE FROM " + getRepositoryName() + " WHERE " + ID + " = ? AND " + VERSION + " = ?",
-                            correlationId, version);
+                    deleteAggregated(correlationId, version);
 
                     insert(camelContext, confirmKey, exchange, getRepositoryNameCompleted(), version, true);
 
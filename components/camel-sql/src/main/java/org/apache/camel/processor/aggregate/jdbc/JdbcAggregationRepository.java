@@ -30,13 +30,19 @@ import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
+import org.apache.camel.AggregationStrategy;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.DeltaAggregationRepository;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.ExchangeCodec;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -61,13 +67,20 @@ import org.springframework.transaction.support.TransactionTemplate;
  * JDBC based {@link org.apache.camel.spi.AggregationRepository} JdbcAggregationRepository will only preserve any
  * Serializable compatible data types. If a data type is not such a type its dropped and a WARN is logged. And it only
  * persists the Message body and the Message headers. The Exchange properties are not persisted.
+ * <p/>
+ * When appendOnly is enabled then every incoming exchange is inserted as a new row (using the version column as the
+ * sequence within the correlation key), instead of updating the entire aggregated exchange whenever a new exchange is
+ * aggregated. The aggregated exchanges in progress are kept in memory, and are reconstructed from the rows using the
+ * aggregation strategy when needed (such as on startup, or when the rows were changed by another node). At most
+ * appendOnlyCacheSize aggregated exchanges are kept in memory, where the least recently used are evicted (and
+ * reconstructed when needed again).
  */
 @Metadata(label = "bean",
           description = "Aggregation repository that uses SQL database to store exchanges.",
           annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
 @Configurer(metadataOnly = true)
 public class JdbcAggregationRepository extends ServiceSupport
-        implements RecoverableAggregationRepository, OptimisticLockingAggregationRepository {
+        implements RecoverableAggregationRepository, OptimisticLockingAggregationRepository, DeltaAggregationRepository {
 
     protected static final String EXCHANGE = "exchange";
     protected static final String ID = "id";
@@ -122,6 +135,25 @@ public class JdbcAggregationRepository extends ServiceSupport
             = new DefaultJdbcOptimisticLockingExceptionMapper();
     @Metadata(label = "advanced", description = "To use a custom LobHandler")
     private LobHandler lobHandler = new DefaultLobHandler();
+    @Metadata(label = "advanced",
+              description = "Whether to store every incoming exchange as a new row, instead of updating the entire aggregated exchange"
+                            + " whenever a new exchange is aggregated. This avoids writing the aggregated exchange over and over again,"
+                            + " when aggregating many exchanges into the same group. The primary key of the repository table must then be"
+                            + " both the id and version columns. The aggregated exchange is reconstructed from the rows using the aggregation strategy,"
+                            + " which must therefore give the same result when aggregating the same exchanges again."
+                            + " This cannot be used together with optimistic locking.")
+    private boolean appendOnly;
+    @Metadata(label = "advanced", defaultValue = "1000",
+              description = "The maximum number of aggregated exchanges in progress to keep in memory when appendOnly is enabled."
+                            + " The least recently used are evicted, and are reconstructed from the rows when needed again.")
+    private int appendOnlyCacheSize = 1000;
+    @Metadata(label = "advanced",
+              description = "To use a custom codec for storing the exchanges, such as the compact BinaryExchangeCodec."
+                            + " By default Java serialization is used.")
+    private ExchangeCodec exchangeCodec;
+
+    private AggregationStrategy aggregationStrategy;
+    private Map<String, AggregatedDeltas> aggregatedDeltas;
 
     /**
      * Creates an aggregation repository
@@ -185,6 +217,12 @@ public class JdbcAggregationRepository extends ServiceSupport
 
     @Override
     public Exchange add(final CamelContext camelContext, final String correlationId, final Exchange exchange) {
+        if (appendOnly) {
+            throw new IllegalStateException(
+                    "Cannot add the aggregated exchange to repository " + repositoryName
+                                            + " when appendOnly is enabled, where the exchanges must be appended instead"
+                                            + " (optimistic locking cannot be used together with appendOnly)");
+        }
         return transactionTemplate.execute(new TransactionCallback<Exchange>() {
 
             public Exchange doInTransaction(TransactionStatus status) {
@@ -227,6 +265,119 @@ public class JdbcAggregationRepository extends ServiceSupport
         });
     }
 
+    @Override
+    public void setAggregationStrategy(AggregationStrategy aggregationStrategy) {
+        this.aggregationStrategy = aggregationStrategy;
+    }
+
+    @Override
+    public void append(
+            final CamelContext camelContext, final String correlationId, final Exchange exchange, final Exchange aggregated) {
+        if (!appendOnly) {
+            add(camelContext, correlationId, aggregated);
+            return;
+        }
+
+        final long sequence = transactionTemplate.execute(new TransactionCallback<Long>() {
+            public Long doInTransaction(TransactionStatus status) {
+                try {
+                    AggregatedDeltas current = aggregatedDeltas.get(correlationId);
+                    long sequence = (current != null ? current.sequence : lastSequence(correlationId)) + 1;
+
+                    LOG.debug("Appending record with key {} and version {}", correlationId, sequence);
+                    doInsert(camelContext, correlationId, exchange, getRepositoryName(), sequence);
+                    return sequence;
+                } catch (Exception e) {
+                    throw new RuntimeException(
+                            "Error appending to repository " + repositoryName + " with key " + correlationId, e);
+                }
+            }
+        });
+        aggregatedDeltas.put(correlationId, new AggregatedDeltas(aggregated, sequence));
+    }
+
+    /**
+     * Gets the aggregated exchange of the correlation key, which is kept in memory, or reconstructed from the rows.
+     */
+    private Exchange getAppended(final CamelContext camelContext, final String key) {
+        return transactionTemplateReadOnly.execute(new TransactionCallback<Exchange>() {
+            public Exchange doInTransaction(TransactionStatus status) {
+                long sequence = lastSequence(key);
+                if (sequence == 0) {
+                    aggregatedDeltas.remove(key);
+                    return null;
+                }
+
+                Exchange answer = null;
+                AggregatedDeltas current = aggregatedDeltas.get(key);
+                if (current != null && current.sequence == sequence) {
+                    // the aggregated exchange is handed over to the aggregator, which appends the next exchange to it
+                    answer = current.exchange;
+                    current.exchange = null;
+                }
+                if (answer == null) {
+                    LOG.debug("Reconstructing aggregated exchange with key {} from {} records", key, sequence);
+                    answer = reconstruct(camelContext, key);
+                    aggregatedDeltas.put(key, new AggregatedDeltas(null, sequence));
+                }
+                answer.setProperty(VERSION_PROPERTY, sequence);
+                return answer;
+            }
+        });
+    }
+
+    private Exchange reconstruct(final CamelContext camelContext, final String key) {
+        ObjectHelper.notNull(aggregationStrategy, "AggregationStrategy", this);
+
+        List<byte[]> rows = jdbcTemplate.query(
+                String.format("SELECT %1$s FROM %2$s WHERE %3$s=? ORDER BY %4$s", EXCHANGE, getRepositoryName(), ID, VERSION),
+                new RowMapper<byte[]>() {
+                    public byte[] mapRow(ResultSet rs, int rowNum) throws SQLException {
+                        return getLobHandler().getBlobAsBytes(rs, EXCHANGE);
+                    }
+                }, key);
+
+        Exchange answer = null;
+        int size = 0;
+        try {
+            for (byte[] row : rows) {
+                Exchange exchange = jdbcCamelCodec.unmarshallExchange(camelContext, row, deserializationFilter);
+                ExchangeHelper.prepareAggregation(answer, exchange);
+                answer = aggregationStrategy.aggregate(answer, exchange);
+                answer.setProperty(ExchangePropertyKey.AGGREGATED_SIZE, ++size);
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeException("Error getting key " + key + " from repository " + repositoryName, e);
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the highest version (sequence) of the rows with the correlation key, or 0 if there are no rows.
+     */
+    private long lastSequence(final String key) {
+        Long answer = jdbcTemplate.queryForObject(
+                "SELECT MAX(" + VERSION + ") FROM " + getRepositoryName() + " WHERE " + ID + " = ?", Long.class, key);
+        return answer != null ? answer : 0;
+    }
+
+    /**
+     * Deletes the aggregated exchange (or all the rows when appendOnly is enabled) with the correlation key from the
+     * repository table.
+     *
+     * @param correlationId Correlation key
+     * @param version       Version identifier
+     */
+    protected void deleteAggregated(final String correlationId, final long version) {
+        if (appendOnly) {
+            aggregatedDeltas.remove(correlationId);
+            jdbcTemplate.update("DELETE FROM " + getRepositoryName() + " WHERE " + ID + " = ?", correlationId);
+        } else {
+            jdbcTemplate.update("DELETE FROM " + getRepositoryName() + " WHERE " + ID + " = ? AND " + VERSION + " = ?",
+                    correlationId, version);
+        }
+    }
+
     /**
      * Updates the current exchange details in the given repository table.
      *
@@ -277,6 +428,13 @@ public class JdbcAggregationRepository extends ServiceSupport
             final CamelContext camelContext, final String correlationId, final Exchange exchange, String repositoryName,
             Long version)
             throws Exception {
+        doInsert(camelContext, correlationId, exchange, repositoryName, version);
+    }
+
+    private void doInsert(
+            final CamelContext camelContext, final String correlationId, final Exchange exchange, String repositoryName,
+            Long version)
+            throws Exception {
         // The default totalParameterIndex is 3 for ID, Exchange and version. Depending on logic this will be increased.
         int totalParameterIndex = 3;
         StringBuilder queryBuilder = new StringBuilder(256)
@@ -367,7 +525,8 @@ public class JdbcAggregationRepository extends ServiceSupport
 
     @Override
     public Exchange get(final CamelContext camelContext, final String correlationId) {
-        Exchange result = get(correlationId, getRepositoryName(), camelContext);
+        Exchange result = appendOnly
+                ? getAppended(camelContext, correlationId) : get(correlationId, getRepositoryName(), camelContext);
         LOG.debug("Getting key {} -> {}", correlationId, result);
         return result;
     }
@@ -417,8 +576,7 @@ public class JdbcAggregationRepository extends ServiceSupport
                 try {
                     LOG.debug("Removing key {}", correlationId);
 
-                    jdbcTemplate.update("DELETE FROM " + getRepositoryName() + " WHERE " + ID + " = ? AND " + VERSION + " = ?",
-                            correlationId, version);
+                    deleteAggregated(correlationId, version);
 
                     insert(camelContext, confirmKey, exchange, getRepositoryNameCompleted(), version);
                     LOG.debug("Removed key {}", correlationId);
@@ -659,6 +817,54 @@ public class JdbcAggregationRepository extends ServiceSupport
         this.jdbcOptimisticLockingExceptionMapper = jdbcOptimisticLockingExceptionMapper;
     }
 
+    @Override
+    public boolean isAppendOnly() {
+        return appendOnly;
+    }
+
+    /**
+     * Whether to store every incoming exchange as a new row, instead of updating the entire aggregated exchange
+     * whenever a new exchange is aggregated. This avoids writing the aggregated exchange over and over again, when
+     * aggregating many exchanges into the same group.
+     * <p/>
+     * The primary key of the repository table must then be both the id and version columns. The aggregated exchange is
+     * reconstructed from the rows using the aggregation strategy, which must therefore give the same result when
+     * aggregating the same exchanges again. This cannot be used together with optimistic locking.
+     */
+    public void setAppendOnly(boolean appendOnly) {
+        this.appendOnly = appendOnly;
+    }
+
+    public int getAppendOnlyCacheSize() {
+        return appendOnlyCacheSize;
+    }
+
+    /**
+     * The maximum number of aggregated exchanges in progress to keep in memory when appendOnly is enabled. The least
+     * recently used are evicted, and are reconstructed from the rows when needed again.
+     * <p/>
+     * Each aggregated exchange in memory holds all the exchanges aggregated so far, so the memory used is bound by this
+     * size times the size of the largest groups.
+     */
+    public void setAppendOnlyCacheSize(int appendOnlyCacheSize) {
+        this.appendOnlyCacheSize = appendOnlyCacheSize;
+    }
+
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    /**
+     * To use a custom codec for storing the exchanges, such as the compact
+     * {@link org.apache.camel.support.BinaryExchangeCodec}, which can also read exchanges stored using Java
+     * serialization. By default Java serialization is used.
+     * <p/>
+     * Notice that the deserialization filter of the repository is not used by the codec, which has its own filter.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
     public String getRepositoryName() {
         return repositoryName;
     }
@@ -695,18 +901,33 @@ public class JdbcAggregationRepository extends ServiceSupport
         transactionTemplateReadOnly = new TransactionTemplate(transactionManager);
         transactionTemplateReadOnly.setPropagationBehavior(propagationBehavior);
         transactionTemplateReadOnly.setReadOnly(true);
+
+        if (exchangeCodec != null) {
+            jdbcCamelCodec.setExchangeCodec(exchangeCodec);
+        }
+        if (appendOnly) {
+            if (appendOnlyCacheSize <= 0) {
+                throw new IllegalArgumentException(
+                        "AppendOnlyCacheSize must be a positive number, was: " + appendOnlyCacheSize);
+            }
+            aggregatedDeltas = LRUCacheFactory.newLRUCache(appendOnlyCacheSize);
+        }
     }
 
     private int rowCount(final String repository) {
         return jdbcTemplate.queryForObject("SELECT COUNT(1) FROM " + repository, Integer.class);
     }
 
+    private int keyCount(final String repository) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT " + ID + ") FROM " + repository, Integer.class);
+    }
+
     @Override
     protected void doStart() throws Exception {
         super.doStart();
 
         // log number of existing exchanges
-        final int current = rowCount(getRepositoryName());
+        final int current = appendOnly ? keyCount(getRepositoryName()) : rowCount(getRepositoryName());
         final int completed = rowCount(getRepositoryNameCompleted());
 
         if (current > 0) {
@@ -727,7 +948,22 @@ public class JdbcAggregationRepository extends ServiceSupport
 
     @Override
     protected void doStop() throws Exception {
-        // noop
+        if (aggregatedDeltas != null) {
+            aggregatedDeltas.clear();
+        }
+    }
+
+    /**
+     * The aggregated exchange (if not handed over to the aggregator) and the sequence of the last appended exchange.
+     */
+    private static final class AggregatedDeltas {
+        private volatile Exchange exchange;
+        private final long sequence;
+
+        private AggregatedDeltas(Exchange exchange, long sequence) {
+            this.exchange = exchange;
+            this.sequence = sequence;
+        }
     }
 
 }
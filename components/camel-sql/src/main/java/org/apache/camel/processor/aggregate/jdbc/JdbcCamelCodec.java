@@ -24,6 +24,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.ExchangeCodec;
 import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
 import org.apache.camel.util.IOHelper;
 
@@ -32,6 +33,19 @@ import org.apache.camel.util.IOHelper;
  */
 public class JdbcCamelCodec {
 
+    private ExchangeCodec exchangeCodec;
+
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    /**
+     * To use a custom codec for storing the exchanges. By default Java serialization is used.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
     public byte[] marshallExchange(Exchange exchange, boolean allowSerializedHeaders)
             throws IOException {
         ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
@@ -64,7 +78,11 @@ public class JdbcCamelCodec {
         if (exchange.getFromEndpoint() != null) {
             DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
         }
-        encode(pe, outputStream);
+        if (exchangeCodec != null) {
+            exchangeCodec.encode(pe, outputStream);
+        } else {
+            encode(pe, outputStream);
+        }
     }
 
     public Exchange unmarshallExchange(CamelContext camelContext, byte[] buffer, String deserializationFilter)
@@ -74,7 +92,9 @@ public class JdbcCamelCodec {
 
     public Exchange unmarshallExchange(CamelContext camelContext, InputStream inputStream, String deserializationFilter)
             throws IOException, ClassNotFoundException {
-        DefaultExchangeHolder pe = decode(camelContext, inputStream, deserializationFilter);
+        DefaultExchangeHolder pe = exchangeCodec != null
+                ? exchangeCodec.decode(camelContext, inputStream)
+                : decode(camelContext, inputStream, deserializationFilter);
         Exchange answer = new DefaultExchange(camelContext);
         DefaultExchangeHolder.unmarshal(answer, pe);
         // restore the from endpoint
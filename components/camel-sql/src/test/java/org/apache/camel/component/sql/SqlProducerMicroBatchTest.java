@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqlProducerMicroBatchTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+
+    @Test
+    public void testMicroBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        mock.allMessages().header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int id = 10 + i;
+            futures.add(executor.submit(() -> template.request("direct:start",
+                    e -> e.getIn().setBody(Map.of("id", id, "project", "Project" + id)))));
+        }
+        for (Future<Exchange> future : futures) {
+            assertNull(future.get().getException());
+        }
+        executor.shutdownNow();
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertEquals(13, new JdbcTemplate(db).queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Test
+    public void testMicroBatchTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.expectedHeaderReceived(SqlConstants.SQL_UPDATE_COUNT, 1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        mock.whenAnyExchangeReceived(e -> threadName.set(Thread.currentThread().getName()));
+
+        // a single exchange does not fill up the batch so its executed when the timeout triggers
+        template.sendBody("direct:start", Map.of("id", 10, "project", "Project10"));
+
+        MockEndpoint.assertIsSatisfied(context);
+        // the exchange is completed using the callback thread pool, and not the thread executing the batch
+        assertTrue(threadName.get().contains("SqlMicroBatchCallback"), threadName.get());
+        assertEquals(4, new JdbcTemplate(db).queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Test
+    public void testMicroBatchFailure() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            // id 1 already exists so that insert fails
+            final int id = i == 2 ? 1 : 10 + i;
+            futures.add(executor.submit(() -> template.request("direct:start",
+                    e -> e.getIn().setBody(Map.of("id", id, "project", "Project" + id)))));
+        }
+        for (int i = 0; i < 5; i++) {
+            Exchange out = futures.get(i).get();
+            if (i == 2) {
+                assertNotNull(out.getException());
+            } else {
+                assertNull(out.getException());
+                assertEquals(1, out.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+            }
+        }
+        executor.shutdownNow();
+
+        // the batch is rolled back and the exchanges executed one by one, so only the failed insert is missing
+        assertEquals(7, new JdbcTemplate(db).queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Override
+    public void doPreSetup() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+    }
+
+    @Override
+    public void doPostTearDown() throws Exception {
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("direct:start")
+                        .to("sql:insert into projects (id, project, license) values (:#id, :#project, 'ASF')"
+                            + "?microBatchSize=5&microBatchTimeout=200")
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.ObjectHelper;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdbcAggregateAppendOnlyTest extends AbstractJdbcAggregationTestSupport {
+
+    private EmbeddedDatabase dataSource;
+
+    @Override
+    void configureJdbcAggregationRepository() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("classpath:sql/initAppendOnly.sql")
+                .generateUniqueName(true)
+                .build();
+        repo = createRepo();
+    }
+
+    @Override
+    public void doPostTearDown() {
+        if (dataSource != null) {
+            dataSource.shutdown();
+        }
+    }
+
+    private JdbcAggregationRepository createRepo() {
+        JdbcAggregationRepository answer = new JdbcAggregationRepository(
+                new DataSourceTransactionManager(dataSource), "aggregationRepoAppendOnly", dataSource);
+        answer.setAppendOnly(true);
+        return answer;
+    }
+
+    @Test
+    public void testJdbcAggregateAppendOnly() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedBodiesReceived("ABCDE");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+        template.sendBodyAndHeader("direct:start", "C", "id", 123);
+        template.sendBodyAndHeader("direct:start", "D", "id", 123);
+
+        // every exchange is stored as a row
+        assertEquals(4, countRows());
+
+        template.sendBodyAndHeader("direct:start", "E", "id", 123);
+
+        MockEndpoint.assertIsSatisfied(context, 30, TimeUnit.SECONDS);
+
+        // all the rows should be removed when completed
+        assertEquals(0, countRows());
+    }
+
+    @Test
+    public void testReconstruct() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedBodiesReceived("ABCDE");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+        template.sendBodyAndHeader("direct:start", "C", "id", 123);
+
+        // another repository (such as after a restart) must reconstruct the aggregated exchange from the rows
+        JdbcAggregationRepository other = createRepo();
+        other.setAggregationStrategy(new MyAggregationStrategy());
+        other.start();
+        try {
+            assertTrue(other.getKeys().contains("123"));
+            Exchange actual = other.get(context, "123");
+            assertEquals("ABC", actual.getIn().getBody(String.class));
+            assertEquals(3, actual.getProperty(Exchange.AGGREGATED_SIZE, Integer.class));
+
+            // and append to it, which the repository of the route must detect
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("D");
+            other.append(context, "123", exchange, new MyAggregationStrategy().aggregate(actual, exchange));
+        } finally {
+            other.stop();
+        }
+
+        template.sendBodyAndHeader("direct:start", "E", "id", 123);
+
+        MockEndpoint.assertIsSatisfied(context, 30, TimeUnit.SECONDS);
+        assertEquals(0, countRows());
+        assertNull(repo.get(context, "123"));
+    }
+
+    @Test
+    public void testReconstructModifiedInPlace() throws Exception {
+        // the strategy modifies the first exchange in place, which must not change the stored row
+        template.sendBodyAndHeader("direct:modify", "A", "id", 456);
+        template.sendBodyAndHeader("direct:modify", "B", "id", 456);
+        template.sendBodyAndHeader("direct:modify", "C", "id", 456);
+        assertEquals(3, countRows());
+
+        JdbcAggregationRepository other = createRepo();
+        other.setAggregationStrategy(new ModifyInPlaceAggregationStrategy());
+        other.start();
+        try {
+            assertEquals("[ABC", other.get(context, "456").getIn().getBody(String.class));
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    public void testReconstructEvicted() throws Exception {
+        JdbcAggregationRepository other = createRepo();
+        other.setAppendOnlyCacheSize(1);
+        other.setAggregationStrategy(new MyAggregationStrategy());
+        other.start();
+        try {
+            append(other, "1", "A");
+            append(other, "2", "X");
+            // the aggregated exchange of the first key is evicted from memory, and must be reconstructed
+            append(other, "1", "B");
+
+            assertEquals("AB", other.get(context, "1").getIn().getBody(String.class));
+            assertEquals("X", other.get(context, "2").getIn().getBody(String.class));
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    public void testOptimisticLockingNotAllowed() {
+        Exception e = assertThrows(Exception.class, () -> context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:optimistic")
+                        .aggregate(header("id"), new MyAggregationStrategy())
+                        .completionSize(5).aggregationRepository(createRepo()).optimisticLocking()
+                        .to("mock:aggregated");
+            }
+        }));
+        assertNotNull(ObjectHelper.getException(IllegalArgumentException.class, e));
+    }
+
+    private void append(JdbcAggregationRepository repository, String key, String body) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(body);
+        Exchange aggregated = new MyAggregationStrategy().aggregate(repository.get(context, key), exchange);
+        repository.append(context, key, exchange, aggregated);
+    }
+
+    private int countRows() {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM aggregationRepoAppendOnly", Integer.class);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                configureJdbcAggregationRepository();
+
+                from("direct:start")
+                        .aggregate(header("id"), new MyAggregationStrategy())
+                        // the aggregator only appends the incoming exchange to the repository
+                        .completionSize(5).aggregationRepository(repo)
+                        .to("mock:aggregated");
+
+                from("direct:modify")
+                        .aggregate(header("id"), new ModifyInPlaceAggregationStrategy())
+                        .completionSize(5).aggregationRepository(createRepo())
+                        .to("mock:aggregated");
+            }
+        };
+    }
+
+    private static class ModifyInPlaceAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                newExchange.getIn().setBody("[" + newExchange.getIn().getBody(String.class));
+                return newExchange;
+            }
+            String body1 = oldExchange.getIn().getBody(String.class);
+            String body2 = newExchange.getIn().getBody(String.class);
+
+            oldExchange.getIn().setBody(body1 + body2);
+            return oldExchange;
+        }
+    }
+}
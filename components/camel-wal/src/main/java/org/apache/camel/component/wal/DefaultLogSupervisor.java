@@ -71,4 +71,9 @@ public class DefaultLogSupervisor implements LogSupervisor {
             Thread.currentThread().interrupt();
         }
     }
+
+    @Override
+    public boolean isTerminated() {
+        return scheduledExecutorService.isTerminated();
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A log channel which writes the records using a {@link FileChannel}
+ */
+final class FileLogChannel implements LogChannel {
+    private static final Logger LOG = LoggerFactory.getLogger(FileLogChannel.class);
+
+    private final FileChannel fileChannel;
+
+    FileLogChannel(File logFile) throws IOException {
+        this.fileChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    @Override
+    public long position() throws IOException {
+        return fileChannel.position();
+    }
+
+    @Override
+    public void position(long position) throws IOException {
+        fileChannel.position(position);
+    }
+
+    @Override
+    public long write(ByteBuffer byteBuffer) throws IOException {
+        return IOUtil.write(fileChannel, byteBuffer);
+    }
+
+    @Override
+    public long append(int entryState, int keyMetadata, byte[] key, int valueMetadata, byte[] value)
+            throws IOException {
+        ByteBuffer writeBuffer = ByteBuffer.allocate(LogEntry.size(key, value));
+        IOUtil.serialize(writeBuffer, entryState, keyMetadata, key, valueMetadata, value);
+
+        long recordPosition = fileChannel.position();
+        IOUtil.write(fileChannel, writeBuffer);
+
+        return recordPosition;
+    }
+
+    @Override
+    public void write(long position, int entryState, int keyMetadata, byte[] key, int valueMetadata, byte[] value)
+            throws IOException {
+        ByteBuffer updateBuffer = ByteBuffer.allocate(LogEntry.size(key, value));
+        IOUtil.serialize(updateBuffer, entryState, keyMetadata, key, valueMetadata, value);
+
+        long size = IOUtil.write(fileChannel, updateBuffer, position);
+
+        if (size == 0) {
+            LOG.warn("No bytes written for the given record!");
+        }
+    }
+
+    @Override
+    public void truncate(long size) throws IOException {
+        fileChannel.truncate(size);
+        fileChannel.position(size);
+    }
+
+    @Override
+    public void force() throws IOException {
+        fileChannel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileChannel.close();
+    }
+}
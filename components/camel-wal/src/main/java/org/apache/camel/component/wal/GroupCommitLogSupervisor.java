@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A log supervisor that implements a group commit policy: instead of flushing at fixed intervals, the task is executed
+ * once the given number of records have been written, or once the given delay has elapsed since the first record
+ * written after the previous execution, whichever comes first. When nothing has been written, the task is not
+ * executed at all.
+ * <p/>
+ * The log writer waits for the task that flushes the records it has written, so a record is durable once it has been
+ * written, while the cost of flushing is shared by the records of the group.
+ * <p/>
+ * The same supervisor can be shared by several log writers, in which case all of them are flushed at once, and the
+ * records written by all of them count for triggering the flush.
+ */
+public class GroupCommitLogSupervisor implements LogSupervisor {
+    private static final Logger LOG = LoggerFactory.getLogger(GroupCommitLogSupervisor.class);
+
+    private final int maxRecords;
+    private final long maxDelay;
+    private final ExecutorServiceManager executorServiceManager;
+    private final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+    private final Lock lock = new ReentrantLock();
+    private final Condition condition = lock.newCondition();
+    private ExecutorService executorService;
+    private CompletableFuture<Void> group = new CompletableFuture<>();
+    private int pending;
+    private volatile boolean running;
+    private volatile boolean terminated;
+
+    /**
+     * Constructs a new group commit log supervisor
+     *
+     * @param maxRecords             the number of written records that triggers the execution of the task
+     * @param maxDelay               the maximum delay (in microseconds) between writing a record and executing the task
+     * @param executorServiceManager the executor service manager used to create the thread executing the task
+     */
+    public GroupCommitLogSupervisor(int maxRecords, long maxDelay, ExecutorServiceManager executorServiceManager) {
+        if (maxRecords <= 0) {
+            throw new IllegalArgumentException("The maximum number of records must be greater than zero");
+        }
+
+        this.maxRecords = maxRecords;
+        this.maxDelay = TimeUnit.MICROSECONDS.toNanos(maxDelay);
+        this.executorServiceManager = executorServiceManager;
+    }
+
+    @Override
+    public void start(Runnable runnable) {
+        tasks.add(runnable);
+
+        lock.lock();
+        try {
+            if (executorService == null) {
+                running = true;
+                terminated = false;
+                executorService = executorServiceManager.newSingleThreadExecutor(this, "CamelWalGroupCommit");
+                executorService.execute(this::run);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void stop() {
+        final ExecutorService current;
+        lock.lock();
+        try {
+            running = false;
+            current = executorService;
+            executorService = null;
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        terminated = current == null;
+        if (current != null) {
+            executorServiceManager.shutdown(current);
+            try {
+                terminated = executorServiceManager.awaitTermination(current, TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                LOG.error("Failed to shutdown log flusher: {}", e.getMessage(), e);
+                Thread.currentThread().interrupt();
+            }
+            if (!terminated) {
+                executorServiceManager.shutdownNow(current);
+            }
+        }
+
+        if (terminated) {
+            // flush the records of the last group, so the writers waiting for them are released
+            executeTasks(takeGroup());
+        } else {
+            takeGroup().completeExceptionally(
+                    new IllegalStateException("The log supervisor was stopped before the records were flushed"));
+        }
+        tasks.clear();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated;
+    }
+
+    /**
+     * Notifies the supervisor that a record has been written
+     *
+     * @return a future which completes once the task flushing the record has been executed
+     */
+    @Override
+    public CompletableFuture<Void> onWrite() {
+        lock.lock();
+        try {
+            pending++;
+            // only wake up the flusher when it has to start waiting for the delay, or when the group is complete
+            if (pending == 1 || pending == maxRecords) {
+                condition.signalAll();
+            }
+            return group;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (!awaitGroup()) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            // the records written while executing the tasks are part of the next group
+            executeTasks(takeGroup());
+        }
+    }
+
+    private CompletableFuture<Void> takeGroup() {
+        lock.lock();
+        try {
+            CompletableFuture<Void> answer = group;
+            group = new CompletableFuture<>();
+            pending = 0;
+            return answer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void executeTasks(CompletableFuture<Void> flushed) {
+        Exception failure = null;
+        for (Runnable task : tasks) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                LOG.warn("Failed to execute the log supervisor task: {}", e.getMessage(), e);
+                failure = e;
+            }
+        }
+
+        if (failure != null) {
+            flushed.completeExceptionally(failure);
+        } else {
+            flushed.complete(null);
+        }
+    }
+
+    /**
+     * Waits until there is a complete group of records, or the maximum delay has elapsed since the first record of the
+     * group was written
+     *
+     * @return true if the tasks must be executed, or false if the supervisor was stopped
+     */
+    private boolean awaitGroup() throws InterruptedException {
+        lock.lock();
+        try {
+            while (running && pending == 0) {
+                condition.await();
+            }
+
+            long remaining = maxDelay;
+            while (running && pending < maxRecords && remaining > 0) {
+                remaining = condition.awaitNanos(remaining);
+            }
+
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -18,7 +18,10 @@
 package org.apache.camel.component.wal;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 
 import org.apache.camel.component.wal.exceptions.BufferOverflow;
@@ -35,6 +38,28 @@ final class IOUtil {
 
     }
 
+    /**
+     * Unmaps a memory-mapped buffer right away, instead of waiting for it to be garbage collected (which keeps the
+     * memory and the file mapped in the meantime). The buffer must not be used afterwards.
+     *
+     * @param  buffer the buffer to unmap
+     * @return        true if the buffer was unmapped, or false if it is left to the garbage collector
+     */
+    static boolean unmap(MappedByteBuffer buffer) {
+        try {
+            // there is no public API to unmap the buffer, so use the cleaner of the buffer through the JDK internals
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+            return true;
+        } catch (Exception e) {
+            LOG.debug("Unable to unmap the buffer, leaving it to the garbage collector: {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
     /**
      * Writes to the channel at a given position, clearing the source after completion
      *
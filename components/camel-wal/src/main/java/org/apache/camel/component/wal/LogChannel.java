@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The storage used by the {@link LogWriter} to write the records of the transaction log
+ */
+interface LogChannel extends AutoCloseable {
+
+    /**
+     * Gets the position where the next record will be appended
+     *
+     * @return             the position
+     * @throws IOException in case of lower-level I/O errors
+     */
+    long position() throws IOException;
+
+    /**
+     * Sets the position where the next record will be appended
+     *
+     * @param  position    the position
+     * @throws IOException in case of lower-level I/O errors
+     */
+    void position(long position) throws IOException;
+
+    /**
+     * Appends the contents of the buffer, clearing the buffer after completion
+     *
+     * @param  byteBuffer  the buffer containing the bytes to write
+     * @return             the number of bytes written
+     * @throws IOException in case of lower-level I/O errors
+     */
+    long write(ByteBuffer byteBuffer) throws IOException;
+
+    /**
+     * Appends a record
+     *
+     * @param  entryState    the entry state
+     * @param  keyMetadata   the entry metadata
+     * @param  key           the entry key
+     * @param  valueMetadata the entry value metadata
+     * @param  value         the entry value
+     * @return               the position of the record
+     * @throws IOException   in case of lower-level I/O errors
+     */
+    long append(int entryState, int keyMetadata, byte[] key, int valueMetadata, byte[] value) throws IOException;
+
+    /**
+     * Writes a record at the given position, without changing the position where the next record will be appended
+     *
+     * @param  position      the position of the record
+     * @param  entryState    the entry state
+     * @param  keyMetadata   the entry metadata
+     * @param  key           the entry key
+     * @param  valueMetadata the entry value metadata
+     * @param  value         the entry value
+     * @throws IOException   in case of lower-level I/O errors
+     */
+    void write(long position, int entryState, int keyMetadata, byte[] key, int valueMetadata, byte[] value)
+            throws IOException;
+
+    /**
+     * Discards the records written beyond the given size
+     *
+     * @param  size        the size to keep
+     * @throws IOException in case of lower-level I/O errors
+     */
+    void truncate(long size) throws IOException;
+
+    /**
+     * Forces the data to disk
+     *
+     * @throws IOException in case of lower-level I/O errors
+     */
+    void force() throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Closes the channel, where the memory (if any) the channel has mapped is only released when no other thread can
+     * still access it. Otherwise, the memory is left to the garbage collector.
+     *
+     * @param  release     whether to release the mapped memory
+     * @throws IOException in case of lower-level I/O errors
+     */
+    default void close(boolean release) throws IOException {
+        close();
+    }
+}
@@ -29,7 +29,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A reader for write-ahead log files
+ * A reader for write-ahead log files. Reading stops at the end of the file, or when reaching the zero-filled end of a
+ * file written using memory-mapped segments.
  */
 public class LogReader implements AutoCloseable {
     public static final int DEFAULT_CAPACITY = 1024 * 512;
@@ -144,6 +145,12 @@ public class LogReader implements AutoCloseable {
         }
 
         int state = ioBuffer.getInt();
+        if (state == 0) {
+            // the remaining of a pre-allocated memory-mapped file (see MappedLogChannel)
+            LOG.trace("Reached the zero-filled end of the log");
+            ioBuffer.position(ioBuffer.limit());
+            return null;
+        }
 
         Slot keySlot = readSlot();
         Slot valueSlot = readSlot();
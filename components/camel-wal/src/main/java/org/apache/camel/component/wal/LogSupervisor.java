@@ -17,6 +17,8 @@
 
 package org.apache.camel.component.wal;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * A supervisor can be used to specify custom supervising activities (such as flushing to disk, recycling, etc) for the
  * log writer
@@ -34,4 +36,24 @@ public interface LogSupervisor {
      * Stops the policy
      */
     void stop();
+
+    /**
+     * Whether the task is no longer executing after the supervisor has been stopped. When the task may still be
+     * executing (such as when it did not stop in time), then the log writer does not release the resources the task may
+     * use, and leaves them to the garbage collector.
+     */
+    default boolean isTerminated() {
+        return false;
+    }
+
+    /**
+     * Notifies the supervisor that a record has been written by the log writer. Supervisors which flush the data
+     * depending on the amount of written records can use it to trigger the flush.
+     *
+     * @return a future which completes once the record has been flushed, which the log writer waits for, or null if
+     *         the log writer does not wait for the record to be flushed
+     */
+    default CompletableFuture<Void> onWrite() {
+        return null;
+    }
 }
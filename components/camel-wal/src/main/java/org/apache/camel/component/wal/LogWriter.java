@@ -19,10 +19,11 @@ package org.apache.camel.component.wal;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
-import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -32,7 +33,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A writer for write-ahead log files
+ * A writer for write-ahead log files. The records are either written using a file channel, or directly into
+ * memory-mapped segments of the file (see {@link MappedLogChannel}).
+ * <p/>
+ * The writer can be used by concurrent threads. When the {@link LogSupervisor} flushes the records on write (see
+ * {@link GroupCommitLogSupervisor}), then the writing thread waits until its record has been flushed.
  */
 public final class LogWriter implements AutoCloseable {
     /**
@@ -42,7 +47,7 @@ public final class LogWriter implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(LogWriter.class);
 
     private final Lock lock = new ReentrantLock();
-    private final FileChannel fileChannel;
+    private final LogChannel logChannel;
 
     private final LogSupervisor flushPolicy;
     private final TransactionLog transactionLog;
@@ -72,8 +77,23 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException    in case of I/O errors
      */
     LogWriter(File logFile, LogSupervisor logSupervisor, int maxRecordCount) throws IOException {
-        this.fileChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
-                StandardOpenOption.TRUNCATE_EXISTING);
+        this(logFile, logSupervisor, maxRecordCount, 0);
+    }
+
+    /**
+     * Constructs a new log writer. If the file already exists, it will be truncated.
+     *
+     * @param  logFile        the transaction log file
+     * @param  logSupervisor  the log supervisor {@link LogSupervisor} for the writer
+     * @param  maxRecordCount the maximum number of records to keep in the file. Beyond this count, entries will be
+     *                        rolled-over.
+     * @param  segmentSize    the size of the memory-mapped segments the records are written to, or 0 to write the
+     *                        records using a file channel
+     * @throws IOException    in case of I/O errors
+     */
+    public LogWriter(File logFile, LogSupervisor logSupervisor, int maxRecordCount, int segmentSize)
+                     throws IOException {
+        this.logChannel = segmentSize > 0 ? new MappedLogChannel(logFile, segmentSize) : new FileLogChannel(logFile);
 
         final Header header = Header.WA_DEFAULT_V1;
         writeHeader(header);
@@ -89,7 +109,7 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException in case of I/O errors
      */
     void flush() throws IOException {
-        fileChannel.force(true);
+        logChannel.force();
     }
 
     private void tryFlush() {
@@ -105,19 +125,49 @@ public final class LogWriter implements AutoCloseable {
     }
 
     public void reset() throws IOException {
-        fileChannel.truncate(startOfRecords);
-        fileChannel.position(startOfRecords);
+        lock.lock();
+        try {
+            logChannel.truncate(startOfRecords);
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public void close() {
+        flushPolicy.stop();
+
+        lock.lock();
         try {
-            flushPolicy.stop();
             flush();
 
-            fileChannel.close();
+            // the mapped memory can only be released if the flusher is no longer using it
+            logChannel.close(flushPolicy.isTerminated());
         } catch (IOException e) {
             LOG.error(e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for the written record to be flushed, when the log supervisor flushes the records on write (group commit)
+     *
+     * @param  flushed     the future returned by the log supervisor when the record was written, if any
+     * @throws IOException in case the record could not be flushed
+     */
+    private void awaitFlush(CompletableFuture<Void> flushed) throws IOException {
+        if (flushed == null) {
+            return;
+        }
+
+        try {
+            flushed.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the record to be flushed");
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to flush the record: " + e.getCause().getMessage(), e.getCause());
         }
     }
 
@@ -127,9 +177,9 @@ public final class LogWriter implements AutoCloseable {
         headerBuffer.put(header.getFormatName().getBytes());
         headerBuffer.putInt(header.getFileVersion());
 
-        IOUtil.write(fileChannel, headerBuffer);
+        logChannel.write(headerBuffer);
 
-        startOfRecords = fileChannel.position();
+        startOfRecords = logChannel.position();
     }
 
     /**
@@ -140,6 +190,23 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException for lower-level I/O errors
      */
     public EntryInfo.CachedEntryInfo append(LogEntry entry) throws IOException {
+        final EntryInfo.CachedEntryInfo entryInfo;
+        final CompletableFuture<Void> flushed;
+
+        lock.lock();
+        try {
+            entryInfo = doAppend(entry);
+            flushed = flushPolicy.onWrite();
+        } finally {
+            lock.unlock();
+        }
+
+        // wait outside the lock, so the other writers can add their records to the group
+        awaitFlush(flushed);
+        return entryInfo;
+    }
+
+    private EntryInfo.CachedEntryInfo doAppend(LogEntry entry) throws IOException {
         final TransactionLog.LayerInfo layerInfo = transactionLog.add(entry);
         if (layerInfo.getLayer() == 0) {
             return persist(layerInfo, entry);
@@ -149,7 +216,7 @@ public final class LogWriter implements AutoCloseable {
             reset();
         }
 
-        LOG.trace("Writing at position {}", fileChannel.position());
+        LOG.trace("Writing at position {}", logChannel.position());
         EntryInfo.CachedEntryInfo spear = persist(layerInfo, entry);
 
         final List<EntryInfo> collect = transactionLog.stream()
@@ -159,11 +226,11 @@ public final class LogWriter implements AutoCloseable {
         if (!collect.isEmpty()) {
             final EntryInfo lastOnLayer = collect.get(0);
 
-            LOG.trace("Current pos is: {}", fileChannel.position());
+            LOG.trace("Current pos is: {}", logChannel.position());
             LOG.trace("Next pos should be: {}", lastOnLayer.getPosition());
 
-            fileChannel.position(lastOnLayer.getPosition());
-            LOG.trace("Current pos now is: {}", fileChannel.position());
+            logChannel.position(lastOnLayer.getPosition());
+            LOG.trace("Current pos now is: {}", logChannel.position());
         }
 
         return spear;
@@ -178,19 +245,12 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException in case of lower-level I/O errors
      */
     private void persist(TransactionLog.LayerInfo layerInfo, LogEntry entry, long position) throws IOException {
-        ByteBuffer updateBuffer = ByteBuffer.allocate(entry.size());
-
-        IOUtil.serialize(updateBuffer, entry);
-
         if (LOG.isTraceEnabled()) {
             LOG.trace("Position: {} for record {} with key {}", position, layerInfo, new String(entry.getKey()));
         }
 
-        long size = IOUtil.write(fileChannel, updateBuffer, position);
-
-        if (size == 0) {
-            LOG.warn("No bytes written for the given record!");
-        }
+        logChannel.write(position, entry.getEntryState().getCode(), entry.getKeyMetadata(), entry.getKey(),
+                entry.getValueMetadata(), entry.getValue());
     }
 
     /**
@@ -202,14 +262,8 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException in case of lower-level I/O errors
      */
     private EntryInfo.CachedEntryInfo persist(TransactionLog.LayerInfo layerInfo, LogEntry entry) throws IOException {
-        final byte[] key = entry.getKey();
-        final byte[] value = entry.getValue();
-
-        ByteBuffer writeBuffer = ByteBuffer.allocate(LogEntry.size(key, value));
-        IOUtil.serialize(writeBuffer, entry);
-
-        long recordPosition = fileChannel.position();
-        IOUtil.write(fileChannel, writeBuffer);
+        long recordPosition = logChannel.append(entry.getEntryState().getCode(), entry.getKeyMetadata(), entry.getKey(),
+                entry.getValueMetadata(), entry.getValue());
 
         return EntryInfo.createForCached(recordPosition, layerInfo);
     }
@@ -247,11 +301,21 @@ public final class LogWriter implements AutoCloseable {
          */
         assert layerInfo != null;
 
-        final LogEntry logEntry = transactionLog.update(layerInfo, state);
+        final CompletableFuture<Void> flushed;
+        lock.lock();
+        try {
+            final LogEntry logEntry = transactionLog.update(layerInfo, state);
+            if (logEntry == null) {
+                return;
+            }
 
-        if (logEntry != null) {
             persist(layerInfo, logEntry, entryInfo.getPosition());
+            flushed = flushPolicy.onWrite();
+        } finally {
+            lock.unlock();
         }
+
+        awaitFlush(flushed);
     }
 
     /**
@@ -263,21 +327,22 @@ public final class LogWriter implements AutoCloseable {
      * @throws IOException if the buffer is too small for the entry or in case of lower-level I/O errors
      */
     public void updateState(PersistedLogEntry entry, LogEntry.EntryState state) throws IOException {
-        ByteBuffer updateBuffer = ByteBuffer.allocate(entry.size());
-
-        IOUtil.serialize(updateBuffer, state.getCode(), entry.getKeyMetadata(), entry.getKey(), entry.getValueMetadata(),
-                entry.getValue());
-
         final EntryInfo entryInfo = entry.getEntryInfo();
         if (LOG.isTraceEnabled()) {
             LOG.trace("Position: {} with key {}", entryInfo.getPosition(), new String(entry.getKey()));
         }
 
-        long size = IOUtil.write(fileChannel, updateBuffer, entryInfo.getPosition());
-
-        if (size == 0) {
-            LOG.warn("No bytes written for the given record!");
+        final CompletableFuture<Void> flushed;
+        lock.lock();
+        try {
+            logChannel.write(entryInfo.getPosition(), state.getCode(), entry.getKeyMetadata(), entry.getKey(),
+                    entry.getValueMetadata(), entry.getValue());
+            flushed = flushPolicy.onWrite();
+        } finally {
+            lock.unlock();
         }
+
+        awaitFlush(flushed);
     }
 
 }
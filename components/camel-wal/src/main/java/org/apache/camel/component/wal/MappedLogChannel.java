@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A log channel which writes the records directly into memory-mapped segments of the file. The segments are
+ * pre-allocated with a fixed size, and a new segment is mapped (growing the file) when the records do not fit in the
+ * ones mapped so far. A record may span two segments.
+ * <p/>
+ * Because the segments are pre-allocated, the file is zero-filled after the last record. A zero entry state is not a
+ * valid state, so the {@link LogReader} handles it as the end of the log. For the same reason, the entry state is
+ * written after the rest of the record when appending, and truncating the log zero-fills the discarded records.
+ * <p/>
+ * Writing into the mapped segments does not require any intermediate buffer, and the data becomes durable when the
+ * segments are forced to disk by the {@link LogSupervisor}.
+ */
+final class MappedLogChannel implements LogChannel {
+    private static final Logger LOG = LoggerFactory.getLogger(MappedLogChannel.class);
+    private static final byte[] ZEROS = new byte[8192];
+
+    private final FileChannel fileChannel;
+    private final int segmentSize;
+    private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    private long appendPosition;
+    private long limit;
+
+    /**
+     * Constructs a new mapped log channel. If the file already exists, it will be truncated.
+     *
+     * @param  logFile     the transaction log file
+     * @param  segmentSize the size of each mapped segment
+     * @throws IOException in case of I/O errors
+     */
+    MappedLogChannel(File logFile, int segmentSize) throws IOException {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("The segment size must be greater than zero");
+        }
+        this.fileChannel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public long position() {
+        return appendPosition;
+    }
+
+    @Override
+    public void position(long position) {
+        this.appendPosition = position;
+    }
+
+    @Override
+    public long write(ByteBuffer byteBuffer) throws IOException {
+        byteBuffer.flip();
+
+        byte[] data = new byte[byteBuffer.remaining()];
+        byteBuffer.get(data);
+        ensureMapped(appendPosition + data.length);
+        put(appendPosition, data);
+        advance(data.length);
+
+        byteBuffer.clear();
+        return data.length;
+    }
+
+    @Override
+    public long append(int entryState, int keyMetadata, byte[] key, int valueMetadata, byte[] value)
+            throws IOException {
+        final long recordPosition = appendPosition;
+        final int size = LogEntry.size(key, value);
+
+        ensureMapped(recordPosition + size);
+        write(recordPosition, entryState, keyMetadata, key, valueMetadata, value);
+        advance(size);
+
+        return recordPosition;
+    }
+
+    @Override
+    public void write(long position, int entryState, int keyMetadata, byte[] key, int valueMetadata, byte[] value) {
+        long offset = position + Integer.BYTES;
+
+        putInt(offset, keyMetadata);
+        offset += Integer.BYTES;
+        putInt(offset, key.length);
+        offset += Integer.BYTES;
+        put(offset, key);
+        offset += key.length;
+        putInt(offset, valueMetadata);
+        offset += Integer.BYTES;
+        putInt(offset, value.length);
+        offset += Integer.BYTES;
+        put(offset, value);
+
+        putInt(position, entryState);
+    }
+
+    @Override
+    public void truncate(long size) {
+        long offset = size;
+        while (offset < limit) {
+            int length = (int) Math.min(ZEROS.length, limit - offset);
+            put(offset, ZEROS, length);
+            offset += length;
+        }
+
+        appendPosition = size;
+        limit = size;
+    }
+
+    @Override
+    public void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        close(true);
+    }
+
+    @Override
+    public void close(boolean release) throws IOException {
+        final MappedByteBuffer[] current = segments;
+        segments = new MappedByteBuffer[0];
+        try {
+            boolean unmapped = release;
+            if (release) {
+                for (MappedByteBuffer segment : current) {
+                    unmapped &= IOUtil.unmap(segment);
+                }
+            }
+            if (unmapped) {
+                // remove the zeros of the pre-allocated segments after the last record (the file cannot be truncated
+                // while it is still mapped on some platforms)
+                fileChannel.truncate(limit);
+            }
+        } finally {
+            fileChannel.close();
+        }
+    }
+
+    private void advance(long length) {
+        appendPosition += length;
+        limit = Math.max(limit, appendPosition);
+    }
+
+    /**
+     * Maps new segments until the given position is within the mapped segments
+     *
+     * @param  end         the position which must be mapped
+     * @throws IOException in case of lower-level I/O errors
+     */
+    private void ensureMapped(long end) throws IOException {
+        MappedByteBuffer[] current = segments;
+        if (end <= (long) current.length * segmentSize) {
+            return;
+        }
+
+        int count = (int) ((end + segmentSize - 1) / segmentSize);
+        MappedByteBuffer[] updated = Arrays.copyOf(current, count);
+        for (int i = current.length; i < count; i++) {
+            LOG.debug("Mapping segment {} of the transaction log with {} bytes", i, segmentSize);
+            updated[i] = fileChannel.map(FileChannel.MapMode.READ_WRITE, (long) i * segmentSize, segmentSize);
+        }
+        segments = updated;
+    }
+
+    private void putInt(long position, int value) {
+        final int offset = (int) (position % segmentSize);
+
+        if (offset + Integer.BYTES <= segmentSize) {
+            segments[(int) (position / segmentSize)].putInt(offset, value);
+        } else {
+            put(position, ByteBuffer.allocate(Integer.BYTES).putInt(value).array());
+        }
+    }
+
+    private void put(long position, byte[] data) {
+        put(position, data, data.length);
+    }
+
+    private void put(long position, byte[] data, int length) {
+        final MappedByteBuffer[] current = segments;
+
+        int written = 0;
+        while (written < length) {
+            final long segmentPosition = position + written;
+            final int offset = (int) (segmentPosition % segmentSize);
+            final int count = Math.min(length - written, segmentSize - offset);
+
+            current[(int) (segmentPosition / segmentSize)].put(offset, data, written, count);
+            written += count;
+        }
+    }
+}
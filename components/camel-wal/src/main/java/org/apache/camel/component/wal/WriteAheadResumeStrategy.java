@@ -309,13 +309,22 @@ public class WriteAheadResumeStrategy implements ResumeStrategy, CamelContextAwa
             this.logFile = resumeStrategyConfiguration.getLogFile();
             this.resumeStrategy = resumeStrategyConfiguration.getDelegateResumeStrategy();
 
-            final ScheduledExecutorService executorService = camelContext.getExecutorServiceManager()
-                    .newScheduledThreadPool(this, "SingleNodeKafkaResumeStrategy", 1);
+            final LogSupervisor flushPolicy;
+            if (resumeStrategyConfiguration.getGroupCommitRecords() > 0) {
+                flushPolicy = new GroupCommitLogSupervisor(
+                        resumeStrategyConfiguration.getGroupCommitRecords(),
+                        resumeStrategyConfiguration.getGroupCommitDelay(),
+                        camelContext.getExecutorServiceManager());
+            } else {
+                final ScheduledExecutorService executorService = camelContext.getExecutorServiceManager()
+                        .newScheduledThreadPool(this, "SingleNodeKafkaResumeStrategy", 1);
 
-            DefaultLogSupervisor flushPolicy = new DefaultLogSupervisor(
-                    resumeStrategyConfiguration.getSupervisorInterval(),
-                    executorService);
-            logWriter = new LogWriter(logFile, flushPolicy);
+                flushPolicy = new DefaultLogSupervisor(
+                        resumeStrategyConfiguration.getSupervisorInterval(),
+                        executorService);
+            }
+            logWriter = new LogWriter(
+                    logFile, flushPolicy, LogWriter.DEFAULT_CAPACITY, resumeStrategyConfiguration.getSegmentSize());
         } catch (Exception e) {
             throw new RuntimeCamelException(e);
         }
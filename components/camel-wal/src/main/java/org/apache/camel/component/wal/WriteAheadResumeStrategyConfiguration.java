@@ -24,10 +24,14 @@ import org.apache.camel.resume.ResumeStrategyConfiguration;
 
 public class WriteAheadResumeStrategyConfiguration extends ResumeStrategyConfiguration {
     public static final long DEFAULT_SUPERVISOR_INTERVAL = 100;
+    public static final long DEFAULT_GROUP_COMMIT_DELAY = 1000;
 
     private File logFile;
     private ResumeStrategy delegateResumeStrategy;
     private long supervisorInterval;
+    private int segmentSize;
+    private int groupCommitRecords;
+    private long groupCommitDelay;
 
     public File getLogFile() {
         return logFile;
@@ -53,6 +57,30 @@ public class WriteAheadResumeStrategyConfiguration extends ResumeStrategyConfigu
         this.supervisorInterval = supervisorInterval;
     }
 
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public int getGroupCommitRecords() {
+        return groupCommitRecords;
+    }
+
+    void setGroupCommitRecords(int groupCommitRecords) {
+        this.groupCommitRecords = groupCommitRecords;
+    }
+
+    public long getGroupCommitDelay() {
+        return groupCommitDelay;
+    }
+
+    void setGroupCommitDelay(long groupCommitDelay) {
+        this.groupCommitDelay = groupCommitDelay;
+    }
+
     @Override
     public String resumeStrategyService() {
         return "write-ahead-resume-strategy";
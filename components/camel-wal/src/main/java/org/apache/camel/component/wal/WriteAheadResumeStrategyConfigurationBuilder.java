@@ -28,6 +28,9 @@ public class WriteAheadResumeStrategyConfigurationBuilder
     private File logFile;
     private ResumeStrategy delegateResumeStrategy;
     private long supervisorInterval;
+    private int segmentSize;
+    private int groupCommitRecords;
+    private long groupCommitDelay;
 
     /**
      * The transaction log file to use
@@ -53,6 +56,44 @@ public class WriteAheadResumeStrategyConfigurationBuilder
         return this;
     }
 
+    /**
+     * Writes the records directly into memory-mapped segments of the transaction log file, instead of using a file
+     * channel
+     *
+     * @param  segmentSize the size (in bytes) of each pre-allocated segment, or 0 to use a file channel
+     * @return             this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+
+        return this;
+    }
+
+    /**
+     * Flushes the transaction log to disk once the given number of records have been written (group commit), instead
+     * of flushing at fixed intervals. The threads writing the records wait until their records have been flushed.
+     *
+     * @param  groupCommitRecords the number of records, or 0 to flush at fixed intervals
+     * @return                    this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withGroupCommitRecords(int groupCommitRecords) {
+        this.groupCommitRecords = groupCommitRecords;
+
+        return this;
+    }
+
+    /**
+     * The maximum delay (in microseconds) between writing a record and flushing it to disk when using group commit
+     *
+     * @param  groupCommitDelay the delay in microseconds
+     * @return                  this instance
+     */
+    public WriteAheadResumeStrategyConfigurationBuilder withGroupCommitDelay(long groupCommitDelay) {
+        this.groupCommitDelay = groupCommitDelay;
+
+        return this;
+    }
+
     @Override
     public WriteAheadResumeStrategyConfiguration build() {
         final WriteAheadResumeStrategyConfiguration writeAheadResumeStrategyConfiguration
@@ -63,6 +104,9 @@ public class WriteAheadResumeStrategyConfigurationBuilder
         writeAheadResumeStrategyConfiguration.setLogFile(logFile);
         writeAheadResumeStrategyConfiguration.setDelegateResumeStrategy(delegateResumeStrategy);
         writeAheadResumeStrategyConfiguration.setSupervisorInterval(supervisorInterval);
+        writeAheadResumeStrategyConfiguration.setSegmentSize(segmentSize);
+        writeAheadResumeStrategyConfiguration.setGroupCommitRecords(groupCommitRecords);
+        writeAheadResumeStrategyConfiguration.setGroupCommitDelay(groupCommitDelay);
 
         return writeAheadResumeStrategyConfiguration;
     }
@@ -85,6 +129,7 @@ public class WriteAheadResumeStrategyConfigurationBuilder
         WriteAheadResumeStrategyConfigurationBuilder builder = new WriteAheadResumeStrategyConfigurationBuilder();
 
         builder.withSupervisorInterval(WriteAheadResumeStrategyConfiguration.DEFAULT_SUPERVISOR_INTERVAL);
+        builder.withGroupCommitDelay(WriteAheadResumeStrategyConfiguration.DEFAULT_GROUP_COMMIT_DELAY);
 
         return builder;
     }
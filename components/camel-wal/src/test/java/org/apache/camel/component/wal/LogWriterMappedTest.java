@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LogWriterMappedTest extends LogTestBase {
+    private static final int SEGMENT_SIZE = 4096;
+
+    private final CamelContext context = new DefaultCamelContext();
+
+    @Test
+    public void testReadWriteRecords() throws IOException {
+        File reportFile = new File(testDir, "test.data");
+
+        final List<Instant> values;
+        try (LogWriter logWriter
+                = new LogWriter(reportFile, new DefaultLogSupervisor(100), LogWriter.DEFAULT_CAPACITY, SEGMENT_SIZE)) {
+            values = generateDataFilePredictable(null, logWriter);
+        }
+
+        // the zeros of the pre-allocated segments after the last record are removed on close
+        assertEquals(sizeOf((int) RECORD_COUNT), reportFile.length());
+
+        try (LogReader reader = new LogReader(reportFile)) {
+            Header fileHeader = reader.getHeader();
+            assertEquals(Header.FORMAT_NAME, fileHeader.getFormatName().trim());
+            assertEquals(Header.CURRENT_FILE_VERSION, fileHeader.getFileVersion());
+
+            int count = 0;
+            PersistedLogEntry entry = reader.readEntry();
+            while (entry != null) {
+                assertEquals(LogEntry.EntryState.NEW, entry.getEntryState());
+
+                String key = new String(entry.getKey());
+                Assertions.assertEquals("record-" + count, key);
+
+                ByteBuffer buffer = ByteBuffer.wrap(entry.getValue());
+                Assertions.assertEquals(values.get(count).toEpochMilli(), buffer.getLong());
+
+                count++;
+                entry = reader.readEntry();
+            }
+
+            Assertions.assertEquals(RECORD_COUNT, count, "The number of records don't match");
+        }
+    }
+
+    @Test
+    public void testUpdateAndReset() throws IOException {
+        File reportFile = new File(testDir, "test.data");
+
+        try (LogWriter logWriter
+                = new LogWriter(reportFile, new DefaultLogSupervisor(100), LogWriter.DEFAULT_CAPACITY, SEGMENT_SIZE)) {
+            generateDataFilePredictable(null, logWriter, 200);
+            logWriter.reset();
+
+            final EntryInfo.CachedEntryInfo entryInfo = logWriter.append(createNewLogEntry(null, 0));
+            logWriter.updateState(entryInfo, LogEntry.EntryState.PROCESSED);
+        }
+
+        try (LogReader reader = new LogReader(reportFile)) {
+            PersistedLogEntry entry = reader.readEntry();
+            Assertions.assertNotNull(entry);
+            assertEquals(LogEntry.EntryState.PROCESSED, entry.getEntryState());
+            assertEquals("record-0", new String(entry.getKey()));
+
+            // the records written before the reset are discarded
+            Assertions.assertNull(reader.readEntry());
+        }
+        assertEquals(sizeOf(1), reportFile.length());
+    }
+
+    @Test
+    public void testGroupCommit() throws Exception {
+        File reportFile = new File(testDir, "test.data");
+        GroupCommitLogSupervisor supervisor
+                = new GroupCommitLogSupervisor(10, TimeUnit.MINUTES.toMicros(1), context.getExecutorServiceManager());
+
+        AtomicInteger flushes = new AtomicInteger();
+        ExecutorService writers = Executors.newFixedThreadPool(10);
+        try (LogWriter logWriter = new LogWriter(reportFile, supervisor, LogWriter.DEFAULT_CAPACITY, SEGMENT_SIZE)) {
+            supervisor.start(flushes::incrementAndGet);
+
+            List<Future<EntryInfo.CachedEntryInfo>> futures = new ArrayList<>();
+            for (int i = 0; i < 9; i++) {
+                final LogEntry entry = createNewLogEntry(null, i);
+                futures.add(writers.submit(() -> logWriter.append(entry)));
+            }
+
+            // the writers wait until the group is flushed
+            Thread.sleep(100);
+            for (Future<EntryInfo.CachedEntryInfo> future : futures) {
+                Assertions.assertFalse(future.isDone(), "The group should not be flushed yet");
+            }
+
+            final LogEntry entry = createNewLogEntry(null, 9);
+            futures.add(writers.submit(() -> logWriter.append(entry)));
+            for (Future<EntryInfo.CachedEntryInfo> future : futures) {
+                Assertions.assertNotNull(future.get(5, TimeUnit.SECONDS));
+            }
+
+            // the records of all the writers are flushed at once
+            assertEquals(1, flushes.get());
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGroupCommitDelay() throws Exception {
+        File reportFile = new File(testDir, "test.data");
+        GroupCommitLogSupervisor supervisor
+                = new GroupCommitLogSupervisor(100, TimeUnit.MILLISECONDS.toMicros(50), context.getExecutorServiceManager());
+
+        AtomicReference<String> threadName = new AtomicReference<>();
+        try (LogWriter logWriter = new LogWriter(reportFile, supervisor, LogWriter.DEFAULT_CAPACITY, SEGMENT_SIZE)) {
+            supervisor.start(() -> threadName.compareAndSet(null, Thread.currentThread().getName()));
+
+            // the group is not complete, so the record is flushed after the delay
+            generateDataFilePredictable(null, logWriter, 1);
+            Assertions.assertNotNull(threadName.get(), "The record should have been flushed");
+        }
+
+        // the task runs on a thread of the executor service manager, which is shutdown when the writer is closed
+        Assertions.assertTrue(threadName.get().contains("CamelWalGroupCommit"), threadName.get());
+        Assertions.assertTrue(supervisor.isTerminated());
+    }
+
+    private static long sizeOf(int count) {
+        long size = Header.BYTES;
+        for (int i = 0; i < count; i++) {
+            size += LogEntry.size(createNewLogEntry(null, i).getKey(), new byte[Long.BYTES]);
+        }
+        return size;
+    }
+}
@@ -64,6 +64,7 @@ import org.apache.camel.spi.NamespaceAware;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.MessageHelper;
+import org.apache.camel.support.ParsedDocumentCache;
 import org.apache.camel.support.builder.Namespaces;
 import org.apache.camel.support.builder.xml.XMLConverterHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -1007,6 +1008,9 @@ public class XPathBuilder extends ServiceSupport
         if (isInputStreamNeededForObject(payload)) {
             is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, payload);
             document = getDocument(exchange, is);
+        } else if (getDocumentType() == Document.class && !(payload instanceof Node)) {
+            // the payload is parsed into a DOM which can be reused by other xpaths on the same exchange (if enabled)
+            document = ParsedDocumentCache.computeIfAbsent(exchange, payload, Document.class, p -> getDocument(exchange, p));
         } else {
             document = getDocument(exchange, payload);
         }
@@ -13,7 +13,7 @@ public class ExchangeConstantProvider {
 
     private static final Map<String, String> MAP;
     static {
-        Map<String, String> map = new HashMap<>(163);
+        Map<String, String> map = new HashMap<>(164);
         map.put("ACCEPT_CONTENT_TYPE", "CamelAcceptContentType");
         map.put("AGGREGATED_COLLECTION_GUARD", "CamelAggregatedCollectionGuard");
         map.put("AGGREGATED_COMPLETED_BY", "CamelAggregatedCompletedBy");
@@ -142,6 +142,7 @@ public class ExchangeConstantProvider {
         map.put("REST_OPENAPI", "CamelRestOpenAPI");
         map.put("ROLLBACK_ONLY", "CamelRollbackOnly");
         map.put("ROLLBACK_ONLY_LAST", "CamelRollbackOnlyLast");
+        map.put("ROUTE_STARTUP_CONCURRENCY", "CamelRouteStartupConcurrency");
         map.put("ROUTE_STOP", "CamelRouteStop");
         map.put("SAGA_LONG_RUNNING_ACTION", "Long-Running-Action");
         map.put("SAXPARSER_FACTORY", "CamelSAXParserFactory");
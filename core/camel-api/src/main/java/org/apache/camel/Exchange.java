@@ -276,6 +276,7 @@ public interface Exchange extends VariableAware {
     String ROLLBACK_ONLY = "CamelRollbackOnly";
     @Deprecated(since = "3.1.0")
     String ROLLBACK_ONLY_LAST = "CamelRollbackOnlyLast";
+    String ROUTE_STARTUP_CONCURRENCY = "CamelRouteStartupConcurrency";
     @Deprecated(since = "3.1.0")
     String ROUTE_STOP = "CamelRouteStop";
 
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+
+/**
+ * A specialized {@link org.apache.camel.spi.AggregationRepository} which can persist every incoming {@link Exchange}
+ * as an append-only delta, instead of storing the entire aggregated exchange again whenever a new exchange is
+ * aggregated.
+ * <p/>
+ * The aggregated exchange is reconstructed by aggregating the deltas (in the order they were appended) using the
+ * {@link AggregationStrategy} from the aggregator, such as when the repository is started again (recovery).
+ * Therefore, the {@link AggregationStrategy} must give the same result when aggregating the same exchanges again.
+ * <p/>
+ * The {@link org.apache.camel.processor.aggregate.AggregateProcessor} will call
+ * {@link #append(CamelContext, String, Exchange, Exchange)} instead of
+ * {@link #add(CamelContext, String, Exchange)} when it is not using optimistic locking. Optimistic locking cannot be
+ * enabled on the aggregator when the repository is append only.
+ */
+public interface DeltaAggregationRepository extends AggregationRepository {
+
+    /**
+     * Whether the repository is storing the incoming exchanges as deltas (append only), or the entire aggregated
+     * exchange as with {@link #add(CamelContext, String, Exchange)}.
+     */
+    boolean isAppendOnly();
+
+    /**
+     * Sets the {@link AggregationStrategy} to use for reconstructing the aggregated exchange from the deltas.
+     * <p/>
+     * This is set by the aggregator before the repository is started.
+     *
+     * @param aggregationStrategy the aggregation strategy
+     */
+    void setAggregationStrategy(AggregationStrategy aggregationStrategy);
+
+    /**
+     * Appends the incoming {@link Exchange} under the correlation key.
+     * <p/>
+     * If the repository is not configured to store deltas then the aggregated exchange should be added as with
+     * {@link #add(CamelContext, String, Exchange)}.
+     *
+     * @param camelContext the current CamelContext
+     * @param key          the correlation key
+     * @param exchange     the incoming exchange, which has been aggregated
+     * @param aggregated   the aggregated exchange (including the incoming exchange)
+     */
+    void append(CamelContext camelContext, String key, Exchange exchange, Exchange aggregated);
+
+}
@@ -215,6 +215,35 @@ public interface StreamCachingStrategy extends StaticService {
 
     int getBufferSize();
 
+    /**
+     * Enables keeping in-memory stream caches in pooled off-heap (direct) memory, instead of heap byte arrays.
+     * <p/>
+     * The in-memory stream caches are stored in fixed size chunks, taken from a pool shared by all the stream caches,
+     * which are returned to the pool when the exchanges using the stream cache are done. This avoids allocating large
+     * byte arrays on the heap for large payloads, which puts pressure on the garbage collector. If the off-heap memory
+     * has reached the maximum size then the stream caches use heap memory (in chunks) instead.
+     * <p/>
+     * <b>Notice:</b> This cannot be changed at runtime.
+     *
+     * Default is disabled.
+     */
+    void setOffHeapEnabled(boolean offHeapEnabled);
+
+    /**
+     * Is pooled off-heap memory enabled.
+     */
+    boolean isOffHeapEnabled();
+
+    /**
+     * Sets the maximum size in bytes of the off-heap memory which can be used for in-memory stream caches, when
+     * {@link #setOffHeapEnabled(boolean)} is enabled.
+     * <p/>
+     * The default size is 64mb.
+     */
+    void setOffHeapMaxSize(long offHeapMaxSize);
+
+    long getOffHeapMaxSize();
+
     /**
      * Sets a cipher name to use when spooling to disk to write with encryption.
      * <p/>
@@ -179,6 +179,27 @@ public class AbstractDynamicRegistry<K, V> extends AbstractMap<K, V> implements
         }
     }
 
+    /**
+     * Number of cache hits of the dynamic part, or <tt>-1</tt> if the cache has no statistics
+     */
+    public long getHits() {
+        return dynamicMap instanceof LRUCache<K, V> cache ? cache.getHits() : -1;
+    }
+
+    /**
+     * Number of cache misses of the dynamic part, or <tt>-1</tt> if the cache has no statistics
+     */
+    public long getMisses() {
+        return dynamicMap instanceof LRUCache<K, V> cache ? cache.getMisses() : -1;
+    }
+
+    /**
+     * Number of evicted entries of the dynamic part, or <tt>-1</tt> if the cache has no statistics
+     */
+    public long getEvicted() {
+        return dynamicMap instanceof LRUCache<K, V> cache ? cache.getEvicted() : -1;
+    }
+
     public boolean isStatic(K key) {
         return staticMap.containsKey(key);
     }
@@ -200,7 +200,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(source, sanitizedName, true);
+        ThreadFactory threadFactory
+                = createThreadFactory(source, sanitizedName, true, Boolean.TRUE.equals(profile.getVirtualThreads()));
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -599,7 +600,11 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     }
 
     protected ThreadFactory createThreadFactory(Object source, String name, boolean daemon) {
-        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon);
+        return createThreadFactory(source, name, daemon, false);
+    }
+
+    protected ThreadFactory createThreadFactory(Object source, String name, boolean daemon, boolean virtual) {
+        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon, virtual);
         for (ThreadFactoryListener listener : threadFactoryListeners) {
             factory = listener.onNewThreadFactory(source, factory);
         }
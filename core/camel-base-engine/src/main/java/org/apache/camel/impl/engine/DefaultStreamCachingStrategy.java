@@ -35,6 +35,7 @@ import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.StreamCacheBufferPool;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.TempDirHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -69,6 +70,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private SpoolUsedHeapMemoryLimit spoolUsedHeapMemoryLimit;
     private String spoolCipher;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
+    private boolean offHeapEnabled;
+    private long offHeapMaxSize = 64 * 1024 * 1024;
     private boolean removeSpoolDirectoryWhenStopping = true;
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
@@ -197,6 +200,26 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.bufferSize = bufferSize;
     }
 
+    @Override
+    public boolean isOffHeapEnabled() {
+        return offHeapEnabled;
+    }
+
+    @Override
+    public void setOffHeapEnabled(boolean offHeapEnabled) {
+        this.offHeapEnabled = offHeapEnabled;
+    }
+
+    @Override
+    public long getOffHeapMaxSize() {
+        return offHeapMaxSize;
+    }
+
+    @Override
+    public void setOffHeapMaxSize(long offHeapMaxSize) {
+        this.offHeapMaxSize = offHeapMaxSize;
+    }
+
     @Override
     public boolean isRemoveSpoolDirectoryWhenStopping() {
         return removeSpoolDirectoryWhenStopping;
@@ -450,6 +473,14 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        if (offHeapEnabled && camelContext.getCamelContextExtension().getContextPlugin(StreamCacheBufferPool.class) == null) {
+            if (offHeapMaxSize <= 0) {
+                throw new IllegalArgumentException("OffHeapMaxSize must be higher than 0, was: " + offHeapMaxSize);
+            }
+            camelContext.getCamelContextExtension().addContextPlugin(StreamCacheBufferPool.class,
+                    new StreamCacheBufferPool(offHeapMaxSize));
+        }
+
         LOG.debug("StreamCaching configuration {}", this);
 
         if (spoolDirectory != null) {
@@ -489,6 +520,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
+               + ", offHeapEnabled=" + offHeapEnabled
+               + ", offHeapMaxSize=" + offHeapMaxSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
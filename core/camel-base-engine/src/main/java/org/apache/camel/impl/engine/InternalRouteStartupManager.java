@@ -19,19 +19,33 @@ package org.apache.camel.impl.engine;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointAware;
+import org.apache.camel.Exchange;
 import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.MultipleConsumersSupport;
+import org.apache.camel.Navigate;
+import org.apache.camel.Processor;
 import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.StartupListener;
 import org.apache.camel.StartupStep;
@@ -40,6 +54,7 @@ import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
@@ -51,6 +66,13 @@ import org.slf4j.LoggerFactory;
  * starting routes.
  * <p>
  * This code has been refactored out of {@link AbstractCamelContext} to its own class.
+ * <p>
+ * The routes are initialized and started one by one, unless the global option {@link Exchange#ROUTE_STARTUP_CONCURRENCY}
+ * is set to use a thread pool to initialize the routes and start their consumers concurrently. The routes are still
+ * warmed up one by one, and the lifecycle strategies are invoked from the calling thread. Routes with an explicit startup order
+ * are then still initialized and started one by one in that order (and all the routes before them are started first),
+ * and the routes consuming from an endpoint (such as direct or seda) are started before the routes sending to the
+ * endpoint.
  */
 final class InternalRouteStartupManager {
 
@@ -78,28 +100,48 @@ final class InternalRouteStartupManager {
             throws Exception {
 
         camelContext.setStartingRoutes(true);
+        ExecutorService executor = createExecutor(camelContext, routeServices.size());
         try {
-            for (RouteService routeService : routeServices.values()) {
-                StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder().beginStep(Route.class,
-                        routeService.getId(),
-                        "Init Route");
-                try {
-                    LOG.debug("Initializing route id: {}", routeService.getId());
-                    setupRoute.set(routeService.getRoute());
-                    // initializing route is called doSetup as we do not want to change the service state on the RouteService
-                    // so it can remain as stopped, when Camel is booting as this was the previous behavior - otherwise its state
-                    // would be initialized
-                    routeService.setUp();
-                } finally {
-                    setupRoute.remove();
-                    camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+            if (executor != null) {
+                LOG.debug("Initializing {} routes concurrently", routeServices.size());
+                doConcurrently(camelContext, executor, new ArrayList<>(routeServices.values()),
+                        routeService -> doInitRoute(camelContext, routeService, false));
+            } else {
+                for (RouteService routeService : routeServices.values()) {
+                    doInitRoute(camelContext, routeService, true);
                 }
             }
         } finally {
+            if (executor != null) {
+                camelContext.getExecutorServiceManager().shutdownNow(executor);
+            }
             camelContext.setStartingRoutes(false);
         }
     }
 
+    private void doInitRoute(AbstractCamelContext camelContext, RouteService routeService, boolean recordStep)
+            throws Exception {
+        // the startup step recorder does not support recording steps concurrently
+        StartupStep step = recordStep
+                ? camelContext.getCamelContextExtension().getStartupStepRecorder().beginStep(Route.class,
+                        routeService.getId(),
+                        "Init Route")
+                : null;
+        try {
+            LOG.debug("Initializing route id: {}", routeService.getId());
+            setupRoute.set(routeService.getRoute());
+            // initializing route is called doSetup as we do not want to change the service state on the RouteService
+            // so it can remain as stopped, when Camel is booting as this was the previous behavior - otherwise its state
+            // would be initialized
+            routeService.setUp();
+        } finally {
+            setupRoute.remove();
+            if (step != null) {
+                camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+            }
+        }
+    }
+
     /**
      * Starts or resumes the routes
      *
@@ -177,6 +219,7 @@ final class InternalRouteStartupManager {
             Collection<RouteService> routeServices)
             throws Exception {
         lock.lock();
+        ExecutorService executor = null;
         try {
             // list of inputs to start when all the routes have been prepared for
             // starting
@@ -194,7 +237,11 @@ final class InternalRouteStartupManager {
                 inputs.put(order.getStartupOrder(), order);
             }
 
-            // warm up routes before we start them
+            // initialize and start the routes concurrently if enabled
+            executor = createExecutor(camelContext, inputs.size());
+
+            // warm up routes before we start them (always one by one, as warming up a route invokes the
+            // lifecycle strategies, which are not required to be thread-safe)
             doWarmUpRoutes(camelContext, inputs, startConsumer);
 
             // sort the startup listeners so they are started in the right order
@@ -219,7 +266,7 @@ final class InternalRouteStartupManager {
                     // and now start the routes
                     // and check for clash with multiple consumers of the same
                     // endpoints which is not allowed
-                    doStartRouteConsumers(camelContext, inputs, addingRoutes);
+                    doStartRouteConsumers(camelContext, inputs, addingRoutes, executor);
                 }
             }
 
@@ -238,6 +285,9 @@ final class InternalRouteStartupManager {
             // inputs no longer needed
             inputs.clear();
         } finally {
+            if (executor != null) {
+                camelContext.getExecutorServiceManager().shutdownNow(executor);
+            }
             lock.unlock();
         }
     }
@@ -341,9 +391,14 @@ final class InternalRouteStartupManager {
     }
 
     void doStartRouteConsumers(
-            AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes)
+            AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes,
+            ExecutorService executor)
             throws Exception {
-        doStartOrResumeRouteConsumers(camelContext, inputs, false, addingRoutes);
+        if (executor != null) {
+            doStartRouteConsumersConcurrently(camelContext, inputs, addingRoutes, executor);
+        } else {
+            doStartOrResumeRouteConsumers(camelContext, inputs, false, addingRoutes);
+        }
     }
 
     private LoggingLevel getRouteLoggerLogLevel(AbstractCamelContext camelContext) {
@@ -363,11 +418,7 @@ final class InternalRouteStartupManager {
 
             // if we are starting camel, then skip routes which are configured
             // to not be auto started
-            boolean autoStartup = routeService.isAutoStartup();
-            if (addingRoute && !autoStartup) {
-                routeLogger.log(
-                        "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
-                        getRouteLoggerLogLevel(camelContext));
+            if (doSkipRoute(camelContext, routeService, addingRoute)) {
                 continue;
             }
 
@@ -380,30 +431,7 @@ final class InternalRouteStartupManager {
             if (consumer != null) {
                 Endpoint endpoint = consumer.getEndpoint();
 
-                // check multiple consumer violation, with the other routes to be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
-
-                // check for multiple consumer violations with existing routes
-                // which have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : camelContext.getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
-                    }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = camelContext.getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
-                    }
-                }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+                doCheckRouteConsumerClash(camelContext, route, routeService, endpoint, routeInputs);
 
                 // start the consumer on the route
                 LOG.debug("Route: {} >>> {}", route.getId(), route);
@@ -422,59 +450,334 @@ final class InternalRouteStartupManager {
                     routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
                             getRouteLoggerLogLevel(camelContext));
                 } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
-                        strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
+                    doStartRouteConsumer(camelContext, route, consumer);
+                }
+
+                routeInputs.add(endpoint);
+
+                doAddRouteStartupOrder(camelContext, entry.getValue());
+            }
+
+            if (resumeOnly) {
+                routeService.resume();
+            } else {
+                doStartRouteService(route, routeService);
+            }
+
+            camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+        }
+    }
+
+    private void doStartRouteConsumersConcurrently(
+            AbstractCamelContext camelContext,
+            Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoute, ExecutorService executor)
+            throws Exception {
+        // check all the routes before starting any of them, in the same order as when starting the routes one by one
+        List<Endpoint> routeInputs = new ArrayList<>();
+        Map<Integer, DefaultRouteStartupOrder> routes = new TreeMap<>();
+        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
+            Route route = entry.getValue().getRoute();
+            RouteService routeService = entry.getValue().getRouteService();
+            if (doSkipRoute(camelContext, routeService, addingRoute)) {
+                continue;
+            }
+            Consumer consumer = routeService.getInput();
+            if (consumer != null) {
+                doCheckRouteConsumerClash(camelContext, route, routeService, consumer.getEndpoint(), routeInputs);
+                routeInputs.add(consumer.getEndpoint());
+            }
+            routes.put(entry.getKey(), entry.getValue());
+        }
+
+        for (List<DefaultRouteStartupOrder> group : doGroupByStartupOrder(routes)) {
+            // start the routes which other routes send to first, so the consumers are ready
+            for (List<DefaultRouteStartupOrder> level : doGroupByDependencies(group)) {
+                // the lifecycle strategies are not required to be thread-safe, so invoke them from this thread
+                for (DefaultRouteStartupOrder order : level) {
+                    Consumer consumer = order.getRouteService().getInput();
+                    if (consumer != null) {
+                        doAddRouteConsumer(camelContext, order.getRoute(), consumer);
                     }
-                    try {
-                        camelContext.startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
+                }
+                Set<DefaultRouteStartupOrder> started = ConcurrentHashMap.newKeySet();
+                try {
+                    doConcurrently(camelContext, executor, level, order -> {
+                        Route route = order.getRoute();
+                        Consumer consumer = order.getRouteService().getInput();
+                        if (consumer != null) {
+                            LOG.debug("Route: {} >>> {}", route.getId(), route);
+                            LOG.debug("Starting consumer (order: {}) on route: {}", order.getStartupOrder(), route.getId());
+                            doStartAddedRouteConsumer(camelContext, route, consumer);
+                            started.add(order);
+                        }
+                        doStartRouteService(route, order.getRouteService());
+                    });
+                } finally {
+                    // add to the order which they was started, so we know how to stop them in reverse order
+                    for (DefaultRouteStartupOrder order : level) {
+                        if (started.contains(order)) {
+                            doAddRouteStartupOrder(camelContext, order);
+                        }
                     }
-
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
-                            getRouteLoggerLogLevel(camelContext));
                 }
+            }
+        }
+    }
 
-                routeInputs.add(endpoint);
+    private boolean doSkipRoute(AbstractCamelContext camelContext, RouteService routeService, boolean addingRoute) {
+        if (addingRoute && !routeService.isAutoStartup()) {
+            routeLogger.log(
+                    "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
+                    getRouteLoggerLogLevel(camelContext));
+            return true;
+        }
+        return false;
+    }
+
+    private void doCheckRouteConsumerClash(
+            AbstractCamelContext camelContext, Route route, RouteService routeService, Endpoint endpoint,
+            List<Endpoint> routeInputs)
+            throws FailedToStartRouteException {
+        // check multiple consumer violation, with the other routes to be started
+        if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+            throw new FailedToStartRouteException(
+                    routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+
+        // check for multiple consumer violations with existing routes
+        // which have already been started, or is currently starting
+        List<Endpoint> existingEndpoints = new ArrayList<>();
+        for (Route existingRoute : camelContext.getRoutes()) {
+            if (route.getId().equals(existingRoute.getId())) {
+                // skip ourselves
+                continue;
+            }
+            Endpoint existing = existingRoute.getEndpoint();
+            ServiceStatus status = camelContext.getRouteStatus(existingRoute.getId());
+            if (status != null && (status.isStarted() || status.isStarting())) {
+                existingEndpoints.add(existing);
+            }
+        }
+        if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+            throw new FailedToStartRouteException(
+                    routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+    }
+
+    private void doStartRouteConsumer(AbstractCamelContext camelContext, Route route, Consumer consumer) throws Exception {
+        doAddRouteConsumer(camelContext, route, consumer);
+        doStartAddedRouteConsumer(camelContext, route, consumer);
+    }
+
+    private static void doAddRouteConsumer(AbstractCamelContext camelContext, Route route, Consumer consumer) {
+        // when starting we should invoke the lifecycle strategies
+        for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+            strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
+        }
+    }
+
+    private void doStartAddedRouteConsumer(AbstractCamelContext camelContext, Route route, Consumer consumer)
+            throws Exception {
+        try {
+            camelContext.startService(consumer);
+            route.getProperties().remove("route.start.exception");
+        } catch (Exception e) {
+            route.getProperties().put("route.start.exception", e);
+            throw e;
+        }
+
+        // use basic endpoint uri to not log verbose details or potential sensitive data
+        String uri = consumer.getEndpoint().getEndpointBaseUri();
+        uri = URISupport.sanitizeUri(uri);
+        routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
+                getRouteLoggerLogLevel(camelContext));
+    }
+
+    private static void doStartRouteService(Route route, RouteService routeService) throws Exception {
+        // and start the route service (no need to start children as
+        // they are already warmed up)
+        try {
+            routeService.start();
+            route.getProperties().remove("route.start.exception");
+        } catch (Exception e) {
+            route.getProperties().put("route.start.exception", e);
+            throw e;
+        }
+    }
+
+    private static void doAddRouteStartupOrder(AbstractCamelContext camelContext, DefaultRouteStartupOrder order) {
+        // add to the order which they was started, so we know how to
+        // stop them in reverse order
+        // but only add if we haven't already registered it before (we
+        // dont want to double add when restarting)
+        for (RouteStartupOrder other : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
+            if (other.getRoute().getId().equals(order.getRoute().getId())) {
+                return;
+            }
+        }
+        camelContext.getCamelContextExtension().getRouteStartupOrder().add(order);
+    }
+
+    /**
+     * Creates the thread pool to initialize and start the routes concurrently, or <tt>null</tt> to do this one by one.
+     */
+    private ExecutorService createExecutor(AbstractCamelContext camelContext, int routes) {
+        int concurrency = CamelContextHelper.getRouteStartupConcurrency(camelContext);
+        if (concurrency <= 1 || routes <= 1) {
+            return null;
+        }
+        return camelContext.getExecutorServiceManager().newFixedThreadPool(this, "RouteStartup",
+                Math.min(concurrency, routes));
+    }
 
-                // add to the order which they was started, so we know how to
-                // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
-                boolean found = false;
-                for (RouteStartupOrder other : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
-                    if (other.getRoute().getId().equals(route.getId())) {
-                        found = true;
-                        break;
+    /**
+     * Runs the task on all the routes using the thread pool, and waits for all of them to complete. If any of the tasks
+     * failed, then the exception of the first of the routes (in the given order) which failed is thrown.
+     */
+    private static <T> void doConcurrently(
+            AbstractCamelContext camelContext, ExecutorService executor, List<T> routes, RouteTask<T> task)
+            throws Exception {
+        if (routes.size() == 1) {
+            task.run(routes.get(0));
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(routes.size());
+        for (T route : routes) {
+            futures.add(executor.submit(() -> {
+                camelContext.setStartingRoutes(true);
+                try {
+                    task.run(route);
+                } finally {
+                    camelContext.setStartingRoutes(false);
+                }
+                return null;
+            }));
+        }
+
+        Exception cause = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (cause == null) {
+                    if (e.getCause() instanceof Exception ex) {
+                        cause = ex;
+                    } else {
+                        cause = new RuntimeCamelException(e.getCause());
                     }
                 }
-                if (!found) {
-                    camelContext.getCamelContextExtension().getRouteStartupOrder().add(entry.getValue());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (cause == null) {
+                    cause = e;
                 }
             }
+        }
+        if (cause != null) {
+            throw cause;
+        }
+    }
 
-            if (resumeOnly) {
-                routeService.resume();
+    /**
+     * Groups the routes (sorted by startup order) which can be started concurrently. A route with an explicit startup
+     * order is started on its own after the routes before it, and the routes without an explicit startup order in
+     * between are started concurrently.
+     */
+    private static List<List<DefaultRouteStartupOrder>> doGroupByStartupOrder(Map<Integer, DefaultRouteStartupOrder> inputs) {
+        List<List<DefaultRouteStartupOrder>> answer = new ArrayList<>();
+        List<DefaultRouteStartupOrder> group = new ArrayList<>();
+        for (DefaultRouteStartupOrder order : inputs.values()) {
+            if (order.getRoute().getStartupOrder() != null) {
+                if (!group.isEmpty()) {
+                    answer.add(group);
+                    group = new ArrayList<>();
+                }
+                answer.add(Collections.singletonList(order));
             } else {
-                // and start the route service (no need to start children as
-                // they are already warmed up)
-                try {
-                    routeService.start();
-                    route.getProperties().remove("route.start.exception");
-                } catch (Exception e) {
-                    route.getProperties().put("route.start.exception", e);
-                    throw e;
+                group.add(order);
+            }
+        }
+        if (!group.isEmpty()) {
+            answer.add(group);
+        }
+        return answer;
+    }
+
+    /**
+     * Groups the routes into levels, where the routes in a level only send to the endpoints consumed by routes in the
+     * previous levels, so the consumers of these endpoints are started first. Routes which send to each other (a cycle)
+     * are added to the last level.
+     */
+    private static List<List<DefaultRouteStartupOrder>> doGroupByDependencies(List<DefaultRouteStartupOrder> routes) {
+        if (routes.size() <= 1) {
+            return Collections.singletonList(routes);
+        }
+
+        Map<Endpoint, DefaultRouteStartupOrder> consumers = new IdentityHashMap<>();
+        for (DefaultRouteStartupOrder order : routes) {
+            Consumer consumer = order.getRouteService().getInput();
+            if (consumer != null) {
+                consumers.put(consumer.getEndpoint(), order);
+            }
+        }
+
+        // the routes which each route send to
+        Map<DefaultRouteStartupOrder, Set<DefaultRouteStartupOrder>> dependencies = new HashMap<>();
+        for (DefaultRouteStartupOrder order : routes) {
+            Set<DefaultRouteStartupOrder> targets = new HashSet<>();
+            Set<Endpoint> endpoints = Collections.newSetFromMap(new IdentityHashMap<>());
+            doCollectEndpoints(order.getRoute().navigate(), endpoints);
+            for (Endpoint endpoint : endpoints) {
+                DefaultRouteStartupOrder target = consumers.get(endpoint);
+                if (target != null && target != order) {
+                    targets.add(target);
                 }
             }
+            dependencies.put(order, targets);
+        }
 
-            camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+        List<List<DefaultRouteStartupOrder>> answer = new ArrayList<>();
+        Set<DefaultRouteStartupOrder> done = new HashSet<>();
+        List<DefaultRouteStartupOrder> remaining = new ArrayList<>(routes);
+        while (!remaining.isEmpty()) {
+            List<DefaultRouteStartupOrder> level = new ArrayList<>();
+            for (DefaultRouteStartupOrder order : remaining) {
+                if (done.containsAll(dependencies.get(order))) {
+                    level.add(order);
+                }
+            }
+            if (level.isEmpty()) {
+                // the routes send to each other so start the rest together
+                level = remaining;
+            }
+            answer.add(level);
+            done.addAll(level);
+            remaining = new ArrayList<>(remaining);
+            remaining.removeAll(level);
         }
+        return answer;
+    }
+
+    private static void doCollectEndpoints(Navigate<Processor> nav, Set<Endpoint> endpoints) {
+        if (nav == null || !nav.hasNext()) {
+            return;
+        }
+        for (Processor processor : nav.next()) {
+            if (processor instanceof EndpointAware endpointAware && endpointAware.getEndpoint() != null) {
+                endpoints.add(endpointAware.getEndpoint());
+            }
+            if (processor instanceof Navigate<?>) {
+                @SuppressWarnings("unchecked")
+                Navigate<Processor> child = (Navigate<Processor>) processor;
+                doCollectEndpoints(child, endpoints);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RouteTask<T> {
+        void run(T route) throws Exception;
     }
 
     private boolean doCheckMultipleConsumerSupportClash(Endpoint endpoint, List<Endpoint> routeInputs) {
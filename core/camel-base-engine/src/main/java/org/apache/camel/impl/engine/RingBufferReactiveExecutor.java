@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.NamedThreadLocal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} where each worker uses pre-sized ring buffers for its tasks, which are reused.
+ * <p/>
+ * This is similar to {@link DefaultReactiveExecutor} but avoids allocating new queues when a new main flow is
+ * scheduled, as each worker keeps a stack of ring buffers (one per nesting level of main flows) that are reused. The
+ * tasks are drained in batches from the current ring buffer, and statistics (when enabled) are updated once per batch
+ * instead of per task.
+ */
+@ManagedResource(description = "Managed RingBufferReactiveExecutor")
+public class RingBufferReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RingBufferReactiveExecutor.class);
+
+    private int capacity = 256;
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
+
+    private final NamedThreadLocal<Worker> workers = new NamedThreadLocal<>("CamelReactiveWorker", () -> {
+        int number = createdWorkers.incrementAndGet();
+        return new Worker(number, RingBufferReactiveExecutor.this);
+    });
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(runnable, false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ScheduleQueue: {}", runnable);
+        }
+        workers.get().queue.addLast(runnable);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @ManagedAttribute(description = "Initial capacity of the ring buffers used by each worker")
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Initial capacity of the ring buffers used by each worker. The ring buffers grow if needed. The capacity is rounded
+     * up to a power of two. The default is 256.
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug("Stopping RingBufferReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks());
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        workers.remove();
+    }
+
+    /**
+     * A growable ring buffer of tasks (double-ended queue) which is only accessed by its owning worker thread.
+     */
+    static final class RingBuffer {
+
+        private Runnable[] elements;
+        private int mask;
+        private int head;
+        private int tail;
+
+        RingBuffer(int capacity) {
+            int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+            this.elements = new Runnable[size];
+            this.mask = size - 1;
+        }
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        void addFirst(Runnable runnable) {
+            head = (head - 1) & mask;
+            elements[head] = runnable;
+            if (head == tail) {
+                grow();
+            }
+        }
+
+        void addLast(Runnable runnable) {
+            elements[tail] = runnable;
+            tail = (tail + 1) & mask;
+            if (head == tail) {
+                grow();
+            }
+        }
+
+        Runnable pollFirst() {
+            final Runnable answer = elements[head];
+            if (answer != null) {
+                elements[head] = null;
+                head = (head + 1) & mask;
+            }
+            return answer;
+        }
+
+        private void grow() {
+            // the buffer is full (head has caught up with tail) so double the size and unwrap the elements
+            final int size = elements.length;
+            final int right = size - head;
+            final Runnable[] copy = new Runnable[size << 1];
+            System.arraycopy(elements, head, copy, 0, right);
+            System.arraycopy(elements, 0, copy, right, head);
+            elements = copy;
+            mask = copy.length - 1;
+            head = 0;
+            tail = size;
+        }
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final RingBufferReactiveExecutor executor;
+        private final boolean stats;
+        private final int capacity;
+        // stack of ring buffers, one per nested main flow, which are reused
+        private RingBuffer[] levels;
+        private int level;
+        private RingBuffer queue;
+        private boolean running;
+
+        public Worker(int number, RingBufferReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+            this.stats = executor.isStatisticsEnabled();
+            this.capacity = executor.getCapacity();
+            this.levels = new RingBuffer[8];
+            this.queue = new RingBuffer(capacity);
+            this.levels[0] = queue;
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                executeMainFlow();
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+
+            if (stats) {
+                executor.pendingTasks.increment();
+            }
+            tryExecuteReactiveWork(runnable, sync);
+        }
+
+        private void executeMainFlow() {
+            if (!queue.isEmpty()) {
+                // park the current tasks and continue on the ring buffer for the next level (reuse if possible)
+                level++;
+                if (level == levels.length) {
+                    levels = Arrays.copyOf(levels, level << 1);
+                }
+                RingBuffer next = levels[level];
+                if (next == null) {
+                    next = new RingBuffer(capacity);
+                    levels[level] = next;
+                }
+                queue = next;
+            }
+        }
+
+        private void tryExecuteReactiveWork(Runnable runnable, boolean sync) {
+            if (!running || sync) {
+                running = true;
+                if (stats) {
+                    executor.runningWorkers.increment();
+                }
+                try {
+                    executeReactiveWork();
+                } finally {
+                    running = false;
+                    if (stats) {
+                        executor.runningWorkers.decrement();
+                    }
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        private void executeReactiveWork() {
+            for (;;) {
+                final RingBuffer current = queue;
+                // drain the current ring buffer in a batch, until it is empty or a task has switched to a new main flow
+                int count = 0;
+                Runnable polled;
+                while (queue == current && (polled = current.pollFirst()) != null) {
+                    count++;
+                    doRun(polled);
+                }
+                if (stats && count > 0) {
+                    executor.pendingTasks.add(-count);
+                }
+                if (queue != current) {
+                    continue;
+                }
+                if (level > 0) {
+                    // resume the tasks parked by the previous main flow
+                    queue = levels[--level];
+                } else {
+                    break;
+                }
+            }
+        }
+
+        private void doRun(Runnable polled) {
+            try {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                        t.getMessage(), t);
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Runnable polled = queue.pollFirst();
+            if (polled == null) {
+                return false;
+            }
+            try {
+                if (stats) {
+                    executor.pendingTasks.decrement();
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                // should not happen
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            }
+            return true;
+        }
+
+    }
+
+}
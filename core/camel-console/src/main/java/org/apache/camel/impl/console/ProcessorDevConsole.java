@@ -149,6 +149,10 @@ public class ProcessorDevConsole extends AbstractDevConsole {
                 sb.append(String.format("\n        Last Time: %s", TimeUtils.printDuration(mp.getLastProcessingTime(), true)));
                 sb.append(
                         String.format("\n        Delta Time: %s", TimeUtils.printDuration(mp.getDeltaProcessingTime(), true)));
+                sb.append(String.format("\n        P50 Time: %s", TimeUtils.printDuration(mp.getP50ProcessingTime(), true)));
+                sb.append(String.format("\n        P90 Time: %s", TimeUtils.printDuration(mp.getP90ProcessingTime(), true)));
+                sb.append(String.format("\n        P99 Time: %s", TimeUtils.printDuration(mp.getP99ProcessingTime(), true)));
+                sb.append(String.format("\n        P999 Time: %s", TimeUtils.printDuration(mp.getP999ProcessingTime(), true)));
             }
             Date last = mp.getLastExchangeCompletedTimestamp();
             if (last != null) {
@@ -263,6 +267,10 @@ public class ProcessorDevConsole extends AbstractDevConsole {
         if (mp.getExchangesTotal() > 0) {
             stats.put("lastProcessingTime", mp.getLastProcessingTime());
             stats.put("deltaProcessingTime", mp.getDeltaProcessingTime());
+            stats.put("p50ProcessingTime", mp.getP50ProcessingTime());
+            stats.put("p90ProcessingTime", mp.getP90ProcessingTime());
+            stats.put("p99ProcessingTime", mp.getP99ProcessingTime());
+            stats.put("p999ProcessingTime", mp.getP999ProcessingTime());
         }
         Date last = mp.getLastExchangeCreatedTimestamp();
         if (last != null) {
@@ -149,6 +149,10 @@ public class RouteDevConsole extends AbstractDevConsole {
             if (mrb.getExchangesTotal() > 0) {
                 sb.append(String.format("\n    Last Time: %s", TimeUtils.printDuration(mrb.getLastProcessingTime(), true)));
                 sb.append(String.format("\n    Delta Time: %s", TimeUtils.printDuration(mrb.getDeltaProcessingTime(), true)));
+                sb.append(String.format("\n    P50 Time: %s", TimeUtils.printDuration(mrb.getP50ProcessingTime(), true)));
+                sb.append(String.format("\n    P90 Time: %s", TimeUtils.printDuration(mrb.getP90ProcessingTime(), true)));
+                sb.append(String.format("\n    P99 Time: %s", TimeUtils.printDuration(mrb.getP99ProcessingTime(), true)));
+                sb.append(String.format("\n    P999 Time: %s", TimeUtils.printDuration(mrb.getP999ProcessingTime(), true)));
             }
             Date last = mrb.getLastExchangeCreatedTimestamp();
             if (last != null) {
@@ -232,6 +236,10 @@ public class RouteDevConsole extends AbstractDevConsole {
                 sb.append(String.format("\n        Last Time: %s", TimeUtils.printDuration(mp.getLastProcessingTime(), true)));
                 sb.append(
                         String.format("\n        Delta Time: %s", TimeUtils.printDuration(mp.getDeltaProcessingTime(), true)));
+                sb.append(String.format("\n        P50 Time: %s", TimeUtils.printDuration(mp.getP50ProcessingTime(), true)));
+                sb.append(String.format("\n        P90 Time: %s", TimeUtils.printDuration(mp.getP90ProcessingTime(), true)));
+                sb.append(String.format("\n        P99 Time: %s", TimeUtils.printDuration(mp.getP99ProcessingTime(), true)));
+                sb.append(String.format("\n        P999 Time: %s", TimeUtils.printDuration(mp.getP999ProcessingTime(), true)));
             }
             Date last = mp.getLastExchangeCompletedTimestamp();
             if (last != null) {
@@ -320,6 +328,10 @@ public class RouteDevConsole extends AbstractDevConsole {
             if (mrb.getExchangesTotal() > 0) {
                 stats.put("lastProcessingTime", mrb.getLastProcessingTime());
                 stats.put("deltaProcessingTime", mrb.getDeltaProcessingTime());
+                stats.put("p50ProcessingTime", mrb.getP50ProcessingTime());
+                stats.put("p90ProcessingTime", mrb.getP90ProcessingTime());
+                stats.put("p99ProcessingTime", mrb.getP99ProcessingTime());
+                stats.put("p999ProcessingTime", mrb.getP999ProcessingTime());
             }
             Date last = mrb.getLastExchangeCreatedTimestamp();
             if (last != null) {
@@ -413,6 +425,10 @@ public class RouteDevConsole extends AbstractDevConsole {
         if (mp.getExchangesTotal() > 0) {
             stats.put("lastProcessingTime", mp.getLastProcessingTime());
             stats.put("deltaProcessingTime", mp.getDeltaProcessingTime());
+            stats.put("p50ProcessingTime", mp.getP50ProcessingTime());
+            stats.put("p90ProcessingTime", mp.getP90ProcessingTime());
+            stats.put("p99ProcessingTime", mp.getP99ProcessingTime());
+            stats.put("p999ProcessingTime", mp.getP999ProcessingTime());
         }
         Date last = mp.getLastExchangeCreatedTimestamp();
         if (last != null) {
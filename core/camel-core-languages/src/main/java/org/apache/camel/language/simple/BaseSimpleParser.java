@@ -59,11 +59,17 @@ public abstract class BaseSimpleParser {
     protected int previousIndex;
     protected int index;
     protected final boolean allowEscape;
+    protected final boolean compiled;
 
     protected BaseSimpleParser(CamelContext camelContext, String expression, boolean allowEscape) {
+        this(camelContext, expression, allowEscape, false);
+    }
+
+    protected BaseSimpleParser(CamelContext camelContext, String expression, boolean allowEscape, boolean compiled) {
         this.camelContext = camelContext;
         this.expression = expression;
         this.allowEscape = allowEscape;
+        this.compiled = compiled;
     }
 
     /**
@@ -0,0 +1,553 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.language.simple.ast.BinaryExpression;
+import org.apache.camel.language.simple.ast.BooleanExpression;
+import org.apache.camel.language.simple.ast.CompositeNodes;
+import org.apache.camel.language.simple.ast.DoubleQuoteStart;
+import org.apache.camel.language.simple.ast.LiteralNode;
+import org.apache.camel.language.simple.ast.LogicalExpression;
+import org.apache.camel.language.simple.ast.NullExpression;
+import org.apache.camel.language.simple.ast.NumericExpression;
+import org.apache.camel.language.simple.ast.SimpleFunctionStart;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.apache.camel.language.simple.ast.SingleQuoteStart;
+import org.apache.camel.language.simple.types.BinaryOperatorType;
+import org.apache.camel.language.simple.types.LogicalOperatorType;
+import org.apache.camel.support.ConstantExpressionAdapter;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.apache.camel.support.LanguageHelper;
+import org.apache.camel.support.ObjectHelper;
+
+/**
+ * Compiles the AST nodes of the simple language into specialized {@link Expression}s and {@link Predicate}s, which is
+ * used when the simple language is in compiled mode (see {@link SimpleLanguage#SIMPLE_COMPILED}).
+ * <p/>
+ * The AST nodes create expressions which evaluate the constant parts of the operators (such as the pattern of the regex
+ * operator, or the values of the in operator) and create new predicates for every evaluation, and return the result of
+ * the predicates as boxed values which are type converted. The compiler instead resolves what is static once when the
+ * expression is created: the names of headers, exchange properties and variables, and the constant operands of the
+ * operators. The binary and logical operators are compiled into predicates which are evaluated directly.
+ * <p/>
+ * Nodes which cannot be compiled (such as functions with OGNL or nested functions) fall back to the expressions created
+ * by the AST nodes, so the compiled expressions have the same behaviour as when not compiled.
+ */
+final class SimpleCompiler {
+
+    // the range operator where you define the range as from..to (where from and to are numbers)
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^(\\d+)(\\.\\.)(\\d+)$");
+    private static final Pattern HEADER_PATTERN = Pattern.compile("^(?:in\\.)?headers?[.:]([\\w-]+)$");
+    private static final Pattern PROPERTY_PATTERN = Pattern.compile("^exchangeProperty[.:]([\\w-]+)$");
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("^variables?[.:]([\\w-]+)$");
+
+    private SimpleCompiler() {
+    }
+
+    /**
+     * Compiles the node into an expression, which is also a {@link Predicate} if the node is an operator.
+     */
+    static Expression compile(CamelContext camelContext, SimpleNode node, String expression) {
+        Expression answer = null;
+        if (node instanceof SimpleFunctionStart function) {
+            answer = compileFunction(function);
+        } else if (node instanceof BinaryExpression binary) {
+            answer = compileBinary(camelContext, binary, expression);
+        } else if (node instanceof LogicalExpression logical) {
+            answer = compileLogical(camelContext, logical, expression);
+        }
+        if (answer == null) {
+            answer = node.createExpression(camelContext, expression);
+        }
+        return answer;
+    }
+
+    /**
+     * Compiles the expressions of a template (such as <tt>Hello ${body}</tt>) into a single expression.
+     */
+    static Expression compileTemplate(List<Expression> expressions, String expression) {
+        return new TemplateExpression(expressions.toArray(new Expression[0]), expression);
+    }
+
+    private static Expression compileFunction(SimpleFunctionStart function) {
+        List<SimpleNode> children = function.getBlock().getChildren();
+        if (children.size() != 1 || !(children.get(0) instanceof LiteralNode literal)) {
+            // nested functions are evaluated dynamically
+            return null;
+        }
+        String text = literal.getText();
+        if ("body".equals(text) || "in.body".equals(text)) {
+            return new BodyValue(text);
+        }
+        Matcher matcher = HEADER_PATTERN.matcher(text);
+        if (matcher.matches() && !isSizeFunction(text, "headers", matcher.group(1))) {
+            return new HeaderValue(text, matcher.group(1));
+        }
+        matcher = PROPERTY_PATTERN.matcher(text);
+        if (matcher.matches()) {
+            return new PropertyValue(text, matcher.group(1));
+        }
+        matcher = VARIABLE_PATTERN.matcher(text);
+        if (matcher.matches() && !isSizeFunction(text, "variables", matcher.group(1))) {
+            return new VariableValue(text, matcher.group(1));
+        }
+        return null;
+    }
+
+    private static boolean isSizeFunction(String text, String prefix, String name) {
+        // headers.size and variables.size are functions
+        return text.startsWith(prefix) && ("size".equals(name) || "length".equals(name));
+    }
+
+    private static Expression compileBinary(CamelContext camelContext, BinaryExpression binary, String expression) {
+        BinaryOperatorType operator = binary.getOperator();
+        if (operator == BinaryOperatorType.IS || operator == BinaryOperatorType.NOT_IS) {
+            return null;
+        }
+
+        SimpleNode right = binary.getRight();
+        boolean constant = isConstant(right);
+        Object value = constant ? constantValue(right) : null;
+        String text = binary.toString();
+
+        if (operator == BinaryOperatorType.REGEX || operator == BinaryOperatorType.NOT_REGEX) {
+            if (!constant || value == null) {
+                return null;
+            }
+            Pattern pattern;
+            try {
+                pattern = Pattern.compile(value.toString());
+            } catch (PatternSyntaxException e) {
+                // let the expression fail when evaluated
+                return null;
+            }
+            Expression left = compile(camelContext, binary.getLeft(), expression);
+            return new RegexPredicate(text, left, pattern, operator == BinaryOperatorType.NOT_REGEX);
+        } else if (operator == BinaryOperatorType.IN || operator == BinaryOperatorType.NOT_IN) {
+            if (!constant) {
+                return null;
+            }
+            // each element on the right hand side must be separated by comma (default for create iterator)
+            List<Object> values = new ArrayList<>();
+            Iterator<?> it = ObjectHelper.createIterator(value);
+            while (it.hasNext()) {
+                values.add(it.next());
+            }
+            Expression left = compile(camelContext, binary.getLeft(), expression);
+            return new InPredicate(text, left, values.toArray(), operator == BinaryOperatorType.NOT_IN);
+        } else if (operator == BinaryOperatorType.RANGE || operator == BinaryOperatorType.NOT_RANGE) {
+            Matcher matcher = constant && value != null ? RANGE_PATTERN.matcher(value.toString()) : null;
+            if (matcher == null || !matcher.matches()) {
+                // let the expression fail when evaluated
+                return null;
+            }
+            Expression left = compile(camelContext, binary.getLeft(), expression);
+            return new RangePredicate(
+                    text, left, matcher.group(1), matcher.group(3), operator == BinaryOperatorType.NOT_RANGE);
+        }
+
+        Expression left = compile(camelContext, binary.getLeft(), expression);
+        Expression rightExp = constant ? null : compile(camelContext, right, expression);
+        return new BinaryPredicate(text, operator, left, rightExp, value);
+    }
+
+    private static Expression compileLogical(CamelContext camelContext, LogicalExpression logical, String expression) {
+        Predicate left = toPredicate(compile(camelContext, logical.getLeft(), expression));
+        Predicate right = toPredicate(compile(camelContext, logical.getRight(), expression));
+        return new LogicalPredicate(logical.toString(), left, right, logical.getOperator() == LogicalOperatorType.AND);
+    }
+
+    private static Predicate toPredicate(Expression expression) {
+        if (expression instanceof Predicate predicate) {
+            return predicate;
+        }
+        return ExpressionToPredicateAdapter.toPredicate(expression);
+    }
+
+    private static boolean isConstant(SimpleNode node) {
+        if (node instanceof LiteralNode || node instanceof NumericExpression || node instanceof BooleanExpression
+                || node instanceof NullExpression) {
+            return true;
+        }
+        CompositeNodes block = null;
+        if (node instanceof SingleQuoteStart quote) {
+            block = quote.getBlock();
+        } else if (node instanceof DoubleQuoteStart quote) {
+            block = quote.getBlock();
+        }
+        if (block != null) {
+            for (SimpleNode child : block.getChildren()) {
+                if (!(child instanceof LiteralNode)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static Object constantValue(SimpleNode node) {
+        if (node instanceof LiteralNode literal) {
+            return literal.getText();
+        } else if (node instanceof NumericExpression numeric) {
+            return numeric.getNumber();
+        } else if (node instanceof BooleanExpression) {
+            return "true".equals(node.getToken().getText());
+        } else if (node instanceof NullExpression) {
+            return null;
+        }
+        // quoted text
+        CompositeNodes block
+                = node instanceof SingleQuoteStart quote ? quote.getBlock() : ((DoubleQuoteStart) node).getBlock();
+        StringBuilder sb = new StringBuilder();
+        for (SimpleNode child : block.getChildren()) {
+            sb.append(((LiteralNode) child).getText());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Base class for compiled expressions returning a value from the exchange.
+     */
+    private abstract static class CompiledValue implements Expression {
+        private final String text;
+
+        CompiledValue(String text) {
+            this.text = text;
+        }
+
+        abstract Object getValue(Exchange exchange);
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T evaluate(Exchange exchange, Class<T> type) {
+            Object value = getValue(exchange);
+            if (type == Object.class || type.isInstance(value)) {
+                return (T) value;
+            }
+            return exchange.getContext().getTypeConverter().convertTo(type, exchange, value);
+        }
+
+        @Override
+        public String toString() {
+            return "${" + text + "}";
+        }
+    }
+
+    private static final class BodyValue extends CompiledValue {
+
+        BodyValue(String text) {
+            super(text);
+        }
+
+        @Override
+        Object getValue(Exchange exchange) {
+            return exchange.getIn().getBody();
+        }
+    }
+
+    private static final class HeaderValue extends CompiledValue {
+        private final String name;
+
+        HeaderValue(String text, String name) {
+            super(text);
+            this.name = name;
+        }
+
+        @Override
+        Object getValue(Exchange exchange) {
+            Object answer = exchange.getIn().getHeader(name);
+            if (answer == null) {
+                // fall back on a property
+                answer = exchange.getProperty(name);
+            }
+            return answer;
+        }
+    }
+
+    private static final class PropertyValue extends CompiledValue {
+        private final String name;
+
+        PropertyValue(String text, String name) {
+            super(text);
+            this.name = name;
+        }
+
+        @Override
+        Object getValue(Exchange exchange) {
+            return exchange.getProperty(name);
+        }
+    }
+
+    private static final class VariableValue extends CompiledValue {
+        private final String name;
+
+        VariableValue(String text, String name) {
+            super(text);
+            this.name = name;
+        }
+
+        @Override
+        Object getValue(Exchange exchange) {
+            return ExchangeHelper.getVariable(exchange, name);
+        }
+    }
+
+    /**
+     * Base class for compiled predicates, which can also be used as expressions.
+     */
+    private abstract static class CompiledPredicate implements Predicate, Expression {
+        private final String text;
+
+        CompiledPredicate(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void init(CamelContext context) {
+            // the operands are initialized when they are created
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T evaluate(Exchange exchange, Class<T> type) {
+            boolean answer = matches(exchange);
+            if (type == Object.class || type == Boolean.class || type == boolean.class) {
+                return (T) Boolean.valueOf(answer);
+            }
+            return exchange.getContext().getTypeConverter().convertTo(type, answer);
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    private static final class BinaryPredicate extends CompiledPredicate {
+        private final BinaryOperatorType operator;
+        private final Expression left;
+        private final Expression right;
+        private final Object rightValue;
+
+        BinaryPredicate(String text, BinaryOperatorType operator, Expression left, Expression right, Object rightValue) {
+            super(text);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+            this.rightValue = rightValue;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object l = left.evaluate(exchange, Object.class);
+            Object r = right != null ? right.evaluate(exchange, Object.class) : rightValue;
+            TypeConverter converter = exchange.getContext().getTypeConverter();
+            return switch (operator) {
+                case EQ -> l == null ? r == null : r != null && ObjectHelper.typeCoerceEquals(converter, l, r);
+                case EQ_IGNORE -> l == null ? r == null : r != null && ObjectHelper.typeCoerceEquals(converter, l, r, true);
+                case NOT_EQ -> l == null ? r != null : r == null || ObjectHelper.typeCoerceNotEquals(converter, l, r);
+                case NOT_EQ_IGNORE ->
+                    l == null ? r != null : r == null || !ObjectHelper.typeCoerceEquals(converter, l, r, true);
+                case GT -> l != null && r != null && ObjectHelper.typeCoerceCompare(converter, l, r) > 0;
+                case GTE -> l == null ? r == null : r != null && ObjectHelper.typeCoerceCompare(converter, l, r) >= 0;
+                case LT -> l == null ? r == null : r != null && ObjectHelper.typeCoerceCompare(converter, l, r) < 0;
+                case LTE -> l == null ? r == null : r != null && ObjectHelper.typeCoerceCompare(converter, l, r) <= 0;
+                case CONTAINS -> contains(converter, l, r, false);
+                case NOT_CONTAINS -> !contains(converter, l, r, false);
+                case CONTAINS_IGNORECASE -> contains(converter, l, r, true);
+                case NOT_CONTAINS_IGNORECASE -> !contains(converter, l, r, true);
+                case STARTS_WITH -> LanguageHelper.startsWith(exchange, l, r);
+                case ENDS_WITH -> LanguageHelper.endsWith(exchange, l, r);
+                default -> throw new IllegalStateException("Unsupported binary operator " + operator);
+            };
+        }
+
+        private static boolean contains(TypeConverter converter, Object l, Object r, boolean ignoreCase) {
+            return l == null ? r == null : r != null && ObjectHelper.typeCoerceContains(converter, l, r, ignoreCase);
+        }
+    }
+
+    private static final class RegexPredicate extends CompiledPredicate {
+        private final Expression left;
+        private final Pattern pattern;
+        private final boolean not;
+
+        RegexPredicate(String text, Expression left, Pattern pattern, boolean not) {
+            super(text);
+            this.left = left;
+            this.pattern = pattern;
+            this.not = not;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            String value = left.evaluate(exchange, String.class);
+            boolean answer = value != null && pattern.matcher(value).matches();
+            return not != answer;
+        }
+    }
+
+    private static final class InPredicate extends CompiledPredicate {
+        private final Expression left;
+        private final Object[] values;
+        private final boolean not;
+
+        InPredicate(String text, Expression left, Object[] values, boolean not) {
+            super(text);
+            this.left = left;
+            this.values = values;
+            this.not = not;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            return not != in(exchange);
+        }
+
+        private boolean in(Exchange exchange) {
+            Object l = left.evaluate(exchange, Object.class);
+            if (l == null) {
+                return false;
+            }
+            TypeConverter converter = exchange.getContext().getTypeConverter();
+            for (Object value : values) {
+                // the values are converted to the same type as the left hand side
+                Object r = l.getClass().isInstance(value) ? value : converter.convertTo(l.getClass(), exchange, value);
+                if (r != null && ObjectHelper.typeCoerceEquals(converter, l, r)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class RangePredicate extends CompiledPredicate {
+        private final Expression left;
+        private final String from;
+        private final String to;
+        private final boolean not;
+
+        RangePredicate(String text, Expression left, String from, String to, boolean not) {
+            super(text);
+            this.left = left;
+            this.from = from;
+            this.to = to;
+            this.not = not;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object l = left.evaluate(exchange, Object.class);
+            TypeConverter converter = exchange.getContext().getTypeConverter();
+            boolean answer = l != null && ObjectHelper.typeCoerceCompare(converter, l, from) >= 0
+                    && ObjectHelper.typeCoerceCompare(converter, l, to) <= 0;
+            return not != answer;
+        }
+    }
+
+    private static final class LogicalPredicate extends CompiledPredicate {
+        private final Predicate left;
+        private final Predicate right;
+        private final boolean and;
+
+        LogicalPredicate(String text, Predicate left, Predicate right, boolean and) {
+            super(text);
+            this.left = left;
+            this.right = right;
+            this.and = and;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            if (and) {
+                return left.matches(exchange) && right.matches(exchange);
+            } else {
+                return left.matches(exchange) || right.matches(exchange);
+            }
+        }
+    }
+
+    private static final class TemplateExpression implements Expression {
+        // the constant parts are turned into strings when initialized
+        private final Object[] parts;
+        private final String text;
+
+        TemplateExpression(Expression[] expressions, String text) {
+            this.parts = Arrays.copyOf(expressions, expressions.length, Object[].class);
+            this.text = text;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T evaluate(Exchange exchange, Class<T> type) {
+            StringBuilder sb = new StringBuilder(256);
+            for (Object part : parts) {
+                Object value;
+                if (part instanceof String) {
+                    value = part;
+                } else if (part instanceof CompiledValue compiled) {
+                    value = compiled.getValue(exchange);
+                    if (value != null && !(value instanceof String)) {
+                        value = exchange.getContext().getTypeConverter().convertTo(String.class, exchange, value);
+                    }
+                } else {
+                    value = ((Expression) part).evaluate(exchange, String.class);
+                }
+                if (value != null) {
+                    sb.append(value);
+                }
+            }
+            String answer = sb.toString();
+            if (type == Object.class || type == String.class) {
+                return (T) answer;
+            }
+            return exchange.getContext().getTypeConverter().convertTo(type, exchange, answer);
+        }
+
+        @Override
+        public void init(CamelContext context) {
+            for (int i = 0; i < parts.length; i++) {
+                if (parts[i] instanceof Expression expression) {
+                    expression.init(context);
+                    if (expression instanceof ConstantExpressionAdapter constant) {
+                        parts[i] = String.valueOf(constant.getValue());
+                    }
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
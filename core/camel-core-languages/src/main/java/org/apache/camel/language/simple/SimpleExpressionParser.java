@@ -47,7 +47,12 @@ public class SimpleExpressionParser extends BaseSimpleParser {
 
     public SimpleExpressionParser(CamelContext camelContext, String expression, boolean allowEscape,
                                   Map<String, Expression> cacheExpression) {
-        super(camelContext, expression, allowEscape);
+        this(camelContext, expression, allowEscape, false, cacheExpression);
+    }
+
+    public SimpleExpressionParser(CamelContext camelContext, String expression, boolean allowEscape, boolean compiled,
+                                  Map<String, Expression> cacheExpression) {
+        super(camelContext, expression, allowEscape, compiled);
         this.cacheExpression = cacheExpression;
     }
 
@@ -120,6 +125,8 @@ public class SimpleExpressionParser extends BaseSimpleParser {
             return ExpressionBuilder.constantExpression("");
         } else if (expressions.size() == 1) {
             return expressions.get(0);
+        } else if (compiled) {
+            return SimpleCompiler.compileTemplate(expressions, expression);
         } else {
             // concat expressions as evaluating an expression is like a template language
             return ExpressionBuilder.concatExpression(expressions, expression);
@@ -191,7 +198,12 @@ public class SimpleExpressionParser extends BaseSimpleParser {
     private List<Expression> createExpressions() {
         List<Expression> answer = new ArrayList<>();
         for (SimpleNode token : nodes) {
-            Expression exp = token.createExpression(camelContext, expression);
+            Expression exp;
+            if (compiled) {
+                exp = SimpleCompiler.compile(camelContext, token, expression);
+            } else {
+                exp = token.createExpression(camelContext, expression);
+            }
             if (exp != null) {
                 answer.add(exp);
             }
@@ -40,6 +40,12 @@ import org.slf4j.LoggerFactory;
 @Language(value = "simple", functionsClass = SimpleConstants.class)
 public class SimpleLanguage extends LanguageSupport implements StaticService {
 
+    /**
+     * Global option on {@link org.apache.camel.CamelContext} to enable compiled mode, where the simple expressions and
+     * predicates are compiled into specialized expressions when they are created (such as when the routes are started).
+     */
+    public static final String SIMPLE_COMPILED = "CamelSimpleCompiled";
+
     private static final Logger LOG = LoggerFactory.getLogger(SimpleLanguage.class);
 
     // singleton for expressions without a result type
@@ -49,6 +55,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     private static final String CACHE_KEY_PREFIX = "@SIMPLE@";
 
     boolean allowEscape = true;
+    private boolean compiled;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
@@ -60,8 +67,24 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     public SimpleLanguage() {
     }
 
+    /**
+     * Whether the simple expressions and predicates are compiled into specialized expressions, which resolves the
+     * names of headers, properties and variables, and the constant values of the operators once, instead of on every
+     * evaluation.
+     */
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+    }
+
     @Override
     public void init() {
+        if (getCamelContext() != null && "true".equalsIgnoreCase(getCamelContext().getGlobalOption(SIMPLE_COMPILED))) {
+            compiled = true;
+        }
         // setup cache which requires CamelContext to be set first
         if (cacheExpression == null && cachePredicate == null && getCamelContext() != null) {
             int maxSize = CamelContextHelper.getMaximumSimpleCacheSize(getCamelContext());
@@ -123,7 +146,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
             // using the expression cache here with the predicate parser is okay
             SimplePredicateParser parser
-                    = new SimplePredicateParser(getCamelContext(), expression, allowEscape, cacheExpression);
+                    = new SimplePredicateParser(getCamelContext(), expression, allowEscape, compiled, cacheExpression);
             answer = parser.parsePredicate();
 
             if (cachePredicate != null && answer != null) {
@@ -182,7 +205,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
             // only parse if there are simple functions
             SimpleExpressionParser parser
-                    = new SimpleExpressionParser(getCamelContext(), expression, allowEscape, cacheExpression);
+                    = new SimpleExpressionParser(getCamelContext(), expression, allowEscape, compiled, cacheExpression);
             answer = parser.parseExpression();
 
             if (cacheExpression != null && answer != null) {
@@ -65,7 +65,12 @@ public class SimplePredicateParser extends BaseSimpleParser {
 
     public SimplePredicateParser(CamelContext camelContext, String expression, boolean allowEscape,
                                  Map<String, Expression> cacheExpression) {
-        super(camelContext, expression, allowEscape);
+        this(camelContext, expression, allowEscape, false, cacheExpression);
+    }
+
+    public SimplePredicateParser(CamelContext camelContext, String expression, boolean allowEscape, boolean compiled,
+                                 Map<String, Expression> cacheExpression) {
+        super(camelContext, expression, allowEscape, compiled);
         this.cacheExpression = cacheExpression;
     }
 
@@ -526,8 +531,16 @@ public class SimplePredicateParser extends BaseSimpleParser {
     private List<Predicate> createPredicates() {
         List<Predicate> answer = new ArrayList<>();
         for (SimpleNode node : nodes) {
-            Expression exp = node.createExpression(camelContext, expression);
-            if (exp != null) {
+            Expression exp;
+            if (compiled) {
+                exp = SimpleCompiler.compile(camelContext, node, expression);
+            } else {
+                exp = node.createExpression(camelContext, expression);
+            }
+            if (exp instanceof Predicate predicate && compiled) {
+                // compiled operators are predicates
+                answer.add(predicate);
+            } else if (exp != null) {
                 Predicate predicate = ExpressionToPredicateAdapter.toPredicate(exp);
                 answer.add(predicate);
             }
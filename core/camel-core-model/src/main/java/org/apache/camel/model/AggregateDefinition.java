@@ -90,6 +90,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String lockStripeCount;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
     @XmlAttribute
@@ -173,6 +176,7 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
                 ? source.optimisticLockRetryPolicyDefinition.copyDefinition() : null;
         this.parallelProcessing = source.parallelProcessing;
         this.optimisticLocking = source.optimisticLocking;
+        this.lockStripeCount = source.lockStripeCount;
         this.executorService = source.executorService;
         this.timeoutCheckerExecutorService = source.timeoutCheckerExecutorService;
         this.aggregateController = source.aggregateController;
@@ -501,6 +505,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getLockStripeCount() {
+        return lockStripeCount;
+    }
+
+    public void setLockStripeCount(String lockStripeCount) {
+        this.lockStripeCount = lockStripeCount;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1000,6 +1012,34 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Number of locks to use for guarding the correlation groups, where the lock is selected by the hash of the
+     * correlation key. By default a single lock is shared by all the groups, which means only one message is aggregated
+     * at any time. With lock striping then messages with different correlation keys can be aggregated in parallel,
+     * while messages with the same correlation key are still aggregated one by one. This cannot be used together with
+     * optimistic locking, completionFromBatchConsumer or completionOnNewCorrelationGroup. When using more than one lock
+     * then the aggregation repository is accessed concurrently, and must be thread-safe (the default memory repository
+     * is).
+     */
+    public AggregateDefinition lockStripeCount(int lockStripeCount) {
+        setLockStripeCount(Integer.toString(lockStripeCount));
+        return this;
+    }
+
+    /**
+     * Number of locks to use for guarding the correlation groups, where the lock is selected by the hash of the
+     * correlation key. By default a single lock is shared by all the groups, which means only one message is aggregated
+     * at any time. With lock striping then messages with different correlation keys can be aggregated in parallel,
+     * while messages with the same correlation key are still aggregated one by one. This cannot be used together with
+     * optimistic locking, completionFromBatchConsumer or completionOnNewCorrelationGroup. When using more than one lock
+     * then the aggregation repository is accessed concurrently, and must be thread-safe (the default memory repository
+     * is).
+     */
+    public AggregateDefinition lockStripeCount(String lockStripeCount) {
+        setLockStripeCount(lockStripeCount);
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
@@ -234,6 +234,22 @@ public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
 
     }
 
+    /**
+     * Sets the size of the ring buffer, indexed by the sequence number, which is used by the stream resequencer to hold
+     * the exchanges instead of a sorted tree. This is recommended when resequencing high volume streams with dense
+     * sequence numbers.
+     *
+     * @param  ringBufferSize the size of the ring buffer
+     * @return                the builder
+     */
+    public ResequenceDefinition ringBufferSize(int ringBufferSize) {
+        if (streamConfig == null) {
+            throw new IllegalStateException("ringBufferSize() only supported for stream resequencer");
+        }
+        streamConfig.setRingBufferSize(Integer.toString(ringBufferSize));
+        return this;
+    }
+
     /**
      * Enables duplicates for the batch resequencer mode
      *
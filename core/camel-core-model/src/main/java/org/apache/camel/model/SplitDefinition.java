@@ -71,6 +71,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(javaType = "java.lang.Boolean")
     private String streaming;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "0")
+    private String maxInflight;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
@@ -102,6 +105,7 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.parallelProcessing = source.parallelProcessing;
         this.synchronous = source.synchronous;
         this.streaming = source.streaming;
+        this.maxInflight = source.maxInflight;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
         this.executorService = source.executorService;
@@ -410,6 +414,35 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages which can be processed at the same time, when using parallel
+     * processing. When the limit is reached, then the splitter does not split the next message until one of the
+     * messages being processed is complete. This bounds the memory used when splitting big payloads (such as files)
+     * using streaming and parallel processing, as otherwise the splitter keeps on splitting messages (and queue them in
+     * the thread pool) as fast as possible. The default value 0 means no limit.
+     *
+     * @param  maxInflight the maximum number of split messages in-flight
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of split messages which can be processed at the same time, when using parallel
+     * processing. When the limit is reached, then the splitter does not split the next message until one of the
+     * messages being processed is complete. This bounds the memory used when splitting big payloads (such as files)
+     * using streaming and parallel processing, as otherwise the splitter keeps on splitting messages (and queue them in
+     * the thread pool) as fast as possible. The default value 0 means no limit.
+     *
+     * @param  maxInflight the maximum number of split messages in-flight
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred during processing of an
      * {@link org.apache.camel.Exchange} and the caused exception will be thrown.
@@ -630,6 +663,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = streaming;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     @Deprecated(since = "4.7.0")
     public String getParallelAggregate() {
         return parallelAggregate;
@@ -72,6 +72,9 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
     @XmlAttribute
     @Metadata(label = "advanced", defaultValue = "true")
     private String callerRunsWhenRejected;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "false")
+    private String virtualThreads;
 
     public ThreadsDefinition() {
         this.threadName = "Threads";
@@ -90,6 +93,7 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         this.threadName = source.threadName;
         this.rejectedPolicy = source.rejectedPolicy;
         this.callerRunsWhenRejected = source.callerRunsWhenRejected;
+        this.virtualThreads = source.virtualThreads;
     }
 
     @Override
@@ -325,6 +329,43 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         return this;
     }
 
+    /**
+     * Whether to continue routing each exchange in a new virtual thread, instead of using a pool of platform threads.
+     * The number of exchanges routed at the same time is bounded by the maximum pool size, and when the bound is
+     * reached then the caller blocks until an exchange is complete (there is no task queue). This is intended for
+     * routes which mostly block on I/O, where many concurrent exchanges can be routed without as many platform
+     * threads.
+     * <p/>
+     * Virtual threads requires JDK 21+, otherwise a pool of platform threads is used instead.
+     * <p/>
+     * Is by default <tt>false</tt>
+     *
+     * @param  virtualThreads <tt>true</tt> to use virtual threads
+     * @return                the builder
+     */
+    public ThreadsDefinition virtualThreads(boolean virtualThreads) {
+        return virtualThreads(Boolean.toString(virtualThreads));
+    }
+
+    /**
+     * Whether to continue routing each exchange in a new virtual thread, instead of using a pool of platform threads.
+     * The number of exchanges routed at the same time is bounded by the maximum pool size, and when the bound is
+     * reached then the caller blocks until an exchange is complete (there is no task queue). This is intended for
+     * routes which mostly block on I/O, where many concurrent exchanges can be routed without as many platform
+     * threads.
+     * <p/>
+     * Virtual threads requires JDK 21+, otherwise a pool of platform threads is used instead.
+     * <p/>
+     * Is by default <tt>false</tt>
+     *
+     * @param  virtualThreads <tt>true</tt> to use virtual threads
+     * @return                the builder
+     */
+    public ThreadsDefinition virtualThreads(String virtualThreads) {
+        setVirtualThreads(virtualThreads);
+        return this;
+    }
+
     @Override
     public ExecutorService getExecutorServiceBean() {
         return executorServiceBean;
@@ -407,6 +448,14 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         this.allowCoreThreadTimeOut = allowCoreThreadTimeOut;
     }
 
+    public String getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public String getExecutorService() {
         return executorService;
     }
@@ -54,6 +54,9 @@ public class StreamResequencerConfig extends ResequencerConfig {
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "org.apache.camel.processor.resequencer.ExpressionResultComparator")
     private String comparator;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "0")
+    private String ringBufferSize;
 
     /**
      * Creates a new {@link StreamResequencerConfig} instance using default values for <code>capacity</code> (1000) and
@@ -123,6 +126,7 @@ public class StreamResequencerConfig extends ResequencerConfig {
         this.ignoreInvalidExchanges = source.ignoreInvalidExchanges;
         this.rejectOld = source.rejectOld;
         this.comparator = source.comparator;
+        this.ringBufferSize = source.ringBufferSize;
     }
 
     @Override
@@ -219,4 +223,20 @@ public class StreamResequencerConfig extends ResequencerConfig {
         return rejectOld;
     }
 
+    public String getRingBufferSize() {
+        return ringBufferSize;
+    }
+
+    /**
+     * Sets the size of a ring buffer, indexed by the sequence number, which is used to hold the exchanges instead of a
+     * sorted tree. This reduces the garbage and the cost of inserting exchanges when resequencing high volume streams
+     * with dense sequence numbers (such as 1,2,3...). Exchanges with a sequence number outside the ring buffer are held
+     * in the sorted tree. The size is rounded up to a power of two, and should be at least the maximum gap between out
+     * of order sequence numbers. This requires a comparator which uses long sequence numbers, such as the default
+     * comparator. The default value 0 means the ring buffer is not in use.
+     */
+    public void setRingBufferSize(String ringBufferSize) {
+        this.ringBufferSize = ringBufferSize;
+    }
+
 }
@@ -48,6 +48,9 @@ public class BindyDataFormat extends DataFormatDefinition {
     @Metadata(javaType = "java.lang.Boolean", defaultValue = "false")
     private String allowEmptyStream;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean", defaultValue = "false")
+    private String streaming;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "true")
     private String unwrapSingleInstance;
     @XmlAttribute
@@ -64,6 +67,7 @@ public class BindyDataFormat extends DataFormatDefinition {
         this.type = source.type;
         this.classTypeAsString = source.classTypeAsString;
         this.allowEmptyStream = source.allowEmptyStream;
+        this.streaming = source.streaming;
         this.unwrapSingleInstance = source.unwrapSingleInstance;
         this.locale = source.locale;
     }
@@ -74,6 +78,7 @@ public class BindyDataFormat extends DataFormatDefinition {
         this.type = builder.type;
         this.classTypeAsString = builder.classTypeAsString;
         this.allowEmptyStream = builder.allowEmptyStream;
+        this.streaming = builder.streaming;
         this.unwrapSingleInstance = builder.unwrapSingleInstance;
         this.locale = builder.locale;
     }
@@ -164,6 +169,19 @@ public class BindyDataFormat extends DataFormatDefinition {
         this.allowEmptyStream = allowEmptyStream;
     }
 
+    public String getStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to unmarshal the records one at a time using an iterator, instead of reading all the records into a list.
+     * This allows splitting big payloads with the splitter in streaming mode using constant memory. This is only
+     * supported by Csv and Fixed.
+     */
+    public void setStreaming(String streaming) {
+        this.streaming = streaming;
+    }
+
     //
     // Fluent builder api
     //
@@ -227,6 +245,15 @@ public class BindyDataFormat extends DataFormatDefinition {
         return this;
     }
 
+    public BindyDataFormat streaming(boolean streaming) {
+        return streaming(Boolean.toString(streaming));
+    }
+
+    public BindyDataFormat streaming(String streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
     /**
      * {@code Builder} is a specific builder for {@link BindyDataFormat}.
      */
@@ -237,6 +264,7 @@ public class BindyDataFormat extends DataFormatDefinition {
         private String type;
         private String classTypeAsString;
         private String allowEmptyStream;
+        private String streaming;
         private String unwrapSingleInstance;
         private String locale;
 
@@ -314,6 +342,26 @@ public class BindyDataFormat extends DataFormatDefinition {
             return this;
         }
 
+        /**
+         * Whether to unmarshal the records one at a time using an iterator, instead of reading all the records into a
+         * list. This allows splitting big payloads with the splitter in streaming mode using constant memory. This is
+         * only supported by Csv and Fixed.
+         */
+        public Builder streaming(String streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
+        /**
+         * Whether to unmarshal the records one at a time using an iterator, instead of reading all the records into a
+         * list. This allows splitting big payloads with the splitter in streaming mode using constant memory. This is
+         * only supported by Csv and Fixed.
+         */
+        public Builder streaming(boolean streaming) {
+            this.streaming = Boolean.toString(streaming);
+            return this;
+        }
+
         @Override
         public BindyDataFormat end() {
             return new BindyDataFormat(this);
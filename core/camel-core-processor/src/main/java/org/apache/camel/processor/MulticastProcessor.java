@@ -33,6 +33,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -173,6 +174,9 @@ public class MulticastProcessor extends BaseProcessorSupport
     private final AggregationStrategy aggregationStrategy;
     private final boolean parallelProcessing;
     private boolean synchronous;
+    private int maxInflight;
+    private final LongAdder inflightBlockedCounter = new LongAdder();
+    private final LongAdder inflightBlockedTime = new LongAdder();
     private final boolean streaming;
     private final boolean parallelAggregate;
     private final boolean stopOnException;
@@ -285,6 +289,39 @@ public class MulticastProcessor extends BaseProcessorSupport
         this.synchronous = synchronous;
     }
 
+    /**
+     * The maximum number of sub exchanges being processed at the same time when using parallel processing, or 0 for no
+     * limit.
+     */
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
+    /**
+     * Number of times the next sub exchange was not sent because the maximum number of inflight sub exchanges was
+     * reached
+     */
+    public long getInflightBlockedCounter() {
+        return inflightBlockedCounter.sum();
+    }
+
+    /**
+     * Total time (in millis) waiting to send the next sub exchange because the maximum number of inflight sub exchanges
+     * was reached
+     */
+    public long getInflightBlockedTime() {
+        return TimeUnit.NANOSECONDS.toMillis(inflightBlockedTime.sum());
+    }
+
+    public void resetInflightBlockedStatistics() {
+        inflightBlockedCounter.reset();
+        inflightBlockedTime.reset();
+    }
+
     @Override
     protected void doBuild() throws Exception {
         if (processorExchangeFactory != null) {
@@ -410,6 +447,9 @@ public class MulticastProcessor extends BaseProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicInteger nbInflight = new AtomicInteger();
+        final AtomicBoolean blocked = new AtomicBoolean();
+        volatile long blockedSince;
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
 
@@ -568,6 +608,12 @@ public class MulticastProcessor extends BaseProcessorSupport
                     allSent.set(true);
                 }
 
+                // count the pair as inflight before submitting as it may complete right away
+                boolean limitReached = false;
+                if (isParallelProcessing() && maxInflight > 0) {
+                    limitReached = nbInflight.incrementAndGet() >= maxInflight;
+                }
+
                 completion.submit(exchangeResult -> {
                     // compute time taken if sending to another endpoint
                     StopWatch watch = beforeSend(pair);
@@ -606,6 +652,10 @@ public class MulticastProcessor extends BaseProcessorSupport
                         // next step
                         if (hasNext && !isParallelProcessing()) {
                             schedule(this);
+                        } else if (isParallelProcessing() && maxInflight > 0) {
+                            // a slot is free so continue sending if we were blocked
+                            nbInflight.decrementAndGet();
+                            unblock();
                         }
                     };
 
@@ -625,7 +675,19 @@ public class MulticastProcessor extends BaseProcessorSupport
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    if (limitReached) {
+                        // do not take the next pair until a sub exchange is complete
+                        blockedSince = System.nanoTime();
+                        blocked.set(true);
+                        inflightBlockedCounter.increment();
+                        LOG.trace("Maximum inflight {} reached, waiting for a sub exchange to complete", maxInflight);
+                        // a sub exchange may have completed in the meantime
+                        if (nbInflight.get() < maxInflight) {
+                            unblock();
+                        }
+                    } else {
+                        schedule(this);
+                    }
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -633,6 +695,13 @@ public class MulticastProcessor extends BaseProcessorSupport
             }
         }
 
+        private void unblock() {
+            if (blocked.compareAndSet(true, false)) {
+                inflightBlockedTime.add(System.nanoTime() - blockedSince);
+                schedule(this);
+            }
+        }
+
         private ProcessorExchangePair getNextProcessorExchangePair() {
             ProcessorExchangePair tpair = null;
             while (tpair == null && iterator.hasNext()) {
@@ -74,6 +74,7 @@ public class StreamResequencer extends BaseProcessorSupport
     private final Expression expression;
     private Delivery delivery;
     private int capacity;
+    private final int ringBufferSize;
     private boolean ignoreInvalidExchanges;
     private long deliveryAttemptInterval = 1000L;
 
@@ -85,9 +86,24 @@ public class StreamResequencer extends BaseProcessorSupport
      */
     public StreamResequencer(CamelContext camelContext, Processor processor, SequenceElementComparator<Exchange> comparator,
                              Expression expression) {
+        this(camelContext, processor, comparator, expression, 0);
+    }
+
+    /**
+     * Creates a new {@link StreamResequencer} instance which keeps the exchanges in a ring buffer indexed by their
+     * sequence number.
+     *
+     * @param processor      next processor that processes re-ordered exchanges.
+     * @param comparator     a sequence element comparator for exchanges.
+     * @param ringBufferSize the size of the ring buffer, or 0 to keep the exchanges in a sorted tree.
+     * @see                  org.apache.camel.processor.resequencer.RingBufferSequence
+     */
+    public StreamResequencer(CamelContext camelContext, Processor processor, SequenceElementComparator<Exchange> comparator,
+                             Expression expression, int ringBufferSize) {
         ObjectHelper.notNull(camelContext, "CamelContext");
         this.camelContext = camelContext;
-        this.engine = new ResequencerEngine<>(comparator);
+        this.engine = new ResequencerEngine<>(comparator, ringBufferSize);
+        this.ringBufferSize = ringBufferSize;
         this.engine.setSequenceSender(this);
         this.processor = processor;
         this.expression = expression;
@@ -136,6 +152,13 @@ public class StreamResequencer extends BaseProcessorSupport
         return engine.getTimeout();
     }
 
+    /**
+     * Returns the size of the ring buffer, or 0 if the exchanges are kept in a sorted tree.
+     */
+    public int getRingBufferSize() {
+        return ringBufferSize;
+    }
+
     public void setCapacity(int capacity) {
         this.capacity = capacity;
     }
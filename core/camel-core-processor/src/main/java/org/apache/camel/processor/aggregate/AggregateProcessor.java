@@ -31,6 +31,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.AbstractQueuedSynchronizer;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.AsyncCallback;
@@ -52,6 +53,7 @@ import org.apache.camel.TimeoutMap;
 import org.apache.camel.Traceable;
 import org.apache.camel.processor.BaseProcessorSupport;
 import org.apache.camel.spi.AggregationRepository;
+import org.apache.camel.spi.DeltaAggregationRepository;
 import org.apache.camel.spi.ExceptionHandler;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
@@ -100,6 +102,8 @@ public class AggregateProcessor extends BaseProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    // optional lock stripes (guarded by correlation key) to use instead of the shared lock
+    private volatile Lock[] lockStripes;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -231,6 +235,7 @@ public class AggregateProcessor extends BaseProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripeCount;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -404,13 +409,16 @@ public class AggregateProcessor extends BaseProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        // when using lock stripes then completing all groups must be deferred until we have released the lock
+        AtomicBoolean completeAllGroups = lockStripes != null ? new AtomicBoolean() : null;
+        Lock groupLock = getLock(key);
+        groupLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, completeAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            groupLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -419,6 +427,10 @@ public class AggregateProcessor extends BaseProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        if (completeAllGroups != null && completeAllGroups.get()) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -472,11 +484,14 @@ public class AggregateProcessor extends BaseProcessorSupport
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  completeAllGroups                       if not <tt>null</tt> then forcing completion of all groups is
+     *                                                 flagged on this instance, instead of being done in this method
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean completeAllGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -546,6 +561,14 @@ public class AggregateProcessor extends BaseProcessorSupport
             trackTimeout(key, newExchange);
         }
 
+        // the repository stores only the incoming exchange, so copy it before the aggregation strategy
+        // may change it (such as when the strategy modifies and returns the first exchange in the group)
+        Exchange incoming = null;
+        if (!optimisticLocking && aggregationRepository instanceof DeltaAggregationRepository delta
+                && delta.isAppendOnly()) {
+            incoming = newExchange.copy();
+        }
+
         // aggregate the exchanges
         boolean aggregateFailed = false;
         try {
@@ -576,7 +599,12 @@ public class AggregateProcessor extends BaseProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (completeAllGroups != null) {
+                // the caller holds a lock stripe so it must force completion after it has released the lock
+                completeAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -606,7 +634,12 @@ public class AggregateProcessor extends BaseProcessorSupport
 
         if (!aggregateFailed && complete == null) {
             // only need to update aggregation repository if we are not complete
-            doAggregationRepositoryAdd(newExchange.getContext(), key, originalExchange, answer);
+            if (!optimisticLocking && aggregationRepository instanceof DeltaAggregationRepository delta) {
+                // the repository can store only the incoming exchange
+                delta.append(newExchange.getContext(), key, incoming != null ? incoming : newExchange, answer);
+            } else {
+                doAggregationRepositoryAdd(newExchange.getContext(), key, originalExchange, answer);
+            }
         } else {
             // if we are complete then add the answer to the list
             doAggregationComplete(complete, list, key, originalExchange, answer, aggregateFailed);
@@ -1109,6 +1142,21 @@ public class AggregateProcessor extends BaseProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripeCount() {
+        return lockStripeCount;
+    }
+
+    /**
+     * Number of locks to stripe the correlation groups over, selected by the hash of the correlation key. Exchanges
+     * with the same correlation key are still aggregated one by one, but groups guarded by different stripes are
+     * aggregated in parallel. A value of zero or one uses a single lock shared by all groups (default).
+     * <p/>
+     * When greater than one, the {@link AggregationRepository} is accessed concurrently, and must be thread-safe.
+     */
+    public void setLockStripeCount(int lockStripeCount) {
+        this.lockStripeCount = lockStripeCount;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1270,14 +1318,18 @@ public class AggregateProcessor extends BaseProcessorSupport
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (lock stripes do not guard the entire map, so then the map must use its own lock)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || lockStripeCount > 1);
             addListener(this::onEviction);
         }
 
         @Override
         protected void purge() {
             // wait for lock to be created
-            if (lock != null) {
+            if (lockStripes != null) {
+                // the evicted groups are locked individually when completed
+                super.purge();
+            } else if (lock != null) {
                 // must acquire the shared aggregation lock to be able to purge
                 lock.lock();
                 try {
@@ -1294,6 +1346,21 @@ public class AggregateProcessor extends BaseProcessorSupport
             }
             log.debug("Completion timeout triggered for correlation key: {}", key);
 
+            if (lockStripes != null) {
+                Lock groupLock = getLock(key);
+                groupLock.lock();
+                try {
+                    doEviction(key, exchangeId);
+                } finally {
+                    groupLock.unlock();
+                }
+            } else {
+                doEviction(key, exchangeId);
+            }
+        }
+
+        private void doEviction(String key, String exchangeId) {
+
             boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
             if (inProgress) {
                 log.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
@@ -1346,36 +1413,31 @@ public class AggregateProcessor extends BaseProcessorSupport
             Set<String> keys = aggregationRepository.getKeys();
 
             if (keys != null && !keys.isEmpty()) {
-                // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
-                try {
-                    for (String key : keys) {
-                        boolean stolenInterval = false;
-                        Exchange exchange = aggregationRepository.get(camelContext, key);
-                        if (exchange == null) {
-                            stolenInterval = true;
-                        } else {
-                            LOG.trace("Completion interval triggered for correlation key: {}", key);
-                            // indicate it was completed by interval
-                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
-                            try {
-                                Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                                if (answer != null) {
-                                    onSubmitCompletion(key, answer);
-                                }
-                            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
-                                stolenInterval = true;
+                // must acquire the aggregation lock to be able to trigger interval completion
+                doInLock(keys, key -> {
+                    boolean stolenInterval = false;
+                    Exchange exchange = aggregationRepository.get(camelContext, key);
+                    if (exchange == null) {
+                        stolenInterval = true;
+                    } else {
+                        LOG.trace("Completion interval triggered for correlation key: {}", key);
+                        // indicate it was completed by interval
+                        exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
+                        try {
+                            Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                            if (answer != null) {
+                                onSubmitCompletion(key, answer);
                             }
-                        }
-                        if (optimisticLocking && stolenInterval) {
-                            LOG.debug(
-                                    "Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}",
-                                    key);
+                        } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                            stolenInterval = true;
                         }
                     }
-                } finally {
-                    lock.unlock();
-                }
+                    if (optimisticLocking && stolenInterval) {
+                        LOG.debug(
+                                "Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}",
+                                key);
+                    }
+                });
             }
 
             LOG.trace("Completion interval task complete");
@@ -1415,7 +1477,8 @@ public class AggregateProcessor extends BaseProcessorSupport
                         LOG.info("We are shutting down so stop recovering");
                         return;
                     }
-                    lock.lock();
+                    // the correlation key is not known until recovered, so all the lock stripes must be acquired
+                    lockAll();
                     try {
                         // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                         // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1492,7 +1555,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                             }
                         }
                     } finally {
-                        lock.unlock();
+                        unlockAll();
                     }
                 }
             } finally {
@@ -1555,9 +1618,30 @@ public class AggregateProcessor extends BaseProcessorSupport
                 throw new IllegalArgumentException(
                         "Optimistic locking cannot be enabled without using an AggregationRepository that implements OptimisticLockingAggregationRepository");
             }
+            if (aggregationRepository instanceof DeltaAggregationRepository delta && delta.isAppendOnly()) {
+                throw new IllegalArgumentException(
+                        "Optimistic locking cannot be enabled when the AggregationRepository is append only");
+            }
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (lockStripeCount > 1) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Only one of optimisticLocking or lockStripeCount can be used, not both.");
+            }
+            // these completions work across all the groups and therefore requires the shared lock
+            if (isCompletionFromBatchConsumer() || isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException(
+                        "Cannot use lockStripeCount together with completionFromBatchConsumer or completionOnNewCorrelationGroup.");
+            }
+            LOG.info("Using {} lock stripes for the correlation groups", lockStripeCount);
+        }
+
+        if (aggregationRepository instanceof DeltaAggregationRepository delta) {
+            // the repository may need to reconstruct the aggregated exchanges from the deltas
+            delta.setAggregationStrategy(aggregationStrategy);
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1641,11 +1725,83 @@ public class AggregateProcessor extends BaseProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (lockStripeCount > 1) {
+            Lock[] stripes = new Lock[lockStripeCount];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new ReentrantLock();
+            }
+            lockStripes = stripes;
+            lock = new ReentrantLock();
         } else {
             lock = new ReentrantLock();
         }
     }
 
+    /**
+     * Gets the lock that guards the correlation group with the given key.
+     */
+    private Lock getLock(String key) {
+        Lock[] stripes = lockStripes;
+        if (stripes == null) {
+            return lock;
+        }
+        // spread the hash code so keys that only differ in the upper bits do not end up in the same stripe
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return stripes[(hash & 0x7fffffff) % stripes.length];
+    }
+
+    /**
+     * Acquires the shared lock, or all the lock stripes (in the same order every time to avoid deadlocks).
+     */
+    private void lockAll() {
+        Lock[] stripes = lockStripes;
+        if (stripes == null) {
+            lock.lock();
+        } else {
+            for (Lock stripe : stripes) {
+                stripe.lock();
+            }
+        }
+    }
+
+    private void unlockAll() {
+        Lock[] stripes = lockStripes;
+        if (stripes == null) {
+            lock.unlock();
+        } else {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Runs the task for each of the correlation keys while holding the aggregation lock. When using lock stripes then
+     * only the stripe of the current key is held, which allows the other groups to continue aggregating meanwhile.
+     */
+    private void doInLock(Set<String> keys, Consumer<String> task) {
+        Lock[] stripes = lockStripes;
+        if (stripes == null) {
+            lock.lock();
+            try {
+                keys.forEach(task);
+            } finally {
+                lock.unlock();
+            }
+        } else {
+            for (String key : keys) {
+                Lock groupLock = getLock(key);
+                groupLock.lock();
+                try {
+                    task.accept(key);
+                } finally {
+                    groupLock.unlock();
+                }
+            }
+        }
+    }
+
     @Override
     protected void doStop() throws Exception {
         // note: we cannot do doForceCompletionOnStop from this doStop method
@@ -1667,6 +1823,7 @@ public class AggregateProcessor extends BaseProcessorSupport
         }
 
         ServiceHelper.stopService(timeoutMap, processor, deadLetterProducerTemplate);
+        lockStripes = null;
 
         if (closedCorrelationKeys != null) {
             // it may be a service so stop it as well
@@ -1754,7 +1911,8 @@ public class AggregateProcessor extends BaseProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock groupLock = getLock(key);
+        groupLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1768,7 +1926,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            groupLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1795,25 +1953,20 @@ public class AggregateProcessor extends BaseProcessorSupport
 
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
-            // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            // must acquire the aggregation lock to be able to trigger force completion
             total = keys.size();
-            try {
-                for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
-                        }
+            doInLock(keys, key -> {
+                Exchange exchange = aggregationRepository.get(camelContext, key);
+                if (exchange != null) {
+                    LOG.trace("Force completion triggered for correlation key: {}", key);
+                    // indicate it was completed by a force completion request
+                    exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                    if (answer != null) {
+                        onSubmitCompletion(key, answer);
                     }
                 }
-            } finally {
-                lock.unlock();
-            }
+            });
         }
         LOG.trace("Completed force completion of all groups task");
 
@@ -1827,7 +1980,8 @@ public class AggregateProcessor extends BaseProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock groupLock = getLock(key);
+        groupLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1837,7 +1991,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            groupLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1864,21 +2018,16 @@ public class AggregateProcessor extends BaseProcessorSupport
 
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
-            // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            // must acquire the aggregation lock to be able to trigger force completion
             total = keys.size();
-            try {
-                for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force discarded triggered for correlation key: {}", key);
-                        // force discarding by setting aggregate failed as true
-                        onCompletion(key, exchange, exchange, false, true);
-                    }
+            doInLock(keys, key -> {
+                Exchange exchange = aggregationRepository.get(camelContext, key);
+                if (exchange != null) {
+                    LOG.trace("Force discarded triggered for correlation key: {}", key);
+                    // force discarding by setting aggregate failed as true
+                    onCompletion(key, exchange, exchange, false, true);
                 }
-            } finally {
-                lock.unlock();
-            }
+            });
         }
         LOG.trace("Completed force discarding of all groups task");
 
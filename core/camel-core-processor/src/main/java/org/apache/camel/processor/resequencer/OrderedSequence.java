@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+/**
+ * The ordered elements maintained by a {@link ResequencerEngine}, with methods for obtaining immediate successors and
+ * immediate predecessors of a given element. Successors and predecessors are calculated by using a
+ * {@link SequenceElementComparator}.
+ *
+ * @see Sequence
+ * @see RingBufferSequence
+ */
+public interface OrderedSequence<E> {
+
+    /**
+     * Adds the given element to this sequence.
+     *
+     * @param  e an element.
+     * @return   <code>true</code> if the element was added, or <code>false</code> if this sequence already contains an
+     *           equal element.
+     */
+    boolean add(E e);
+
+    /**
+     * Removes the given element from this sequence.
+     *
+     * @param  e an element.
+     * @return   <code>true</code> if the element was removed.
+     */
+    boolean remove(E e);
+
+    /**
+     * Returns the lowest element of this sequence.
+     *
+     * @return                                  the lowest element.
+     * @throws java.util.NoSuchElementException if this sequence is empty.
+     */
+    E first();
+
+    /**
+     * Returns the highest element of this sequence.
+     *
+     * @return                                  the highest element.
+     * @throws java.util.NoSuchElementException if this sequence is empty.
+     */
+    E last();
+
+    /**
+     * Returns the immediate predecessor of the given element in this sequence or <code>null</code> if no predecessor
+     * exists.
+     *
+     * @param  e an element which is compared to elements of this sequence.
+     * @return   an element of this sequence or <code>null</code>.
+     */
+    E predecessor(E e);
+
+    /**
+     * Returns the immediate successor of the given element in this sequence or <code>null</code> if no successor
+     * exists.
+     *
+     * @param  e an element which is compared to elements of this sequence.
+     * @return   an element of this sequence or <code>null</code>.
+     */
+    E successor(E e);
+
+    /**
+     * Returns whether this sequence is empty.
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of elements in this sequence.
+     */
+    int size();
+
+    /**
+     * Returns this sequence's comparator.
+     *
+     * @return this sequence's comparator.
+     */
+    SequenceElementComparator<E> seqComparator();
+
+}
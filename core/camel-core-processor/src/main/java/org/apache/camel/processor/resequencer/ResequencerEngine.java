@@ -66,7 +66,7 @@ public class ResequencerEngine<E> {
     /**
      * A sequence of elements for sorting purposes.
      */
-    private final Sequence<Element<E>> sequence;
+    private final OrderedSequence<Element<E>> sequence;
 
     /**
      * A timer for scheduling timeout notifications.
@@ -88,7 +88,7 @@ public class ResequencerEngine<E> {
      * List containing wait conditions to be evaluated whenever the sequence is modified. Access to this field should be
      * done inside a lock block.
      */
-    private final Map<CountDownLatch, Predicate<Sequence<?>>> waitConditions = new HashMap<>();
+    private final Map<CountDownLatch, Predicate<OrderedSequence<?>>> waitConditions = new HashMap<>();
 
     private final Lock lock = new ReentrantLock();
 
@@ -98,7 +98,19 @@ public class ResequencerEngine<E> {
      * @param comparator a sequence element comparator.
      */
     public ResequencerEngine(SequenceElementComparator<E> comparator) {
-        this.sequence = createSequence(comparator);
+        this(comparator, 0);
+    }
+
+    /**
+     * Creates a new resequencer instance with a default timeout of 2000 milliseconds, which keeps the elements in a
+     * ring buffer indexed by their sequence number (see {@link RingBufferSequence}).
+     *
+     * @param comparator     a sequence element comparator, which must be a {@link LongSequenceElementComparator} when
+     *                       using a ring buffer.
+     * @param ringBufferSize the size of the ring buffer, or 0 to keep the elements in a sorted tree.
+     */
+    public ResequencerEngine(SequenceElementComparator<E> comparator, int ringBufferSize) {
+        this.sequence = createSequence(comparator, ringBufferSize);
         this.timeout = 2000L;
         this.lastDelivered = null;
     }
@@ -136,7 +148,7 @@ public class ResequencerEngine<E> {
      * @param  pred                 the condition to wait for
      * @throws InterruptedException if the thread is interrupted
      */
-    public void waitUntil(Predicate<Sequence<?>> pred) throws InterruptedException {
+    public void waitUntil(Predicate<OrderedSequence<?>> pred) throws InterruptedException {
         CountDownLatch latch;
         lock.lock();
         try {
@@ -155,7 +167,7 @@ public class ResequencerEngine<E> {
         lock.lock();
         try {
             for (var it = waitConditions.entrySet().iterator(); it.hasNext();) {
-                Map.Entry<CountDownLatch, Predicate<Sequence<?>>> e = it.next();
+                Map.Entry<CountDownLatch, Predicate<OrderedSequence<?>>> e = it.next();
                 if (e.getValue().test(sequence)) {
                     e.getKey().countDown();
                     it.remove();
@@ -383,8 +395,17 @@ public class ResequencerEngine<E> {
         return new Timeout(timer, timeout);
     }
 
-    private static <E> Sequence<Element<E>> createSequence(SequenceElementComparator<E> comparator) {
-        return new Sequence<>(new ElementComparator<>(comparator));
+    private static <E> OrderedSequence<Element<E>> createSequence(
+            SequenceElementComparator<E> comparator, int ringBufferSize) {
+        if (ringBufferSize <= 0) {
+            return new Sequence<>(new ElementComparator<>(comparator));
+        }
+        if (comparator instanceof LongSequenceElementComparator<E> lc) {
+            return new RingBufferSequence<>(
+                    new ElementComparator<>(comparator), e -> lc.getSequenceNumber(e.getObject()), ringBufferSize);
+        }
+        throw new IllegalArgumentException(
+                "Comparator must be a LongSequenceElementComparator when using a ring buffer: " + comparator);
     }
 
 }
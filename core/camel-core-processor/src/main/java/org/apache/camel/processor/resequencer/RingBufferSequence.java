@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.NoSuchElementException;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link OrderedSequence} which keeps the elements in a ring buffer indexed by their <code>long</code> sequence
+ * number, instead of a sorted tree. The ring buffer is a sliding window starting at the lowest sequence number, which
+ * moves forward as the elements are removed from the head of the sequence. Adding, removing and looking up the
+ * immediate successor and predecessor of an element in the window does not allocate any objects and takes constant
+ * time, which makes this sequence well suited for dense sequence numbers (such as 1,2,3,...).
+ * <p/>
+ * Elements with a sequence number outside the window (such as sparse sequence numbers or an out-of-order element
+ * which is too far ahead) are kept in an overflow {@link Sequence}, and are moved into the ring buffer when the window
+ * has moved forward to them.
+ * <p/>
+ * This class is not thread-safe, the {@link ResequencerEngine} guards access to it.
+ */
+public class RingBufferSequence<E> implements OrderedSequence<E> {
+
+    private static final int MAX_SIZE = 1 << 30;
+
+    private final Sequence<E> overflow;
+    private final ToLongFunction<E> sequenceNumber;
+    private final Object[] ring;
+    private final int mask;
+    // the lowest sequence number of the window
+    private long base;
+    // the lowest sequence number of the elements in the ring buffer
+    private long head;
+    private int count;
+
+    /**
+     * Creates a new {@link RingBufferSequence} instance.
+     *
+     * @param comparator     a strategy for comparing elements of this sequence.
+     * @param sequenceNumber a function returning the sequence number of an element.
+     * @param size           the size of the ring buffer, which is rounded up to a power of two.
+     */
+    public RingBufferSequence(SequenceElementComparator<E> comparator, ToLongFunction<E> sequenceNumber, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Ring buffer size must be positive, was: " + size);
+        }
+        this.overflow = new Sequence<>(comparator);
+        this.sequenceNumber = sequenceNumber;
+        int capacity = size >= MAX_SIZE ? MAX_SIZE : Math.max(2, Integer.highestOneBit(size - 1) << 1);
+        this.ring = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the size of the ring buffer.
+     */
+    public int getRingBufferSize() {
+        return ring.length;
+    }
+
+    /**
+     * Returns the number of elements kept in the overflow sequence as their sequence number is outside the ring
+     * buffer.
+     */
+    public int getOverflowSize() {
+        return overflow.size();
+    }
+
+    @Override
+    public SequenceElementComparator<E> seqComparator() {
+        return overflow.seqComparator();
+    }
+
+    @Override
+    public int size() {
+        return count + overflow.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0 && overflow.isEmpty();
+    }
+
+    @Override
+    public boolean add(E e) {
+        long n = sequenceNumber.applyAsLong(e);
+        if (count == 0) {
+            // start the window at this element
+            base = n;
+            head = n;
+        }
+        if (!inWindow(n)) {
+            return overflow.add(e);
+        }
+        int i = index(n);
+        if (ring[i] != null || !overflow.isEmpty() && overflow.contains(e)) {
+            return false;
+        }
+        ring[i] = e;
+        if (count == 0 || n < head) {
+            head = n;
+        }
+        count++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(E e) {
+        long n = sequenceNumber.applyAsLong(e);
+        if (inWindow(n)) {
+            int i = index(n);
+            if (ring[i] != null) {
+                ring[i] = null;
+                count--;
+                if (n == head) {
+                    advance();
+                }
+                return true;
+            }
+        }
+        return overflow.remove(e);
+    }
+
+    @Override
+    public E first() {
+        E answer = count > 0 ? elementAt(head) : null;
+        if (overflow.isEmpty()) {
+            if (answer == null) {
+                throw new NoSuchElementException();
+            }
+            return answer;
+        }
+        E other = overflow.first();
+        return answer != null && seqComparator().compare(answer, other) <= 0 ? answer : other;
+    }
+
+    @Override
+    public E last() {
+        E answer = null;
+        if (count > 0) {
+            for (long n = base + mask; answer == null; n--) {
+                answer = elementAt(n);
+            }
+        }
+        if (overflow.isEmpty()) {
+            if (answer == null) {
+                throw new NoSuchElementException();
+            }
+            return answer;
+        }
+        E other = overflow.last();
+        return answer != null && seqComparator().compare(answer, other) >= 0 ? answer : other;
+    }
+
+    @Override
+    public E predecessor(E e) {
+        E answer = lookup(sequenceNumber.applyAsLong(e) - 1);
+        if (answer == null && !overflow.isEmpty()) {
+            answer = overflow.predecessor(e);
+        }
+        return answer;
+    }
+
+    @Override
+    public E successor(E e) {
+        E answer = lookup(sequenceNumber.applyAsLong(e) + 1);
+        if (answer == null && !overflow.isEmpty()) {
+            answer = overflow.successor(e);
+        }
+        return answer;
+    }
+
+    private boolean inWindow(long n) {
+        return n >= base && n - base <= mask;
+    }
+
+    private int index(long n) {
+        return (int) (n & mask);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(long n) {
+        return (E) ring[index(n)];
+    }
+
+    private E lookup(long n) {
+        return count > 0 && inWindow(n) ? elementAt(n) : null;
+    }
+
+    /**
+     * Moves the window forward after the head of the ring buffer has been removed, and moves the elements from the
+     * overflow sequence which are now within the window into the ring buffer.
+     */
+    private void advance() {
+        if (count > 0) {
+            while (ring[index(head)] == null) {
+                head++;
+            }
+            base = head;
+        } else if (!overflow.isEmpty()) {
+            base = sequenceNumber.applyAsLong(overflow.first());
+            head = base;
+        }
+        while (!overflow.isEmpty()) {
+            E e = overflow.first();
+            long n = sequenceNumber.applyAsLong(e);
+            int i = index(n);
+            if (!inWindow(n) || ring[i] != null) {
+                break;
+            }
+            overflow.pollFirst();
+            ring[i] = e;
+            if (count == 0 || n < head) {
+                head = n;
+            }
+            count++;
+        }
+    }
+
+}
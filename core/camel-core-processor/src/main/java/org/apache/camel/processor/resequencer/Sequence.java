@@ -25,7 +25,7 @@ import java.util.TreeSet;
  * given element in the sequence. Successors and predecessors are calculated by using a
  * {@link SequenceElementComparator}.
  */
-public class Sequence<E> extends TreeSet<E> {
+public class Sequence<E> extends TreeSet<E> implements OrderedSequence<E> {
 
     private static final @Serial long serialVersionUID = 5647393631147741711L;
 
@@ -45,6 +45,7 @@ public class Sequence<E> extends TreeSet<E> {
      * @param  e an element which is compared to elements of this sequence.
      * @return   an element of this sequence or <code>null</code>.
      */
+    @Override
     public E predecessor(E e) {
         E elem = lower(e);
         if (elem == null) {
@@ -63,6 +64,7 @@ public class Sequence<E> extends TreeSet<E> {
      * @param  e an element which is compared to elements of this sequence.
      * @return   an element of this sequence or <code>null</code>.
      */
+    @Override
     public E successor(E e) {
         E elem = higher(e);
         if (elem == null) {
@@ -79,53 +81,10 @@ public class Sequence<E> extends TreeSet<E> {
      *
      * @return this sequence's comparator.
      */
+    @Override
     @SuppressWarnings("unchecked")
     public SequenceElementComparator<E> seqComparator() {
         return Objects.requireNonNull((SequenceElementComparator<E>) super.comparator());
     }
 
-    /**
-     * Returns the next higher element in the sequence to the given element. If the given element doesn't exist or if it
-     * is the last element in the sequence <code>null</code> is returned. <strong>Please note that this method is
-     * provided for compatibility with Java 5 SE. On a Java 6 SE platform the same method implemented by the
-     * {@link TreeSet} class should be used for better performance.</strong>
-     *
-     * @param  e an element which is compared to elements of this sequence.
-     * @return   an element of this sequence or <code>null</code>.
-     */
-    @Override
-    public E higher(E e) {
-        boolean found = false;
-        for (E current : this) {
-            if (found) {
-                return current;
-            }
-            if (seqComparator().compare(e, current) == 0) {
-                found = true;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Returns the next lower element in the sequence to the given element. If the given element doesn't exist or if it
-     * is the first element in the sequence <code>null</code> is returned. <strong>Please note that this method is
-     * provided for compatibility with Java 5 SE. On a Java 6 SE platform the same method implemented by the
-     * {@link TreeSet} class should be used for better performance.</strong>
-     *
-     * @param  e an element which is compared to elements of this sequence.
-     * @return   an element of this sequence or <code>null</code>.
-     */
-    @Override
-    public E lower(E e) {
-        E last = null;
-        for (E current : this) {
-            if (seqComparator().compare(e, current) == 0) {
-                return last;
-            }
-            last = current;
-        }
-        return last;
-    }
-
 }
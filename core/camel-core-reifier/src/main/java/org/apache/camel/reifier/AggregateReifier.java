@@ -130,6 +130,10 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (optimisticLocking != null) {
             answer.setOptimisticLocking(optimisticLocking);
         }
+        Integer lockStripeCount = parseInt(definition.getLockStripeCount());
+        if (lockStripeCount != null) {
+            answer.setLockStripeCount(lockStripeCount);
+        }
         if (definition.getCompletionPredicate() != null) {
             Predicate predicate = createPredicate(definition.getCompletionPredicate());
             answer.setCompletionPredicate(predicate);
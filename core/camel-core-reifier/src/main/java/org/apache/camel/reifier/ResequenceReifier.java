@@ -128,7 +128,9 @@ public class ResequenceReifier extends ProcessorReifier<ResequenceDefinition> {
         }
         comparator.setExpression(expression);
 
-        StreamResequencer resequencer = new StreamResequencer(camelContext, target, comparator, expression);
+        int ringBufferSize = parseInt(config.getRingBufferSize(), 0);
+        StreamResequencer resequencer
+                = new StreamResequencer(camelContext, target, comparator, expression, ringBufferSize);
         resequencer.setDisabled(isDisabled(camelContext, definition));
         Long dur = parseDuration(config.getTimeout());
         if (dur != null) {
@@ -77,6 +77,7 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     isShareUnitOfWork, isParallelAggregate);
         }
         answer.setSynchronous(isSynchronous);
+        answer.setMaxInflight(parseInt(definition.getMaxInflight(), 0));
         answer.setDisabled(isDisabled(camelContext, definition));
         return answer;
     }
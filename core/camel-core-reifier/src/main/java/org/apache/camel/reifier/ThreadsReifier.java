@@ -68,6 +68,8 @@ public class ThreadsReifier extends ProcessorReifier<ThreadsDefinition> {
             profile.setRejectedPolicy(policy);
             profile.setAllowCoreThreadTimeOut(definition.getAllowCoreThreadTimeOut() != null
                     ? parseBoolean(definition.getAllowCoreThreadTimeOut(), false) : null);
+            profile.setVirtualThreads(definition.getVirtualThreads() != null
+                    ? parseBoolean(definition.getVirtualThreads(), false) : null);
 
             ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
             threadPool = manager.newThreadPool(definition, name, profile);
@@ -98,6 +100,9 @@ public class ThreadsReifier extends ProcessorReifier<ThreadsDefinition> {
                 throw new IllegalArgumentException(
                         "AllowCoreThreadTimeOut and executorService options cannot be used together.");
             }
+            if (definition.getVirtualThreads() != null) {
+                throw new IllegalArgumentException("VirtualThreads and executorService options cannot be used together.");
+            }
         }
 
         ThreadsProcessor answer = new ThreadsProcessor(camelContext, threadPool, shutdownThreadPool, policy);
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LambdaMethodInvokerTest {
+
+    private final MyBean bean = new MyBean();
+
+    @Test
+    public void testInvoke() throws Exception {
+        LambdaMethodInvoker invoker = create("hello", String.class);
+
+        Object[] args = { "World" };
+        assertTrue(invoker.canInvoke(bean, args));
+        assertEquals("Hello World", invoker.invoke(bean, args));
+
+        // null is allowed for object parameters
+        args = new Object[] { null };
+        assertTrue(invoker.canInvoke(bean, args));
+        assertEquals("Hello null", invoker.invoke(bean, args));
+
+        // wrong types are invoked via reflection
+        assertFalse(invoker.canInvoke(bean, new Object[] { 123 }));
+        assertFalse(invoker.canInvoke(bean, new Object[] { "a", "b" }));
+        assertFalse(invoker.canInvoke(bean, null));
+        assertFalse(invoker.canInvoke("Not a bean", args));
+    }
+
+    @Test
+    public void testInvokePrimitives() throws Exception {
+        LambdaMethodInvoker invoker = create("add", int.class, long.class);
+
+        Object[] args = { 1, 2L };
+        assertTrue(invoker.canInvoke(bean, args));
+        assertEquals(3L, invoker.invoke(bean, args));
+
+        // null and widening of primitives are invoked via reflection
+        assertFalse(invoker.canInvoke(bean, new Object[] { null, 2L }));
+        assertFalse(invoker.canInvoke(bean, new Object[] { 1, 2 }));
+    }
+
+    @Test
+    public void testInvokeVoid() throws Exception {
+        LambdaMethodInvoker invoker = create("clear");
+
+        assertTrue(invoker.canInvoke(bean, null));
+        assertTrue(invoker.canInvoke(bean, new Object[0]));
+        assertNull(invoker.invoke(bean, null));
+        assertEquals(1, bean.cleared);
+    }
+
+    @Test
+    public void testInvokeStatic() throws Exception {
+        LambdaMethodInvoker invoker = create("upper", String.class);
+
+        Object[] args = { "camel" };
+        assertTrue(invoker.canInvoke(null, args));
+        assertEquals("CAMEL", invoker.invoke(null, args));
+    }
+
+    @Test
+    public void testInvokeVarargs() throws Exception {
+        LambdaMethodInvoker invoker = create("join", String[].class);
+
+        Object[] args = { new String[] { "a", "b", "c" } };
+        assertTrue(invoker.canInvoke(bean, args));
+        assertEquals("a,b,c", invoker.invoke(bean, args));
+    }
+
+    @Test
+    public void testInvokeException() throws Exception {
+        LambdaMethodInvoker invoker = create("fail", String.class);
+
+        Object[] args = { "Damn" };
+        InvocationTargetException e = assertThrows(InvocationTargetException.class, () -> invoker.invoke(bean, args));
+        assertEquals("Damn", e.getTargetException().getMessage());
+        assertSame(IllegalStateException.class, e.getTargetException().getClass());
+    }
+
+    @Test
+    public void testInvokePackageScope() throws Exception {
+        Method method = MyPackageScopeBean.class.getDeclaredMethod("bye", String.class);
+        LambdaMethodInvoker invoker = LambdaMethodInvoker.create(method);
+        assertNotNull(invoker);
+
+        Object[] args = { "World" };
+        assertTrue(invoker.canInvoke(new MyPackageScopeBean(), args));
+        assertEquals("Bye World", invoker.invoke(new MyPackageScopeBean(), args));
+    }
+
+    @Test
+    public void testTooManyParameters() throws Exception {
+        Method method = MyBean.class.getMethod("many", String.class, String.class, String.class, String.class);
+        assertNull(LambdaMethodInvoker.create(method));
+    }
+
+    private static LambdaMethodInvoker create(String name, Class<?>... parameterTypes) throws Exception {
+        LambdaMethodInvoker invoker = LambdaMethodInvoker.create(MyBean.class.getMethod(name, parameterTypes));
+        assertNotNull(invoker);
+        return invoker;
+    }
+
+    public static class MyBean {
+        private int cleared;
+
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+
+        public long add(int a, long b) {
+            return a + b;
+        }
+
+        public void clear() {
+            cleared++;
+        }
+
+        public static String upper(String s) {
+            return s.toUpperCase();
+        }
+
+        public String join(String... values) {
+            return String.join(",", values);
+        }
+
+        public String many(String a, String b, String c, String d) {
+            return a + b + c + d;
+        }
+
+        public String fail(String message) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    static class MyPackageScopeBean {
+        String bye(String name) {
+            return "Bye " + name;
+        }
+    }
+}
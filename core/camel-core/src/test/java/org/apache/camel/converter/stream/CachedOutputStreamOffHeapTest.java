@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CachedOutputStreamOffHeapTest extends ContextTestSupport {
+
+    private final byte[] data = new byte[200 * 1024];
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setOffHeapEnabled(true);
+        context.getStreamCachingStrategy().setOffHeapMaxSize(StreamCacheBufferPool.CHUNK_SIZE * 4);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        new Random(4).nextBytes(data);
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.getExchangeExtension().setUnitOfWork(uow);
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private StreamCacheBufferPool pool() {
+        return context.getCamelContextExtension().getContextPlugin(StreamCacheBufferPool.class);
+    }
+
+    private static byte[] toBytes(StreamCache cache) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        return bos.toByteArray();
+    }
+
+    @Test
+    public void testCacheInPooledBuffers() throws Exception {
+        context.start();
+        assertNotNull(pool());
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data);
+        StreamCache cache = cos.newStreamCache();
+        ByteBufferInputStreamCache bbc = assertInstanceOf(ByteBufferInputStreamCache.class, cache);
+        assertEquals(data.length, cache.length());
+        // 200kb fits in 4 chunks
+        assertEquals(StreamCacheBufferPool.CHUNK_SIZE * 4, pool().getUsedSize());
+
+        assertArrayEquals(data, bbc.readAllBytes());
+        bbc.reset();
+        assertArrayEquals(data, toBytes(cache));
+
+        // the views are not affected by reading from the stream cache
+        ByteBuffer[] views = bbc.toByteBuffers();
+        int len = Arrays.stream(views).mapToInt(ByteBuffer::remaining).sum();
+        assertEquals(data.length, len);
+
+        // the buffers are released when the exchange is done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, pool().getUsedSize());
+        assertThrows(IOException.class, () -> cache.writeTo(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testCopyIsReleasedWhenAllExchangesDone() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data);
+        StreamCache cache = cos.newStreamCache();
+
+        Exchange copy = exchange.copy();
+        UnitOfWork uow = new DefaultUnitOfWork(copy);
+        copy.getExchangeExtension().setUnitOfWork(uow);
+        StreamCache other = cache.copy(copy);
+
+        exchange.getUnitOfWork().done(exchange);
+        assertArrayEquals(data, toBytes(other));
+
+        copy.getUnitOfWork().done(copy);
+        assertEquals(0, pool().getUsedSize());
+    }
+
+    @Test
+    public void testHeapFallbackWhenPoolExhausted() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data);
+        cos.write(data);
+        StreamCache cache = cos.newStreamCache();
+        assertEquals(data.length * 2L, cache.length());
+        assertEquals(pool().getMaxSize(), pool().getUsedSize());
+
+        byte[] bytes = toBytes(cache);
+        assertArrayEquals(data, Arrays.copyOfRange(bytes, 0, data.length));
+        assertArrayEquals(data, Arrays.copyOfRange(bytes, data.length, bytes.length));
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, pool().getUsedSize());
+    }
+}
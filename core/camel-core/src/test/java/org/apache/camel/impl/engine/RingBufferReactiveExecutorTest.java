@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class RingBufferReactiveExecutorTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        RingBufferReactiveExecutor executor = new RingBufferReactiveExecutor();
+        executor.setCapacity(4);
+        context.getCamelContextExtension().setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testRoute() throws Exception {
+        assertInstanceOf(RingBufferReactiveExecutor.class, context.getCamelContextExtension().getReactiveExecutor());
+
+        getMockEndpoint("mock:line").expectedMessageCount(20);
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            sb.append(i).append(',');
+        }
+        template.sendBodyAndHeader("direct:start", "Hello World", "lines", sb.toString());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSameOrderAsDefault() {
+        List<String> expected = new ArrayList<>();
+        runScenario(new DefaultReactiveExecutor(), expected);
+
+        RingBufferReactiveExecutor executor = new RingBufferReactiveExecutor();
+        // small capacity to force the ring buffers to grow
+        executor.setCapacity(2);
+        List<String> actual = new ArrayList<>();
+        runScenario(executor, actual);
+
+        assertEquals(expected, actual);
+    }
+
+    private static void runScenario(ReactiveExecutor executor, List<String> log) {
+        executor.scheduleMain(() -> {
+            log.add("main");
+            for (int i = 0; i < 5; i++) {
+                final int n = i;
+                executor.schedule(() -> {
+                    log.add("task-" + n);
+                    if (n % 2 == 0) {
+                        executor.scheduleMain(() -> {
+                            log.add("nested-main-" + n);
+                            executor.schedule(() -> log.add("nested-task-" + n));
+                            executor.scheduleSync(() -> log.add("nested-sync-" + n));
+                        });
+                    }
+                });
+            }
+            executor.scheduleSync(() -> {
+                log.add("sync");
+                executor.schedule(() -> log.add("after-sync"));
+            });
+            executor.scheduleMain(() -> log.add("second-main"));
+        });
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(header("lines")).to("mock:line").end()
+                        .multicast().to("direct:a", "direct:b").end()
+                        .to("mock:result");
+
+                from("direct:a").setHeader("a", constant("A"));
+                from("direct:b").setHeader("b", constant("B"));
+            }
+        };
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.MultipleConsumersSupport;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.DefaultEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupConcurrencyFailureTest extends ContextTestSupport {
+
+    private static final int ROUTES = 10;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(Exchange.ROUTE_STARTUP_CONCURRENCY, "4");
+        return context;
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testRouteFailsToStart() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                MyEndpoint my = new MyEndpoint(true, true);
+                my.setCamelContext(context);
+                my.setEndpointUriIfNotSpecified("my:fail");
+
+                for (int i = 0; i < ROUTES; i++) {
+                    from("direct:a" + i).routeId("a" + i).to("mock:result");
+                }
+                from(my).routeId("fail").to("mock:fail");
+            }
+        });
+
+        Exception e = assertThrows(Exception.class, () -> context.start(), "Should have thrown exception");
+        assertTrue(hasCause(e, "Cannot start consumer"), "Should fail starting the consumer: " + e);
+        assertFalse(context.isStarted());
+
+        // the routes which did start should be stopped
+        context.stop();
+        assertTrue(context.isStopped());
+    }
+
+    @Test
+    public void testNotMultipleConsumersSupport() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                MyEndpoint my = new MyEndpoint(false, false);
+                my.setCamelContext(context);
+                my.setEndpointUriIfNotSpecified("my:endpoint");
+
+                for (int i = 0; i < ROUTES; i++) {
+                    from("direct:a" + i).to("mock:result");
+                }
+                from(my).to("mock:a");
+                from(my).to("mock:b");
+            }
+        });
+
+        Exception e = assertThrows(Exception.class, () -> context.start(), "Should have thrown exception");
+        assertTrue(e.getMessage().endsWith("Multiple consumers for the same endpoint is not allowed: my:endpoint"));
+        // the clash is detected before any of the route consumers are started
+        assertEquals(0, context.getCamelContextExtension().getRouteStartupOrder().size());
+    }
+
+    private static boolean hasCause(Throwable e, String message) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains(message)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class MyEndpoint extends DefaultEndpoint implements MultipleConsumersSupport {
+
+        private final boolean multipleConsumers;
+        private final boolean fail;
+
+        MyEndpoint(boolean multipleConsumers, boolean fail) {
+            this.multipleConsumers = multipleConsumers;
+            this.fail = fail;
+        }
+
+        @Override
+        public boolean isSingleton() {
+            return true;
+        }
+
+        @Override
+        public boolean isMultipleConsumersSupported() {
+            return multipleConsumers;
+        }
+
+        @Override
+        public Producer createProducer() {
+            return null;
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) {
+            return new DefaultConsumer(this, processor) {
+                @Override
+                protected void doStart() throws Exception {
+                    if (fail) {
+                        throw new IllegalStateException("Cannot start consumer");
+                    }
+                    super.doStart();
+                }
+            };
+        }
+
+        @Override
+        protected String createEndpointUri() {
+            return "MyEndpoint";
+        }
+    }
+}
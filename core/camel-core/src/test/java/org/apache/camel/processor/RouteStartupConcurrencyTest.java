@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupConcurrencyTest extends ContextTestSupport {
+
+    private static final int ROUTES = 20;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(Exchange.ROUTE_STARTUP_CONCURRENCY, "4");
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupConcurrency() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(ROUTES);
+        getMockEndpoint("mock:first").expectedMessageCount(1);
+
+        template.sendBody("seda:first", "Hello World");
+        for (int i = 0; i < ROUTES; i++) {
+            template.sendBody("direct:a" + i, "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        List<RouteStartupOrder> order = context.getCamelContextExtension().getRouteStartupOrder();
+        assertEquals(ROUTES * 2 + 1, order.size());
+        // routes with an explicit startup order are started first
+        assertEquals("seda://first", order.get(0).getRoute().getEndpoint().getEndpointUri());
+
+        // the routes which are sent to are started before the routes sending to them
+        List<String> uris = new ArrayList<>();
+        for (RouteStartupOrder startupOrder : order) {
+            uris.add(startupOrder.getRoute().getEndpoint().getEndpointUri());
+        }
+        for (int i = 0; i < ROUTES; i++) {
+            assertTrue(uris.indexOf("direct://b" + i) < uris.indexOf("direct://a" + i));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:first").startupOrder(1).to("mock:first");
+
+                for (int i = 0; i < ROUTES; i++) {
+                    from("direct:a" + i).to("direct:b" + i);
+                    from("direct:b" + i).to("mock:result");
+                }
+            }
+        };
+    }
+}
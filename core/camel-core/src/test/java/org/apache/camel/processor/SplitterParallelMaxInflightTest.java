@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelMaxInflightTest extends ContextTestSupport {
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testSplitParallelMaxInflight() throws Exception {
+        List<String> body = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            body.add("Message " + i);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:split");
+        mock.expectedMessageCount(50);
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", body);
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(maxInflight.get() <= 3, "Should not process more than 3 messages at the same time: " + maxInflight.get());
+
+        Splitter splitter = context.getProcessor("mySplit", Splitter.class);
+        assertEquals(3, splitter.getMaxInflight());
+        assertTrue(splitter.getInflightBlockedCounter() > 0, "Should have been blocked");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body()).parallelProcessing().streaming().maxInflight(3).id("mySplit")
+                            .process(e -> {
+                                maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+                                Thread.sleep(10);
+                                inflight.decrementAndGet();
+                            })
+                            .to("mock:split")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
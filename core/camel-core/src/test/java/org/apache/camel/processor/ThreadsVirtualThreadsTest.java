@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadsVirtualThreadsTest extends ContextTestSupport {
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(20);
+
+        for (int i = 0; i < 20; i++) {
+            template.asyncSendBody("direct:start", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+        assertTrue(maxActive.get() <= 5, "Should not route more than 5 exchanges at the same time, was " + maxActive.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        // each exchange is routed in a new virtual thread (when supported by the JVM)
+                        // and at most 5 exchanges are routed at the same time
+                        .threads().maxPoolSize(5).virtualThreads(true)
+                        .process(e -> {
+                            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                            Thread.sleep(20);
+                            active.decrementAndGet();
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+}
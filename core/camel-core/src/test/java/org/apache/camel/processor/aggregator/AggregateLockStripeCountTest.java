@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.MemoryAggregationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Isolated("Creates lots of threads")
+public class AggregateLockStripeCountTest extends ContextTestSupport {
+
+    private final String uri = "direct:start";
+    private final ConcurrencyAggregationRepository repository = new ConcurrencyAggregationRepository();
+
+    @Test
+    public void testAggregateLockStripeCount() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        int size = 500;
+        for (int i = 0; i < size; i++) {
+            final int id = i % 25;
+            final int count = i;
+            tasks.add(new Callable<Object>() {
+                public Object call() {
+                    template.sendBodyAndHeader(uri, Integer.toString(count), "id", id);
+                    return null;
+                }
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(25);
+        mock.allMessages().exchangeProperty(Exchange.AGGREGATED_SIZE).isEqualTo(20);
+
+        // submit all tasks
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+    }
+
+    @Test
+    public void testAggregateLockStripeCountForceCompletion() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        template.sendBodyAndHeader(uri, "A", "id", 1);
+        template.sendBodyAndHeader(uri, "B", "id", 2);
+        template.sendBodyAndHeader(uri, "C", "id", 3);
+        template.sendBodyAndHeader(uri, "D", Exchange.AGGREGATION_COMPLETE_ALL_GROUPS, true);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripeCountCompletionTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedBodiesReceivedInAnyOrder("A+C", "B");
+        mock.allMessages().exchangeProperty(Exchange.AGGREGATED_COMPLETED_BY).isEqualTo("timeout");
+
+        template.sendBodyAndHeader("direct:timeout", "A", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "B", "id", 2);
+        template.sendBodyAndHeader("direct:timeout", "C", "id", 1);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripeCountCompletionInterval() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:interval");
+        mock.expectedBodiesReceivedInAnyOrder("A+C", "B");
+        mock.allMessages().exchangeProperty(Exchange.AGGREGATED_COMPLETED_BY).isEqualTo("interval");
+
+        template.sendBodyAndHeader("direct:interval", "A", "id", 1);
+        template.sendBodyAndHeader("direct:interval", "B", "id", 2);
+        template.sendBodyAndHeader("direct:interval", "C", "id", 1);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripeCountRepository() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        int size = 500;
+        for (int i = 0; i < size; i++) {
+            final int id = i % 25;
+            final int count = i;
+            tasks.add(() -> {
+                template.sendBodyAndHeader("direct:repository", Integer.toString(count), "id", id);
+                return null;
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:repository");
+        mock.expectedMessageCount(25);
+        mock.allMessages().exchangeProperty(Exchange.AGGREGATED_SIZE).isEqualTo(20);
+
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        // groups guarded by different stripes use the repository at the same time
+        assertTrue(repository.maxConcurrent.get() > 1, "Repository should be used concurrently");
+
+        // every group contains exactly the messages with its correlation key
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            int id = exchange.getMessage().getHeader("id", Integer.class);
+            String[] counts = exchange.getMessage().getBody(String.class).split("\\+");
+            assertEquals(20, counts.length);
+            assertTrue(Arrays.stream(counts).allMatch(count -> Integer.parseInt(count) % 25 == id));
+            assertEquals(20, Arrays.stream(counts).distinct().count());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy()).lockStripeCount(8)
+                        .completionSize(20)
+                        .to("mock:result");
+
+                from("direct:timeout").aggregate(header("id"), new BodyInAggregatingStrategy()).lockStripeCount(8)
+                        .completionTimeout(100)
+                        .to("mock:timeout");
+
+                from("direct:interval").aggregate(header("id"), new BodyInAggregatingStrategy()).lockStripeCount(8)
+                        .completionInterval(100)
+                        .to("mock:interval");
+
+                from("direct:repository").aggregate(header("id"), new BodyInAggregatingStrategy()).lockStripeCount(8)
+                        .aggregationRepository(repository)
+                        .completionSize(20)
+                        .to("mock:repository");
+            }
+        };
+    }
+
+    /**
+     * A thread-safe repository which records how many threads are using it at the same time
+     */
+    private static final class ConcurrencyAggregationRepository extends MemoryAggregationRepository {
+
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        @Override
+        public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                // make the window larger so concurrent use is detected
+                Thread.sleep(2);
+                return super.add(camelContext, key, exchange);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+}
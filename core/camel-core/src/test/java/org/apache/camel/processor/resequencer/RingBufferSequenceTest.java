@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferSequenceTest {
+
+    private RingBufferSequence<Integer> set;
+
+    @BeforeEach
+    public void setUp() {
+        set = new RingBufferSequence<>(new IntegerComparator(), Integer::longValue, 4);
+    }
+
+    @Test
+    public void testPredecessorAndSuccessor() {
+        set.add(7);
+        set.add(3);
+        set.add(4);
+
+        assertEquals(4, set.successor(3));
+        assertNull(set.successor(4));
+        assertNull(set.successor(7));
+        assertEquals(3, set.predecessor(4));
+        assertNull(set.predecessor(3));
+        assertNull(set.predecessor(7));
+    }
+
+    @Test
+    public void testNoDuplicates() {
+        assertTrue(set.add(5));
+        assertFalse(set.add(5));
+        // outside the ring buffer
+        assertTrue(set.add(50));
+        assertFalse(set.add(50));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    public void testOrderWithOverflow() {
+        // 3 is the start of the ring buffer so 10, 20, 1 and 2 are held in the sorted tree
+        for (int i : new int[] { 3, 10, 5, 20, 1, 4, 2, 6 }) {
+            set.add(i);
+        }
+        assertEquals(8, set.size());
+        assertEquals(4, set.getOverflowSize());
+        assertEquals(1, set.first());
+        assertEquals(20, set.last());
+        // across the ring buffer and the overflow sequence
+        assertEquals(2, set.successor(1));
+        assertEquals(3, set.successor(2));
+        assertEquals(2, set.predecessor(3));
+        assertNull(set.successor(6));
+        assertNull(set.predecessor(10));
+
+        List<Integer> removed = new ArrayList<>();
+        while (!set.isEmpty()) {
+            Integer first = set.first();
+            assertTrue(set.remove(first));
+            removed.add(first);
+        }
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 10, 20), removed);
+        assertEquals(0, set.getOverflowSize());
+        assertThrows(NoSuchElementException.class, set::first);
+        assertThrows(NoSuchElementException.class, set::last);
+    }
+
+    @Test
+    public void testWindowMovesForward() {
+        for (int i = 0; i < 100; i++) {
+            set.add(i);
+            if (i >= 2) {
+                assertEquals(i - 2, set.first());
+                set.remove(set.first());
+            }
+        }
+        assertEquals(2, set.size());
+        assertEquals(0, set.getOverflowSize());
+        assertEquals(99, set.successor(98));
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinaryExchangeCodecTest {
+
+    private final CamelContext context = new DefaultCamelContext();
+
+    private Exchange createExchange() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("string", "Bye World");
+        exchange.getIn().setHeader("int", -123);
+        exchange.getIn().setHeader("long", Long.MAX_VALUE);
+        exchange.getIn().setHeader("double", 1.5d);
+        exchange.getIn().setHeader("float", 2.5f);
+        exchange.getIn().setHeader("short", (short) 4);
+        exchange.getIn().setHeader("byte", (byte) 8);
+        exchange.getIn().setHeader("char", 'c');
+        exchange.getIn().setHeader("boolean", true);
+        exchange.getIn().setHeader("bigInteger", new BigInteger("123456789012345678901234567890"));
+        exchange.getIn().setHeader("bigDecimal", new BigDecimal("-12345.6789"));
+        exchange.getIn().setHeader("date", new Date(1234567890L));
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, 5);
+        exchange.setException(new IllegalArgumentException("Damn"));
+        return exchange;
+    }
+
+    private Exchange roundtrip(ExchangeCodec codec, Exchange exchange) throws IOException {
+        byte[] data = codec.encode(DefaultExchangeHolder.marshal(exchange));
+        Exchange answer = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(answer, codec.decode(context, data));
+        return answer;
+    }
+
+    @Test
+    public void testRoundtrip() throws Exception {
+        Exchange exchange = createExchange();
+        Exchange copy = roundtrip(new BinaryExchangeCodec(), exchange);
+
+        assertEquals(exchange.getExchangeId(), copy.getExchangeId());
+        assertEquals("Hello World", copy.getIn().getBody());
+        assertEquals(exchange.getIn().getHeaders(), copy.getIn().getHeaders());
+        for (String key : exchange.getIn().getHeaders().keySet()) {
+            assertEquals(exchange.getIn().getHeader(key).getClass(), copy.getIn().getHeader(key).getClass());
+        }
+        assertEquals(5, copy.getProperty(Exchange.AGGREGATED_SIZE));
+        assertInstanceOf(IllegalArgumentException.class, copy.getException());
+        assertEquals("Damn", copy.getException().getMessage());
+    }
+
+    @Test
+    public void testBytesBody() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new byte[] { 1, 2, 3 });
+        Exchange copy = roundtrip(new BinaryExchangeCodec(), exchange);
+
+        assertArrayEquals(new byte[] { 1, 2, 3 }, copy.getIn().getBody(byte[].class));
+        assertNull(copy.getException());
+    }
+
+    @Test
+    public void testCompress() throws Exception {
+        BinaryExchangeCodec codec = new BinaryExchangeCodec();
+        codec.setCompress(true);
+
+        Exchange exchange = createExchange();
+        exchange.getIn().setBody("Hello World ".repeat(1000));
+
+        byte[] compressed = codec.encode(DefaultExchangeHolder.marshal(exchange));
+        byte[] uncompressed = new BinaryExchangeCodec().encode(DefaultExchangeHolder.marshal(exchange));
+        assertTrue(compressed.length < uncompressed.length / 10);
+
+        Exchange copy = roundtrip(codec, exchange);
+        assertEquals(exchange.getIn().getBody(), copy.getIn().getBody());
+        assertEquals(exchange.getIn().getHeaders(), copy.getIn().getHeaders());
+    }
+
+    @Test
+    public void testSmallerThanSerialization() throws Exception {
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(createExchange());
+
+        byte[] binary = new BinaryExchangeCodec().encode(holder);
+        byte[] serialized = new SerializationExchangeCodec().encode(holder);
+        assertTrue(binary.length < serialized.length);
+    }
+
+    @Test
+    public void testDecodeSerialized() throws Exception {
+        Exchange exchange = createExchange();
+        byte[] data = new SerializationExchangeCodec().encode(DefaultExchangeHolder.marshal(exchange));
+
+        // data stored using java serialization can still be read
+        Exchange copy = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(copy, new BinaryExchangeCodec().decode(context, data));
+        assertEquals("Hello World", copy.getIn().getBody());
+        assertEquals(exchange.getIn().getHeaders(), copy.getIn().getHeaders());
+    }
+
+    @Test
+    public void testUnsupportedVersion() throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        new BinaryExchangeCodec().encode(DefaultExchangeHolder.marshal(createExchange()), bos);
+        byte[] data = bos.toByteArray();
+        data[2] = (byte) (BinaryExchangeCodec.VERSION + 1);
+
+        BinaryExchangeCodec codec = new BinaryExchangeCodec();
+        ByteArrayInputStream bis = new ByteArrayInputStream(data);
+        assertThrows(IOException.class, () -> codec.decode(context, bis));
+        assertThrows(IOException.class, () -> codec.decode(context, new byte[] { 1, 2, 3, 4 }));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.util.function.ThrowingFunction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ParsedDocumentCacheTest {
+
+    private final AtomicInteger parsed = new AtomicInteger();
+    private final ThrowingFunction<Object, Object, RuntimeException> parser = s -> {
+        parsed.incrementAndGet();
+        return "parsed:" + s;
+    };
+
+    @Test
+    public void testDisabled() {
+        CamelContext context = new DefaultCamelContext();
+        Exchange exchange = new DefaultExchange(context);
+        String body = "Hello";
+
+        assertEquals("parsed:Hello", ParsedDocumentCache.computeIfAbsent(exchange, body, "test", parser));
+        assertEquals("parsed:Hello", ParsedDocumentCache.computeIfAbsent(exchange, body, "test", parser));
+        assertEquals(2, parsed.get());
+    }
+
+    @Test
+    public void testEnabled() {
+        CamelContext context = new DefaultCamelContext();
+        context.getGlobalOptions().put(ParsedDocumentCache.PARSED_DOCUMENT_CACHE, "true");
+        Exchange exchange = new DefaultExchange(context);
+        String body = "Hello";
+
+        Object doc = ParsedDocumentCache.computeIfAbsent(exchange, body, "test", parser);
+        assertSame(doc, ParsedDocumentCache.computeIfAbsent(exchange, body, "test", parser));
+        assertEquals(1, parsed.get());
+
+        // another kind of document is parsed separately
+        ParsedDocumentCache.computeIfAbsent(exchange, body, "other", parser);
+        assertEquals(2, parsed.get());
+
+        // a new body (even if equal) is parsed again
+        String other = new String("Hello");
+        ParsedDocumentCache.computeIfAbsent(exchange, other, "test", parser);
+        assertEquals(3, parsed.get());
+        assertSame(doc, ParsedDocumentCache.computeIfAbsent(exchange, body, "test", parser));
+        assertEquals(3, parsed.get());
+
+        // a copy of the exchange parses its own documents
+        Exchange copy = exchange.copy();
+        ParsedDocumentCache.computeIfAbsent(copy, body, "test", parser);
+        assertEquals(4, parsed.get());
+    }
+
+    @Test
+    public void testEvictOldest() {
+        CamelContext context = new DefaultCamelContext();
+        context.getGlobalOptions().put(ParsedDocumentCache.PARSED_DOCUMENT_CACHE, "true");
+        Exchange exchange = new DefaultExchange(context);
+
+        String first = "Body0";
+        ParsedDocumentCache.computeIfAbsent(exchange, first, "test", parser);
+        for (int i = 1; i < 10; i++) {
+            ParsedDocumentCache.computeIfAbsent(exchange, "Body" + i, "test", parser);
+        }
+        assertEquals(10, parsed.get());
+
+        ParsedDocumentCache.computeIfAbsent(exchange, first, "test", parser);
+        assertEquals(11, parsed.get());
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexedFileIdempotentRepositoryTest extends TestSupport {
+
+    private File fileStore;
+    private IndexedFileIdempotentRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        fileStore = testDirectory().resolve("store").toFile();
+        repository = newRepository();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        repository.stop();
+    }
+
+    private IndexedFileIdempotentRepository newRepository() {
+        IndexedFileIdempotentRepository answer = new IndexedFileIdempotentRepository(fileStore);
+        answer.setCacheSize(10);
+        answer.setIndexCapacity(100);
+        return answer;
+    }
+
+    @Test
+    public void testAddContainsRemove() {
+        repository.start();
+
+        assertTrue(repository.add("file1.txt"));
+        assertFalse(repository.add("file1.txt"));
+        assertTrue(repository.add("file2.txt"));
+        assertTrue(repository.contains("file1.txt"));
+        assertFalse(repository.contains("file3.txt"));
+        assertEquals(2, repository.getSize());
+
+        assertTrue(repository.remove("file1.txt"));
+        assertFalse(repository.remove("file1.txt"));
+        assertFalse(repository.contains("file1.txt"));
+        assertTrue(repository.add("file1.txt"));
+        assertEquals(2, repository.getSize());
+
+        repository.clear();
+        assertFalse(repository.contains("file1.txt"));
+        assertEquals(0, repository.getSize());
+        assertEquals(0, repository.getFileStoreSize());
+    }
+
+    @Test
+    public void testResizeAndReload() {
+        repository.start();
+        // more keys than the cache and the initial size of the index
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(repository.add("file" + i + ".txt"));
+        }
+        for (int i = 0; i < 5000; i += 2) {
+            assertTrue(repository.remove("file" + i + ".txt"));
+        }
+        repository.stop();
+
+        repository = newRepository();
+        repository.start();
+        assertEquals(2500, repository.getSize());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 2 == 1, repository.contains("file" + i + ".txt"));
+        }
+    }
+
+    @Test
+    public void testCompact() {
+        repository.start();
+        for (int i = 0; i < 1000; i++) {
+            repository.add("file" + i + ".txt");
+        }
+        for (int i = 0; i < 900; i++) {
+            repository.remove("file" + i + ".txt");
+        }
+        long size = repository.getFileStoreSize();
+
+        repository.compact();
+
+        assertTrue(repository.getFileStoreSize() < size);
+        assertEquals(0, repository.getGarbageSize());
+        assertEquals(100, repository.getSize());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i >= 900, repository.contains("file" + i + ".txt"));
+        }
+        assertTrue(repository.add("file0.txt"));
+    }
+
+    @Test
+    public void testRebuildIndexAfterCrash() throws Exception {
+        repository.setFlushInterval(0);
+        repository.start();
+        for (int i = 0; i < 100; i++) {
+            repository.add("file" + i + ".txt");
+        }
+        repository.remove("file5.txt");
+
+        // simulate a crash while writing a key, where the index is not updated nor closed gracefully
+        File data = new File(fileStore, IndexedFileIdempotentRepository.DATA_FILE);
+        try (RandomAccessFile raf = new RandomAccessFile(data, "rw")) {
+            raf.seek(raf.length());
+            raf.write(new byte[] { 1, 0, 0, 0, 20, 'f', 'i' });
+        }
+
+        IndexedFileIdempotentRepository other = newRepository();
+        other.start();
+        try {
+            assertEquals(99, other.getSize());
+            assertTrue(other.contains("file99.txt"));
+            assertFalse(other.contains("file5.txt"));
+            assertTrue(other.add("file100.txt"));
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    public void testHash() {
+        assertTrue(IndexedFileIdempotentRepository.hash(new byte[0]) != 0);
+        assertEquals(1024, IndexedFileIdempotentRepository.slotsFor(100));
+        assertEquals(262144, IndexedFileIdempotentRepository.slotsFor(100000));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactCaseInsensitiveMapTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertNull(map.get("unknown"));
+        assertNull(map.get(123));
+    }
+
+    @Test
+    public void testPutSameKeyDifferentCase() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        assertEquals("cheese", map.put("FOO", "cake"));
+
+        assertEquals(1, map.size());
+        assertEquals("cake", map.get("foo"));
+        // the original key case is preserved
+        assertEquals("foo", map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("Zeta", 1);
+        map.put("alpha", 2);
+        map.put("Beta", 3);
+        map.remove("ALPHA");
+        map.put("gamma", 4);
+
+        List<String> keys = new ArrayList<>(map.keySet());
+        assertEquals(List.of("Zeta", "Beta", "gamma"), keys);
+    }
+
+    @Test
+    public void testIteratorRemoveAndSetValue() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("bar", "beer");
+
+        Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+        Map.Entry<String, Object> entry = it.next();
+        assertEquals("foo", entry.getKey());
+        entry.setValue("cake");
+        it.next();
+        it.remove();
+
+        assertEquals(1, map.size());
+        assertEquals("cake", map.get("FOO"));
+        assertFalse(map.containsKey("bar"));
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("bar", "beer");
+
+        Map<String, Object> copy = new CompactCaseInsensitiveMap(map);
+        copy.put("FOO", "cake");
+        copy.remove("bar");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("beer", map.get("bar"));
+        assertEquals("cake", copy.get("foo"));
+        assertNull(copy.get("bar"));
+
+        map.put("baz", "wine");
+        assertFalse(copy.containsKey("baz"));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        CompactCaseInsensitiveMap map = new CompactCaseInsensitiveMap();
+        map.put("foo", "cheese");
+        map.put("Bar", 123);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(map);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> copy = (Map<String, Object>) in.readObject();
+            assertEquals(map, copy);
+            assertEquals(123, copy.get("BAR"));
+        }
+    }
+
+    @Test
+    public void testSameAsCaseInsensitiveTreeMap() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        Map<String, Object> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        String[] names = { "foo", "Foo", "FOO", "bar", "BAR", "CamelFileName", "camelfilename", "Ärger", "äRGER", "x" };
+
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            String key = names[random.nextInt(names.length)] + random.nextInt(20);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (String key : expected.keySet()) {
+            assertEquals(expected.get(key), map.get(key.toUpperCase()));
+        }
+    }
+
+}
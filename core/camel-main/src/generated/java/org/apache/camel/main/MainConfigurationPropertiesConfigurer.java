@@ -70,6 +70,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("GlobalOptions", java.util.Map.class);
         map.put("GroovyPreloadCompiled", boolean.class);
         map.put("GroovyScriptPattern", java.lang.String.class);
+        map.put("HeadersMapFactory", java.lang.String.class);
         map.put("InflightRepositoryBrowseEnabled", boolean.class);
         map.put("JavaRoutesExcludePattern", java.lang.String.class);
         map.put("JavaRoutesIncludePattern", java.lang.String.class);
@@ -96,6 +97,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("Name", java.lang.String.class);
         map.put("ProducerTemplateCacheSize", int.class);
         map.put("Profile", java.lang.String.class);
+        map.put("ReactiveExecutor", java.lang.String.class);
         map.put("RouteFilterExcludePattern", java.lang.String.class);
         map.put("RouteFilterIncludePattern", java.lang.String.class);
         map.put("RoutesBuilderClasses", java.lang.String.class);
@@ -128,6 +130,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("StreamCachingBufferSize", int.class);
         map.put("StreamCachingDenyClasses", java.lang.String.class);
         map.put("StreamCachingEnabled", boolean.class);
+        map.put("StreamCachingOffHeapEnabled", boolean.class);
+        map.put("StreamCachingOffHeapMaxSize", long.class);
         map.put("StreamCachingRemoveSpoolDirectoryWhenStopping", boolean.class);
         map.put("StreamCachingSpoolCipher", java.lang.String.class);
         map.put("StreamCachingSpoolDirectory", java.lang.String.class);
@@ -248,6 +252,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "groovyPreloadCompiled": target.setGroovyPreloadCompiled(property(camelContext, boolean.class, value)); return true;
         case "groovyscriptpattern":
         case "groovyScriptPattern": target.setGroovyScriptPattern(property(camelContext, java.lang.String.class, value)); return true;
+        case "headersmapfactory":
+        case "headersMapFactory": target.setHeadersMapFactory(property(camelContext, java.lang.String.class, value)); return true;
         case "inflightrepositorybrowseenabled":
         case "inflightRepositoryBrowseEnabled": target.setInflightRepositoryBrowseEnabled(property(camelContext, boolean.class, value)); return true;
         case "javaroutesexcludepattern":
@@ -297,6 +303,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
         case "profile": target.setProfile(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutor":
+        case "reactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
@@ -361,6 +369,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingDenyClasses": target.setStreamCachingDenyClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingenabled":
         case "streamCachingEnabled": target.setStreamCachingEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingoffheapenabled":
+        case "streamCachingOffHeapEnabled": target.setStreamCachingOffHeapEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingoffheapmaxsize":
+        case "streamCachingOffHeapMaxSize": target.setStreamCachingOffHeapMaxSize(property(camelContext, long.class, value)); return true;
         case "streamcachingremovespooldirectorywhenstopping":
         case "streamCachingRemoveSpoolDirectoryWhenStopping": target.setStreamCachingRemoveSpoolDirectoryWhenStopping(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspoolcipher":
@@ -504,6 +516,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "groovyPreloadCompiled": return boolean.class;
         case "groovyscriptpattern":
         case "groovyScriptPattern": return java.lang.String.class;
+        case "headersmapfactory":
+        case "headersMapFactory": return java.lang.String.class;
         case "inflightrepositorybrowseenabled":
         case "inflightRepositoryBrowseEnabled": return boolean.class;
         case "javaroutesexcludepattern":
@@ -553,6 +567,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return int.class;
         case "profile": return java.lang.String.class;
+        case "reactiveexecutor":
+        case "reactiveExecutor": return java.lang.String.class;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
@@ -617,6 +633,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingDenyClasses": return java.lang.String.class;
         case "streamcachingenabled":
         case "streamCachingEnabled": return boolean.class;
+        case "streamcachingoffheapenabled":
+        case "streamCachingOffHeapEnabled": return boolean.class;
+        case "streamcachingoffheapmaxsize":
+        case "streamCachingOffHeapMaxSize": return long.class;
         case "streamcachingremovespooldirectorywhenstopping":
         case "streamCachingRemoveSpoolDirectoryWhenStopping": return boolean.class;
         case "streamcachingspoolcipher":
@@ -756,6 +776,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "groovyPreloadCompiled": return target.isGroovyPreloadCompiled();
         case "groovyscriptpattern":
         case "groovyScriptPattern": return target.getGroovyScriptPattern();
+        case "headersmapfactory":
+        case "headersMapFactory": return target.getHeadersMapFactory();
         case "inflightrepositorybrowseenabled":
         case "inflightRepositoryBrowseEnabled": return target.isInflightRepositoryBrowseEnabled();
         case "javaroutesexcludepattern":
@@ -805,6 +827,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return target.getProducerTemplateCacheSize();
         case "profile": return target.getProfile();
+        case "reactiveexecutor":
+        case "reactiveExecutor": return target.getReactiveExecutor();
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
@@ -869,6 +893,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingDenyClasses": return target.getStreamCachingDenyClasses();
         case "streamcachingenabled":
         case "streamCachingEnabled": return target.isStreamCachingEnabled();
+        case "streamcachingoffheapenabled":
+        case "streamCachingOffHeapEnabled": return target.isStreamCachingOffHeapEnabled();
+        case "streamcachingoffheapmaxsize":
+        case "streamCachingOffHeapMaxSize": return target.getStreamCachingOffHeapMaxSize();
         case "streamcachingremovespooldirectorywhenstopping":
         case "streamCachingRemoveSpoolDirectoryWhenStopping": return target.isStreamCachingRemoveSpoolDirectoryWhenStopping();
         case "streamcachingspoolcipher":
@@ -38,11 +38,13 @@ import org.apache.camel.health.HealthCheckRepository;
 import org.apache.camel.impl.debugger.BacklogTracer;
 import org.apache.camel.impl.debugger.DebuggerJmxConnectorService;
 import org.apache.camel.impl.debugger.DefaultBacklogDebugger;
+import org.apache.camel.impl.engine.CompactHeadersMapFactory;
 import org.apache.camel.impl.engine.DefaultCompileStrategy;
 import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.apache.camel.impl.engine.RingBufferReactiveExecutor;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -175,6 +177,9 @@ public final class DefaultConfigurationConfigurer {
         ecc.getProcessorExchangeFactory().setCapacity(config.getExchangeFactoryCapacity());
         ecc.getExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
         ecc.getProcessorExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
+        if ("ringbuffer".equals(config.getReactiveExecutor())) {
+            ecc.setReactiveExecutor(new RingBufferReactiveExecutor());
+        }
 
         if (!config.isJmxEnabled()) {
             camelContext.disableJMX();
@@ -212,6 +217,10 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy().setSpoolEnabled(config.isStreamCachingSpoolEnabled());
         camelContext.getStreamCachingStrategy().setAnySpoolRules(config.isStreamCachingAnySpoolRules());
         camelContext.getStreamCachingStrategy().setBufferSize(config.getStreamCachingBufferSize());
+        camelContext.getStreamCachingStrategy().setOffHeapEnabled(config.isStreamCachingOffHeapEnabled());
+        if (config.getStreamCachingOffHeapMaxSize() > 0) {
+            camelContext.getStreamCachingStrategy().setOffHeapMaxSize(config.getStreamCachingOffHeapMaxSize());
+        }
         camelContext.getStreamCachingStrategy()
                 .setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
@@ -264,6 +273,9 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setAutoStartupExcludePattern(config.getAutoStartupExcludePattern());
         camelContext.setAllowUseOriginalMessage(config.isAllowUseOriginalMessage());
         camelContext.setCaseInsensitiveHeaders(config.isCaseInsensitiveHeaders());
+        if (config.isCaseInsensitiveHeaders() && "compact".equals(config.getHeadersMapFactory())) {
+            ecc.setHeadersMapFactory(new CompactHeadersMapFactory());
+        }
         camelContext.setAutowiredEnabled(config.isAutowiredEnabled());
         camelContext.setUseBreadcrumb(config.isUseBreadcrumb());
         camelContext.setUseDataType(config.isUseDataType());
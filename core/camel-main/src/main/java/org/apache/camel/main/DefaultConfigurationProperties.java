@@ -69,6 +69,9 @@ public abstract class DefaultConfigurationProperties<T> {
     private String streamCachingSpoolUsedHeapMemoryLimit;
     private boolean streamCachingAnySpoolRules;
     private int streamCachingBufferSize;
+    private boolean streamCachingOffHeapEnabled;
+    @Metadata(defaultValue = "67108864")
+    private long streamCachingOffHeapMaxSize = 64 * 1024 * 1024;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
     private boolean streamCachingStatisticsEnabled;
     private boolean typeConverterStatisticsEnabled;
@@ -137,6 +140,10 @@ public abstract class DefaultConfigurationProperties<T> {
     private String exchangeFactory = "default";
     private int exchangeFactoryCapacity = 100;
     private boolean exchangeFactoryStatisticsEnabled;
+    @Metadata(label = "advanced", defaultValue = "default", enums = "default,compact")
+    private String headersMapFactory = "default";
+    @Metadata(label = "advanced", defaultValue = "default", enums = "default,ringbuffer")
+    private String reactiveExecutor = "default";
     @Metadata(enums = "xml,yaml")
     private String dumpRoutes;
     private String dumpRoutesInclude = "routes";
@@ -597,6 +604,33 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingBufferSize = streamCachingBufferSize;
     }
 
+    public boolean isStreamCachingOffHeapEnabled() {
+        return streamCachingOffHeapEnabled;
+    }
+
+    /**
+     * Sets whether in-memory stream caches should use pooled off-heap (direct) memory, instead of byte arrays on the
+     * heap. The memory is allocated in chunks of 64kb, which are returned to the pool when the exchanges using the stream
+     * cache are done. This reduces the garbage collection pressure when caching large payloads in memory.
+     */
+    public void setStreamCachingOffHeapEnabled(boolean streamCachingOffHeapEnabled) {
+        this.streamCachingOffHeapEnabled = streamCachingOffHeapEnabled;
+    }
+
+    public long getStreamCachingOffHeapMaxSize() {
+        return streamCachingOffHeapMaxSize;
+    }
+
+    /**
+     * Sets the maximum size in bytes of the pooled off-heap memory which can be used for in-memory stream caches. When
+     * the limit is reached then heap memory is used instead.
+     *
+     * The default size is 64mb.
+     */
+    public void setStreamCachingOffHeapMaxSize(long streamCachingOffHeapMaxSize) {
+        this.streamCachingOffHeapMaxSize = streamCachingOffHeapMaxSize;
+    }
+
     public boolean isStreamCachingRemoveSpoolDirectoryWhenStopping() {
         return streamCachingRemoveSpoolDirectoryWhenStopping;
     }
@@ -1480,6 +1514,31 @@ public abstract class DefaultConfigurationProperties<T> {
         this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
     }
 
+    public String getHeadersMapFactory() {
+        return headersMapFactory;
+    }
+
+    /**
+     * Controls which map implementation is used for storing message headers when headers are case-insensitive. The
+     * default uses a sorted map. Using compact uses an open addressing hash map which is faster for lookups and uses
+     * less memory per message, but iterates headers in insertion order instead of sorted order.
+     */
+    public void setHeadersMapFactory(String headersMapFactory) {
+        this.headersMapFactory = headersMapFactory;
+    }
+
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * Controls which reactive executor is used for routing exchanges. Using ringbuffer uses pre-sized ring buffers per
+     * worker thread which are reused, and drains the tasks in batches, which reduces object allocations during routing.
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
     public String getDumpRoutes() {
         return dumpRoutes;
     }
@@ -2009,6 +2068,27 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether in-memory stream caches should use pooled off-heap (direct) memory, instead of byte arrays on the
+     * heap. The memory is allocated in chunks of 64kb, which are returned to the pool when the exchanges using the stream
+     * cache are done. This reduces the garbage collection pressure when caching large payloads in memory.
+     */
+    public T withStreamCachingOffHeapEnabled(boolean streamCachingOffHeapEnabled) {
+        this.streamCachingOffHeapEnabled = streamCachingOffHeapEnabled;
+        return (T) this;
+    }
+
+    /**
+     * Sets the maximum size in bytes of the pooled off-heap memory which can be used for in-memory stream caches. When
+     * the limit is reached then heap memory is used instead.
+     *
+     * The default size is 64mb.
+     */
+    public T withStreamCachingOffHeapMaxSize(long streamCachingOffHeapMaxSize) {
+        this.streamCachingOffHeapMaxSize = streamCachingOffHeapMaxSize;
+        return (T) this;
+    }
+
     /**
      * Whether to remove stream caching temporary directory when stopping. This option is default true.
      */
@@ -2660,6 +2740,25 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Controls which map implementation is used for storing message headers when headers are case-insensitive. The
+     * default uses a sorted map. Using compact uses an open addressing hash map which is faster for lookups and uses
+     * less memory per message, but iterates headers in insertion order instead of sorted order.
+     */
+    public T withHeadersMapFactory(String headersMapFactory) {
+        this.headersMapFactory = headersMapFactory;
+        return (T) this;
+    }
+
+    /**
+     * Controls which reactive executor is used for routing exchanges. Using ringbuffer uses pre-sized ring buffers per
+     * worker thread which are reused, and drains the tasks in batches, which reduces object allocations during routing.
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
     /**
      * If dumping is enabled then Camel will during startup dump all loaded routes (incl rests and route templates)
      * represented as XML/YAML DSL into the log. This is intended for trouble shooting or to assist during development.
@@ -38,6 +38,15 @@ public interface ManagedEndpointRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Maximum cache size (capacity)")
     Integer getMaximumCacheSize();
 
+    @ManagedAttribute(description = "Number of cache hits of the dynamic endpoints (-1 if not supported)")
+    Long getHits();
+
+    @ManagedAttribute(description = "Number of cache misses of the dynamic endpoints (-1 if not supported)")
+    Long getMisses();
+
+    @ManagedAttribute(description = "Number of dynamic endpoints evicted from the cache (-1 if not supported)")
+    Long getEvicted();
+
     @ManagedOperation(description = "Purges the cache")
     void purge();
 
@@ -60,6 +60,18 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Delta Processing Time [milliseconds]")
     long getDeltaProcessingTime();
 
+    @ManagedAttribute(description = "50th Percentile (Median) Processing Time of the last minute [milliseconds]")
+    long getP50ProcessingTime();
+
+    @ManagedAttribute(description = "90th Percentile Processing Time of the last minute [milliseconds]")
+    long getP90ProcessingTime();
+
+    @ManagedAttribute(description = "99th Percentile Processing Time of the last minute [milliseconds]")
+    long getP99ProcessingTime();
+
+    @ManagedAttribute(description = "99.9th Percentile Processing Time of the last minute [milliseconds]")
+    long getP999ProcessingTime();
+
     @ManagedAttribute(description = "Time in millis being idle (no messages incoming or inflight)")
     long getIdleSince();
 
@@ -17,6 +17,7 @@
 package org.apache.camel.api.management.mbean;
 
 import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
 
 public interface ManagedSplitterMBean extends ManagedMulticastMBean {
 
@@ -26,4 +27,16 @@ public interface ManagedSplitterMBean extends ManagedMulticastMBean {
     @ManagedAttribute(description = "Expression of how to split the message body, such as as-is, using a tokenizer, or using an xpath.")
     String getExpression();
 
+    @ManagedAttribute(description = "The maximum number of split messages which can be processed at the same time, when using parallel processing.")
+    Integer getMaxInflight();
+
+    @ManagedAttribute(description = "Number of times the splitter was blocked because the maximum number of inflight split messages was reached.")
+    long getInflightBlockedCounter();
+
+    @ManagedAttribute(description = "Total time in millis the splitter was blocked because the maximum number of inflight split messages was reached.")
+    long getInflightBlockedTime();
+
+    @ManagedOperation(description = "Resets the inflight blocked statistics")
+    void resetInflightBlockedStatistics();
+
 }
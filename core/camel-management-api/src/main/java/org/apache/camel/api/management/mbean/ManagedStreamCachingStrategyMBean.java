@@ -71,6 +71,15 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     int getBufferSize();
 
+    @ManagedAttribute(description = "Whether pooled off-heap memory is used for in-memory stream caches")
+    boolean isOffHeapEnabled();
+
+    @ManagedAttribute(description = "Maximum size in bytes of the off-heap memory for in-memory stream caches")
+    long getOffHeapMaxSize();
+
+    @ManagedAttribute(description = "Size in bytes of the off-heap memory currently in use by in-memory stream caches")
+    long getOffHeapUsedSize();
+
     @ManagedAttribute(description = "Whether to remove spool directory when stopping")
     void setRemoveSpoolDirectoryWhenStopping(boolean remove);
 
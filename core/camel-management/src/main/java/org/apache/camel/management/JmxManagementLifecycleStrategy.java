@@ -19,12 +19,14 @@ package org.apache.camel.management;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.management.JMException;
 import javax.management.MalformedObjectNameException;
@@ -137,17 +139,20 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
 
     // the wrapped processors is for performance counters, which are in use for the created routes
     // when a route is removed, we should remove the associated processors from this map
-    private final Map<Processor, KeyValueHolder<NamedNode, InstrumentationProcessor<?>>> wrappedProcessors = new HashMap<>();
+    // (the state is thread-safe as routes can be initialized and started concurrently)
+    private final Map<Processor, KeyValueHolder<NamedNode, InstrumentationProcessor<?>>> wrappedProcessors
+            = new ConcurrentHashMap<>();
     private final List<java.util.function.Consumer<JmxManagementLifecycleStrategy>> preServices = new ArrayList<>();
     private final TimerListenerManager loadTimer = new ManagedLoadTimer();
     private final TimerListenerManagerStartupListener loadTimerStartupListener = new TimerListenerManagerStartupListener();
     private volatile CamelContext camelContext;
     private volatile ManagedCamelContext camelContextMBean;
     private volatile boolean initialized;
-    private final Set<String> knowRouteIds = new HashSet<>();
-    private final Map<BacklogTracer, ManagedBacklogTracer> managedBacklogTracers = new HashMap<>();
-    private final Map<DefaultBacklogDebugger, ManagedBacklogDebugger> managedBacklogDebuggers = new HashMap<>();
-    private final Map<ThreadPoolExecutor, Object> managedThreadPools = new HashMap<>();
+    private final Set<String> knowRouteIds = ConcurrentHashMap.newKeySet();
+    private final Map<BacklogTracer, ManagedBacklogTracer> managedBacklogTracers = new ConcurrentHashMap<>();
+    private final Map<DefaultBacklogDebugger, ManagedBacklogDebugger> managedBacklogDebuggers = new ConcurrentHashMap<>();
+    private final Map<ThreadPoolExecutor, Object> managedThreadPools = new ConcurrentHashMap<>();
+    private final Lock routeGroupLock = new ReentrantLock();
 
     public JmxManagementLifecycleStrategy() {
     }
@@ -694,14 +699,19 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
                 LOG.warn("Could not create Route MBean", e);
             }
 
-            // also manage the route group
-            if (mrg != null && !getManagementStrategy().isManaged(mrg)) {
+            // also manage the route group (routes in the same group can be added concurrently)
+            if (mrg != null) {
+                routeGroupLock.lock();
                 try {
-                    manageObject(mrg);
+                    if (!getManagementStrategy().isManaged(mrg)) {
+                        manageObject(mrg);
+                    }
                 } catch (JMException e) {
                     LOG.warn("Could not register RouteGroup MBean", e);
                 } catch (Exception e) {
                     LOG.warn("Could not create RouteGroup MBean", e);
+                } finally {
+                    routeGroupLock.unlock();
                 }
             }
         }
@@ -764,6 +774,11 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
             return;
         }
 
+        if (threadPool.isShutdown()) {
+            // the thread pool was pre registered, but has been shutdown in the meantime
+            return;
+        }
+
         if (!shouldRegister(threadPool, null)) {
             // avoid registering if not needed
             return;
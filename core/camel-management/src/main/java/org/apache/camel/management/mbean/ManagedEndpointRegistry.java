@@ -30,6 +30,7 @@ import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
 import org.apache.camel.api.management.mbean.ManagedEndpointRegistryMBean;
+import org.apache.camel.impl.engine.AbstractDynamicRegistry;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.util.URISupport;
@@ -79,6 +80,21 @@ public class ManagedEndpointRegistry extends ManagedService implements ManagedEn
         return endpointRegistry.getMaximumCacheSize();
     }
 
+    @Override
+    public Long getHits() {
+        return endpointRegistry instanceof AbstractDynamicRegistry<?, ?> registry ? registry.getHits() : -1L;
+    }
+
+    @Override
+    public Long getMisses() {
+        return endpointRegistry instanceof AbstractDynamicRegistry<?, ?> registry ? registry.getMisses() : -1L;
+    }
+
+    @Override
+    public Long getEvicted() {
+        return endpointRegistry instanceof AbstractDynamicRegistry<?, ?> registry ? registry.getEvicted() : -1L;
+    }
+
     @Override
     public void purge() {
         endpointRegistry.purge();
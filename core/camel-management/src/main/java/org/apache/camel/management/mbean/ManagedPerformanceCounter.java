@@ -46,6 +46,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
     private Statistic meanProcessingTime;
+    private StatisticHistogram processingTimeHistogram;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -74,6 +75,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
         this.meanProcessingTime = new StatisticValue();
+        this.processingTimeHistogram = new StatisticHistogram();
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -97,6 +99,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
         meanProcessingTime.reset();
+        processingTimeHistogram.reset();
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -168,6 +171,26 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return deltaProcessingTime.getValue();
     }
 
+    @Override
+    public long getP50ProcessingTime() {
+        return processingTimeHistogram.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getP90ProcessingTime() {
+        return processingTimeHistogram.getValueAtPercentile(90);
+    }
+
+    @Override
+    public long getP99ProcessingTime() {
+        return processingTimeHistogram.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getP999ProcessingTime() {
+        return processingTimeHistogram.getValueAtPercentile(99.9);
+    }
+
     @Override
     public long getIdleSince() {
         // must not have any inflight
@@ -273,6 +296,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         deltaProcessingTime.updateValue(time);
 
         long now = System.currentTimeMillis();
+        processingTimeHistogram.updateValue(time, now);
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
             firstExchangeCompletedTimestamp.updateValue(now);
         }
@@ -333,6 +357,11 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        long[] percentiles = processingTimePercentiles();
+        sb.append(String.format(" p50ProcessingTime=\"%s\"", percentiles[0]));
+        sb.append(String.format(" p90ProcessingTime=\"%s\"", percentiles[1]));
+        sb.append(String.format(" p99ProcessingTime=\"%s\"", percentiles[2]));
+        sb.append(String.format(" p999ProcessingTime=\"%s\"", percentiles[3]));
         sb.append(String.format(" idleSince=\"%s\"", getIdleSince()));
 
         if (fullStats) {
@@ -378,6 +407,11 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         jo.put("lastProcessingTime", lastProcessingTime.getValue());
         jo.put("deltaProcessingTime", deltaProcessingTime.getValue());
         jo.put("meanProcessingTime", meanProcessingTime.getValue());
+        long[] percentiles = processingTimePercentiles();
+        jo.put("p50ProcessingTime", percentiles[0]);
+        jo.put("p90ProcessingTime", percentiles[1]);
+        jo.put("p99ProcessingTime", percentiles[2]);
+        jo.put("p999ProcessingTime", percentiles[3]);
         jo.put("idleSince", getIdleSince());
         if (fullStats) {
             jo.put("startTimestamp", startTimestamp.getTime());
@@ -394,6 +428,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         }
     }
 
+    private long[] processingTimePercentiles() {
+        return processingTimeHistogram.getValuesAtPercentiles(System.currentTimeMillis(), 50, 90, 99, 99.9);
+    }
+
     private static String dateAsString(long value) {
         if (value <= 0) {
             return "";
@@ -34,6 +34,11 @@ public class ManagedSplitter extends ManagedMulticast implements ManagedSplitter
         return (SplitDefinition) super.getDefinition();
     }
 
+    @Override
+    public Splitter getProcessor() {
+        return (Splitter) super.getProcessor();
+    }
+
     @Override
     public String getExpressionLanguage() {
         return getDefinition().getExpression().getLanguage();
@@ -43,4 +48,24 @@ public class ManagedSplitter extends ManagedMulticast implements ManagedSplitter
     public String getExpression() {
         return getDefinition().getExpression().getExpression();
     }
+
+    @Override
+    public Integer getMaxInflight() {
+        return getProcessor().getMaxInflight();
+    }
+
+    @Override
+    public long getInflightBlockedCounter() {
+        return getProcessor().getInflightBlockedCounter();
+    }
+
+    @Override
+    public long getInflightBlockedTime() {
+        return getProcessor().getInflightBlockedTime();
+    }
+
+    @Override
+    public void resetInflightBlockedStatistics() {
+        getProcessor().resetInflightBlockedStatistics();
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.camel.management.mbean;
 import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedStreamCachingStrategyMBean;
+import org.apache.camel.converter.stream.StreamCacheBufferPool;
 import org.apache.camel.spi.StreamCachingStrategy;
 
 @ManagedResource(description = "Managed StreamCachingStrategy")
@@ -148,6 +149,22 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getBufferSize();
     }
 
+    @Override
+    public boolean isOffHeapEnabled() {
+        return streamCachingStrategy.isOffHeapEnabled();
+    }
+
+    @Override
+    public long getOffHeapMaxSize() {
+        return streamCachingStrategy.getOffHeapMaxSize();
+    }
+
+    @Override
+    public long getOffHeapUsedSize() {
+        StreamCacheBufferPool pool = camelContext.getCamelContextExtension().getContextPlugin(StreamCacheBufferPool.class);
+        return pool != null ? pool.getUsedSize() : 0;
+    }
+
     @Override
     public void setRemoveSpoolDirectoryWhenStopping(boolean remove) {
         streamCachingStrategy.setRemoveSpoolDirectoryWhenStopping(remove);
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A recording histogram with fixed memory footprint, used for computing percentiles (such as p99) of the recorded
+ * values over a sliding time window.
+ * <p/>
+ * Values below 32 are recorded exactly, and larger values are recorded in 16 sub buckets per power of two, which means
+ * a percentile is accurate within 6.25% of the actual value. Values larger than about 4.6 hours (in millis) are
+ * recorded as the largest value.
+ * <p/>
+ * The sliding window is divided into a number of slots, where each slot records the values of its time interval, and
+ * the oldest slot is recycled when time moves on. This means the percentiles are computed from the values recorded
+ * within the window, plus the time elapsed in the current slot.
+ * <p/>
+ * Recording is lock-free. Recycling a slot is not 100% thread-safe, as concurrent updates to a slot while it is being
+ * recycled may be lost. This is on purpose, in the same way as {@link StatisticMaximum}, as these statistics are not
+ * guaranteed to be accurate. The slots are only allocated when the first value is recorded.
+ */
+public class StatisticHistogram {
+
+    static final int BUCKETS = 32 + 19 * 16;
+    private static final long MAX_VALUE = (1L << 24) - 1;
+
+    private final long slotMillis;
+    private final int slotCount;
+    private volatile Slot[] slots;
+
+    public StatisticHistogram() {
+        this(60000, 4);
+    }
+
+    /**
+     * @param windowMillis the sliding time window in millis
+     * @param slotCount    number of slots the window is divided into
+     */
+    public StatisticHistogram(long windowMillis, int slotCount) {
+        this.slotCount = slotCount;
+        this.slotMillis = Math.max(1, windowMillis / slotCount);
+    }
+
+    public void updateValue(long newValue) {
+        updateValue(newValue, System.currentTimeMillis());
+    }
+
+    public void updateValue(long newValue, long now) {
+        Slot[] s = slots;
+        if (s == null) {
+            s = createSlots();
+        }
+        long interval = now / slotMillis;
+        Slot slot = s[(int) (interval % slotCount)];
+        long current = slot.interval.get();
+        if (current < interval && slot.interval.compareAndSet(current, interval)) {
+            // recycle the slot as its values are older than the window
+            for (int i = 0; i < BUCKETS; i++) {
+                slot.counts.set(i, 0);
+            }
+        }
+        slot.counts.incrementAndGet(indexOf(newValue));
+    }
+
+    /**
+     * Gets the value at the given percentile of the values recorded within the window
+     *
+     * @param  percentile the percentile such as 99 or 99.9
+     * @return            the value, or 0 if no values has been recorded within the window
+     */
+    public long getValueAtPercentile(double percentile) {
+        return getValuesAtPercentiles(System.currentTimeMillis(), percentile)[0];
+    }
+
+    /**
+     * Gets the values at the given percentiles of the values recorded within the window
+     *
+     * @param  now         the current time in millis
+     * @param  percentiles the percentiles such as 50 and 99
+     * @return             the values (0 if no values has been recorded within the window) in the same order as the
+     *                     given percentiles
+     */
+    public long[] getValuesAtPercentiles(long now, double... percentiles) {
+        long[] answer = new long[percentiles.length];
+        Slot[] s = slots;
+        if (s == null) {
+            return answer;
+        }
+
+        long interval = now / slotMillis;
+        long[] merged = new long[BUCKETS];
+        long total = 0;
+        for (Slot slot : s) {
+            long si = slot.interval.get();
+            if (si > interval - slotCount && si <= interval) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    int count = slot.counts.get(i);
+                    merged[i] += count;
+                    total += count;
+                }
+            }
+        }
+        if (total == 0) {
+            return answer;
+        }
+
+        for (int p = 0; p < percentiles.length; p++) {
+            long rank = Math.max(1, (long) Math.ceil(percentiles[p] / 100d * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += merged[i];
+                if (seen >= rank) {
+                    answer[p] = highestValueOf(i);
+                    break;
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Whether the statistic has been updated one or more times (since reset).
+     */
+    public boolean isUpdated() {
+        return slots != null;
+    }
+
+    public void reset() {
+        slots = null;
+    }
+
+    static int indexOf(long value) {
+        if (value < 32) {
+            return value < 0 ? 0 : (int) value;
+        }
+        value = Math.min(value, MAX_VALUE);
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (magnitude - 4)) - 16;
+        return 32 + (magnitude - 5) * 16 + sub;
+    }
+
+    static long highestValueOf(int index) {
+        if (index < 32) {
+            return index;
+        }
+        int magnitude = (index - 32) / 16 + 5;
+        int sub = (index - 32) % 16 + 16;
+        return ((long) (sub + 1) << (magnitude - 4)) - 1;
+    }
+
+    private synchronized Slot[] createSlots() {
+        Slot[] s = slots;
+        if (s == null) {
+            s = new Slot[slotCount];
+            for (int i = 0; i < slotCount; i++) {
+                s[i] = new Slot();
+            }
+            slots = s;
+        }
+        return s;
+    }
+
+    private static final class Slot {
+        private final AtomicLong interval = new AtomicLong(-1);
+        private final AtomicIntegerArray counts = new AtomicIntegerArray(BUCKETS);
+    }
+
+}
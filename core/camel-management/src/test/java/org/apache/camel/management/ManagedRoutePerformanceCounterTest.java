@@ -84,6 +84,11 @@ public class ManagedRoutePerformanceCounterTest extends ManagementTestSupport {
         assertTrue(last > 900, "Should take around 1 sec: was " + last);
         assertTrue(total > 1900, "Should be around 2 sec now: was " + total);
 
+        Long p50 = (Long) mbeanServer.getAttribute(on, "P50ProcessingTime");
+        Long p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+        assertTrue(p50 > 900, "Should take around 1 sec: was " + p50);
+        assertTrue(p99 >= p50, "Should be higher than p50: was " + p99);
+
         Date reset = (Date) mbeanServer.getAttribute(on, "ResetTimestamp");
         assertNotNull(reset);
 
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedRouteStartupConcurrencyTest extends ManagementTestSupport {
+
+    private static final int ROUTES = 20;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(Exchange.ROUTE_STARTUP_CONCURRENCY, "4");
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupConcurrency() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(ROUTES);
+        for (int i = 0; i < ROUTES; i++) {
+            template.sendBody("seda:" + i, "Hello " + i);
+        }
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=routes,*"), null);
+        assertEquals(ROUTES, set.size());
+
+        set = mbeanServer.queryNames(new ObjectName("*:type=routegroups,*"), null);
+        assertEquals(2, set.size());
+        for (ObjectName on : set) {
+            assertEquals(ROUTES / 2, (Integer) mbeanServer.getAttribute(on, "GroupSize"));
+        }
+
+        // the seda consumers and the threads processors have a thread pool each
+        set = mbeanServer.queryNames(new ObjectName("*:type=threadpools,*"), null);
+        assertTrue(set.size() >= ROUTES * 2, "Should have a thread pool for each seda consumer and threads processor");
+        // the thread pool used for starting the routes has been shutdown and should not be registered
+        for (ObjectName on : set) {
+            assertFalse(on.getKeyProperty("name").contains("InternalRouteStartupManager"), "Should not be registered: " + on);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                for (int i = 0; i < ROUTES; i++) {
+                    from("seda:" + i).routeId("route" + i).routeGroup(i % 2 == 0 ? "even" : "odd")
+                            .threads(1)
+                            .to("mock:result");
+                }
+            }
+        };
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatisticHistogramTest {
+
+    @Test
+    public void testPercentiles() {
+        StatisticHistogram histogram = new StatisticHistogram(60000, 4);
+        assertFalse(histogram.isUpdated());
+        assertArrayEquals(new long[] { 0, 0 }, histogram.getValuesAtPercentiles(1000, 50, 99));
+
+        for (int i = 1; i <= 100; i++) {
+            histogram.updateValue(i, 1000);
+        }
+        assertTrue(histogram.isUpdated());
+
+        long[] values = histogram.getValuesAtPercentiles(1000, 50, 90, 99, 99.9);
+        assertEquals(50, values[0], 50 * 0.0625);
+        assertEquals(90, values[1], 90 * 0.0625);
+        assertEquals(99, values[2], 99 * 0.0625);
+        assertEquals(100, values[3], 100 * 0.0625);
+    }
+
+    @Test
+    public void testExactSmallValues() {
+        StatisticHistogram histogram = new StatisticHistogram(60000, 4);
+        for (int i = 0; i < 99; i++) {
+            histogram.updateValue(2, 1000);
+        }
+        histogram.updateValue(25, 1000);
+
+        assertArrayEquals(new long[] { 2, 2, 25 }, histogram.getValuesAtPercentiles(1000, 50, 99, 100));
+    }
+
+    @Test
+    public void testBuckets() {
+        long previous = -1;
+        for (int i = 0; i < StatisticHistogram.BUCKETS; i++) {
+            long highest = StatisticHistogram.highestValueOf(i);
+            assertTrue(highest > previous);
+            assertEquals(i, StatisticHistogram.indexOf(highest));
+            assertEquals(i, StatisticHistogram.indexOf(previous + 1));
+            previous = highest;
+        }
+        // larger values are recorded in the last bucket
+        assertEquals(StatisticHistogram.BUCKETS - 1, StatisticHistogram.indexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        StatisticHistogram histogram = new StatisticHistogram(60000, 4);
+        histogram.updateValue(1000, 1000);
+        histogram.updateValue(5, 20000);
+
+        assertArrayEquals(new long[] { 5, 1023 }, histogram.getValuesAtPercentiles(20000, 50, 100));
+
+        // the first slot is outside the window
+        assertArrayEquals(new long[] { 5, 5 }, histogram.getValuesAtPercentiles(61000, 50, 100));
+
+        // and recycled when recording in a new interval using the same slot
+        histogram.updateValue(7, 61000);
+        assertArrayEquals(new long[] { 5, 7 }, histogram.getValuesAtPercentiles(61000, 50, 100));
+
+        // everything is outside the window
+        assertArrayEquals(new long[] { 0 }, histogram.getValuesAtPercentiles(200000, 50));
+
+        histogram.reset();
+        assertFalse(histogram.isUpdated());
+    }
+}
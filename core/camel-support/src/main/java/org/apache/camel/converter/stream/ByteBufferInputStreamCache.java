@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+
+/**
+ * A {@link StreamCache} for caching using in-memory {@link ByteBuffer} chunks, which can be off-heap memory taken from
+ * the {@link StreamCacheBufferPool}.
+ * <p/>
+ * The data can be written to NIO channels without copying by using {@link #toByteBuffers()} or
+ * {@link #writeTo(WritableByteChannel)}.
+ * <p/>
+ * <b>Important:</b> All the classes from the Camel release that implements {@link StreamCache} is NOT intended for end
+ * users to create as instances, but they are part of Camels
+ * <a href="https://camel.apache.org/manual/stream-caching.html">stream-caching</a> functionality.
+ */
+public final class ByteBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final CachedByteBufferOutputStream buffers;
+    private final TempFileManager tempFileManager;
+    private final ByteBuffer[] views;
+    private final long length;
+    private int index;
+    private long pos;
+    private long mark;
+
+    ByteBufferInputStreamCache(CachedByteBufferOutputStream buffers, TempFileManager tempFileManager) {
+        this.buffers = buffers;
+        this.tempFileManager = tempFileManager;
+        try {
+            this.views = buffers.toByteBuffers();
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        this.length = buffers.size();
+    }
+
+    @Override
+    public int read() throws IOException {
+        buffers.ensureNotReleased();
+        ByteBuffer view = nextView();
+        if (view == null) {
+            return -1;
+        }
+        pos++;
+        return view.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        buffers.ensureNotReleased();
+        int total = 0;
+        ByteBuffer view;
+        while (total < len && (view = nextView()) != null) {
+            int n = Math.min(len - total, view.remaining());
+            view.get(b, off + total, n);
+            total += n;
+        }
+        pos += total;
+        return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public long skip(long n) {
+        long total = 0;
+        ByteBuffer view;
+        while (total < n && (view = nextView()) != null) {
+            int s = (int) Math.min(n - total, view.remaining());
+            view.position(view.position() + s);
+            total += s;
+        }
+        pos += total;
+        return total;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, length - pos);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        mark = pos;
+    }
+
+    @Override
+    public void reset() {
+        for (ByteBuffer view : views) {
+            view.rewind();
+        }
+        index = 0;
+        pos = 0;
+        skip(mark);
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        buffers.ensureNotReleased();
+        byte[] buf = new byte[(int) Math.min(StreamCacheBufferPool.CHUNK_SIZE, Math.max(1, length - pos))];
+        for (ByteBuffer view : remainingViews()) {
+            while (view.hasRemaining()) {
+                int n = Math.min(buf.length, view.remaining());
+                view.get(buf, 0, n);
+                os.write(buf, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Writes the remaining data to the NIO channel, without copying the data and without changing the position of this
+     * stream cache.
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        buffers.ensureNotReleased();
+        for (ByteBuffer view : remainingViews()) {
+            while (view.hasRemaining()) {
+                channel.write(view);
+            }
+        }
+    }
+
+    /**
+     * Creates read-only views of the remaining data, which can be written to NIO channels without copying. The views
+     * are only valid until the exchanges using this stream cache are done.
+     */
+    public ByteBuffer[] toByteBuffers() throws IOException {
+        buffers.ensureNotReleased();
+        return remainingViews();
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        buffers.ensureNotReleased();
+        if (tempFileManager != null) {
+            tempFileManager.addExchange(exchange);
+        }
+        return new ByteBufferInputStreamCache(buffers, tempFileManager);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public long position() {
+        return pos;
+    }
+
+    private ByteBuffer nextView() {
+        while (index < views.length) {
+            ByteBuffer view = views[index];
+            if (view.hasRemaining()) {
+                return view;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    private ByteBuffer[] remainingViews() {
+        ByteBuffer[] answer = new ByteBuffer[views.length - Math.min(index, views.length)];
+        for (int i = 0; i < answer.length; i++) {
+            answer[i] = views[index + i].duplicate();
+        }
+        return answer;
+    }
+
+    @Override
+    public String toString() {
+        return "ByteBufferInputStreamCache[length: " + length + ", position: " + pos + "]";
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+
+/**
+ * An {@link OutputStream} which stores the data in fixed size {@link ByteBuffer} chunks, taken from a
+ * {@link StreamCacheBufferPool}, and is capable of returning a {@link ByteBufferInputStreamCache} view of the chunks.
+ * <p/>
+ * When the pool has no more chunks available, then heap chunks are used instead. As the data is stored in chunks, then
+ * a large payload does not require a large contiguous byte array (and no copying when growing), as when using
+ * {@link CachedByteArrayOutputStream}.
+ * <p/>
+ * The chunks are returned to the pool when {@link #release()} is called, which happens when all the exchanges using
+ * the stream cache are done.
+ */
+public final class CachedByteBufferOutputStream extends OutputStream {
+
+    private final StreamCacheBufferPool pool;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private final AtomicBoolean released = new AtomicBoolean();
+    private ByteBuffer current;
+    private long count;
+
+    /**
+     * Creates a new output stream.
+     *
+     * @param pool the pool to take the chunks from, or <tt>null</tt> to use heap chunks only.
+     */
+    public CachedByteBufferOutputStream(StreamCacheBufferPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureCapacity();
+        current.put((byte) b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        while (len > 0) {
+            ensureCapacity();
+            int n = Math.min(len, current.remaining());
+            current.put(b, off, n);
+            off += n;
+            len -= n;
+            count += n;
+        }
+    }
+
+    /**
+     * The number of bytes written
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Creates a new {@link ByteBufferInputStreamCache} view of the chunks
+     */
+    public ByteBufferInputStreamCache newInputStreamCache() {
+        return new ByteBufferInputStreamCache(this, null);
+    }
+
+    ByteBufferInputStreamCache newInputStreamCache(TempFileManager tempFileManager) {
+        return new ByteBufferInputStreamCache(this, tempFileManager);
+    }
+
+    /**
+     * Creates read-only views of the chunks, which can be used for writing the data to NIO channels without copying.
+     */
+    ByteBuffer[] toByteBuffers() throws IOException {
+        ensureNotReleased();
+        ByteBuffer[] answer = new ByteBuffer[chunks.size()];
+        for (int i = 0; i < answer.length; i++) {
+            answer[i] = chunks.get(i).asReadOnlyBuffer().flip();
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the chunks to the pool. The stream caches created from this output stream cannot be read afterwards.
+     */
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            for (ByteBuffer chunk : chunks) {
+                if (pool != null && chunk.isDirect()) {
+                    pool.release(chunk);
+                }
+            }
+            chunks.clear();
+            current = null;
+        }
+    }
+
+    /**
+     * Whether the chunks have been returned to the pool
+     */
+    public boolean isReleased() {
+        return released.get();
+    }
+
+    void ensureNotReleased() throws IOException {
+        if (released.get()) {
+            throw new IOException("The stream cache has been released as the exchanges using it are done");
+        }
+    }
+
+    private void ensureCapacity() throws IOException {
+        if (current == null || !current.hasRemaining()) {
+            ensureNotReleased();
+            current = pool != null ? pool.acquire() : null;
+            if (current == null) {
+                current = ByteBuffer.allocate(StreamCacheBufferPool.CHUNK_SIZE);
+            }
+            chunks.add(current);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachedByteBufferOutputStream[size: " + count + "]";
+    }
+}
@@ -16,7 +16,6 @@
  */
 package org.apache.camel.converter.stream;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -58,7 +57,15 @@ public class CachedOutputStream extends OutputStream {
         this.tempFileManager = new TempFileManager(closedOnCompletion);
         this.tempFileManager.addExchange(exchange);
         this.strategy = exchange.getContext().getStreamCachingStrategy();
-        this.currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        if (strategy.isOffHeapEnabled()) {
+            StreamCacheBufferPool pool
+                    = exchange.getContext().getCamelContextExtension().getContextPlugin(StreamCacheBufferPool.class);
+            CachedByteBufferOutputStream buffers = new CachedByteBufferOutputStream(pool);
+            this.tempFileManager.setBuffers(buffers);
+            this.currentStream = buffers;
+        } else {
+            this.currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        }
     }
 
     @Override
@@ -73,6 +80,7 @@ public class CachedOutputStream extends OutputStream {
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
             tempFileManager.cleanUpTempFile();
+            tempFileManager.releaseBuffers();
         }
     }
 
@@ -102,7 +110,7 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+        if (inMemory && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
         }
         currentStream.write(b, off, len);
@@ -111,7 +119,7 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+        if (inMemory && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
         }
         currentStream.write(b);
@@ -120,7 +128,7 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(int b) throws IOException {
         this.totalLength++;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+        if (inMemory && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
         }
         currentStream.write(b);
@@ -144,10 +152,12 @@ public class CachedOutputStream extends OutputStream {
         if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream cachedByteArrayOutputStream) {
                 return cachedByteArrayOutputStream.newInputStreamCache();
+            } else if (currentStream instanceof CachedByteBufferOutputStream cachedByteBufferOutputStream) {
+                return cachedByteBufferOutputStream.newInputStreamCache(tempFileManager);
             } else {
                 throw new IllegalStateException(
-                        "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
-                                                + currentStream.getClass().getName());
+                        "CurrentStream should be an instance of CachedByteArrayOutputStream or CachedByteBufferOutputStream"
+                                                + " but is: " + currentStream.getClass().getName());
             }
         } else {
             return tempFileManager.newStreamCache();
@@ -156,14 +166,16 @@ public class CachedOutputStream extends OutputStream {
 
     private void pageToFileStream() throws IOException {
         flush();
-        CachedByteArrayOutputStream bout = (CachedByteArrayOutputStream) currentStream;
+        StreamCache cache = newStreamCache();
         try {
             // creates a tmp file and a file output stream
             currentStream = tempFileManager.createOutputStream(strategy);
-            IOHelper.copy(bout.newInputStreamCache(), currentStream, strategy.getBufferSize());
+            cache.writeTo(currentStream);
         } finally {
             // ensure flag is flipped to file based
             inMemory = false;
+            // the in-memory buffers are no longer in use
+            tempFileManager.releaseBuffers();
         }
     }
 
@@ -221,6 +221,8 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        // in-memory buffers (pooled) which must be released when the exchanges are done
+        private CachedByteBufferOutputStream buffers;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -270,6 +272,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                             } catch (Exception e) {
                                 LOG.warn("Error closing streams. This exception will be ignored.", e);
                             }
+                            releaseBuffers();
                             try {
                                 cleanUpTempFile();
                             } catch (Exception e) {
@@ -375,6 +378,16 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
+        void setBuffers(CachedByteBufferOutputStream buffers) {
+            this.buffers = buffers;
+        }
+
+        void releaseBuffers() {
+            if (buffers != null) {
+                buffers.release();
+            }
+        }
+
         File getTempFile() {
             return tempFile;
         }
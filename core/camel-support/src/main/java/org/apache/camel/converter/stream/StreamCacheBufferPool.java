@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of fixed size off-heap (direct) {@link ByteBuffer} chunks used by the in-memory stream caches, when pooled
+ * off-heap memory is enabled on the {@link org.apache.camel.spi.StreamCachingStrategy}.
+ * <p/>
+ * The chunks are allocated on demand until the maximum size of the pool is reached, and are reused when released.
+ * There is one pool per {@link org.apache.camel.CamelContext} which can be looked up as a context plugin.
+ */
+public final class StreamCacheBufferPool {
+
+    /**
+     * The size of the chunks (64kb)
+     */
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    private final long maxSize;
+    private final BlockingQueue<ByteBuffer> pool;
+    private final AtomicLong allocatedSize = new AtomicLong();
+    private final AtomicLong usedSize = new AtomicLong();
+
+    public StreamCacheBufferPool(long maxSize) {
+        this.maxSize = maxSize;
+        this.pool = new ArrayBlockingQueue<>((int) Math.max(1, Math.min(Integer.MAX_VALUE, maxSize / CHUNK_SIZE)));
+    }
+
+    /**
+     * Takes a chunk from the pool.
+     *
+     * @return the chunk (cleared), or <tt>null</tt> if the maximum size of the pool has been reached
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer answer = pool.poll();
+        if (answer == null) {
+            if (allocatedSize.addAndGet(CHUNK_SIZE) > maxSize) {
+                allocatedSize.addAndGet(-CHUNK_SIZE);
+                return null;
+            }
+            answer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        }
+        usedSize.addAndGet(CHUNK_SIZE);
+        return answer;
+    }
+
+    /**
+     * Returns a chunk to the pool.
+     */
+    public void release(ByteBuffer chunk) {
+        usedSize.addAndGet(-CHUNK_SIZE);
+        chunk.clear();
+        if (!pool.offer(chunk)) {
+            // should not happen as the pool can hold all the chunks allocated
+            allocatedSize.addAndGet(-CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * The maximum size in bytes of the off-heap memory of the pool
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * The size in bytes of the off-heap memory allocated by the pool
+     */
+    public long getAllocatedSize() {
+        return allocatedSize.get();
+    }
+
+    /**
+     * The size in bytes of the off-heap memory currently used by stream caches
+     */
+    public long getUsedSize() {
+        return usedSize.get();
+    }
+
+    @Override
+    public String toString() {
+        return "StreamCacheBufferPool[maxSize=" + maxSize + ", allocatedSize=" + allocatedSize + ", usedSize=" + usedSize
+               + "]";
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.camel.CamelContext;
+
+/**
+ * A compact and fast {@link ExchangeCodec} using a versioned binary format.
+ * <p/>
+ * The headers, exchange properties and variables are written as length-prefixed keys with type-tagged values, where
+ * strings, numbers, booleans, dates and byte arrays are written directly. Any other value (such as a serialized header
+ * or an exception) is written using Java serialization. The payload can optionally be compressed.
+ * <p/>
+ * This codec can also read data written by {@link SerializationExchangeCodec} (Java serialization), which allows
+ * switching an existing persistent repository to this codec.
+ */
+public class BinaryExchangeCodec implements ExchangeCodec {
+
+    static final int MAGIC = 0xCA3E;
+    static final int VERSION = 1;
+
+    private static final int JAVA_SERIALIZATION_MAGIC = 0xACED;
+    private static final int FLAG_COMPRESSED = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_BOOLEAN = 2;
+    private static final byte TYPE_BYTE = 3;
+    private static final byte TYPE_SHORT = 4;
+    private static final byte TYPE_CHAR = 5;
+    private static final byte TYPE_INT = 6;
+    private static final byte TYPE_LONG = 7;
+    private static final byte TYPE_FLOAT = 8;
+    private static final byte TYPE_DOUBLE = 9;
+    private static final byte TYPE_BIG_INTEGER = 10;
+    private static final byte TYPE_BIG_DECIMAL = 11;
+    private static final byte TYPE_DATE = 12;
+    private static final byte TYPE_BYTES = 13;
+    private static final byte TYPE_SERIALIZED = 14;
+
+    private String deserializationFilter = SerializationExchangeCodec.DEFAULT_DESERIALIZATION_FILTER;
+    private boolean compress;
+    private int compressThreshold = 1024;
+
+    public String getDeserializationFilter() {
+        return deserializationFilter;
+    }
+
+    /**
+     * Sets a deserialization filter (see {@link java.io.ObjectInputFilter.Config#createFilter(String)}) while reading
+     * values written using Java serialization. By default, all java and org.apache.camel packages and subpackages are
+     * allowed.
+     */
+    public void setDeserializationFilter(String deserializationFilter) {
+        this.deserializationFilter = deserializationFilter;
+    }
+
+    public boolean isCompress() {
+        return compress;
+    }
+
+    /**
+     * Whether to compress the payload (using deflate), when the payload is larger than the compress threshold.
+     */
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    public int getCompressThreshold() {
+        return compressThreshold;
+    }
+
+    /**
+     * The minimum size in bytes of the payload to compress, as small payloads do not compress well. Is by default 1024.
+     */
+    public void setCompressThreshold(int compressThreshold) {
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public void encode(DefaultExchangeHolder holder, OutputStream out) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+        DataOutputStream dos = new DataOutputStream(bos);
+        writeString(dos, holder.getExchangeId());
+        writeValue(dos, holder.getInBody());
+        writeValue(dos, holder.getOutBody());
+        writeMap(dos, holder.getInHeaders());
+        writeMap(dos, holder.getOutHeaders());
+        writeMap(dos, holder.getProperties());
+        writeMap(dos, holder.getVariables());
+        writeValue(dos, holder.getException());
+        dos.flush();
+
+        boolean compressed = compress && bos.size() >= compressThreshold;
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeShort(MAGIC);
+        header.writeByte(VERSION);
+        header.writeByte(compressed ? FLAG_COMPRESSED : 0);
+        header.flush();
+        if (compressed) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                DeflaterOutputStream dout = new DeflaterOutputStream(out, deflater);
+                bos.writeTo(dout);
+                dout.finish();
+            } finally {
+                deflater.end();
+            }
+        } else {
+            bos.writeTo(out);
+        }
+    }
+
+    @Override
+    public DefaultExchangeHolder decode(CamelContext camelContext, InputStream in) throws IOException {
+        PushbackInputStream pin = new PushbackInputStream(in, 2);
+        int b1 = pin.read();
+        int b2 = pin.read();
+        if (b1 < 0 || b2 < 0) {
+            throw new EOFException("No data to decode");
+        }
+        int magic = (b1 << 8) | b2;
+        if (magic == JAVA_SERIALIZATION_MAGIC) {
+            // data written using java serialization
+            pin.unread(new byte[] { (byte) b1, (byte) b2 });
+            Object answer = SerializationExchangeCodec.readObject(camelContext, pin, deserializationFilter);
+            if (answer instanceof DefaultExchangeHolder holder) {
+                return holder;
+            }
+            throw new IOException("Expected " + DefaultExchangeHolder.class.getName() + " but was " + answer);
+        } else if (magic != MAGIC) {
+            throw new IOException("Invalid data: unknown format");
+        }
+
+        int version = pin.read();
+        int flags = pin.read();
+        if (version < 0 || flags < 0) {
+            throw new EOFException("Unexpected end of data");
+        }
+        if (version > VERSION) {
+            throw new IOException("Unsupported version: " + version + " (supported version: " + VERSION + ")");
+        }
+
+        if ((flags & FLAG_COMPRESSED) != 0) {
+            Inflater inflater = new Inflater();
+            try {
+                return readHolder(camelContext, new DataInputStream(new InflaterInputStream(pin, inflater)));
+            } finally {
+                inflater.end();
+            }
+        }
+        return readHolder(camelContext, new DataInputStream(pin));
+    }
+
+    private DefaultExchangeHolder readHolder(CamelContext camelContext, DataInputStream dis) throws IOException {
+        DefaultExchangeHolder holder = new DefaultExchangeHolder();
+        holder.setExchangeId(readString(dis));
+        holder.setInBody(readValue(camelContext, dis));
+        holder.setOutBody(readValue(camelContext, dis));
+        holder.setInHeaders(readMap(camelContext, dis));
+        holder.setOutHeaders(readMap(camelContext, dis));
+        holder.setProperties(readMap(camelContext, dis));
+        holder.setVariables(readMap(camelContext, dis));
+        Object exception = readValue(camelContext, dis);
+        if (exception != null && !(exception instanceof Exception)) {
+            throw new IOException("Invalid data: exception of type " + exception.getClass().getName());
+        }
+        holder.setException((Exception) exception);
+        return holder;
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        if (map == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        // the size is written as +1 so 0 means null
+        writeVarInt(out, map.size() + 1);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private Map<String, Object> readMap(CamelContext camelContext, DataInputStream in) throws IOException {
+        int size = readVarInt(in) - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> answer = new LinkedHashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            answer.put(key, readValue(camelContext, in));
+        }
+        return answer;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String s) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, s);
+        } else if (value instanceof Integer i) {
+            out.writeByte(TYPE_INT);
+            writeVarLong(out, i);
+        } else if (value instanceof Long l) {
+            out.writeByte(TYPE_LONG);
+            writeVarLong(out, l);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof byte[] bytes) {
+            out.writeByte(TYPE_BYTES);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        } else if (value instanceof Double d) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(d);
+        } else if (value instanceof Float f) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat(f);
+        } else if (value instanceof Short s) {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort(s);
+        } else if (value instanceof Byte b) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte(b);
+        } else if (value instanceof Character c) {
+            out.writeByte(TYPE_CHAR);
+            out.writeChar(c);
+        } else if (value.getClass() == BigInteger.class) {
+            out.writeByte(TYPE_BIG_INTEGER);
+            byte[] bytes = ((BigInteger) value).toByteArray();
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        } else if (value.getClass() == BigDecimal.class) {
+            BigDecimal bd = (BigDecimal) value;
+            out.writeByte(TYPE_BIG_DECIMAL);
+            writeVarLong(out, bd.scale());
+            byte[] bytes = bd.unscaledValue().toByteArray();
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        } else if (value.getClass() == Date.class) {
+            out.writeByte(TYPE_DATE);
+            out.writeLong(((Date) value).getTime());
+        } else {
+            // any other value (such as subclasses of the types above) is written using java serialization
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(value);
+            }
+            out.writeByte(TYPE_SERIALIZED);
+            writeVarInt(out, bos.size());
+            bos.writeTo(out);
+        }
+    }
+
+    private Object readValue(CamelContext camelContext, DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return readString(in);
+            case TYPE_INT:
+                return (int) readVarLong(in);
+            case TYPE_LONG:
+                return readVarLong(in);
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_BYTES:
+                return readBytes(in);
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_FLOAT:
+                return in.readFloat();
+            case TYPE_SHORT:
+                return in.readShort();
+            case TYPE_BYTE:
+                return in.readByte();
+            case TYPE_CHAR:
+                return in.readChar();
+            case TYPE_BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case TYPE_BIG_DECIMAL:
+                int scale = (int) readVarLong(in);
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case TYPE_DATE:
+                return new Date(in.readLong());
+            case TYPE_SERIALIZED:
+                byte[] bytes = readBytes(in);
+                return SerializationExchangeCodec.readObject(camelContext, new ByteArrayInputStream(bytes),
+                        deserializationFilter);
+            default:
+                throw new IOException("Invalid data: unknown value type " + type);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // the length is written as +1 so 0 means null
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int answer = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            answer |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (answer < 0) {
+                    throw new IOException("Invalid data: negative length");
+                }
+                return answer;
+            }
+        }
+        throw new IOException("Invalid data: malformed length");
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        // zigzag encoding so small negative numbers are also short
+        long v = (value << 1) ^ (value >> 63);
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (v >>> 1) ^ -(v & 1);
+            }
+        }
+        throw new IOException("Invalid data: malformed number");
+    }
+}
@@ -401,6 +401,23 @@ public final class CamelContextHelper {
         return getPositiveIntegerProperty(camelContext, Exchange.MAXIMUM_VALIDATOR_CACHE_SIZE);
     }
 
+    /**
+     * Gets the number of routes to initialize and start concurrently.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#ROUTE_STARTUP_CONCURRENCY}. If no property
+     * has been set, then it will fallback to return 1, which initializes and starts the routes one by one.
+     *
+     * @param  camelContext             the camel context
+     * @return                          the number of routes to initialize and start concurrently
+     * @throws IllegalArgumentException is thrown if the property is illegal
+     */
+    public static int getRouteStartupConcurrency(CamelContext camelContext) throws IllegalArgumentException {
+        if (camelContext == null || camelContext.getGlobalOption(Exchange.ROUTE_STARTUP_CONCURRENCY) == null) {
+            return 1;
+        }
+        return getPositiveIntegerProperty(camelContext, Exchange.ROUTE_STARTUP_CONCURRENCY);
+    }
+
     /**
      * Parses the given text and handling property placeholders as well
      *
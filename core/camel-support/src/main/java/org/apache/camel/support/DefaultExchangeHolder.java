@@ -57,7 +57,9 @@ import org.slf4j.LoggerFactory;
  * only include primitive, String, and Number types (and Exception types for exchange properties). Any other type is
  * skipped. Any message body object that is not serializable will be skipped and Camel will log this at <tt>WARN</tt>
  * level. And any message header values that is not a primitive value will be skipped and Camel will log this at
- * <tt>DEBUG</tt> level.
+ * <tt>DEBUG</tt> level. <br/>
+ * The holder can be written to and read from bytes using an {@link ExchangeCodec}, such as the
+ * {@link BinaryExchangeCodec} which is more compact and faster than Java serialization.
  */
 public class DefaultExchangeHolder implements Serializable {
 
@@ -226,6 +228,94 @@ public class DefaultExchangeHolder implements Serializable {
         payload.variables.put(key, variable);
     }
 
+    /**
+     * The exchange id.
+     */
+    public String getExchangeId() {
+        return exchangeId;
+    }
+
+    public void setExchangeId(String exchangeId) {
+        this.exchangeId = exchangeId;
+    }
+
+    /**
+     * The in body.
+     */
+    public Object getInBody() {
+        return inBody;
+    }
+
+    public void setInBody(Object inBody) {
+        this.inBody = inBody;
+    }
+
+    /**
+     * The out body.
+     */
+    public Object getOutBody() {
+        return outBody;
+    }
+
+    public void setOutBody(Object outBody) {
+        this.outBody = outBody;
+    }
+
+    /**
+     * The in headers.
+     */
+    public Map<String, Object> getInHeaders() {
+        return inHeaders;
+    }
+
+    public void setInHeaders(Map<String, Object> inHeaders) {
+        this.inHeaders = inHeaders;
+    }
+
+    /**
+     * The out headers.
+     */
+    public Map<String, Object> getOutHeaders() {
+        return outHeaders;
+    }
+
+    public void setOutHeaders(Map<String, Object> outHeaders) {
+        this.outHeaders = outHeaders;
+    }
+
+    /**
+     * The exchange properties.
+     */
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    public void setProperties(Map<String, Object> properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * The exchange variables.
+     */
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    public void setVariables(Map<String, Object> variables) {
+        this.variables = variables;
+    }
+
+    /**
+     * The exception.
+     */
+    public Exception getException() {
+        return exception;
+    }
+
+    public void setException(Exception exception) {
+        this.exception = exception;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("DefaultExchangeHolder[exchangeId=").append(exchangeId);
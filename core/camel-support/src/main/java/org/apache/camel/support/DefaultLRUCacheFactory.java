@@ -17,18 +17,17 @@
 package org.apache.camel.support;
 
 import java.lang.ref.SoftReference;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 
-import org.apache.camel.support.cache.SimpleLRUCache;
+import org.apache.camel.support.cache.ConcurrentLRUCache;
 import org.apache.camel.support.cache.SimpleSoftCache;
 import org.apache.camel.support.service.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Default {@link LRUCacheFactory} which uses a {@link LinkedHashMap} based implementation.
+ * Default {@link LRUCacheFactory} which uses a {@link ConcurrentLRUCache} based implementation.
  */
 public class DefaultLRUCacheFactory extends LRUCacheFactory {
 
@@ -54,7 +53,7 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
     @Override
     public <K, V> Map<K, V> createLRUCache(int maximumCacheSize, Consumer<V> onEvict) {
         LOG.trace("Creating LRUCache with initialCapacity: {}, maximumCacheSize: {}, with onEvict", 16, maximumCacheSize);
-        return new SimpleLRUCache<>(16, maximumCacheSize, onEvict);
+        return new ConcurrentLRUCache<>(16, maximumCacheSize, onEvict);
     }
 
     /**
@@ -83,7 +82,7 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
     public <K, V> Map<K, V> createLRUCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction) {
         LOG.trace("Creating LRUCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}", initialCapacity,
                 maximumCacheSize, stopOnEviction);
-        return new SimpleLRUCache<K, V>(
+        return new ConcurrentLRUCache<K, V>(
                 initialCapacity, maximumCacheSize,
                 stopOnEviction ? DefaultLRUCacheFactory.this::doStop : DefaultLRUCacheFactory.this::doNothing);
     }
@@ -110,7 +109,7 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
         LOG.trace("Creating LRUSoftCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}", initialCapacity,
                 maximumCacheSize, stopOnEviction);
         return new SimpleSoftCache<>(
-                new SimpleLRUCache<K, SoftReference<V>>(
+                new ConcurrentLRUCache<K, SoftReference<V>>(
                         initialCapacity, maximumCacheSize,
                         asSoftReferenceConsumer(stopOnEviction
                                 ? DefaultLRUCacheFactory.this::doStop : DefaultLRUCacheFactory.this::doNothing)));
@@ -154,7 +153,7 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
         LOG.trace("Creating LRUWeakCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}", initialCapacity,
                 maximumCacheSize, stopOnEviction);
         return new SimpleSoftCache<>(
-                new SimpleLRUCache<K, SoftReference<V>>(
+                new ConcurrentLRUCache<K, SoftReference<V>>(
                         initialCapacity, maximumCacheSize,
                         asSoftReferenceConsumer(stopOnEviction
                                 ? DefaultLRUCacheFactory.this::doStop : DefaultLRUCacheFactory.this::doNothing)));
@@ -20,6 +20,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -37,12 +38,16 @@ import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
  */
 public class DefaultThreadPoolFactory extends ServiceSupport implements CamelContextAware, ThreadPoolFactory, StaticService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultThreadPoolFactory.class);
+
     private CamelContext camelContext;
 
     @Override
@@ -62,6 +67,19 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (Boolean.TRUE.equals(profile.getVirtualThreads())) {
+            // virtual threads requires JDK 21+, and creating a new platform thread per task is expensive, so use a pool
+            // of platform threads bounded by the max pool size instead, where the caller blocks when all the threads
+            // are busy (there is no task queue) as with virtual threads
+            int max = profile.getMaxPoolSize() != null && profile.getMaxPoolSize() > 0 ? profile.getMaxPoolSize() : 1;
+            LOG.warn("Virtual threads requires JDK 21+, using a thread pool of {} platform threads instead for: {}",
+                    max, profile.getId());
+            ThreadPoolExecutor answer = new RejectableThreadPoolExecutor(
+                    max, max, 60, TimeUnit.SECONDS, new SynchronousQueue<>());
+            answer.setThreadFactory(factory);
+            answer.setRejectedExecutionHandler(new CallerBlocksPolicy());
+            return answer;
+        }
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
@@ -138,4 +156,25 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
         }
     }
 
+    /**
+     * Blocks the caller until a thread of the pool is free to execute the task, which is only used when the pool has
+     * no task queue and all its threads are busy.
+     */
+    private static final class CallerBlocksPolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            try {
+                // hand over the task to the next thread which is done with its current task
+                while (!executor.getQueue().offer(task, 100, TimeUnit.MILLISECONDS)) {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Task " + task + " rejected from " + executor);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting to execute task " + task, e);
+            }
+        }
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.CamelContext;
+
+/**
+ * Codec to write a {@link DefaultExchangeHolder} to bytes and read it back again, such as when persistent aggregation
+ * repositories store exchanges.
+ *
+ * @see SerializationExchangeCodec
+ * @see BinaryExchangeCodec
+ */
+public interface ExchangeCodec {
+
+    /**
+     * Writes the holder to the stream.
+     *
+     * @param  holder      the holder with the information from the exchange
+     * @param  out         the stream to write to, which is not closed
+     * @throws IOException is thrown if error writing
+     */
+    void encode(DefaultExchangeHolder holder, OutputStream out) throws IOException;
+
+    /**
+     * Reads the holder from the stream.
+     *
+     * @param  camelContext the camel context
+     * @param  in           the stream to read from, which is not closed
+     * @return              the holder
+     * @throws IOException  is thrown if error reading, or the data is not valid
+     */
+    DefaultExchangeHolder decode(CamelContext camelContext, InputStream in) throws IOException;
+
+    /**
+     * Writes the holder to bytes.
+     */
+    default byte[] encode(DefaultExchangeHolder holder) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        encode(holder, bos);
+        return bos.toByteArray();
+    }
+
+    /**
+     * Reads the holder from bytes.
+     */
+    default DefaultExchangeHolder decode(CamelContext camelContext, byte[] data) throws IOException {
+        return decode(camelContext, new ByteArrayInputStream(data));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.SafeCopyProperty;
+import org.apache.camel.util.function.ThrowingFunction;
+
+/**
+ * A per exchange cache of parsed documents, used by languages such as jsonpath, xpath and jq to avoid parsing the same
+ * message body (or header/variable) again for every expression and predicate evaluated.
+ * <p/>
+ * The cache is opt-in and is enabled by setting the global option {@link #PARSED_DOCUMENT_CACHE} to <tt>true</tt> on
+ * the {@link CamelContext}. The parsed documents are keyed by the identity of the source object (such as the message
+ * body) and the kind of document, so when the message body is changed then the document is parsed again. The cache
+ * holds only a few documents, which are discarded when the exchange is done. When an exchange is copied (such as by the
+ * splitter or multicast EIPs) then the copy starts with an empty cache, as parsed documents (such as DOM) are not
+ * thread-safe.
+ * <p/>
+ * Notice that a cached document is shared by the expressions evaluated on the same exchange, so the results from the
+ * expressions must not be changed if the same source should be evaluated again; and the source object must not be
+ * changed (such as a <tt>byte[]</tt> modified in place).
+ */
+public final class ParsedDocumentCache implements SafeCopyProperty {
+
+    /**
+     * Global option on {@link CamelContext} to enable the per exchange cache of parsed documents.
+     */
+    public static final String PARSED_DOCUMENT_CACHE = "CamelParsedDocumentCache";
+
+    private static final String PROPERTY_KEY = "CamelParsedDocumentCacheHolder";
+    private static final int MAX_ENTRIES = 4;
+
+    private final Object[] sources = new Object[MAX_ENTRIES];
+    private final Object[] kinds = new Object[MAX_ENTRIES];
+    private final Object[] documents = new Object[MAX_ENTRIES];
+    private int next;
+
+    private ParsedDocumentCache() {
+    }
+
+    /**
+     * Whether the cache of parsed documents is enabled.
+     */
+    public static boolean isEnabled(CamelContext camelContext) {
+        return camelContext != null && "true".equalsIgnoreCase(camelContext.getGlobalOption(PARSED_DOCUMENT_CACHE));
+    }
+
+    /**
+     * Gets the parsed document of the given source from the cache, or parses the source and stores the document in the
+     * cache, if the cache is enabled.
+     *
+     * @param  exchange  the exchange
+     * @param  source    the source to parse (such as the message body)
+     * @param  kind      the kind of document (such as the document type), as a source can be parsed into different
+     *                   kinds of documents by different languages
+     * @param  parser    to parse the source, if not already parsed
+     * @return           the parsed document, or <tt>null</tt> if the parser returned <tt>null</tt>
+     * @throws Exception is thrown from the parser
+     */
+    public static <T, E extends Exception> T computeIfAbsent(
+            Exchange exchange, Object source, Object kind, ThrowingFunction<Object, T, E> parser)
+            throws E {
+        if (source == null || !isEnabled(exchange.getContext())) {
+            return parser.apply(source);
+        }
+
+        ParsedDocumentCache cache = exchange.getExchangeExtension().getSafeCopyProperty(PROPERTY_KEY, ParsedDocumentCache.class);
+        if (cache == null) {
+            cache = new ParsedDocumentCache();
+            exchange.getExchangeExtension().setSafeCopyProperty(PROPERTY_KEY, cache);
+        }
+
+        Object answer = cache.get(source, kind);
+        if (answer == null) {
+            answer = parser.apply(source);
+            if (answer != null) {
+                cache.put(source, kind, answer);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        T document = (T) answer;
+        return document;
+    }
+
+    private synchronized Object get(Object source, Object kind) {
+        for (int i = 0; i < MAX_ENTRIES; i++) {
+            // use identity of the source as it may be large and expensive to compare by value
+            if (sources[i] == source && kind.equals(kinds[i])) {
+                return documents[i];
+            }
+        }
+        return null;
+    }
+
+    private synchronized void put(Object source, Object kind, Object document) {
+        // replace the oldest entry
+        sources[next] = source;
+        kinds[next] = kind;
+        documents[next] = document;
+        next = (next + 1) % MAX_ENTRIES;
+    }
+
+    @Override
+    public SafeCopyProperty safeCopy() {
+        // parsed documents are not thread-safe, so the copy must parse its own documents
+        return new ParsedDocumentCache();
+    }
+}
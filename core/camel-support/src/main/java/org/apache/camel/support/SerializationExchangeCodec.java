@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+
+/**
+ * {@link ExchangeCodec} using Java serialization.
+ */
+public class SerializationExchangeCodec implements ExchangeCodec {
+
+    /**
+     * The default deserialization filter, which allows all java and org.apache.camel packages and subpackages.
+     */
+    public static final String DEFAULT_DESERIALIZATION_FILTER = "java.**;org.apache.camel.**;!*";
+
+    private String deserializationFilter = DEFAULT_DESERIALIZATION_FILTER;
+
+    public String getDeserializationFilter() {
+        return deserializationFilter;
+    }
+
+    /**
+     * Sets a deserialization filter (see {@link ObjectInputFilter.Config#createFilter(String)}) while reading objects.
+     * By default, all java and org.apache.camel packages and subpackages are allowed.
+     */
+    public void setDeserializationFilter(String deserializationFilter) {
+        this.deserializationFilter = deserializationFilter;
+    }
+
+    @Override
+    public void encode(DefaultExchangeHolder holder, OutputStream out) throws IOException {
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(holder);
+        oos.flush();
+    }
+
+    @Override
+    public DefaultExchangeHolder decode(CamelContext camelContext, InputStream in) throws IOException {
+        Object answer = readObject(camelContext, in, deserializationFilter);
+        if (answer instanceof DefaultExchangeHolder holder) {
+            return holder;
+        }
+        throw new IOException("Expected " + DefaultExchangeHolder.class.getName() + " but was " + answer);
+    }
+
+    static Object readObject(CamelContext camelContext, InputStream in, String deserializationFilter) throws IOException {
+        ClassLoader classLoader = camelContext != null ? camelContext.getApplicationContextClassLoader() : null;
+        ObjectInputStream ois = new ClassLoadingAwareObjectInputStream(classLoader, in);
+        if (deserializationFilter != null) {
+            ois.setObjectInputFilter(ObjectInputFilter.Config.createFilter(deserializationFilter));
+        }
+        try {
+            return ois.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+}
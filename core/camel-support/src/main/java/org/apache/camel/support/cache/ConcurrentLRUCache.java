@@ -0,0 +1,685 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.camel.support.LRUCache;
+
+/**
+ * {@code ConcurrentLRUCache} is a concurrent implementation of a Least Recently Used cache, which is designed for many
+ * concurrent readers and writers. The implementation doesn't accept null values. Generally speaking, the parameters of
+ * all the public methods must have a value otherwise a {@code NullPointerException} is thrown.
+ * <p/>
+ * The entries are stored in a {@link ConcurrentHashMap}, and the order of the entries (by their last access) is kept
+ * in a linked list which is only updated by the thread which holds the eviction lock. The reads and writes are
+ * recorded in buffers (the reads in lossy buffers which are striped by thread), and these buffers are drained in
+ * batches by the thread which acquires the eviction lock, which never blocks the other threads. So the entries evicted
+ * are only approximately the least recently used, and the size of the cache may temporarily exceed the maximum size
+ * while another thread is evicting.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+public class ConcurrentLRUCache<K, V> implements LRUCache<K, V> {
+
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    /**
+     * The max number of read buffers.
+     */
+    static final int MAX_READ_BUFFERS = 16;
+
+    private static final int IDLE = 0;
+    private static final int REQUIRED = 1;
+    private static final int PROCESSING = 2;
+
+    /**
+     * The underlying map.
+     */
+    private final Map<K, Node<K, V>> data;
+    /**
+     * The maximum cache size.
+     */
+    private final int maximumCacheSize;
+    /**
+     * The function to call when an entry is evicted.
+     */
+    private final Consumer<V> evict;
+    /**
+     * The buffers of recent reads, which are striped by thread.
+     */
+    private final ReadBuffer<K, V>[] readBuffers;
+    /**
+     * The buffer of the added and removed entries.
+     */
+    private final Queue<Node<K, V>> writeBuffer = new ConcurrentLinkedQueue<>();
+    /**
+     * The lock to update the order of the entries and to evict entries.
+     */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    /**
+     * Whether the buffers should be drained.
+     */
+    private final AtomicInteger drainStatus = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    // the order of the entries from least to most recently used (guarded by the eviction lock)
+    private Node<K, V> head;
+    private Node<K, V> tail;
+    private int linked;
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLRUCache(int initialCapacity, int maximumCacheSize, Consumer<V> evicted) {
+        if (maximumCacheSize <= 0) {
+            throw new IllegalArgumentException("The maximum cache size must be greater than 0");
+        }
+        this.data = new ConcurrentHashMap<>(initialCapacity, DEFAULT_LOAD_FACTOR);
+        this.maximumCacheSize = maximumCacheSize;
+        this.evict = Objects.requireNonNull(evicted);
+        int buffers = 1;
+        while (buffers < Math.min(Runtime.getRuntime().availableProcessors(), MAX_READ_BUFFERS)) {
+            buffers <<= 1;
+        }
+        this.readBuffers = new ReadBuffer[buffers];
+        for (int i = 0; i < buffers; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return data.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        return data.values().stream().anyMatch(n -> Objects.equals(n.value, value));
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        afterRead(node);
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> old = data.put(key, node);
+        afterWrite(node, old);
+        return old != null ? old.value : null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> old = data.remove(key);
+        if (old == null) {
+            return null;
+        }
+        afterWrite(null, old);
+        return old.value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        Update<K, V> update = new Update<>();
+        data.computeIfPresent((K) key, (k, n) -> {
+            if (Objects.equals(value, n.value)) {
+                update.removed = n;
+                return null;
+            }
+            return n;
+        });
+        afterWrite(update);
+        return update.removed != null;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            Node<K, V> added = new Node<>(key, value);
+            node = data.putIfAbsent(key, added);
+            if (node == null) {
+                afterWrite(added, null);
+                return null;
+            }
+        }
+        afterRead(node);
+        return node.value;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (key == null || mappingFunction == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            hits.increment();
+            afterRead(node);
+            return node.value;
+        }
+        Update<K, V> update = new Update<>();
+        node = data.computeIfAbsent(key, k -> {
+            V value = mappingFunction.apply(k);
+            return value != null ? update.added = new Node<>(k, value) : null;
+        });
+        if (update.added != null) {
+            misses.increment();
+            afterWrite(update);
+        } else if (node != null) {
+            // added by another thread in the meantime
+            hits.increment();
+            afterRead(node);
+        } else {
+            misses.increment();
+        }
+        return node != null ? node.value : null;
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (key == null || remappingFunction == null) {
+            throw new NullPointerException();
+        }
+        Update<K, V> update = new Update<>();
+        data.computeIfPresent(key, (k, n) -> {
+            update.removed = n;
+            V value = remappingFunction.apply(k, n.value);
+            return value != null ? update.added = new Node<>(k, value) : null;
+        });
+        afterWrite(update);
+        return update.added != null ? update.added.value : null;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (key == null || remappingFunction == null) {
+            throw new NullPointerException();
+        }
+        Update<K, V> update = new Update<>();
+        data.compute(key, (k, n) -> {
+            update.removed = n;
+            V value = remappingFunction.apply(k, n != null ? n.value : null);
+            return value != null ? update.added = new Node<>(k, value) : null;
+        });
+        afterWrite(update);
+        return update.added != null ? update.added.value : null;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (key == null || value == null || remappingFunction == null) {
+            throw new NullPointerException();
+        }
+        return compute(key, (k, oldValue) -> oldValue == null ? value : remappingFunction.apply(oldValue, value));
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        if (key == null || oldValue == null || newValue == null) {
+            throw new NullPointerException();
+        }
+        Update<K, V> update = new Update<>();
+        data.computeIfPresent(key, (k, n) -> {
+            if (Objects.equals(oldValue, n.value)) {
+                update.removed = n;
+                return update.added = new Node<>(k, newValue);
+            }
+            return n;
+        });
+        afterWrite(update);
+        return update.added != null;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        Update<K, V> update = new Update<>();
+        data.computeIfPresent(key, (k, n) -> {
+            update.removed = n;
+            return update.added = new Node<>(k, value);
+        });
+        afterWrite(update);
+        return update.removed != null ? update.removed.value : null;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        for (Entry<? extends K, ? extends V> e : m.entrySet()) {
+            put(e.getKey(), e.getValue());
+        }
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        if (function == null) {
+            throw new NullPointerException();
+        }
+        for (K key : data.keySet()) {
+            computeIfPresent(key, function);
+        }
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            data.clear();
+            drainBuffers();
+            // all the entries are removed so the order is reset
+            for (Node<K, V> node = head; node != null; node = node.next) {
+                node.alive = false;
+                node.linked = false;
+            }
+            head = null;
+            tail = null;
+            linked = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return data.values().stream().map(n -> n.value).toList();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return data.values().stream()
+                .map(n -> new CacheEntry<>(this, n.key, n.value))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
+    @Override
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public int getMaxCacheSize() {
+        return maximumCacheSize;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentLRUCache@" + Integer.toHexString(hashCode()) + "[size=" + size() + ", maximumCacheSize="
+               + maximumCacheSize + "]";
+    }
+
+    /**
+     * Records the read of the given entry, which is lossy if the read buffer is full or contended.
+     */
+    private void afterRead(Node<K, V> node) {
+        int h = System.identityHashCode(Thread.currentThread());
+        ReadBuffer<K, V> buffer = readBuffers[(h ^ (h >>> 16)) & (readBuffers.length - 1)];
+        if (!buffer.offer(node)) {
+            drainStatus.set(REQUIRED);
+            scheduleDrain();
+        }
+    }
+
+    private void afterWrite(Update<K, V> update) {
+        afterWrite(update.added, update.removed);
+    }
+
+    /**
+     * Records the added and removed entries which must not be lost, and evicts entries if needed.
+     */
+    private void afterWrite(Node<K, V> added, Node<K, V> removed) {
+        if (removed == null && added == null) {
+            return;
+        }
+        if (removed != null) {
+            removed.alive = false;
+            writeBuffer.add(removed);
+        }
+        if (added != null) {
+            writeBuffer.add(added);
+        }
+        drainStatus.set(REQUIRED);
+        scheduleDrain();
+    }
+
+    /**
+     * Drains the buffers if no other thread is doing so, in which case that thread drains the buffers again.
+     */
+    private void scheduleDrain() {
+        while (drainStatus.get() == REQUIRED && evictionLock.tryLock()) {
+            try {
+                drainStatus.set(PROCESSING);
+                maintenance();
+                // if another thread requested a drain in the meantime then drain again
+                drainStatus.compareAndSet(PROCESSING, IDLE);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Drains the buffers and evicts the least recently used entries until the cache is not full anymore.
+     */
+    private void maintenance() {
+        drainBuffers();
+        while (linked > maximumCacheSize) {
+            Node<K, V> node = head;
+            unlink(node);
+            // the entry may be removed already
+            if (node.alive && data.remove(node.key, node)) {
+                node.alive = false;
+                evicted.increment();
+                evict.accept(node.value);
+            }
+        }
+    }
+
+    private void drainBuffers() {
+        for (ReadBuffer<K, V> buffer : readBuffers) {
+            buffer.drain(this::onAccess);
+        }
+        Node<K, V> node;
+        while ((node = writeBuffer.poll()) != null) {
+            if (node.alive) {
+                if (!node.linked) {
+                    link(node);
+                }
+            } else if (node.linked) {
+                unlink(node);
+            }
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.alive && node.linked && node != tail) {
+            unlink(node);
+            link(node);
+        }
+    }
+
+    private void link(Node<K, V> node) {
+        node.prev = tail;
+        node.next = null;
+        if (tail != null) {
+            tail.next = node;
+        } else {
+            head = node;
+        }
+        tail = node;
+        node.linked = true;
+        linked++;
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            head = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        } else {
+            tail = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+        linked--;
+    }
+
+    /**
+     * An entry of the cache. A new node is created whenever the value of a key is changed.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        /**
+         * Whether the entry is still in the cache.
+         */
+        private volatile boolean alive = true;
+        // guarded by the eviction lock
+        private Node<K, V> prev;
+        private Node<K, V> next;
+        private boolean linked;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The entries added and removed by an atomic operation.
+     */
+    private static final class Update<K, V> {
+        private Node<K, V> added;
+        private Node<K, V> removed;
+    }
+
+    /**
+     * A bounded buffer of reads, which drops the reads when full or contended, as the reads only affect the order of
+     * the entries.
+     */
+    private static final class ReadBuffer<K, V> {
+        private static final int SIZE = 16;
+
+        private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        // only updated by the thread which holds the eviction lock
+        private volatile long readCounter;
+
+        /**
+         * Adds the node to the buffer.
+         *
+         * @return <tt>false</tt> if the buffer is full and should be drained
+         */
+        boolean offer(Node<K, V> node) {
+            long write = writeCounter.get();
+            if (write - readCounter >= SIZE) {
+                return false;
+            }
+            if (writeCounter.compareAndSet(write, write + 1)) {
+                buffer.lazySet((int) (write & (SIZE - 1)), node);
+            }
+            return true;
+        }
+
+        void drain(Consumer<Node<K, V>> consumer) {
+            long read = readCounter;
+            long write = writeCounter.get();
+            for (; read < write; read++) {
+                int index = (int) (read & (SIZE - 1));
+                Node<K, V> node = buffer.get(index);
+                if (node == null) {
+                    // not yet published by the writer
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(node);
+            }
+            readCounter = read;
+        }
+    }
+
+    /**
+     * A view of the keys, where removing a key removes the entry from the cache.
+     */
+    private final class KeySet extends AbstractSet<K> {
+
+        @Override
+        public Iterator<K> iterator() {
+            Iterator<K> it = data.keySet().iterator();
+            return new Iterator<>() {
+                private K current;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public K next() {
+                    current = it.next();
+                    return current;
+                }
+
+                @Override
+                public void remove() {
+                    if (current == null) {
+                        throw new IllegalStateException();
+                    }
+                    ConcurrentLRUCache.this.remove(current);
+                    current = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return data.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return data.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return ConcurrentLRUCache.this.remove(o) != null;
+        }
+
+        @Override
+        public void clear() {
+            ConcurrentLRUCache.this.clear();
+        }
+    }
+
+    /**
+     * A modifiable cache entry.
+     *
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     */
+    private static final class CacheEntry<K, V> extends AbstractMap.SimpleEntry<K, V> {
+
+        /**
+         * The underlying cache.
+         */
+        private final transient ConcurrentLRUCache<K, V> cache;
+
+        CacheEntry(ConcurrentLRUCache<K, V> cache, K key, V value) {
+            super(key, value);
+            this.cache = cache;
+        }
+
+        @Override
+        public V setValue(V value) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+            V v = super.setValue(value);
+            cache.put(getKey(), value);
+            return v;
+        }
+    }
+}
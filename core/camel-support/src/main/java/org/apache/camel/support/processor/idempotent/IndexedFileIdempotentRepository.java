@@ -0,0 +1,1097 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.LRUCache;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which uses an on-disk hash index,
+ * so checking whether a key exists costs a few positional reads regardless of the number of keys in the store. Unlike
+ * {@link FileIdempotentRepository} the store is never scanned nor rewritten when adding keys, which makes it suitable
+ * for keeping millions of keys.
+ * <p/>
+ * The file store is a directory with two files:
+ * <ul>
+ * <li>keys.dat - an append-only log of the added and removed keys</li>
+ * <li>keys.idx - an open addressing hash table with the 64-bit hash of each key and the position of the key in the
+ * log</li>
+ * </ul>
+ * New keys are appended to the log in batches, which are written when 64kb of keys are pending, or by a background task
+ * every {@link #getFlushInterval()} millis. Removed keys are kept in the log until more than half of the log is removed
+ * keys, and then the log is compacted in the background. The index doubles its size when it is half full, so set
+ * {@link #setIndexCapacity(long)} to the expected number of keys to avoid resizing the index.
+ * <p/>
+ * If the repository was not stopped gracefully, then the index is rebuilt from the log on startup. Keys which were
+ * pending to be written to the log at that time are lost.
+ * <p/>
+ * This implementation also provides a 1st-level in-memory {@link LRUCache} of the most recently used keys.
+ */
+@Metadata(label = "bean",
+          description = "A file based idempotent repository which uses an on-disk hash index for fast lookups of a large number of keys."
+                        + " Comes with 1st-level in-memory cache for fast check of the most recently used keys.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Indexed file based idempotent repository")
+public class IndexedFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedFileIdempotentRepository.class);
+
+    static final String DATA_FILE = "keys.dat";
+    static final String INDEX_FILE = "keys.idx";
+    private static final String COMPACT_SUFFIX = ".compact";
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    // a record is the operation, the length of the key and the key
+    private static final int RECORD_HEADER_SIZE = 5;
+    private static final int MAX_PENDING_SIZE = 64 * 1024;
+    private static final long MIN_COMPACTION_SIZE = 1024 * 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private CamelContext camelContext;
+    private Map<String, Object> cache;
+    private ScheduledExecutorService executorService;
+    private boolean shutdownExecutorService;
+
+    // the state below is guarded by the lock
+    private FileChannel data;
+    private HashIndex index;
+    private long dataLength;
+    private byte[] pending = new byte[1024];
+    private int pendingSize;
+    private long garbage;
+    private long generation;
+
+    @Metadata(description = "The maximum size of the 1st-level in-memory cache", defaultValue = "1000")
+    private int cacheSize;
+    @Metadata(description = "Directory of the repository files", required = true)
+    private File fileStore;
+    @Metadata(description = "The expected number of keys, which is used for the initial size of the index", defaultValue = "100000")
+    private long indexCapacity = 100000;
+    @Metadata(description = "Interval in millis to write the pending keys to the file store. Use 0 to write each key immediately.",
+              defaultValue = "1000")
+    private long flushInterval = 1000;
+
+    public IndexedFileIdempotentRepository() {
+    }
+
+    public IndexedFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new indexed file based repository using a {@link LRUCache} as 1st level cache with a default of 1000
+     * entries in the cache.
+     *
+     * @param fileStore the directory of the file store
+     */
+    public static IdempotentRepository indexedFileIdempotentRepository(File fileStore) {
+        return new IndexedFileIdempotentRepository(fileStore);
+    }
+
+    /**
+     * Creates a new indexed file based repository using a {@link LRUCache} as 1st level cache with a default of 1000
+     * entries in the cache.
+     *
+     * @param fileStore     the directory of the file store
+     * @param indexCapacity the expected number of keys
+     */
+    public static IdempotentRepository indexedFileIdempotentRepository(File fileStore, long indexCapacity) {
+        IndexedFileIdempotentRepository repository = new IndexedFileIdempotentRepository(fileStore);
+        repository.setIndexCapacity(indexCapacity);
+        return repository;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        if (cache.containsKey(key)) {
+            return false;
+        }
+
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        lock.writeLock().lock();
+        try {
+            if (index.find(hash, offset -> recordMatches(offset, bytes)) < 0) {
+                long offset = append(ADD, bytes);
+                index.insert(hash, offset);
+                if (flushInterval <= 0) {
+                    flush();
+                }
+                if (index.isHalfFull()) {
+                    index = index.resize(index.slots * 2);
+                }
+                cache.put(key, key);
+                return true;
+            }
+            cache.put(key, key);
+            return false;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        if (cache.containsKey(key)) {
+            return true;
+        }
+
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        lock.readLock().lock();
+        try {
+            boolean found = index.find(hash, offset -> recordMatches(offset, bytes)) >= 0;
+            if (found) {
+                cache.put(key, key);
+            }
+            return found;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        lock.writeLock().lock();
+        try {
+            cache.remove(key);
+            long slot = index.find(hash, offset -> recordMatches(offset, bytes));
+            if (slot < 0) {
+                return false;
+            }
+            append(REMOVE, bytes);
+            index.delete(slot);
+            if (flushInterval <= 0) {
+                flush();
+            }
+            // both the added and the removed record are garbage
+            garbage += 2L * (RECORD_HEADER_SIZE + bytes.length);
+            return true;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            cache.clear();
+            if (cache instanceof LRUCache<String, Object> lruCache) {
+                lruCache.cleanUp();
+            }
+            // discard any running compaction
+            generation++;
+            pendingSize = 0;
+            data.truncate(0);
+            dataLength = 0;
+            garbage = 0;
+            index.close();
+            index = HashIndex.create(new File(fileStore, INDEX_FILE), slotsFor(indexCapacity));
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    /**
+     * Directory of the repository files
+     */
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The directory path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    public Map<String, Object> getCache() {
+        return cache;
+    }
+
+    public void setCache(Map<String, Object> cache) {
+        this.cache = cache;
+    }
+
+    @ManagedAttribute(description = "The current 1st-level cache size (elements in cache)")
+    public int getCacheSize() {
+        if (cache != null) {
+            return cache.size();
+        }
+        return 0;
+    }
+
+    /**
+     * Sets the 1st-level maximum cache size.
+     */
+    public void setCacheSize(int size) {
+        this.cacheSize = size;
+    }
+
+    @ManagedAttribute(description = "The 1st-level maximum cache size")
+    public int getMaxCacheSize() {
+        return cacheSize;
+    }
+
+    @ManagedAttribute(description = "The expected number of keys")
+    public long getIndexCapacity() {
+        return indexCapacity;
+    }
+
+    /**
+     * The expected number of keys, which is used for the initial size of the index. The index doubles its size when it
+     * is half full, which takes time proportional to the size of the index, so this should be set to the expected
+     * number of keys to avoid resizing.
+     * <p/>
+     * The default is 100000.
+     */
+    public void setIndexCapacity(long indexCapacity) {
+        this.indexCapacity = indexCapacity;
+    }
+
+    @ManagedAttribute(description = "Interval in millis to write the pending keys to the file store")
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Interval in millis to write the pending keys to the file store. The pending keys are also written when 64kb of
+     * keys are pending. Use 0 to write each key immediately.
+     * <p/>
+     * The default is 1000.
+     */
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    @ManagedAttribute(description = "Number of keys in the store")
+    public long getSize() {
+        lock.readLock().lock();
+        try {
+            return index != null ? index.live : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Size in bytes of the log of keys (incl pending keys)")
+    public long getFileStoreSize() {
+        lock.readLock().lock();
+        try {
+            return dataLength + pendingSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Size in bytes of removed keys in the log of keys, which are dropped when compacting")
+    public long getGarbageSize() {
+        lock.readLock().lock();
+        try {
+            return garbage;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the pending keys to the file store
+     */
+    @ManagedOperation(description = "Writes the pending keys to the file store")
+    public void flushStore() {
+        lock.writeLock().lock();
+        try {
+            flush();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compacts the file store by dropping the removed keys from the log, and rebuilding the index. The repository can
+     * be used while compacting, and is only locked while replacing the files at the end.
+     */
+    @ManagedOperation(description = "Compacts the file store by dropping the removed keys")
+    public void compact() {
+        if (!compacting.compareAndSet(false, true)) {
+            LOG.debug("Compaction of idempotent filestore: {} is already in progress", fileStore);
+            return;
+        }
+        try {
+            doCompact();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private long append(byte op, byte[] key) throws IOException {
+        int size = RECORD_HEADER_SIZE + key.length;
+        if (pendingSize + size > pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingSize + size));
+        }
+        long offset = dataLength + pendingSize;
+        ByteBuffer.wrap(pending, pendingSize, size).put(op).putInt(key.length).put(key);
+        pendingSize += size;
+        if (pendingSize >= MAX_PENDING_SIZE) {
+            flush();
+        }
+        return offset;
+    }
+
+    private void flush() throws IOException {
+        if (pendingSize > 0) {
+            LOG.trace("Writing {} bytes of pending keys to idempotent filestore: {}", pendingSize, fileStore);
+            writeFully(data, ByteBuffer.wrap(pending, 0, pendingSize), dataLength);
+            dataLength += pendingSize;
+            pendingSize = 0;
+            if (pending.length > MAX_PENDING_SIZE * 2) {
+                pending = new byte[1024];
+            }
+        }
+    }
+
+    private boolean recordMatches(long offset, byte[] key) {
+        try {
+            if (offset >= dataLength) {
+                // the key is still pending
+                int pos = (int) (offset - dataLength);
+                ByteBuffer bb = ByteBuffer.wrap(pending, pos, pendingSize - pos);
+                return bb.get() == ADD && bb.getInt() == key.length
+                        && Arrays.equals(pending, pos + RECORD_HEADER_SIZE, pos + RECORD_HEADER_SIZE + key.length,
+                                key, 0, key.length);
+            }
+            return recordMatches(data, offset, key);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    private static boolean recordMatches(FileChannel channel, long offset, byte[] key) throws IOException {
+        ByteBuffer bb = ByteBuffer.allocate(RECORD_HEADER_SIZE + key.length);
+        readFully(channel, bb, offset);
+        bb.flip();
+        if (bb.get() != ADD || bb.getInt() != key.length) {
+            return false;
+        }
+        return Arrays.equals(bb.array(), RECORD_HEADER_SIZE, bb.capacity(), key, 0, key.length);
+    }
+
+    private void doCompact() throws IOException {
+        long gen;
+        long end;
+        lock.writeLock().lock();
+        try {
+            flush();
+            gen = generation;
+            end = dataLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LOG.debug("Compacting idempotent filestore: {} with {} bytes of removed keys", fileStore, garbage);
+        File compactData = new File(fileStore, DATA_FILE + COMPACT_SUFFIX);
+        File compactIndex = new File(fileStore, INDEX_FILE + COMPACT_SUFFIX);
+        FileChannel target = FileChannel.open(compactData.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        HashIndex targetIndex = null;
+        boolean done = false;
+        try {
+            lock.readLock().lock();
+            try {
+                targetIndex = HashIndex.create(compactIndex, slotsFor(Math.max(indexCapacity, index.live)));
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            // copy the keys which are still in the index to the new log, without holding the lock while
+            // doing the I/O, as the part of the log being copied is not changed
+            RecordWriter writer = new RecordWriter(target);
+            RecordReader reader = new RecordReader(data, 0, end);
+            while (reader.next()) {
+                if (reader.op != ADD) {
+                    continue;
+                }
+                long hash = hash(reader.key);
+                long offset = reader.offset;
+                boolean live;
+                lock.readLock().lock();
+                try {
+                    if (generation != gen) {
+                        LOG.debug("Idempotent filestore: {} was cleared while compacting", fileStore);
+                        return;
+                    }
+                    live = index.find(hash, o -> o == offset) >= 0;
+                } finally {
+                    lock.readLock().unlock();
+                }
+                if (live) {
+                    targetIndex.insert(hash, writer.write(ADD, reader.key));
+                    if (targetIndex.isHalfFull()) {
+                        targetIndex = targetIndex.resize(targetIndex.slots * 2);
+                    }
+                }
+            }
+            writer.flush();
+
+            lock.writeLock().lock();
+            try {
+                if (generation != gen) {
+                    LOG.debug("Idempotent filestore: {} was cleared while compacting", fileStore);
+                    return;
+                }
+                // replay the keys added or removed while copying
+                flush();
+                long newGarbage = 0;
+                long length = writer.position;
+                reader = new RecordReader(data, end, dataLength);
+                while (reader.next()) {
+                    byte[] key = reader.key;
+                    long hash = hash(key);
+                    if (reader.op == ADD) {
+                        writeFully(target, recordOf(ADD, key), length);
+                        targetIndex.insert(hash, length);
+                        if (targetIndex.isHalfFull()) {
+                            targetIndex = targetIndex.resize(targetIndex.slots * 2);
+                        }
+                        length += RECORD_HEADER_SIZE + key.length;
+                    } else {
+                        long slot = targetIndex.find(hash, o -> recordMatchesQuietly(target, o, key));
+                        writeFully(target, recordOf(REMOVE, key), length);
+                        length += RECORD_HEADER_SIZE + key.length;
+                        if (slot >= 0) {
+                            targetIndex.delete(slot);
+                            newGarbage += 2L * (RECORD_HEADER_SIZE + key.length);
+                        } else {
+                            newGarbage += RECORD_HEADER_SIZE + key.length;
+                        }
+                    }
+                }
+
+                // replace the files, where the log is replaced first, as the index is rebuilt from the log
+                // if the index does not match the log, in case we crash in between
+                target.force(false);
+                targetIndex.writeHeader(false, length, newGarbage);
+                targetIndex.channel.force(false);
+                IOHelper.close(data);
+                index.close();
+                Files.move(compactData.toPath(), new File(fileStore, DATA_FILE).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+                Files.move(compactIndex.toPath(), new File(fileStore, INDEX_FILE).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+                LOG.debug("Compacted idempotent filestore: {} from {} to {} bytes", fileStore, dataLength, length);
+
+                data = target;
+                index = targetIndex.renameTo(new File(fileStore, INDEX_FILE));
+                dataLength = length;
+                garbage = newGarbage;
+                generation++;
+                done = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            if (!done) {
+                IOHelper.close(target);
+                if (targetIndex != null) {
+                    targetIndex.close();
+                }
+                FileUtil.deleteFile(compactData);
+                FileUtil.deleteFile(compactIndex);
+            }
+        }
+    }
+
+    private static boolean recordMatchesQuietly(FileChannel channel, long offset, byte[] key) {
+        try {
+            return recordMatches(channel, offset, key);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the log, which also truncates an incomplete record at the end of the log
+     */
+    private void rebuildIndex() throws IOException {
+        LOG.info("Rebuilding index of idempotent filestore: {} from {} bytes of keys", fileStore, data.size());
+        index = HashIndex.create(new File(fileStore, INDEX_FILE), slotsFor(indexCapacity));
+        garbage = 0;
+        RecordReader reader = new RecordReader(data, 0, data.size());
+        while (reader.next()) {
+            byte[] key = reader.key;
+            long hash = hash(key);
+            long slot = index.find(hash, o -> recordMatchesQuietly(data, o, key));
+            if (reader.op == ADD && slot < 0) {
+                index.insert(hash, reader.offset);
+                if (index.isHalfFull()) {
+                    index = index.resize(index.slots * 2);
+                }
+            } else if (reader.op == REMOVE && slot >= 0) {
+                index.delete(slot);
+                garbage += 2L * (RECORD_HEADER_SIZE + key.length);
+            } else {
+                garbage += RECORD_HEADER_SIZE + key.length;
+            }
+        }
+        if (reader.offset < data.size()) {
+            LOG.warn("Truncating incomplete key at position {} of idempotent filestore: {}", reader.offset, fileStore);
+            data.truncate(reader.offset);
+        }
+        dataLength = reader.offset;
+        LOG.info("Rebuilt index of idempotent filestore: {} with {} keys", fileStore, index.live);
+    }
+
+    private void onTimer() {
+        try {
+            boolean compact;
+            lock.writeLock().lock();
+            try {
+                flush();
+                compact = dataLength > MIN_COMPACTION_SIZE && garbage > dataLength / 2;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (compact && !compacting.get()) {
+                executorService.execute(this::compact);
+            }
+        } catch (Exception e) {
+            LOG.warn("Error writing pending keys to idempotent filestore: {} due to: {}. This exception is ignored.",
+                    fileStore, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        if (this.cache == null) {
+            // default use a 1st level cache
+            this.cache = LRUCacheFactory.newLRUCache(cacheSize <= 0 ? 1000 : cacheSize);
+        }
+
+        if (!fileStore.exists() && !fileStore.mkdirs()) {
+            throw new IOException("Cannot create filestore directory: " + fileStore);
+        }
+        FileUtil.deleteFile(new File(fileStore, DATA_FILE + COMPACT_SUFFIX));
+        FileUtil.deleteFile(new File(fileStore, INDEX_FILE + COMPACT_SUFFIX));
+
+        lock.writeLock().lock();
+        try {
+            data = FileChannel.open(new File(fileStore, DATA_FILE).toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            index = HashIndex.open(new File(fileStore, INDEX_FILE), data.size());
+            if (index == null) {
+                rebuildIndex();
+            } else {
+                dataLength = index.dataLength;
+                garbage = index.garbage;
+            }
+            // mark the index as in use, so its rebuilt if we are not stopped gracefully
+            index.writeHeader(false, dataLength, garbage);
+            LOG.debug("Loaded idempotent filestore: {} with {} keys", fileStore, index.live);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (executorService == null) {
+            if (camelContext != null) {
+                executorService = camelContext.getExecutorServiceManager().newScheduledThreadPool(this,
+                        "IndexedFileIdempotentRepository", 2);
+            } else {
+                executorService = Executors.newScheduledThreadPool(2,
+                        new CamelThreadFactory("Camel Thread ##counter# - #name#", "IndexedFileIdempotentRepository", true));
+            }
+            shutdownExecutorService = true;
+        }
+        long interval = flushInterval > 0 ? flushInterval : 1000;
+        executorService.scheduleWithFixedDelay(this::onTimer, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null && shutdownExecutorService) {
+            if (camelContext != null) {
+                camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            } else {
+                executorService.shutdownNow();
+            }
+            executorService = null;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (data != null) {
+                flush();
+                data.force(false);
+                IOHelper.close(data);
+                data = null;
+            }
+            if (index != null) {
+                index.writeHeader(true, dataLength, garbage);
+                index.close();
+                index = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (cache instanceof LRUCache<String, Object> lruCache) {
+            lruCache.cleanUp();
+        }
+        cache.clear();
+    }
+
+    static long slotsFor(long keys) {
+        // keep the index at most half full
+        long slots = Long.highestOneBit(Math.max(keys, 512) * 2 - 1) << 1;
+        return Math.max(slots, 1024);
+    }
+
+    /**
+     * 64-bit hash of the key (FNV-1a with a final avalanche), which is never 0 as 0 is used for empty slots
+     */
+    static long hash(byte[] key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h != 0 ? h : 1;
+    }
+
+    private static ByteBuffer recordOf(byte op, byte[] key) {
+        ByteBuffer bb = ByteBuffer.allocate(RECORD_HEADER_SIZE + key.length);
+        bb.put(op).putInt(key.length).put(key).flip();
+        return bb;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer bb, long position) throws IOException {
+        while (bb.hasRemaining()) {
+            int n = channel.read(bb, position);
+            if (n < 0) {
+                throw new EOFException("Unexpected end of file at position " + position);
+            }
+            position += n;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer bb, long position) throws IOException {
+        while (bb.hasRemaining()) {
+            position += channel.write(bb, position);
+        }
+    }
+
+    /**
+     * An open addressing hash table (with linear probing) stored in a file, where each slot is the 64-bit hash of a key
+     * and the position of the key in the log. The file starts with a header with the number of slots and the counters.
+     */
+    static final class HashIndex implements Closeable {
+
+        private static final int MAGIC = 0x43494458;
+        private static final int VERSION = 1;
+        private static final int HEADER_SIZE = 64;
+        private static final int SLOT_SIZE = 16;
+        private static final int PROBE_SLOTS = 8;
+        private static final long EMPTY = 0;
+        private static final long DELETED = -1;
+
+        private final File file;
+        private final FileChannel channel;
+        private final long slots;
+        private long live;
+        private long deleted;
+        private long dataLength;
+        private long garbage;
+
+        private HashIndex(File file, FileChannel channel, long slots) {
+            this.file = file;
+            this.channel = channel;
+            this.slots = slots;
+        }
+
+        static HashIndex create(File file, long slots) throws IOException {
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            HashIndex answer = new HashIndex(file, channel, slots);
+            // empty slots are zero, so the file can be sparse
+            writeFully(channel, ByteBuffer.allocate(1), HEADER_SIZE + slots * SLOT_SIZE - 1);
+            answer.writeHeader(false, 0, 0);
+            return answer;
+        }
+
+        /**
+         * Opens an existing index
+         *
+         * @return the index, or <tt>null</tt> if the index does not exist or does not match the log (such as when not
+         *         closed gracefully)
+         */
+        static HashIndex open(File file, long dataLength) throws IOException {
+            if (!file.exists() || file.length() < HEADER_SIZE) {
+                return null;
+            }
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer bb = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(channel, bb, 0);
+            bb.flip();
+            int magic = bb.getInt();
+            int version = bb.getInt();
+            long slots = bb.getLong();
+            HashIndex answer = new HashIndex(file, channel, slots);
+            answer.live = bb.getLong();
+            answer.deleted = bb.getLong();
+            answer.dataLength = bb.getLong();
+            answer.garbage = bb.getLong();
+            boolean clean = bb.get() == 1;
+            if (magic != MAGIC || version != VERSION || !clean || answer.dataLength != dataLength
+                    || Long.bitCount(slots) != 1 || channel.size() != HEADER_SIZE + slots * SLOT_SIZE) {
+                LOG.debug("Index: {} does not match the log of keys", file);
+                answer.close();
+                return null;
+            }
+            return answer;
+        }
+
+        void writeHeader(boolean clean, long dataLength, long garbage) throws IOException {
+            this.dataLength = dataLength;
+            this.garbage = garbage;
+            ByteBuffer bb = ByteBuffer.allocate(HEADER_SIZE);
+            bb.putInt(MAGIC).putInt(VERSION).putLong(slots).putLong(live).putLong(deleted).putLong(dataLength)
+                    .putLong(garbage).put((byte) (clean ? 1 : 0));
+            bb.clear();
+            writeFully(channel, bb, 0);
+        }
+
+        boolean isHalfFull() {
+            return (live + deleted) * 2 > slots;
+        }
+
+        /**
+         * Finds the slot of a key
+         *
+         * @param  hash    the hash of the key
+         * @param  matches whether the key at the given position in the log is the key
+         * @return         the slot, or -1 if not found
+         */
+        long find(long hash, LongPredicate matches) throws IOException {
+            long mask = slots - 1;
+            long slot = hash & mask;
+            ByteBuffer bb = ByteBuffer.allocate(PROBE_SLOTS * SLOT_SIZE);
+            for (long probed = 0; probed < slots;) {
+                int n = (int) Math.min(PROBE_SLOTS, slots - slot);
+                bb.clear().limit(n * SLOT_SIZE);
+                readFully(channel, bb, HEADER_SIZE + slot * SLOT_SIZE);
+                bb.flip();
+                for (int i = 0; i < n; i++) {
+                    long h = bb.getLong();
+                    long offset = bb.getLong();
+                    if (h == EMPTY) {
+                        return -1;
+                    }
+                    if (h == hash && offset != DELETED && matches.test(offset)) {
+                        return slot + i;
+                    }
+                }
+                probed += n;
+                slot = (slot + n) & mask;
+            }
+            return -1;
+        }
+
+        /**
+         * Inserts a key, which must not be in the index already
+         */
+        void insert(long hash, long offset) throws IOException {
+            long mask = slots - 1;
+            long slot = hash & mask;
+            ByteBuffer bb = ByteBuffer.allocate(PROBE_SLOTS * SLOT_SIZE);
+            while (true) {
+                int n = (int) Math.min(PROBE_SLOTS, slots - slot);
+                bb.clear().limit(n * SLOT_SIZE);
+                readFully(channel, bb, HEADER_SIZE + slot * SLOT_SIZE);
+                bb.flip();
+                for (int i = 0; i < n; i++) {
+                    long h = bb.getLong();
+                    long o = bb.getLong();
+                    if (h == EMPTY || o == DELETED) {
+                        if (h != EMPTY) {
+                            deleted--;
+                        }
+                        writeSlot(slot + i, hash, offset);
+                        live++;
+                        return;
+                    }
+                }
+                slot = (slot + n) & mask;
+            }
+        }
+
+        void delete(long slot) throws IOException {
+            // keep the hash so the slot is not empty, which would break the probing of other keys
+            ByteBuffer bb = ByteBuffer.allocate(8).putLong(DELETED);
+            bb.flip();
+            writeFully(channel, bb, HEADER_SIZE + slot * SLOT_SIZE + 8);
+            live--;
+            deleted++;
+        }
+
+        private void writeSlot(long slot, long hash, long offset) throws IOException {
+            ByteBuffer bb = ByteBuffer.allocate(SLOT_SIZE).putLong(hash).putLong(offset);
+            bb.flip();
+            writeFully(channel, bb, HEADER_SIZE + slot * SLOT_SIZE);
+        }
+
+        /**
+         * Creates a new index with the given number of slots with the keys of this index, which replaces this index
+         */
+        HashIndex resize(long newSlots) throws IOException {
+            LOG.debug("Resizing index: {} from {} to {} slots", file, slots, newSlots);
+            File tmp = new File(file.getPath() + ".resize");
+            HashIndex answer = create(tmp, newSlots);
+            ByteBuffer bb = ByteBuffer.allocate(4096 * SLOT_SIZE);
+            for (long slot = 0; slot < slots; slot += 4096) {
+                int n = (int) Math.min(4096, slots - slot);
+                bb.clear().limit(n * SLOT_SIZE);
+                readFully(channel, bb, HEADER_SIZE + slot * SLOT_SIZE);
+                bb.flip();
+                for (int i = 0; i < n; i++) {
+                    long h = bb.getLong();
+                    long offset = bb.getLong();
+                    if (h != EMPTY && offset != DELETED) {
+                        answer.insert(h, offset);
+                    }
+                }
+            }
+            answer.writeHeader(false, dataLength, garbage);
+            close();
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return answer.renameTo(file);
+        }
+
+        /**
+         * The file of this index has been moved to the given file
+         */
+        HashIndex renameTo(File target) {
+            HashIndex answer = new HashIndex(target, channel, slots);
+            answer.live = live;
+            answer.deleted = deleted;
+            answer.dataLength = dataLength;
+            answer.garbage = garbage;
+            return answer;
+        }
+
+        @Override
+        public void close() {
+            IOHelper.close(channel);
+        }
+    }
+
+    /**
+     * Reads the records of a part of the log
+     */
+    private static final class RecordReader {
+
+        private final FileChannel channel;
+        private final long end;
+        private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        private long bufferPosition;
+        private long offset;
+        private long next;
+        private byte op;
+        private byte[] key;
+
+        RecordReader(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.end = end;
+            this.next = start;
+            this.offset = start;
+            this.bufferPosition = start;
+            buffer.limit(0);
+        }
+
+        /**
+         * Reads the next record
+         *
+         * @return <tt>false</tt> if there are no more records, where the offset is the end of the last complete record
+         */
+        boolean next() throws IOException {
+            offset = next;
+            if (!fill(RECORD_HEADER_SIZE)) {
+                return false;
+            }
+            byte o = buffer.get();
+            int length = buffer.getInt();
+            if (o != ADD && o != REMOVE || length < 0 || offset + RECORD_HEADER_SIZE + length > end) {
+                return false;
+            }
+            if (length > buffer.capacity() - RECORD_HEADER_SIZE) {
+                // a very large key so read it directly
+                key = new byte[length];
+                readFully(channel, ByteBuffer.wrap(key), offset + RECORD_HEADER_SIZE);
+                buffer.limit(0);
+                bufferPosition = offset + RECORD_HEADER_SIZE + length;
+            } else {
+                if (!fill(length)) {
+                    return false;
+                }
+                key = new byte[length];
+                buffer.get(key);
+            }
+            op = o;
+            next = offset + RECORD_HEADER_SIZE + length;
+            return true;
+        }
+
+        private boolean fill(int size) throws IOException {
+            if (buffer.remaining() >= size) {
+                return true;
+            }
+            long position = bufferPosition - buffer.remaining();
+            if (position + size > end) {
+                return false;
+            }
+            buffer.compact();
+            buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + end - bufferPosition));
+            while (buffer.position() < size) {
+                int n = channel.read(buffer, bufferPosition);
+                if (n < 0) {
+                    return false;
+                }
+                bufferPosition += n;
+            }
+            buffer.flip();
+            return true;
+        }
+    }
+
+    /**
+     * Writes records to a log using a buffer
+     */
+    private static final class RecordWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        private long position;
+        private long flushed;
+
+        RecordWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        long write(byte op, byte[] key) throws IOException {
+            long answer = position;
+            if (buffer.remaining() < RECORD_HEADER_SIZE + key.length) {
+                flush();
+            }
+            if (buffer.remaining() < RECORD_HEADER_SIZE + key.length) {
+                writeFully(channel, recordOf(op, key), flushed);
+                flushed += RECORD_HEADER_SIZE + key.length;
+            } else {
+                buffer.put(op).putInt(key.length).put(key);
+            }
+            position += RECORD_HEADER_SIZE + key.length;
+            return answer;
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            int n = buffer.remaining();
+            writeFully(channel, buffer, flushed);
+            flushed += n;
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,510 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases.
+ * <p/>
+ * The map is based on open addressing (linear probing) over a flat index table, which points into compact arrays of
+ * keys, values and precomputed case-folded hashes. This means lookups are O(1) and there are no entry objects allocated
+ * per key. The keys are iterated in insertion order.
+ * <p/>
+ * Copying a map (using the copy constructor or {@link #putAll(Map)} on an empty map) is copy-on-write, where the arrays
+ * are shared until either map is modified. This makes copying the message headers when copying an exchange cheap.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class CompactCaseInsensitiveMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final @Serial long serialVersionUID = 4306529744420563627L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    // the keys, values and hashes in insertion order (a removed entry has a null key)
+    private transient String[] keys;
+    private transient Object[] values;
+    private transient int[] hashes;
+    // the open addressing table with the index + 1 of the entry (zero is an empty slot)
+    private transient int[] table;
+    // number of used entry slots (including removed entries)
+    private transient int count;
+    private transient int size;
+    // whether the arrays are shared with another map, and must be copied before being modified
+    private transient boolean shared;
+    private transient int modCount;
+    private transient Set<Entry<String, Object>> entrySet;
+
+    public CompactCaseInsensitiveMap() {
+    }
+
+    public CompactCaseInsensitiveMap(Map<? extends String, ?> map) {
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String s && indexOf(s, hash(s)) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String s) {
+            int index = indexOf(s, hash(s));
+            if (index >= 0) {
+                return values[index];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        if (key instanceof String s) {
+            int index = indexOf(s, hash(s));
+            if (index >= 0) {
+                return values[index];
+            }
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key");
+        int hash = hash(key);
+        if (keys == null) {
+            allocate(DEFAULT_CAPACITY);
+        } else {
+            int index = indexOf(key, hash);
+            if (index >= 0) {
+                ensureNotShared();
+                // keep the original key case as the first put (same as TreeMap does)
+                Object answer = values[index];
+                values[index] = value;
+                return answer;
+            }
+        }
+
+        ensureNotShared();
+        if (count == keys.length) {
+            // compact the removed entries if there is plenty of them, otherwise grow
+            rehash(size < keys.length / 2 ? keys.length : keys.length * 2);
+        }
+        int index = count++;
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+        insert(table, hash, index);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (map instanceof CompactCaseInsensitiveMap other && size == 0 && count == 0) {
+            // share the arrays until either map is modified
+            if (other.size > 0) {
+                keys = other.keys;
+                values = other.values;
+                hashes = other.hashes;
+                table = other.table;
+                count = other.count;
+                size = other.size;
+                shared = true;
+                other.shared = true;
+                modCount++;
+            }
+            return;
+        }
+        if (keys == null && !map.isEmpty()) {
+            allocate(capacityFor(map.size()));
+        }
+        for (Entry<? extends String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String s) {
+            int index = indexOf(s, hash(s));
+            if (index >= 0) {
+                ensureNotShared();
+                Object answer = values[index];
+                removeAt(index);
+                return answer;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0 || count > 0) {
+            if (shared) {
+                // the arrays are in use by another map so just drop them
+                keys = null;
+                values = null;
+                hashes = null;
+                table = null;
+                shared = false;
+            } else {
+                Arrays.fill(keys, 0, count, null);
+                Arrays.fill(values, 0, count, null);
+                Arrays.fill(table, 0);
+            }
+            count = 0;
+            size = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        int expectedModCount = modCount;
+        for (int i = 0; i < count; i++) {
+            String key = keys[i];
+            if (key != null) {
+                action.accept(key, values[i]);
+            }
+        }
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * Computes the case insensitive hash code of the key, which is the same for keys that are equal by
+     * {@link String#equalsIgnoreCase(String)}.
+     */
+    static int hash(String key) {
+        int h = 0;
+        int len = key.length();
+        for (int i = 0; i < len; i++) {
+            int c = key.charAt(i);
+            if (c < 0x80) {
+                // fast path for ASCII which is what headers are almost always using
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                }
+            } else {
+                if (Character.isHighSurrogate((char) c) && i + 1 < len) {
+                    c = key.codePointAt(i);
+                    i += Character.charCount(c) - 1;
+                }
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            h = 31 * h + c;
+        }
+        // spread the higher bits as the table is using the lower bits
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(String key, int hash) {
+        int[] t = table;
+        if (t == null) {
+            return -1;
+        }
+        int mask = t.length - 1;
+        int slot = hash & mask;
+        while (true) {
+            int pos = t[slot];
+            if (pos == 0) {
+                return -1;
+            }
+            int index = pos - 1;
+            if (hashes[index] == hash) {
+                String k = keys[index];
+                if (k != null && (k == key || k.equalsIgnoreCase(key))) {
+                    return index;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void removeAt(int index) {
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        modCount++;
+        if (size == 0) {
+            // start from the beginning again
+            Arrays.fill(keys, 0, count, null);
+            Arrays.fill(table, 0);
+            count = 0;
+        }
+        // the slot in the table keeps pointing at the removed entry so the probe sequence is not broken,
+        // and is cleaned up when the table is rehashed
+    }
+
+    private static void insert(int[] table, int hash, int index) {
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        // keep the table at most half full so the probe sequences are short
+        table = new int[capacity * 2];
+    }
+
+    private void rehash(int capacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldCount = count;
+        allocate(capacity);
+        int index = 0;
+        for (int i = 0; i < oldCount; i++) {
+            String key = oldKeys[i];
+            if (key != null) {
+                keys[index] = key;
+                values[index] = oldValues[i];
+                hashes[index] = oldHashes[i];
+                insert(table, oldHashes[i], index);
+                index++;
+            }
+        }
+        count = index;
+    }
+
+    private void ensureNotShared() {
+        if (shared) {
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            table = table.clone();
+            shared = false;
+        }
+    }
+
+    private static int capacityFor(int size) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < count; i++) {
+            if (keys[i] != null) {
+                out.writeObject(keys[i]);
+                out.writeObject(values[i]);
+            }
+        }
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int len = in.readInt();
+        if (len > 0) {
+            allocate(capacityFor(len));
+        }
+        for (int i = 0; i < len; i++) {
+            String key = (String) in.readObject();
+            Object value = in.readObject();
+            put(key, value);
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (o instanceof Entry<?, ?> e && e.getKey() instanceof String key) {
+                int index = indexOf(key, hash(key));
+                return index >= 0 && Objects.equals(values[index], e.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (contains(o)) {
+                CompactCaseInsensitiveMap.this.remove(((Entry<?, ?>) o).getKey());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            CompactCaseInsensitiveMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while (next < count && keys[next] == null) {
+                next++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < count;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= count) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            advance();
+            return new MapEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            ensureNotShared();
+            boolean reset = size == 1;
+            removeAt(last);
+            if (reset) {
+                // all the entries has been removed
+                next = 0;
+            }
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class MapEntry implements Entry<String, Object> {
+        private final String key;
+        private final int index;
+
+        MapEntry(int index) {
+            this.key = keys[index];
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            // the entry may have been moved by a rehash so fallback to lookup
+            if (index < count && keys[index] == key) {
+                return values[index];
+            }
+            return get(key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (index < count && keys[index] == key) {
+                ensureNotShared();
+                Object answer = values[index];
+                values[index] = value;
+                return answer;
+            }
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> e && key.equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -23,6 +23,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Thread factory which creates threads supporting a naming pattern.
+ * <p/>
+ * Virtual threads requires JDK 21+, so platform threads are always created with this JDK.
  */
 public final class CamelThreadFactory implements ThreadFactory {
     private static final Logger LOG = LoggerFactory.getLogger(CamelThreadFactory.class);
@@ -37,6 +39,21 @@ public final class CamelThreadFactory implements ThreadFactory {
         this.daemon = daemon;
     }
 
+    /**
+     * Creates a thread factory
+     *
+     * @param pattern the naming pattern
+     * @param name    the name of the threads
+     * @param daemon  whether the threads are daemon threads
+     * @param virtual whether to create virtual threads (requires JDK 21+, ignored with this JDK)
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
+        this(pattern, name, daemon);
+        if (virtual) {
+            LOG.debug("Virtual threads requires JDK 21+, using platform threads for: {}", name);
+        }
+    }
+
     @Override
     public Thread newThread(Runnable runnable) {
         String threadName = ThreadHelper.resolveThreadName(pattern, name);
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService} which executes each task in a new thread created by the given thread
+ * factory, instead of reusing the threads of a pool. This is intended to be used with virtual threads, which are cheap
+ * to create and should not be pooled.
+ * <p/>
+ * The number of tasks executing at the same time is bounded by a semaphore. When the bound is reached then the caller
+ * blocks until a running task is complete, which means there is no task queue, and tasks are only rejected when the
+ * executor service has been shutdown (or the caller is interrupted while waiting).
+ */
+public class ThreadPerTaskExecutorService extends AbstractExecutorService {
+
+    private final ThreadFactory threadFactory;
+    private final int maxConcurrentTasks;
+    private final Semaphore semaphore;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final Lock lock = new ReentrantLock();
+    private final Condition terminated = lock.newCondition();
+    private volatile boolean shutdown;
+
+    /**
+     * @param threadFactory      the factory creating the thread of each task
+     * @param maxConcurrentTasks the maximum number of tasks executing at the same time
+     */
+    public ThreadPerTaskExecutorService(ThreadFactory threadFactory, int maxConcurrentTasks) {
+        if (maxConcurrentTasks <= 0) {
+            throw new IllegalArgumentException("MaxConcurrentTasks must be > 0, was " + maxConcurrentTasks);
+        }
+        this.threadFactory = threadFactory;
+        this.maxConcurrentTasks = maxConcurrentTasks;
+        this.semaphore = new Semaphore(maxConcurrentTasks);
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    public int getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    /**
+     * Number of tasks currently executing
+     */
+    public int getActiveCount() {
+        return maxConcurrentTasks - semaphore.availablePermits();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("ExecutorService is shutdown");
+        }
+
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting to execute task", e);
+        }
+
+        boolean started = false;
+        try {
+            if (shutdown) {
+                throw new RejectedExecutionException("ExecutorService is shutdown");
+            }
+            Thread thread = threadFactory.newThread(() -> doRun(task));
+            threads.add(thread);
+            thread.start();
+            started = true;
+        } finally {
+            if (!started) {
+                semaphore.release();
+                signalIfTerminated();
+            }
+        }
+    }
+
+    private void doRun(Runnable task) {
+        try {
+            task.run();
+        } finally {
+            threads.remove(Thread.currentThread());
+            semaphore.release();
+            signalIfTerminated();
+        }
+    }
+
+    private void signalIfTerminated() {
+        if (isTerminated()) {
+            lock.lock();
+            try {
+                terminated.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        signalIfTerminated();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        // there is no task queue so there are no tasks which never commenced execution
+        return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && semaphore.availablePermits() == maxConcurrentTasks;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!isTerminated()) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = terminated.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadPerTaskExecutorService[" + threadFactory + ", active: " + getActiveCount() + "/" + maxConcurrentTasks
+               + (shutdown ? ", shutdown" : "") + "]";
+    }
+}
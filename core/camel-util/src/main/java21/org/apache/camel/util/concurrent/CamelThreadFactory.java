@@ -35,10 +35,27 @@ public final class CamelThreadFactory implements ThreadFactoryTypeAware {
     private final ThreadFactoryType threadType;
 
     public CamelThreadFactory(String pattern, String name, boolean daemon) {
+        this(pattern, name, daemon, false);
+    }
+
+    /**
+     * Creates a thread factory
+     *
+     * @param pattern the naming pattern
+     * @param name    the name of the threads
+     * @param daemon  whether the threads are daemon threads
+     * @param virtual whether to create virtual threads, regardless of the system property
+     *                {@code camel.threads.virtual.enabled}
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
         this.pattern = pattern;
         this.name = name;
         this.daemon = daemon;
-        this.threadType = daemon ? TYPE : ThreadFactoryType.PLATFORM;
+        if (virtual) {
+            this.threadType = ThreadFactoryType.VIRTUAL;
+        } else {
+            this.threadType = daemon ? TYPE : ThreadFactoryType.PLATFORM;
+        }
     }
 
     @Override
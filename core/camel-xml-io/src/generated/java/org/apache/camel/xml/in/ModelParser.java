@@ -91,6 +91,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); yield true;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); yield true;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); yield true;
+                case "lockStripeCount": def.setLockStripeCount(val); yield true;
                 case "optimisticLocking": def.setOptimisticLocking(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); yield true;
@@ -1135,6 +1136,7 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); yield true;
                 case "delimiter": def.setDelimiter(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
+                case "maxInflight": def.setMaxInflight(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -1209,6 +1211,7 @@ public class ModelParser extends BaseParser {
                 case "poolSize": def.setPoolSize(val); yield true;
                 case "rejectedPolicy": def.setRejectedPolicy(val); yield true;
                 case "timeUnit": def.setTimeUnit(val); yield true;
+                case "virtualThreads": def.setVirtualThreads(val); yield true;
                 default: yield optionalIdentifiedDefinitionAttributeHandler().accept(def, key, val);
             }, optionalIdentifiedDefinitionElementHandler(), noValueHandler());
     }
@@ -1224,6 +1227,7 @@ public class ModelParser extends BaseParser {
                 case "rejectedPolicy": def.setRejectedPolicy(val); yield true;
                 case "threadName": def.setThreadName(val); yield true;
                 case "timeUnit": def.setTimeUnit(val); yield true;
+                case "virtualThreads": def.setVirtualThreads(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
             }, optionalIdentifiedDefinitionElementHandler(), noValueHandler());
     }
@@ -1707,6 +1711,7 @@ public class ModelParser extends BaseParser {
                 case "deliveryAttemptInterval": def.setDeliveryAttemptInterval(val); yield true;
                 case "ignoreInvalidExchanges": def.setIgnoreInvalidExchanges(val); yield true;
                 case "rejectOld": def.setRejectOld(val); yield true;
+                case "ringBufferSize": def.setRingBufferSize(val); yield true;
                 case "timeout": def.setTimeout(val); yield true;
                 default: yield false;
             }, noElementHandler(), noValueHandler());
@@ -1776,6 +1781,7 @@ public class ModelParser extends BaseParser {
     protected BindyDataFormat doParseBindyDataFormat() throws IOException, XmlPullParserException {
         return doParse(new BindyDataFormat(), (def, key, val) -> switch (key) {
                 case "allowEmptyStream": def.setAllowEmptyStream(val); yield true;
+                case "streaming": def.setStreaming(val); yield true;
                 case "classType": def.setClassTypeAsString(val); yield true;
                 case "locale": def.setLocale(val); yield true;
                 case "type": def.setType(val); yield true;
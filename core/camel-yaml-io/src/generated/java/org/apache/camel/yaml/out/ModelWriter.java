@@ -840,6 +840,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("ignoreInvalidCorrelationKeys", def.getIgnoreInvalidCorrelationKeys(), null);
         doWriteAttribute("discardOnCompletionTimeout", def.getDiscardOnCompletionTimeout(), null);
         doWriteAttribute("completionTimeoutCheckerInterval", def.getCompletionTimeoutCheckerInterval(), "1000");
+        doWriteAttribute("lockStripeCount", def.getLockStripeCount(), null);
         doWriteAttribute("optimisticLocking", def.getOptimisticLocking(), null);
         doWriteElement("optimisticLockRetryPolicy", def.getOptimisticLockRetryPolicyDefinition(), this::doWriteOptimisticLockRetryPolicyDefinition);
         doWriteElement("correlationExpression", def.getCorrelationExpression(), this::doWriteExpressionSubElementDefinition);
@@ -1798,6 +1799,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("synchronous", def.getSynchronous(), null);
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName(), null);
         doWriteAttribute("timeout", def.getTimeout(), "0");
+        doWriteAttribute("maxInflight", def.getMaxInflight(), "0");
         doWriteAttribute("streaming", def.getStreaming(), null);
         doWriteAttribute("stopOnException", def.getStopOnException(), null);
         doWriteAttribute("delimiter", def.getDelimiter(), ",");
@@ -1852,6 +1854,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("maxPoolSize", def.getMaxPoolSize(), null);
         doWriteAttribute("rejectedPolicy", def.getRejectedPolicy(), null);
         doWriteAttribute("timeUnit", def.getTimeUnit(), null);
+        doWriteAttribute("virtualThreads", def.getVirtualThreads(), null);
         endElement(name);
     }
     protected void doWriteThreadsDefinition(String name, ThreadsDefinition def) throws IOException {
@@ -1867,6 +1870,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("threadName", def.getThreadName(), "Threads");
         doWriteAttribute("rejectedPolicy", def.getRejectedPolicy(), null);
         doWriteAttribute("timeUnit", def.getTimeUnit(), null);
+        doWriteAttribute("virtualThreads", def.getVirtualThreads(), null);
         endElement(name);
     }
     protected void doWriteThrottleDefinition(String name, ThrottleDefinition def) throws IOException {
@@ -2373,6 +2377,7 @@ public class ModelWriter extends BaseWriter {
     }
     protected void doWriteStreamResequencerConfig(String name, StreamResequencerConfig def) throws IOException {
         startElement(name);
+        doWriteAttribute("ringBufferSize", def.getRingBufferSize(), "0");
         doWriteAttribute("comparator", def.getComparator(), null);
         doWriteAttribute("timeout", def.getTimeout(), "1000");
         doWriteAttribute("rejectOld", def.getRejectOld(), null);
@@ -2451,6 +2456,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("locale", def.getLocale(), null);
         doWriteAttribute("type", def.getType(), null);
         doWriteAttribute("allowEmptyStream", def.getAllowEmptyStream(), "false");
+        doWriteAttribute("streaming", def.getStreaming(), "false");
         endElement(name);
     }
     protected void doWriteCBORDataFormat(String name, CBORDataFormat def) throws IOException {
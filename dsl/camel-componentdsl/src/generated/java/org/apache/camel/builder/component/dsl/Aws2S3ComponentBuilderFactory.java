@@ -484,6 +484,47 @@ public interface Aws2S3ComponentBuilderFactory {
         }
     
         
+        /**
+         * The number of ranges to download concurrently when consuming objects
+         * that are larger than the rangedDownloadPartSize. The ranges are
+         * reassembled in a stream cache, which is used as the message body. The
+         * default value is 1, which downloads each object as a single stream.
+         * Spooling of stream caches to disk must be enabled, otherwise this
+         * option is ignored and the objects are downloaded as a single stream.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param rangedDownloadConcurrency the value to set
+         * @return the dsl builder
+         */
+        default Aws2S3ComponentBuilder rangedDownloadConcurrency(int rangedDownloadConcurrency) {
+            doSetProperty("rangedDownloadConcurrency", rangedDownloadConcurrency);
+            return this;
+        }
+    
+        
+        /**
+         * The size of the ranges when downloading objects with concurrent ranged
+         * requests, the default size is 25 MB. Only objects that are larger than
+         * the part size are downloaded in ranges.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 26214400
+         * Group: consumer
+         * 
+         * @param rangedDownloadPartSize the value to set
+         * @return the dsl builder
+         */
+        default Aws2S3ComponentBuilder rangedDownloadPartSize(long rangedDownloadPartSize) {
+            doSetProperty("rangedDownloadPartSize", rangedDownloadPartSize);
+            return this;
+        }
+    
+        
         /**
          * Remove the contents of the prefix configuration string from the new
          * S3Object key before copying. For example, if prefix is set to
@@ -659,6 +700,27 @@ public interface Aws2S3ComponentBuilderFactory {
         }
     
         
+        /**
+         * The number of parts to upload concurrently when using multipart
+         * upload. The parts are read into memory before being uploaded, so at
+         * most this number of parts (each up to the partSize) are held in memory
+         * per upload. The default value is 1, which uploads the parts one at a
+         * time.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer
+         * 
+         * @param multiPartUploadConcurrency the value to set
+         * @return the dsl builder
+         */
+        default Aws2S3ComponentBuilder multiPartUploadConcurrency(int multiPartUploadConcurrency) {
+            doSetProperty("multiPartUploadConcurrency", multiPartUploadConcurrency);
+            return this;
+        }
+    
+        
         /**
          * The naming strategy to use in streaming upload mode.
          * 
@@ -1186,6 +1248,8 @@ public interface Aws2S3ComponentBuilderFactory {
             case "includeBody": getOrCreateConfiguration((AWS2S3Component) component).setIncludeBody((boolean) value); return true;
             case "includeFolders": getOrCreateConfiguration((AWS2S3Component) component).setIncludeFolders((boolean) value); return true;
             case "moveAfterRead": getOrCreateConfiguration((AWS2S3Component) component).setMoveAfterRead((boolean) value); return true;
+            case "rangedDownloadConcurrency": getOrCreateConfiguration((AWS2S3Component) component).setRangedDownloadConcurrency((int) value); return true;
+            case "rangedDownloadPartSize": getOrCreateConfiguration((AWS2S3Component) component).setRangedDownloadPartSize((long) value); return true;
             case "removePrefixOnMove": getOrCreateConfiguration((AWS2S3Component) component).setRemovePrefixOnMove((boolean) value); return true;
             case "autocloseBody": getOrCreateConfiguration((AWS2S3Component) component).setAutocloseBody((boolean) value); return true;
             case "batchMessageNumber": getOrCreateConfiguration((AWS2S3Component) component).setBatchMessageNumber((int) value); return true;
@@ -1195,6 +1259,7 @@ public interface Aws2S3ComponentBuilderFactory {
             case "keyName": getOrCreateConfiguration((AWS2S3Component) component).setKeyName((java.lang.String) value); return true;
             case "lazyStartProducer": ((AWS2S3Component) component).setLazyStartProducer((boolean) value); return true;
             case "multiPartUpload": getOrCreateConfiguration((AWS2S3Component) component).setMultiPartUpload((boolean) value); return true;
+            case "multiPartUploadConcurrency": getOrCreateConfiguration((AWS2S3Component) component).setMultiPartUploadConcurrency((int) value); return true;
             case "namingStrategy": getOrCreateConfiguration((AWS2S3Component) component).setNamingStrategy((org.apache.camel.component.aws2.s3.stream.AWSS3NamingStrategyEnum) value); return true;
             case "operation": getOrCreateConfiguration((AWS2S3Component) component).setOperation((org.apache.camel.component.aws2.s3.AWS2S3Operations) value); return true;
             case "partSize": getOrCreateConfiguration((AWS2S3Component) component).setPartSize((long) value); return true;
@@ -643,6 +643,28 @@ public interface KafkaComponentBuilderFactory {
             return this;
         }
     
+        /**
+         * Number of worker threads for processing the polled records
+         * concurrently, while preserving the order of the records with the same
+         * key. The records of a partition are grouped by their key, and each
+         * group is processed in order by a worker thread. As records complete
+         * out of order, then only the highest contiguous completed offset of
+         * each partition is committed. The default is 0, which processes the
+         * records one after another. This option cannot be used together with
+         * batching or allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param keyOrderedConcurrency the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder keyOrderedConcurrency(int keyOrderedConcurrency) {
+            doSetProperty("keyOrderedConcurrency", keyOrderedConcurrency);
+            return this;
+        }
+    
         
         /**
          * The maximum amount of data per-partition the server will return. The
@@ -2505,6 +2527,7 @@ public interface KafkaComponentBuilderFactory {
             case "headerDeserializer": getOrCreateConfiguration((KafkaComponent) component).setHeaderDeserializer((org.apache.camel.component.kafka.serde.KafkaHeaderDeserializer) value); return true;
             case "heartbeatIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setHeartbeatIntervalMs((java.lang.Integer) value); return true;
             case "keyDeserializer": getOrCreateConfiguration((KafkaComponent) component).setKeyDeserializer((java.lang.String) value); return true;
+            case "keyOrderedConcurrency": getOrCreateConfiguration((KafkaComponent) component).setKeyOrderedConcurrency((int) value); return true;
             case "maxPartitionFetchBytes": getOrCreateConfiguration((KafkaComponent) component).setMaxPartitionFetchBytes((java.lang.Integer) value); return true;
             case "maxPollIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setMaxPollIntervalMs((java.lang.Integer) value); return true;
             case "maxPollRecords": getOrCreateConfiguration((KafkaComponent) component).setMaxPollRecords((java.lang.Integer) value); return true;
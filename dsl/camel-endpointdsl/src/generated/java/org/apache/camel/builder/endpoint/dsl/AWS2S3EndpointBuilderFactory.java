@@ -587,6 +587,80 @@ public interface AWS2S3EndpointBuilderFactory {
             doSetProperty("moveAfterRead", moveAfterRead);
             return this;
         }
+        /**
+         * The number of ranges to download concurrently when consuming objects
+         * that are larger than the rangedDownloadPartSize. The ranges are
+         * reassembled in a stream cache, which is used as the message body. The
+         * default value is 1, which downloads each object as a single stream.
+         * Spooling of stream caches to disk must be enabled, otherwise this
+         * option is ignored and the objects are downloaded as a single stream.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param rangedDownloadConcurrency the value to set
+         * @return the dsl builder
+         */
+        default AWS2S3EndpointConsumerBuilder rangedDownloadConcurrency(int rangedDownloadConcurrency) {
+            doSetProperty("rangedDownloadConcurrency", rangedDownloadConcurrency);
+            return this;
+        }
+        /**
+         * The number of ranges to download concurrently when consuming objects
+         * that are larger than the rangedDownloadPartSize. The ranges are
+         * reassembled in a stream cache, which is used as the message body. The
+         * default value is 1, which downloads each object as a single stream.
+         * Spooling of stream caches to disk must be enabled, otherwise this
+         * option is ignored and the objects are downloaded as a single stream.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param rangedDownloadConcurrency the value to set
+         * @return the dsl builder
+         */
+        default AWS2S3EndpointConsumerBuilder rangedDownloadConcurrency(String rangedDownloadConcurrency) {
+            doSetProperty("rangedDownloadConcurrency", rangedDownloadConcurrency);
+            return this;
+        }
+        /**
+         * The size of the ranges when downloading objects with concurrent ranged
+         * requests, the default size is 25 MB. Only objects that are larger than
+         * the part size are downloaded in ranges.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 26214400
+         * Group: consumer
+         * 
+         * @param rangedDownloadPartSize the value to set
+         * @return the dsl builder
+         */
+        default AWS2S3EndpointConsumerBuilder rangedDownloadPartSize(long rangedDownloadPartSize) {
+            doSetProperty("rangedDownloadPartSize", rangedDownloadPartSize);
+            return this;
+        }
+        /**
+         * The size of the ranges when downloading objects with concurrent ranged
+         * requests, the default size is 25 MB. Only objects that are larger than
+         * the part size are downloaded in ranges.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 26214400
+         * Group: consumer
+         * 
+         * @param rangedDownloadPartSize the value to set
+         * @return the dsl builder
+         */
+        default AWS2S3EndpointConsumerBuilder rangedDownloadPartSize(String rangedDownloadPartSize) {
+            doSetProperty("rangedDownloadPartSize", rangedDownloadPartSize);
+            return this;
+        }
         /**
          * Remove the contents of the prefix configuration string from the new
          * S3Object key before copying. For example, if prefix is set to
@@ -2154,6 +2228,44 @@ public interface AWS2S3EndpointBuilderFactory {
             doSetProperty("multiPartUpload", multiPartUpload);
             return this;
         }
+        /**
+         * The number of parts to upload concurrently when using multipart
+         * upload. The parts are read into memory before being uploaded, so at
+         * most this number of parts (each up to the partSize) are held in memory
+         * per upload. The default value is 1, which uploads the parts one at a
+         * time.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: producer
+         * 
+         * @param multiPartUploadConcurrency the value to set
+         * @return the dsl builder
+         */
+        default AWS2S3EndpointProducerBuilder multiPartUploadConcurrency(int multiPartUploadConcurrency) {
+            doSetProperty("multiPartUploadConcurrency", multiPartUploadConcurrency);
+            return this;
+        }
+        /**
+         * The number of parts to upload concurrently when using multipart
+         * upload. The parts are read into memory before being uploaded, so at
+         * most this number of parts (each up to the partSize) are held in memory
+         * per upload. The default value is 1, which uploads the parts one at a
+         * time.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: producer
+         * 
+         * @param multiPartUploadConcurrency the value to set
+         * @return the dsl builder
+         */
+        default AWS2S3EndpointProducerBuilder multiPartUploadConcurrency(String multiPartUploadConcurrency) {
+            doSetProperty("multiPartUploadConcurrency", multiPartUploadConcurrency);
+            return this;
+        }
         /**
          * The naming strategy to use in streaming upload mode.
          * 
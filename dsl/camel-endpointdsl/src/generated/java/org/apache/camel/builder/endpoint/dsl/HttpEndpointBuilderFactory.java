@@ -1008,6 +1008,46 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("headerFilterStrategy", headerFilterStrategy);
             return this;
         }
+        /**
+         * Whether to use the non-blocking async HttpClient, so the producer does
+         * not block the calling thread while waiting for the response. The async
+         * client supports HTTP/2 (see httpVersionPolicy), where requests to the
+         * same server are multiplexed on a single connection. Notice the options
+         * for configuring the classic HttpClient (such as httpClientConfigurer and
+         * clientBuilder) are not in use by the async client.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param asyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder asyncClient(boolean asyncClient) {
+            doSetProperty("asyncClient", asyncClient);
+            return this;
+        }
+        /**
+         * Whether to use the non-blocking async HttpClient, so the producer does
+         * not block the calling thread while waiting for the response. The async
+         * client supports HTTP/2 (see httpVersionPolicy), where requests to the
+         * same server are multiplexed on a single connection. Notice the options
+         * for configuring the classic HttpClient (such as httpClientConfigurer and
+         * clientBuilder) are not in use by the async client.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param asyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder asyncClient(String asyncClient) {
+            doSetProperty("asyncClient", asyncClient);
+            return this;
+        }
         /**
          * Whether to clear expired cookies before sending the HTTP request.
          * This ensures the cookies store does not keep growing by adding new
@@ -1301,6 +1341,24 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("httpActivityListener", httpActivityListener);
             return this;
         }
+        /**
+         * The HTTP protocol version policy when using the async client. NEGOTIATE
+         * uses HTTP/2 if the server supports it (negotiated using TLS), and
+         * otherwise HTTP/1.1. FORCE_HTTP_2 can be used for servers supporting
+         * HTTP/2 without TLS (h2c with prior knowledge).
+         * 
+         * The option is a: <code>java.lang.String</code> type.
+         * 
+         * Default: NEGOTIATE
+         * Group: producer (advanced)
+         * 
+         * @param httpVersionPolicy the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpVersionPolicy(String httpVersionPolicy) {
+            doSetProperty("httpVersionPolicy", httpVersionPolicy);
+            return this;
+        }
         /**
          * If this option is true, The http producer won't read response body
          * and cache the input stream.
@@ -958,6 +958,48 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("keyDeserializer", keyDeserializer);
             return this;
         }
+        /**
+         * Number of worker threads for processing the polled records
+         * concurrently, while preserving the order of the records with the same
+         * key. The records of a partition are grouped by their key, and each
+         * group is processed in order by a worker thread. As records complete
+         * out of order, then only the highest contiguous completed offset of
+         * each partition is committed. The default is 0, which processes the
+         * records one after another. This option cannot be used together with
+         * batching or allowManualCommit.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer
+         * 
+         * @param keyOrderedConcurrency the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrderedConcurrency(int keyOrderedConcurrency) {
+            doSetProperty("keyOrderedConcurrency", keyOrderedConcurrency);
+            return this;
+        }
+        /**
+         * Number of worker threads for processing the polled records
+         * concurrently, while preserving the order of the records with the same
+         * key. The records of a partition are grouped by their key, and each
+         * group is processed in order by a worker thread. As records complete
+         * out of order, then only the highest contiguous completed offset of
+         * each partition is committed. The default is 0, which processes the
+         * records one after another. This option cannot be used together with
+         * batching or allowManualCommit.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer
+         * 
+         * @param keyOrderedConcurrency the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrderedConcurrency(String keyOrderedConcurrency) {
+            doSetProperty("keyOrderedConcurrency", keyOrderedConcurrency);
+            return this;
+        }
         /**
          * The maximum amount of data per-partition the server will return. The
          * maximum total memory used for a request will be #partitions
@@ -1715,6 +1715,128 @@ public interface Sjms2EndpointBuilderFactory {
             doSetProperty("allowNullBody", allowNullBody);
             return this;
         }
+        /**
+         * Whether to send InOnly messages using the JMS 2.0 asynchronous send,
+         * where the exchange is completed when the JMS provider has
+         * acknowledged the message, instead of waiting for the acknowledgement
+         * when sending. This allows the producer to have many messages in
+         * flight at the same time. When used together with batchSize, then the
+         * messages in the batch are sent asynchronously and the commit waits
+         * for them to be acknowledged. This requires a JMS 2.0 provider.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param asyncSend the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSjms2EndpointProducerBuilder asyncSend(boolean asyncSend) {
+            doSetProperty("asyncSend", asyncSend);
+            return this;
+        }
+        /**
+         * Whether to send InOnly messages using the JMS 2.0 asynchronous send,
+         * where the exchange is completed when the JMS provider has
+         * acknowledged the message, instead of waiting for the acknowledgement
+         * when sending. This allows the producer to have many messages in
+         * flight at the same time. When used together with batchSize, then the
+         * messages in the batch are sent asynchronously and the commit waits
+         * for them to be acknowledged. This requires a JMS 2.0 provider.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param asyncSend the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSjms2EndpointProducerBuilder asyncSend(String asyncSend) {
+            doSetProperty("asyncSend", asyncSend);
+            return this;
+        }
+        /**
+         * The maximum number of InOnly messages to send in the same transacted
+         * session before the session is committed. The exchanges are completed
+         * when the batch of messages has been committed, which happens when the
+         * batch is full or the batchTimeout has elapsed. This avoids the cost
+         * of committing every message on its own, when the throughput is
+         * limited by the commit latency of the broker. If sending or committing
+         * a message fails then the batch is rolled back and all the exchanges
+         * in the batch fail. This option cannot be used together with
+         * transacted, and InOut messages are not batched. The default value of
+         * 0 disables batching.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSjms2EndpointProducerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of InOnly messages to send in the same transacted
+         * session before the session is committed. The exchanges are completed
+         * when the batch of messages has been committed, which happens when the
+         * batch is full or the batchTimeout has elapsed. This avoids the cost
+         * of committing every message on its own, when the throughput is
+         * limited by the commit latency of the broker. If sending or committing
+         * a message fails then the batch is rolled back and all the exchanges
+         * in the batch fail. This option cannot be used together with
+         * transacted, and InOut messages are not batched. The default value of
+         * 0 disables batching.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSjms2EndpointProducerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum time in millis a batch of messages (see batchSize) is
+         * open before it is committed, even if the batch is not full. This must
+         * be greater than zero when batching.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSjms2EndpointProducerBuilder batchTimeout(long batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
+        /**
+         * The maximum time in millis a batch of messages (see batchSize) is
+         * open before it is committed, even if the batch is not full. This must
+         * be greater than zero when batching.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSjms2EndpointProducerBuilder batchTimeout(String batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
         /**
          * Use this option to force disabling time to live. For example when you
          * do request/reply over JMS, then Camel will by default use the
@@ -1681,6 +1681,78 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("batchAutoCommitDisabled", batchAutoCommitDisabled);
             return this;
         }
+        /**
+         * Whether to coalesce exchanges sent to the producer into a single JDBC
+         * batch of up to this number of exchanges, which is executed using one
+         * connection and one commit. Each exchange is completed with its own
+         * update count. If the batch fails then it is rolled back and the
+         * exchanges are executed one by one. This is intended for INSERT,
+         * UPDATE and DELETE queries. Is disabled by default (0).
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: producer
+         * 
+         * @param microBatchSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder microBatchSize(int microBatchSize) {
+            doSetProperty("microBatchSize", microBatchSize);
+            return this;
+        }
+        /**
+         * Whether to coalesce exchanges sent to the producer into a single JDBC
+         * batch of up to this number of exchanges, which is executed using one
+         * connection and one commit. Each exchange is completed with its own
+         * update count. If the batch fails then it is rolled back and the
+         * exchanges are executed one by one. This is intended for INSERT,
+         * UPDATE and DELETE queries. Is disabled by default (0).
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: producer
+         * 
+         * @param microBatchSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder microBatchSize(String microBatchSize) {
+            doSetProperty("microBatchSize", microBatchSize);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more exchanges to fill up a
+         * micro batch, before the pending exchanges are executed. Is only in
+         * use when microBatchSize is enabled.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 100
+         * Group: producer
+         * 
+         * @param microBatchTimeout the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder microBatchTimeout(long microBatchTimeout) {
+            doSetProperty("microBatchTimeout", microBatchTimeout);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more exchanges to fill up a
+         * micro batch, before the pending exchanges are executed. Is only in
+         * use when microBatchSize is enabled.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 100
+         * Group: producer
+         * 
+         * @param microBatchTimeout the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointProducerBuilder microBatchTimeout(String microBatchTimeout) {
+            doSetProperty("microBatchTimeout", microBatchTimeout);
+            return this;
+        }
         /**
          * If set, will ignore the results of the SQL query and use the existing
          * IN message as the OUT message for the continuation of processing.
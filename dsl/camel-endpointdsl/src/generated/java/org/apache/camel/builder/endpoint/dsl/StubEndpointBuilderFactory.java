@@ -379,6 +379,46 @@ public interface StubEndpointBuilderFactory {
             doSetProperty("purgeWhenStopping", purgeWhenStopping);
             return this;
         }
+        /**
+         * Whether to process each exchange in a new virtual thread, instead of
+         * using a pool of concurrentConsumers threads. A single thread polls
+         * the queue, and concurrentConsumers is the maximum number of exchanges
+         * processed at the same time. This is intended for routes which mostly
+         * block on I/O. Virtual threads requires JDK 21+, otherwise a pool
+         * of platform threads is used instead.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param virtualThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder virtualThreads(boolean virtualThreads) {
+            doSetProperty("virtualThreads", virtualThreads);
+            return this;
+        }
+        /**
+         * Whether to process each exchange in a new virtual thread, instead of
+         * using a pool of concurrentConsumers threads. A single thread polls
+         * the queue, and concurrentConsumers is the maximum number of exchanges
+         * processed at the same time. This is intended for routes which mostly
+         * block on I/O. Virtual threads requires JDK 21+, otherwise a pool
+         * of platform threads is used instead.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param virtualThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder virtualThreads(String virtualThreads) {
+            doSetProperty("virtualThreads", virtualThreads);
+            return this;
+        }
         /**
          * Maximum number of messages to keep in memory available for browsing.
          * Use 0 for unlimited.
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.File;
+
+import org.apache.camel.util.ObjectHelper;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the JMH benchmarks of a benchmark class.
+ * <p/>
+ * The benchmarks are only run with the <tt>jmh</tt> profile, such as <tt>mvn test -Pjmh</tt> from the
+ * <tt>tests/camel-performance</tt> directory, or <tt>mvn test -Pjmh -Dtest=SimpleBenchmarkTest</tt> to run a single
+ * benchmark class.
+ * <p/>
+ * The benchmarks are configured using the following system properties (which are set from the Maven properties of the
+ * same name when running with the <tt>jmh</tt> profile):
+ * <ul>
+ * <li>camel.jmh.resultDir - directory where the results are written as JSON, one file per benchmark class</li>
+ * <li>camel.jmh.forks - number of forked JVMs (default 1)</li>
+ * <li>camel.jmh.warmupIterations - number of warmup iterations (default 3)</li>
+ * <li>camel.jmh.measurementIterations - number of measurement iterations (default 5)</li>
+ * <li>camel.jmh.iterationTime - time in seconds of each iteration (default 2)</li>
+ * <li>camel.jmh.include - regular expression of the benchmark methods to run (default all)</li>
+ * </ul>
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    public static void run(Class<?> benchmark) throws RunnerException {
+        File resultDir = new File(System.getProperty("camel.jmh.resultDir", "target/jmh-results"));
+        resultDir.mkdirs();
+
+        String include = System.getProperty("camel.jmh.include");
+        if (ObjectHelper.isEmpty(include)) {
+            include = ".*";
+        }
+        TimeValue iterationTime = TimeValue.seconds(Integer.getInteger("camel.jmh.iterationTime", 2));
+
+        Options options = new OptionsBuilder()
+                .include(benchmark.getName() + "\\." + include)
+                .forks(Integer.getInteger("camel.jmh.forks", 1))
+                .warmupIterations(Integer.getInteger("camel.jmh.warmupIterations", 3))
+                .warmupTime(iterationTime)
+                .measurementIterations(Integer.getInteger("camel.jmh.measurementIterations", 5))
+                .measurementTime(iterationTime)
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result(new File(resultDir, benchmark.getSimpleName() + ".json").getPath())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the Splitter, Multicast and Aggregate EIPs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EipBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(EipBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext context;
+        ProducerTemplate producer;
+        List<String> lines = List.of("A", "B", "C", "D", "E", "F", "G", "H", "I", "J");
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            context = new DefaultCamelContext();
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:split")
+                            .split(body())
+                            .setHeader("line", body())
+                            .end();
+
+                    from("direct:splitAggregate")
+                            .split(body(), AggregationStrategies.groupedBody())
+                            .setHeader("line", body())
+                            .end();
+
+                    from("direct:multicast")
+                            .multicast().to("direct:x", "direct:y", "direct:z");
+
+                    from("direct:x").setHeader("x", constant("x"));
+                    from("direct:y").setHeader("y", constant("y"));
+                    from("direct:z").setHeader("z", constant("z"));
+
+                    from("direct:aggregate")
+                            .aggregate(header("group"), AggregationStrategies.groupedBody()).completionSize(10)
+                            .setHeader("aggregated", constant(true));
+                }
+            });
+            context.start();
+            producer = context.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void split(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:split", state.lines));
+    }
+
+    @Benchmark
+    public void splitAggregate(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:splitAggregate", state.lines));
+    }
+
+    @Benchmark
+    public void multicast(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:multicast", "Hello World"));
+    }
+
+    @Benchmark
+    public void aggregate(BenchmarkState state) {
+        // uses the thread name as correlation key, so each thread completes its own groups
+        state.producer.sendBodyAndHeader("direct:aggregate", "Hello World", "group", Thread.currentThread().getName());
+    }
+}
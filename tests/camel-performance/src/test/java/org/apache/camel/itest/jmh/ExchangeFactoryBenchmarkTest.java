@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the pooled and the prototype (default) exchange factories, by creating exchanges the same way as a
+ * consumer, and routing them through a route which also multicasts (which creates exchange copies using the processor
+ * exchange factory).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExchangeFactoryBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(ExchangeFactoryBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "prototype", "pooled" })
+        String factory;
+
+        CamelContext context;
+        ExchangeFactory exchangeFactory;
+        Endpoint endpoint;
+        Producer producer;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            context = new DefaultCamelContext();
+            if ("pooled".equals(factory)) {
+                ExtendedCamelContext ecc = context.getCamelContextExtension();
+                ecc.setExchangeFactory(new PooledExchangeFactory());
+                ecc.setProcessorExchangeFactory(new PooledProcessorExchangeFactory());
+            }
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start").routeId("start")
+                            .setHeader("foo", constant("bar"))
+                            .multicast().to("direct:a", "direct:b");
+
+                    from("direct:a").setBody(constant("A"));
+                    from("direct:b").setBody(constant("B"));
+                }
+            });
+            context.start();
+
+            endpoint = context.getEndpoint("direct:start");
+            producer = endpoint.createProducer();
+            ServiceHelper.startService(producer);
+            // create the exchanges in the same way as the consumer of the route
+            Consumer consumer = context.getRoute("start").getConsumer();
+            exchangeFactory = context.getCamelContextExtension().getExchangeFactory().newExchangeFactory(consumer);
+            ServiceHelper.startService(exchangeFactory);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            ServiceHelper.stopService(exchangeFactory, producer);
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void createAndRelease(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = state.exchangeFactory.create(state.endpoint, false);
+        exchange.getMessage().setBody("Hello World");
+        bh.consume(exchange);
+        state.exchangeFactory.release(exchange);
+    }
+
+    @Benchmark
+    public void route(BenchmarkState state, Blackhole bh) throws Exception {
+        Exchange exchange = state.exchangeFactory.create(state.endpoint, false);
+        exchange.getMessage().setBody("Hello World");
+        state.producer.process(exchange);
+        bh.consume(exchange.getMessage().getBody());
+        state.exchangeFactory.release(exchange);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks creating exchanges and operations on the message headers, which uses a case-insensitive map.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HeadersBenchmarkTest {
+
+    private static final String[] KEYS = {
+            "CamelFileName", "CamelHttpMethod", "Content-Type", "Content-Length", "breadcrumbId",
+            "JMSCorrelationID", "myHeader", "foo", "bar", "X-Request-Id" };
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(HeadersBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext context;
+        Message message;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            context = new DefaultCamelContext();
+            context.start();
+
+            message = new DefaultExchange(context).getMessage();
+            for (String key : KEYS) {
+                message.setHeader(key, "value");
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void createExchange(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = new DefaultExchange(state.context);
+        exchange.getMessage().setBody("Hello World");
+        bh.consume(exchange);
+    }
+
+    @Benchmark
+    public void setHeaders(BenchmarkState state, Blackhole bh) {
+        Message message = new DefaultExchange(state.context).getMessage();
+        for (String key : KEYS) {
+            message.setHeader(key, "value");
+        }
+        bh.consume(message);
+    }
+
+    @Benchmark
+    public void getHeaders(BenchmarkState state, Blackhole bh) {
+        for (String key : KEYS) {
+            bh.consume(state.message.getHeader(key));
+        }
+    }
+
+    @Benchmark
+    public void getHeadersIgnoreCase(BenchmarkState state, Blackhole bh) {
+        for (String key : KEYS) {
+            bh.consume(state.message.getHeader(key.toLowerCase()));
+        }
+    }
+
+    @Benchmark
+    public void copyHeaders(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.message.copy());
+    }
+
+    @Benchmark
+    public void removeHeaders(BenchmarkState state, Blackhole bh) {
+        Message copy = state.message.copy();
+        bh.consume(copy.removeHeaders("Camel*"));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks parsing and evaluating expressions and predicates of the Simple language.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SimpleBenchmarkTest {
+
+    private static final String EXPRESSION = "Hello ${header.name} you ordered ${body} at ${exchangeProperty.shop}";
+    private static final String PREDICATE = "${header.amount} > 100 && ${header.type} == 'gold'";
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(SimpleBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext context;
+        Language simple;
+        Exchange exchange;
+        Expression expression;
+        Expression body;
+        Predicate predicate;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            context = new DefaultCamelContext();
+            context.start();
+            simple = context.resolveLanguage("simple");
+
+            exchange = new DefaultExchange(context);
+            exchange.getMessage().setBody("Camel in Action");
+            exchange.getMessage().setHeader("name", "Donald");
+            exchange.getMessage().setHeader("amount", 123);
+            exchange.getMessage().setHeader("type", "gold");
+            exchange.setProperty("shop", "Amazon");
+
+            expression = simple.createExpression(EXPRESSION);
+            expression.init(context);
+            body = simple.createExpression("${body}");
+            body.init(context);
+            predicate = simple.createPredicate(PREDICATE);
+            predicate.init(context);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void evaluateBody(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.body.evaluate(state.exchange, Object.class));
+    }
+
+    @Benchmark
+    public void evaluateExpression(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.expression.evaluate(state.exchange, String.class));
+    }
+
+    @Benchmark
+    public void evaluatePredicate(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.predicate.matches(state.exchange));
+    }
+
+    @Benchmark
+    public void parseExpression(BenchmarkState state, Blackhole bh) {
+        // the simple language caches the parsed expressions
+        bh.consume(state.simple.createExpression(EXPRESSION));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks type conversions and type converter lookups of the type converter registry.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TypeConverterBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(TypeConverterBenchmarkTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        CamelContext context;
+        TypeConverter typeConverter;
+        TypeConverterRegistry registry;
+        byte[] bytes = "Hello World".getBytes(StandardCharsets.UTF_8);
+
+        @Setup(Level.Trial)
+        public void setup() {
+            context = new DefaultCamelContext();
+            context.start();
+            typeConverter = context.getTypeConverter();
+            registry = context.getTypeConverterRegistry();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void stringToInteger(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.typeConverter.convertTo(Integer.class, "12345"));
+    }
+
+    @Benchmark
+    public void integerToString(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.typeConverter.convertTo(String.class, 12345));
+    }
+
+    @Benchmark
+    public void stringToBoolean(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.typeConverter.convertTo(Boolean.class, "true"));
+    }
+
+    @Benchmark
+    public void stringToBytes(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.typeConverter.convertTo(byte[].class, "Hello World"));
+    }
+
+    @Benchmark
+    public void bytesToString(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.typeConverter.convertTo(String.class, state.bytes));
+    }
+
+    @Benchmark
+    public void sameType(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.typeConverter.convertTo(String.class, "Hello World"));
+    }
+
+    @Benchmark
+    public void noConverter(BenchmarkState state, Blackhole bh) {
+        // a miss which is remembered by the registry
+        bh.consume(state.typeConverter.tryConvertTo(Thread.class, "Hello World"));
+    }
+
+    @Benchmark
+    public void lookup(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.registry.lookup(Integer.class, String.class));
+    }
+}